@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.mail.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import javax.mail.Message.RecipientType;
+import javax.mail.Session;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.action.mail.internal.SmtpTestServer.ReceivedMail;
+
+/**
+ * Tests the {@link MailOutbox} against an SMTP server running in the test.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class MailOutboxTest {
+
+    private static final long TIMEOUT = 10000;
+
+    private SmtpTestServer server;
+
+    private File folder;
+
+    private Session session;
+
+    private MailTransportPool pool;
+
+    private MailOutbox outbox;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new SmtpTestServer();
+
+        Properties props = new Properties();
+        props.put("mail.transport.protocol", "smtp");
+        props.put("mail.smtp.host", "localhost");
+        props.put("mail.smtp.port", String.valueOf(server.getPort()));
+        session = Session.getInstance(props);
+
+        folder = new File("./target/mail/outbox");
+        folder.mkdirs();
+        for (File file : folder.listFiles()) {
+            file.delete();
+        }
+
+        pool = new MailTransportPool(session, 1, 60000);
+        outbox = new MailOutbox(folder, session, pool);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        outbox.shutdown();
+        pool.close();
+        server.stop();
+    }
+
+    private MimeMessage createMessage(String subject, String... recipients) throws Exception {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress("openhab@localhost"));
+        for (String recipient : recipients) {
+            message.addRecipient(RecipientType.TO, new InternetAddress(recipient));
+        }
+        message.setSubject(subject);
+        message.setText("test");
+        message.saveChanges();
+        return message;
+    }
+
+    private void waitForMails(int count) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (server.getMails().size() < count && System.currentTimeMillis() < end) {
+            Thread.sleep(20);
+        }
+        assertEquals(count, server.getMails().size());
+    }
+
+    private String[] list(final String extension) {
+        String[] names = folder.list(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(extension);
+            }
+        });
+        Arrays.sort(names);
+        return names;
+    }
+
+    private void waitForEmptySpool() throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (outbox.getPendingCount() > 0 && System.currentTimeMillis() < end) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, outbox.getPendingCount());
+    }
+
+    @Test
+    public void testSendsSpooledMailsOverOneConnection() throws Exception {
+        outbox.start();
+        for (int i = 0; i < 3; i++) {
+            outbox.spool(createMessage("mail " + i, "user" + i + "@localhost"));
+        }
+
+        waitForMails(3);
+        waitForEmptySpool();
+        assertEquals(1, server.getConnectionCount());
+        assertEquals(Arrays.asList("user0@localhost"), server.getMails().get(0).recipients);
+    }
+
+    @Test
+    public void testSendsMailsLeftInSpoolOnStart() throws Exception {
+        outbox.spool(createMessage("left over", "user@localhost"));
+        assertEquals(1, outbox.getPendingCount());
+
+        outbox.start();
+
+        waitForMails(1);
+        waitForEmptySpool();
+    }
+
+    @Test
+    public void testSendsToValidRecipientsOfMailWithInvalidRecipient() throws Exception {
+        server.setRcptReply("invalid@localhost", "550 no such user");
+        outbox.start();
+        outbox.spool(createMessage("partly invalid", "valid@localhost", "invalid@localhost"));
+        outbox.spool(createMessage("next", "next@localhost"));
+
+        waitForMails(2);
+        waitForEmptySpool();
+        List<ReceivedMail> mails = server.getMails();
+        assertEquals(Arrays.asList("valid@localhost"), mails.get(0).recipients);
+        assertTrue(mails.get(0).data.contains("Subject: partly invalid"));
+        assertEquals(Arrays.asList("next@localhost"), mails.get(1).recipients);
+        assertEquals(0, list(".failed").length);
+    }
+
+    @Test
+    public void testFailsMailWithOnlyInvalidRecipients() throws Exception {
+        server.setRcptReply("invalid@localhost", "550 no such user");
+        outbox.start();
+        outbox.spool(createMessage("invalid", "invalid@localhost"));
+        outbox.spool(createMessage("next", "next@localhost"));
+
+        waitForMails(1);
+        waitForEmptySpool();
+        assertEquals(Arrays.asList("next@localhost"), server.getMails().get(0).recipients);
+        assertEquals(1, list(".failed").length);
+    }
+
+    @Test
+    public void testKeepsTemporarilyRefusedMailWithoutBlockingOthers() throws Exception {
+        server.setRcptReply("busy@localhost", "451 try again later");
+        outbox.start();
+        outbox.spool(createMessage("refused", "busy@localhost"));
+        outbox.spool(createMessage("next", "next@localhost"));
+
+        waitForMails(1);
+        assertEquals(Arrays.asList("next@localhost"), server.getMails().get(0).recipients);
+        assertEquals(1, list(".eml").length);
+        assertEquals(0, list(".failed").length);
+    }
+
+}
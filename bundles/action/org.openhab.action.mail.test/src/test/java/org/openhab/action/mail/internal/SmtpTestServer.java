@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.mail.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal SMTP server running in the test, which accepts all mails and
+ * answers the RCPT command of configured addresses with an error code.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class SmtpTestServer implements Runnable {
+
+    /**
+     * A mail received by the server.
+     */
+    public static class ReceivedMail {
+        public final List<String> recipients;
+        public final String data;
+
+        ReceivedMail(List<String> recipients, String data) {
+            this.recipients = recipients;
+            this.data = data;
+        }
+    }
+
+    private final ServerSocket serverSocket;
+
+    private final Map<String, String> rcptReplies = new ConcurrentHashMap<String, String>();
+
+    private final List<ReceivedMail> mails = Collections.synchronizedList(new ArrayList<ReceivedMail>());
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public SmtpTestServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getByName("localhost"));
+        Thread thread = new Thread(this, "SMTP Test Server");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Answers the RCPT command of the given address with the given reply,
+     * e.g. <code>550 no such user</code>.
+     */
+    public void setRcptReply(String address, String reply) {
+        rcptReplies.put(address.toLowerCase(Locale.ENGLISH), reply);
+    }
+
+    public List<ReceivedMail> getMails() {
+        synchronized (mails) {
+            return new ArrayList<ReceivedMail>(mails);
+        }
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    public void stop() throws IOException {
+        serverSocket.close();
+    }
+
+    @Override
+    public void run() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                Thread session = new Thread("SMTP Test Session") {
+                    @Override
+                    public void run() {
+                        try {
+                            handle(socket);
+                        } catch (IOException e) {
+                            // client went away
+                        } finally {
+                            try {
+                                socket.close();
+                            } catch (IOException e) {
+                                // ignore
+                            }
+                        }
+                    }
+                };
+                session.setDaemon(true);
+                session.start();
+            } catch (IOException e) {
+                // stopped
+            }
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), "ISO-8859-1"));
+        Writer out = new OutputStreamWriter(socket.getOutputStream(), "ISO-8859-1");
+        List<String> recipients = new ArrayList<String>();
+
+        reply(out, "220 localhost SMTP test server");
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.toUpperCase(Locale.ENGLISH);
+            if (command.startsWith("EHLO")) {
+                reply(out, "250-localhost\r\n250 OK");
+            } else if (command.startsWith("MAIL FROM")) {
+                recipients.clear();
+                reply(out, "250 OK");
+            } else if (command.startsWith("RCPT TO")) {
+                String address = line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+                String rcptReply = rcptReplies.get(address.toLowerCase(Locale.ENGLISH));
+                if (rcptReply != null) {
+                    reply(out, rcptReply);
+                } else {
+                    recipients.add(address);
+                    reply(out, "250 OK");
+                }
+            } else if (command.startsWith("DATA")) {
+                reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                StringBuilder data = new StringBuilder();
+                while ((line = in.readLine()) != null && !line.equals(".")) {
+                    data.append(line).append('\n');
+                }
+                mails.add(new ReceivedMail(new ArrayList<String>(recipients), data.toString()));
+                recipients.clear();
+                reply(out, "250 OK queued");
+            } else if (command.startsWith("RSET")) {
+                recipients.clear();
+                reply(out, "250 OK");
+            } else if (command.startsWith("QUIT")) {
+                reply(out, "221 Bye");
+                return;
+            } else {
+                reply(out, "250 OK");
+            }
+        }
+    }
+
+    private static void reply(Writer out, String reply) throws IOException {
+        out.write(reply);
+        out.write("\r\n");
+        out.flush();
+    }
+}
@@ -10,10 +10,21 @@ package org.openhab.action.mail.internal;
 
 import static org.apache.commons.lang.StringUtils.*;
 
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import javax.mail.util.ByteArrayDataSource;
 
 import org.apache.commons.mail.DefaultAuthenticator;
 import org.apache.commons.mail.Email;
@@ -51,6 +62,116 @@ public class Mail {
     static boolean popBeforeSmtp = false;
     static String charset;
 
+    /** time in milliseconds an unused SMTP connection is kept open */
+    private static final long IDLE_TIMEOUT = 60000;
+
+    /** time in milliseconds shutdown() waits for the accepted mails to be spooled */
+    private static final long COMPOSER_SHUTDOWN_TIMEOUT = 5000;
+
+    /** the session shared by all mails, built from the settings above */
+    private static Session session;
+
+    private static MailTransportPool transportPool;
+
+    private static MailAttachmentFetcher attachmentFetcher;
+
+    /** composes the mails in asynchronous mode, null otherwise */
+    private static ThreadPoolExecutor composer;
+
+    /** spools and sends the mails in asynchronous mode, null otherwise */
+    private static MailOutbox outbox;
+
+    /**
+     * Sets up the mail session, the SMTP connections and, in asynchronous
+     * mode, the outbox from the current settings.
+     *
+     * @param async
+     *            <code>true</code> to send the mails in the background
+     * @param spoolFolder
+     *            the folder the outbox spools the mails in
+     * @param connections
+     *            maximum number of open SMTP connections
+     * @param threads
+     *            maximum number of parallel attachment downloads and, in
+     *            asynchronous mode, mails composed in parallel
+     * @param queueSize
+     *            maximum number of mails waiting to be composed in
+     *            asynchronous mode
+     * @param attachmentCacheMillis
+     *            time in milliseconds a downloaded attachment is reused
+     * @throws EmailException
+     *             if the settings don't make up a mail session
+     * @throws IOException
+     *             if the spool folder couldn't be created
+     */
+    static synchronized void configure(boolean async, File spoolFolder, int connections, int threads, int queueSize,
+            long attachmentCacheMillis) throws EmailException, IOException {
+        shutdown();
+
+        Email template = new SimpleEmail();
+        template.setHostName(hostname);
+        template.setSmtpPort(port);
+        template.setStartTLSEnabled(startTLSEnabled);
+        template.setSSLOnConnect(sslOnConnect);
+        if (isNotBlank(username) && !popBeforeSmtp) {
+            template.setAuthenticator(new DefaultAuthenticator(username, password));
+        }
+        session = template.getMailSession();
+
+        transportPool = new MailTransportPool(session, connections, IDLE_TIMEOUT);
+        attachmentFetcher = new MailAttachmentFetcher(threads, attachmentCacheMillis);
+
+        if (async) {
+            composer = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(queueSize), new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            Thread thread = new Thread(runnable, "Mail Composer " + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            composer.allowCoreThreadTimeOut(true);
+            outbox = new MailOutbox(spoolFolder, session, transportPool);
+            outbox.start();
+        }
+    }
+
+    /**
+     * Stops the outbox and closes all SMTP connections. Mails accepted before
+     * are spooled first, mails already spooled are sent after the next start.
+     */
+    static synchronized void shutdown() {
+        if (composer != null) {
+            composer.shutdown();
+            try {
+                if (!composer.awaitTermination(COMPOSER_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    logger.warn("Mail action shut down, {} e-mails which were not spooled yet are dropped.",
+                            composer.shutdownNow().size());
+                }
+            } catch (InterruptedException e) {
+                composer.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            composer = null;
+        }
+        if (outbox != null) {
+            outbox.shutdown();
+            outbox = null;
+        }
+        if (attachmentFetcher != null) {
+            attachmentFetcher.shutdown();
+            attachmentFetcher = null;
+        }
+        if (transportPool != null) {
+            transportPool.close();
+            transportPool = null;
+        }
+        session = null;
+    }
+
     /**
      * Sends an email via SMTP
      *
@@ -101,64 +222,63 @@ public class Mail {
      *         <code>false</code> in all other cases.
      */
     @ActionDoc(text = "Sends an email with attachment via SMTP")
-    static public boolean sendMail(@ParamDoc(name = "to") String to, @ParamDoc(name = "subject") String subject,
-            @ParamDoc(name = "message") String message,
+    static public boolean sendMail(@ParamDoc(name = "to") final String to,
+            @ParamDoc(name = "subject") final String subject, @ParamDoc(name = "message") final String message,
             @ParamDoc(name = "attachmentUrlList") List<String> attachmentUrlList) {
         boolean success = false;
         if (MailActionService.isProperlyConfigured) {
-            Email email = new SimpleEmail();
-            if (attachmentUrlList != null && !attachmentUrlList.isEmpty()) {
-                email = new MultiPartEmail();
-                for (String attachmentUrl : attachmentUrlList) {
-                    // Create the attachment
-                    try {
-                        EmailAttachment attachment = new EmailAttachment();
-                        attachment.setURL(new URL(attachmentUrl));
-                        attachment.setDisposition(EmailAttachment.ATTACHMENT);
-                        String fileName = attachmentUrl.replaceFirst(".*/([^/?]+).*", "$1");
-                        attachment.setName(isNotBlank(fileName) ? fileName : "Attachment");
-                        ((MultiPartEmail) email).attach(attachment);
-                    } catch (MalformedURLException e) {
-                        logger.error("Invalid attachment url.", e);
-                    } catch (EmailException e) {
-                        logger.error("Error adding attachment to email.", e);
-                    }
-                }
+            final Session session;
+            final MailTransportPool transportPool;
+            final MailAttachmentFetcher attachmentFetcher;
+            final ThreadPoolExecutor composer;
+            final MailOutbox outbox;
+            synchronized (Mail.class) {
+                session = Mail.session;
+                transportPool = Mail.transportPool;
+                attachmentFetcher = Mail.attachmentFetcher;
+                composer = Mail.composer;
+                outbox = Mail.outbox;
             }
-
-            email.setHostName(hostname);
-            email.setSmtpPort(port);
-            email.setStartTLSEnabled(startTLSEnabled);
-            email.setSSLOnConnect(sslOnConnect);
-
-            if (isNotBlank(username)) {
-                if (popBeforeSmtp) {
-                    email.setPopBeforeSmtp(true, hostname, username, password);
-                } else {
-                    email.setAuthenticator(new DefaultAuthenticator(username, password));
-                }
-            }
-
-            try {
-                if (isNotBlank(charset)) {
-                    email.setCharset(charset);
-                }
-                email.setFrom(from);
-                String[] toList = to.split(";");
-                for (String toAddress : toList) {
-                    email.addTo(toAddress);
-                }
-                if (!isEmpty(subject)) {
-                    email.setSubject(subject);
+            if (session == null) {
+                logger.error("Could not send e-mail to '{}', the mail action is shut down.", to);
+            } else if (outbox != null) {
+                final List<String> attachmentUrls = attachmentUrlList != null
+                        ? new ArrayList<String>(attachmentUrlList) : null;
+                try {
+                    composer.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                outbox.spool(compose(session, attachmentFetcher, to, subject, message,
+                                        attachmentUrls));
+                                logger.debug("Spooled email to '{}' with subject '{}'.", to, subject);
+                            } catch (EmailException e) {
+                                logger.error("Could not send e-mail to '" + to + "'.", e);
+                            } catch (MessagingException e) {
+                                logger.error("Could not spool e-mail to '" + to + "'.", e);
+                            } catch (IOException e) {
+                                logger.error("Could not spool e-mail to '" + to + "'.", e);
+                            } catch (InterruptedException e) {
+                                logger.warn("Mail action shut down, e-mail to '{}' dropped.", to);
+                            }
+                        }
+                    });
+                    success = true;
+                } catch (RejectedExecutionException e) {
+                    logger.warn("Mail queue is full, e-mail to '{}' with subject '{}' dropped.", to, subject);
                 }
-                if (!isEmpty(message)) {
-                    email.setMsg(message);
+            } else {
+                try {
+                    transportPool.send(compose(session, attachmentFetcher, to, subject, message, attachmentUrlList));
+                    logger.debug("Sent email to '{}' with subject '{}'.", to, subject);
+                    success = true;
+                } catch (EmailException e) {
+                    logger.error("Could not send e-mail to '" + to + "'.", e);
+                } catch (MessagingException e) {
+                    logger.error("Could not send e-mail to '" + to + "'.", e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                 }
-                email.send();
-                logger.debug("Sent email to '{}' with subject '{}'.", to, subject);
-                success = true;
-            } catch (EmailException e) {
-                logger.error("Could not send e-mail to '" + to + "'.", e);
             }
         } else {
             logger.error(
@@ -170,4 +290,46 @@ public class Mail {
 
         return success;
     }
+
+    /**
+     * Builds the message of a mail on the shared session. The attachments are
+     * downloaded in parallel, attachments which couldn't be downloaded are
+     * left out.
+     */
+    private static MimeMessage compose(Session session, MailAttachmentFetcher attachmentFetcher, String to,
+            String subject, String message, List<String> attachmentUrlList)
+            throws EmailException, MessagingException, InterruptedException {
+        Email email = new SimpleEmail();
+        if (attachmentUrlList != null && !attachmentUrlList.isEmpty()) {
+            MultiPartEmail multiPartEmail = new MultiPartEmail();
+            for (ByteArrayDataSource attachment : attachmentFetcher.fetch(attachmentUrlList)) {
+                multiPartEmail.attach(attachment, attachment.getName(), null, EmailAttachment.ATTACHMENT);
+            }
+            email = multiPartEmail;
+        }
+
+        email.setMailSession(session);
+        if (isNotBlank(username) && popBeforeSmtp) {
+            email.setPopBeforeSmtp(true, hostname, username, password);
+        }
+        if (isNotBlank(charset)) {
+            email.setCharset(charset);
+        }
+        email.setFrom(from);
+        String[] toList = to.split(";");
+        for (String toAddress : toList) {
+            email.addTo(toAddress);
+        }
+        if (!isEmpty(subject)) {
+            email.setSubject(subject);
+        }
+        if (!isEmpty(message)) {
+            email.setMsg(message);
+        }
+
+        email.buildMimeMessage();
+        MimeMessage mimeMessage = email.getMimeMessage();
+        mimeMessage.saveChanges();
+        return mimeMessage;
+    }
 }
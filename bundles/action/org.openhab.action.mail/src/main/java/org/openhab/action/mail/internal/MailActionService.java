@@ -8,12 +8,17 @@
  */
 package org.openhab.action.mail.internal;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Dictionary;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.mail.EmailException;
 import org.openhab.core.scriptengine.action.ActionService;
 import org.osgi.service.cm.ConfigurationException;
 import org.osgi.service.cm.ManagedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This class registers an OSGi service for the Mail action.
@@ -23,6 +28,8 @@ import org.osgi.service.cm.ManagedService;
  */
 public class MailActionService implements ActionService, ManagedService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MailActionService.class);
+
     /**
      * Indicates whether this action is properly configured which means all
      * necessary configurations are set. This flag can be checked by the
@@ -37,8 +44,7 @@ public class MailActionService implements ActionService, ManagedService {
     }
 
     public void deactivate() {
-        // deallocate Resources here that are no longer needed and
-        // should be reset when activating this binding again
+        Mail.shutdown();
     }
 
     @Override
@@ -92,8 +98,54 @@ public class MailActionService implements ActionService, ManagedService {
                 Mail.port = (Mail.startTLSEnabled || Mail.sslOnConnect) ? 587 : 25;
             }
 
+            boolean async = "true".equalsIgnoreCase((String) config.get("async"));
+            String spool = (String) config.get("spool");
+            File spoolFolder = StringUtils.isNotBlank(spool) ? new File(spool.trim()) : getDefaultSpoolFolder();
+            int connections = parseInt(config, "connections", 2);
+            int threads = parseInt(config, "threads", 4);
+            int queueSize = parseInt(config, "queueSize", 100);
+            int attachmentCacheTime = parseInt(config, "attachmentCacheTime", 5000);
+            if (connections < 1) {
+                throw new ConfigurationException("connections", "must be at least 1");
+            }
+            if (queueSize < 1 || threads < 1) {
+                throw new ConfigurationException(queueSize < 1 ? "queueSize" : "threads", "must be at least 1");
+            }
+
+            try {
+                Mail.configure(async, spoolFolder, connections, threads, queueSize, attachmentCacheTime);
+            } catch (EmailException e) {
+                throw new ConfigurationException("hostname", e.getMessage());
+            } catch (IOException e) {
+                throw new ConfigurationException("spool", e.getMessage());
+            }
+            if (async) {
+                logger.debug("Mail action sends in the background, spool folder is '{}'", spoolFolder);
+            }
+
             isProperlyConfigured = true;
         }
     }
 
+    private static File getDefaultSpoolFolder() {
+        String progArg = System.getProperty("smarthome.userdata");
+        if (progArg != null) {
+            return new File(progArg + File.separator + "mail" + File.separator + "outbox");
+        } else {
+            return new File("etc" + File.separator + "mail-outbox");
+        }
+    }
+
+    private static int parseInt(Dictionary<?, ?> config, String key, int defaultValue) throws ConfigurationException {
+        String value = (String) config.get(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException(key, "invalid number '" + value + "'");
+        }
+    }
+
 }
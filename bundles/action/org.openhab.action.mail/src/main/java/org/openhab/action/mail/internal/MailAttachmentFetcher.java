@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.mail.internal;
+
+import static org.apache.commons.lang.StringUtils.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.util.ByteArrayDataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Downloads the attachments of a mail in parallel. A failed download is
+ * retried with increasing delays. Downloads are kept for a short time, so a
+ * camera snapshot sent to several recipients in a row is fetched only once.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class MailAttachmentFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailAttachmentFetcher.class);
+
+    /** number of attempts per attachment */
+    private static final int ATTEMPTS = 3;
+
+    /** delay before the first retry, doubled for every further retry */
+    private static final long RETRY_DELAY = 500;
+
+    private static final int TIMEOUT = 10000;
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final long cacheTime;
+
+    private final ExecutorService executor;
+
+    private final ConcurrentMap<String, CachedDownload> downloads = new ConcurrentHashMap<String, CachedDownload>();
+
+    /**
+     * @param threads
+     *            maximum number of parallel downloads
+     * @param cacheTime
+     *            time in milliseconds a download is reused
+     */
+    public MailAttachmentFetcher(int threads, long cacheTime) {
+        this.cacheTime = cacheTime;
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "Mail Attachment Fetcher " + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Downloads the given attachments in parallel and waits for all of them.
+     * Attachments which couldn't be downloaded are logged and left out.
+     *
+     * @param urls
+     *            URL strings of the attachments
+     * @return the downloaded attachments in the order of the URLs
+     * @throws InterruptedException
+     *             if interrupted while waiting for the downloads
+     */
+    public List<ByteArrayDataSource> fetch(List<String> urls) throws InterruptedException {
+        removeExpired();
+
+        List<Future<ByteArrayDataSource>> futures = new ArrayList<Future<ByteArrayDataSource>>(urls.size());
+        for (String url : urls) {
+            futures.add(submit(url));
+        }
+
+        List<ByteArrayDataSource> attachments = new ArrayList<ByteArrayDataSource>(urls.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                attachments.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                downloads.remove(urls.get(i));
+                logger.error("Error fetching attachment '" + urls.get(i) + "'.", e.getCause());
+            }
+        }
+        return attachments;
+    }
+
+    /**
+     * Stops all downloads.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        downloads.clear();
+    }
+
+    private Future<ByteArrayDataSource> submit(final String url) {
+        CachedDownload download = downloads.get(url);
+        if (download != null) {
+            return download.task;
+        }
+
+        download = new CachedDownload(new FutureTask<ByteArrayDataSource>(new Callable<ByteArrayDataSource>() {
+            @Override
+            public ByteArrayDataSource call() throws Exception {
+                return download(url);
+            }
+        }));
+        CachedDownload existing = downloads.putIfAbsent(url, download);
+        if (existing != null) {
+            return existing.task;
+        }
+        executor.execute(download.task);
+        return download.task;
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Map.Entry<String, CachedDownload>> iterator = downloads.entrySet().iterator(); iterator
+                .hasNext();) {
+            CachedDownload download = iterator.next().getValue();
+            if (download.task.isDone() && now - download.created > cacheTime) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static ByteArrayDataSource download(String url) throws IOException, InterruptedException {
+        // an invalid URL isn't worth a retry
+        URL location = new URL(url);
+        long delay = RETRY_DELAY;
+        for (int attempt = 1;; attempt++) {
+            try {
+                URLConnection connection = location.openConnection();
+                connection.setConnectTimeout(TIMEOUT);
+                connection.setReadTimeout(TIMEOUT);
+
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                InputStream in = connection.getInputStream();
+                try {
+                    byte[] buffer = new byte[8192];
+                    int length;
+                    while ((length = in.read(buffer)) != -1) {
+                        content.write(buffer, 0, length);
+                    }
+                } finally {
+                    in.close();
+                }
+
+                String contentType = connection.getContentType();
+                ByteArrayDataSource attachment = new ByteArrayDataSource(content.toByteArray(),
+                        isNotBlank(contentType) ? contentType : DEFAULT_CONTENT_TYPE);
+                String fileName = url.replaceFirst(".*/([^/?]+).*", "$1");
+                attachment.setName(isNotBlank(fileName) ? fileName : "Attachment");
+                logger.debug("Fetched attachment '{}' ({} bytes)", url, content.size());
+                return attachment;
+            } catch (IOException e) {
+                if (attempt >= ATTEMPTS) {
+                    throw e;
+                }
+                logger.debug("Fetching attachment '{}' failed, retrying in {} ms: {}",
+                        new Object[] { url, delay, e.getMessage() });
+                Thread.sleep(delay);
+                delay *= 2;
+            }
+        }
+    }
+
+    private static class CachedDownload {
+        private final FutureTask<ByteArrayDataSource> task;
+        private final long created = System.currentTimeMillis();
+
+        private CachedDownload(FutureTask<ByteArrayDataSource> task) {
+            this.task = task;
+        }
+    }
+}
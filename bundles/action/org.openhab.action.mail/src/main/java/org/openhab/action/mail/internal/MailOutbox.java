@@ -0,0 +1,363 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.mail.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends mails in the background. Every mail is first written to a spool
+ * folder, so it survives a restart and an unavailable SMTP server. A single
+ * thread sends the spooled mails in the order they were written, all waiting
+ * mails over one connection. If the server can't be reached, the mails stay
+ * in the spool and sending is retried with increasing delays. Mails rejected
+ * by the server are renamed to <code>.failed</code> and kept for inspection.
+ * A mail with invalid recipients is sent to its valid recipients only, a mail
+ * the server temporarily refuses stays in the spool without holding back the
+ * mails spooled after it.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class MailOutbox implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailOutbox.class);
+
+    private static final String MAIL_EXTENSION = ".eml";
+
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private static final String FAILED_EXTENSION = ".failed";
+
+    /** delay before the first retry, doubled for every further retry */
+    private static final long RETRY_DELAY = 10000;
+
+    private static final long MAX_RETRY_DELAY = 15 * 60 * 1000;
+
+    /** number of times a temporarily refused mail is sent before it is given up */
+    private static final int MAX_ATTEMPTS = 10;
+
+    /** interval for closing idle connections while the spool is empty */
+    private static final long IDLE_CHECK_INTERVAL = 30000;
+
+    private static final FilenameFilter MAIL_FILTER = new FilenameFilter() {
+        @Override
+        public boolean accept(File dir, String name) {
+            return name.endsWith(MAIL_EXTENSION);
+        }
+    };
+
+    private final File folder;
+
+    private final Session session;
+
+    private final MailTransportPool pool;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Thread thread;
+
+    /** set when a mail was spooled, guarded by this */
+    private boolean spooled = false;
+
+    private long retryDelay = RETRY_DELAY;
+
+    /** failed attempts of temporarily refused mails by file name, only used by the sender thread */
+    private final Map<String, Integer> attempts = new HashMap<String, Integer>();
+
+    /**
+     * @param folder
+     *            the spool folder, created if missing
+     * @param session
+     *            the session the spooled mails are read with
+     * @param pool
+     *            the connections to send the mails over
+     */
+    public MailOutbox(File folder, Session session, MailTransportPool pool) {
+        this.folder = folder;
+        this.session = session;
+        this.pool = pool;
+    }
+
+    /**
+     * Starts the sender thread, which first sends the mails left in the spool.
+     *
+     * @throws IOException
+     *             if the spool folder couldn't be created
+     */
+    public synchronized void start() throws IOException {
+        if (!folder.isDirectory() && !folder.mkdirs()) {
+            throw new IOException("Couldn't create mail spool folder '" + folder.getAbsolutePath() + "'");
+        }
+        if (thread == null) {
+            thread = new Thread(this, "Mail Outbox");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops the sender thread, spooled mails are sent after the next start.
+     */
+    public void shutdown() {
+        Thread stopping;
+        synchronized (this) {
+            stopping = thread;
+            thread = null;
+        }
+        if (stopping != null) {
+            stopping.interrupt();
+            try {
+                stopping.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Writes a mail to the spool and wakes up the sender thread.
+     *
+     * @param message
+     *            message to send, its changes must be saved
+     * @throws IOException
+     *             if the mail couldn't be written
+     * @throws MessagingException
+     *             if the mail couldn't be written
+     */
+    public void spool(MimeMessage message) throws IOException, MessagingException {
+        // the names sort in the order the mails were spooled
+        String name = String.format("%013d-%06d", System.currentTimeMillis(), sequence.incrementAndGet() % 1000000);
+        File temp = new File(folder, name + TEMP_EXTENSION);
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(temp));
+        try {
+            message.writeTo(out);
+        } finally {
+            out.close();
+        }
+        if (!temp.renameTo(new File(folder, name + MAIL_EXTENSION))) {
+            temp.delete();
+            throw new IOException("Couldn't move '" + temp.getAbsolutePath() + "' into the mail spool");
+        }
+
+        synchronized (this) {
+            spooled = true;
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return the number of mails waiting in the spool
+     */
+    public int getPendingCount() {
+        String[] names = folder.list(MAIL_FILTER);
+        return names != null ? names.length : 0;
+    }
+
+    @Override
+    public void run() {
+        logger.debug("Mail outbox started, spool folder is '{}'", folder.getAbsolutePath());
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                synchronized (this) {
+                    spooled = false;
+                }
+
+                File[] files = folder.listFiles(MAIL_FILTER);
+                if (files != null && files.length > 0) {
+                    Arrays.sort(files);
+                    if (!sendAll(files)) {
+                        logger.warn("Couldn't send mails, retrying in {} s, {} mails waiting", retryDelay / 1000,
+                                getPendingCount());
+                        Thread.sleep(retryDelay);
+                        retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+                        continue;
+                    }
+                    retryDelay = RETRY_DELAY;
+                }
+
+                synchronized (this) {
+                    if (!spooled) {
+                        wait(IDLE_CHECK_INTERVAL);
+                    }
+                }
+                pool.closeIdle();
+            }
+        } catch (InterruptedException e) {
+            // shut down
+        }
+        logger.debug("Mail outbox stopped");
+    }
+
+    /**
+     * Sends the given spooled mails over one connection.
+     *
+     * @return <code>false</code> if sending of some mails has to be retried later
+     */
+    private boolean sendAll(File[] files) throws InterruptedException {
+        Transport transport;
+        try {
+            transport = pool.borrow();
+        } catch (MessagingException e) {
+            logger.debug("Couldn't connect to the SMTP server: {}", e.getMessage());
+            return false;
+        }
+
+        boolean sent = false;
+        boolean retry = false;
+        try {
+            for (File file : files) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+
+                MimeMessage message;
+                try {
+                    message = read(file);
+                } catch (IOException e) {
+                    logger.error("Couldn't read spooled mail '" + file.getAbsolutePath() + "'.", e);
+                    fail(file);
+                    continue;
+                } catch (MessagingException e) {
+                    logger.error("Couldn't read spooled mail '" + file.getAbsolutePath() + "'.", e);
+                    fail(file);
+                    continue;
+                }
+
+                try {
+                    transport.sendMessage(message, message.getAllRecipients());
+                    logger.debug("Sent email to '{}' with subject '{}'.", toString(message.getAllRecipients()),
+                            message.getSubject());
+                    delete(file);
+                } catch (SendFailedException e) {
+                    if (!sendFailed(transport, file, message, e)) {
+                        retry = true;
+                    }
+                }
+            }
+            sent = true;
+        } catch (MessagingException e) {
+            logger.debug("Sending spooled mails failed: {}", e.getMessage());
+        } finally {
+            if (sent) {
+                pool.release(transport);
+            } else {
+                pool.discard(transport);
+            }
+        }
+        return sent && !retry;
+    }
+
+    /**
+     * Handles a mail, which wasn't sent to all of its recipients. A mail with
+     * invalid recipients is sent to the remaining valid recipients, which
+     * are not sent to because of the invalid ones unless
+     * <code>mail.smtp.sendpartial</code> is set. A mail which is
+     * temporarily refused is kept in the spool for up to
+     * {@value #MAX_ATTEMPTS} attempts.
+     *
+     * @return <code>false</code> if the mail stays in the spool
+     * @throws MessagingException
+     *             if the connection failed
+     */
+    private boolean sendFailed(Transport transport, File file, MimeMessage message, SendFailedException e)
+            throws MessagingException {
+        Address[] invalid = e.getInvalidAddresses();
+        Address[] unsent = e.getValidUnsentAddresses();
+        Address[] sent = e.getValidSentAddresses();
+
+        if (invalid != null && invalid.length > 0) {
+            logger.warn("E-mail '{}' can't be sent to the invalid recipients {}: {}",
+                    new Object[] { file.getName(), toString(invalid), e.getMessage() });
+            if (unsent != null && unsent.length > 0) {
+                try {
+                    transport.sendMessage(message, unsent);
+                    logger.debug("Sent email to '{}' with subject '{}'.", toString(unsent), message.getSubject());
+                } catch (SendFailedException e2) {
+                    logger.error("E-mail '" + file.getName() + "' was rejected by the SMTP server.", e2);
+                    fail(file);
+                    return true;
+                }
+            } else if (sent == null || sent.length == 0) {
+                fail(file);
+                return true;
+            }
+            delete(file);
+            return true;
+        }
+
+        if (unsent != null && unsent.length > 0) {
+            Integer previous = attempts.get(file.getName());
+            int count = previous != null ? previous + 1 : 1;
+            if (count < MAX_ATTEMPTS) {
+                logger.debug("E-mail '{}' was refused temporarily ({} attempts): {}",
+                        new Object[] { file.getName(), count, e.getMessage() });
+                attempts.put(file.getName(), count);
+                return false;
+            }
+            logger.error("E-mail '{}' was refused {} times, giving up: {}",
+                    new Object[] { file.getName(), count, e.getMessage() });
+        } else {
+            logger.error("E-mail '" + file.getName() + "' was rejected by the SMTP server.", e);
+        }
+        fail(file);
+        return true;
+    }
+
+    private MimeMessage read(File file) throws IOException, MessagingException {
+        InputStream in = new BufferedInputStream(new FileInputStream(file));
+        try {
+            return new MimeMessage(session, in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private void delete(File file) {
+        attempts.remove(file.getName());
+        if (!file.delete()) {
+            logger.warn("Couldn't delete sent mail '{}', it will be sent again", file.getAbsolutePath());
+        }
+    }
+
+    private void fail(File file) {
+        attempts.remove(file.getName());
+        String name = file.getName();
+        File failed = new File(folder, name.substring(0, name.length() - MAIL_EXTENSION.length()) + FAILED_EXTENSION);
+        if (!file.renameTo(failed)) {
+            logger.warn("Couldn't move failed mail '{}', deleting it", file.getAbsolutePath());
+            file.delete();
+        }
+    }
+
+    private static String toString(Address[] addresses) {
+        return addresses != null ? Arrays.toString(addresses) : "[]";
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.mail.internal;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.Semaphore;
+
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps SMTP connections open, so several mails are sent over one connection
+ * instead of connecting and authenticating for every mail. At most the given
+ * number of connections is open at a time, connections idle for longer than
+ * the idle timeout are closed.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class MailTransportPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailTransportPool.class);
+
+    private final Session session;
+
+    private final long idleTimeout;
+
+    private final Semaphore permits;
+
+    /** connected transports, most recently used first, guarded by itself */
+    private final LinkedList<IdleTransport> idle = new LinkedList<IdleTransport>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * @param session
+     *            the mail session holding the SMTP settings
+     * @param size
+     *            maximum number of open connections
+     * @param idleTimeout
+     *            time in milliseconds after which an unused connection is
+     *            closed
+     */
+    public MailTransportPool(Session session, int size, long idleTimeout) {
+        this.session = session;
+        this.idleTimeout = idleTimeout;
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Sends one message over a pooled connection. The connection is closed if
+     * sending failed, unless the server only rejected recipients.
+     *
+     * @param message
+     *            message to send, its changes must be saved
+     * @throws MessagingException
+     *             if the message couldn't be sent
+     * @throws InterruptedException
+     *             if interrupted while waiting for a connection
+     */
+    public void send(Message message) throws MessagingException, InterruptedException {
+        Transport transport = borrow();
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+        } catch (SendFailedException e) {
+            // invalid recipients, the connection can still be used
+            throw e;
+        } catch (MessagingException e) {
+            discard(transport);
+            transport = null;
+            throw e;
+        } finally {
+            if (transport != null) {
+                release(transport);
+            }
+        }
+    }
+
+    /**
+     * Returns a connected transport, which must be handed back with
+     * {@link #release(Transport)} or {@link #discard(Transport)}.
+     *
+     * @throws MessagingException
+     *             if no connection could be established
+     * @throws InterruptedException
+     *             if interrupted while waiting for a connection
+     */
+    public Transport borrow() throws MessagingException, InterruptedException {
+        if (closed) {
+            throw new MessagingException("SMTP connection pool is closed");
+        }
+
+        permits.acquire();
+        try {
+            closeIdle();
+            while (true) {
+                IdleTransport candidate;
+                synchronized (idle) {
+                    candidate = idle.poll();
+                }
+                if (candidate == null) {
+                    break;
+                }
+                // checks the connection with a NOOP
+                if (candidate.transport.isConnected()) {
+                    return candidate.transport;
+                }
+                close(candidate.transport);
+            }
+
+            Transport transport = session.getTransport();
+            transport.connect();
+            logger.debug("Opened SMTP connection");
+            return transport;
+        } catch (MessagingException e) {
+            permits.release();
+            throw e;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Hands back a transport for reuse.
+     */
+    public void release(Transport transport) {
+        if (closed) {
+            close(transport);
+        } else {
+            synchronized (idle) {
+                idle.addFirst(new IdleTransport(transport, System.currentTimeMillis()));
+            }
+        }
+        permits.release();
+    }
+
+    /**
+     * Hands back and closes a transport, which failed.
+     */
+    public void discard(Transport transport) {
+        close(transport);
+        permits.release();
+    }
+
+    /**
+     * Closes the connections which weren't used within the idle timeout.
+     */
+    public void closeIdle() {
+        long now = System.currentTimeMillis();
+        synchronized (idle) {
+            for (Iterator<IdleTransport> iterator = idle.iterator(); iterator.hasNext();) {
+                IdleTransport candidate = iterator.next();
+                if (now - candidate.since > idleTimeout) {
+                    iterator.remove();
+                    close(candidate.transport);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes all idle connections, borrowed connections are closed when they
+     * are handed back.
+     */
+    public void close() {
+        closed = true;
+        synchronized (idle) {
+            for (IdleTransport candidate : idle) {
+                close(candidate.transport);
+            }
+            idle.clear();
+        }
+    }
+
+    private static void close(Transport transport) {
+        try {
+            transport.close();
+            logger.debug("Closed SMTP connection");
+        } catch (MessagingException e) {
+            logger.debug("Error closing SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    private static class IdleTransport {
+        private final Transport transport;
+        private final long since;
+
+        private IdleTransport(Transport transport, long since) {
+            this.transport = transport;
+            this.since = since;
+        }
+    }
+}
@@ -11,9 +11,18 @@ package org.openhab.action.telegram.internal;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.InflaterInputStream;
 
@@ -21,16 +30,16 @@ import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
 import javax.imageio.stream.ImageInputStream;
 
-import org.apache.commons.httpclient.Credentials;
 import org.apache.commons.httpclient.DefaultHttpMethodRetryHandler;
 import org.apache.commons.httpclient.Header;
 import org.apache.commons.httpclient.HeaderElement;
 import org.apache.commons.httpclient.HttpClient;
 import org.apache.commons.httpclient.HttpException;
 import org.apache.commons.httpclient.HttpStatus;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
 import org.apache.commons.httpclient.NameValuePair;
 import org.apache.commons.httpclient.UsernamePasswordCredentials;
-import org.apache.commons.httpclient.auth.AuthScope;
+import org.apache.commons.httpclient.auth.BasicScheme;
 import org.apache.commons.httpclient.methods.GetMethod;
 import org.apache.commons.httpclient.methods.PostMethod;
 import org.apache.commons.httpclient.methods.multipart.ByteArrayPartSource;
@@ -49,6 +58,13 @@ import org.slf4j.LoggerFactory;
  * This class provides static methods that can be used in automation rules for
  * sending Telegrams.
  *
+ * <p>
+ * All requests share one pooled HTTP client. Without the asynchronous mode the
+ * rule waits until the Bot API answered, with the asynchronous mode the
+ * message is queued to a {@link TelegramDispatcher} and the rule continues
+ * immediately. Photos are downloaded once and reused for all chats they are
+ * sent to within the photo cache time.
+ *
  * @author Paolo Denti
  * @since 1.8.0
  *
@@ -61,13 +77,87 @@ public class Telegram {
     private static final String TELEGRAM_PHOTO_URL = "https://api.telegram.org/bot%s/sendPhoto";
     private static final int HTTP_TIMEOUT = 2000;
     private static final int HTTP_PHOTO_TIMEOUT = 10000;
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final Pattern RETRY_AFTER_PATTERN = Pattern.compile("\"retry_after\"\\s*:\\s*(\\d+)");
+
+    private static Map<String, TelegramBot> groupTokens = new ConcurrentHashMap<String, TelegramBot>();
+
+    /** rate limiters by bot token */
+    private static ConcurrentMap<String, TelegramRateLimiter> rateLimiters = new ConcurrentHashMap<String,
+            TelegramRateLimiter>();
+
+    /** downloaded photos by URL and user */
+    private static ConcurrentMap<String, CachedPhoto> photoCache = new ConcurrentHashMap<String, CachedPhoto>();
+
+    private static HttpClient httpClient;
 
-    private static Map<String, TelegramBot> groupTokens = new HashMap<String, TelegramBot>();
+    private static volatile TelegramDispatcher dispatcher;
+
+    private static volatile int rateLimit = 30;
+
+    private static volatile long photoCacheTime = 5000;
+
+    private static int maxConnections = 4;
 
     public static void addToken(String group, String chatId, String token) {
         groupTokens.put(group, new TelegramBot(chatId, token));
     }
 
+    /**
+     * Applies the configuration of the action service.
+     *
+     * @param async
+     *            <code>true</code> to queue the messages instead of waiting for
+     *            their delivery
+     * @param queueSize
+     *            maximum number of queued messages
+     * @param threads
+     *            maximum number of chats delivered in parallel
+     * @param messagesPerSecond
+     *            maximum number of requests per second and bot
+     * @param photoCacheMillis
+     *            time a downloaded photo is reused, 0 to download it for every
+     *            chat
+     */
+    static synchronized void configure(boolean async, int queueSize, int threads, int messagesPerSecond,
+            long photoCacheMillis) {
+        shutdown();
+
+        rateLimit = messagesPerSecond;
+        photoCacheTime = photoCacheMillis;
+        maxConnections = threads + 1;
+        if (async) {
+            dispatcher = new TelegramDispatcher(queueSize, threads);
+        }
+    }
+
+    /**
+     * Stops the delivery of queued messages and closes all connections.
+     */
+    static synchronized void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+            dispatcher = null;
+        }
+        if (httpClient != null) {
+            ((MultiThreadedHttpConnectionManager) httpClient.getHttpConnectionManager()).shutdown();
+            httpClient = null;
+        }
+        rateLimiters.clear();
+        photoCache.clear();
+    }
+
+    private static synchronized HttpClient getHttpClient() {
+        if (httpClient == null) {
+            MultiThreadedHttpConnectionManager connectionManager = new MultiThreadedHttpConnectionManager();
+            connectionManager.getParams().setDefaultMaxConnectionsPerHost(maxConnections);
+            connectionManager.getParams().setMaxTotalConnections(maxConnections * 2);
+            connectionManager.getParams().setConnectionTimeout(HTTP_PHOTO_TIMEOUT);
+            httpClient = new HttpClient(connectionManager);
+        }
+        return httpClient;
+    }
+
     @ActionDoc(text = "Sends a Telegram via Telegram REST API - direct message")
     static public boolean sendTelegram(@ParamDoc(name = "group") String group,
             @ParamDoc(name = "message") String message) {
@@ -77,50 +167,169 @@ public class Telegram {
             return false;
         }
 
-        String url = String.format(TELEGRAM_URL, groupTokens.get(group).getToken());
+        return send(TelegramMessage.text(groupTokens.get(group), message));
+    }
+
+    @ActionDoc(text = "Sends a Telegram via Telegram REST API - build message with format and args")
+    static public boolean sendTelegram(@ParamDoc(name = "group") String group, @ParamDoc(name = "format") String format,
+            @ParamDoc(name = "args") Object... args) {
+
+        return sendTelegram(group, String.format(format, args));
+    }
 
-        HttpClient client = new HttpClient();
+    @ActionDoc(text = "Sends a Picture via Telegram REST API")
+    static public boolean sendTelegramPhoto(@ParamDoc(name = "group") String group,
+            @ParamDoc(name = "photoURL") String photoURL, @ParamDoc(name = "caption") String caption) {
+
+        return sendTelegramPhoto(group, photoURL, caption, null, null);
+    }
+
+    @ActionDoc(text = "Sends a Picture, protected by username/password authentication, via Telegram REST API")
+    static public boolean sendTelegramPhoto(@ParamDoc(name = "group") String group,
+            @ParamDoc(name = "photoURL") String photoURL, @ParamDoc(name = "caption") String caption,
+            @ParamDoc(name = "username") String username, @ParamDoc(name = "password") String password) {
+
+        if (groupTokens.get(group) == null) {
+            logger.error("Bot '{}' not defined, action skipped", group);
+            return false;
+        }
+
+        if (photoURL == null) {
+            logger.error("photoURL not defined, action skipped");
+            return false;
+        }
+
+        return send(TelegramMessage.photo(groupTokens.get(group), photoURL, caption, username, password));
+    }
+
+    private static boolean send(TelegramMessage message) {
+        TelegramDispatcher currentDispatcher = dispatcher;
+        if (currentDispatcher != null) {
+            return currentDispatcher.submit(message);
+        }
+        return deliver(message, 0);
+    }
+
+    /**
+     * Delivers a message to the Bot API, waiting for the rate limit of the
+     * bot.
+     *
+     * @param message
+     *            message to deliver
+     * @param retries
+     *            number of retries if the Bot API answers with
+     *            <code>429 Too Many Requests</code>
+     * @return <code>true</code> if the message was delivered
+     */
+    static boolean deliver(TelegramMessage message, int retries) {
+        TelegramBot bot = message.getBot();
+
+        TelegramPhoto photo = null;
+        if (message.isPhoto()) {
+            photo = getPhoto(message.getPhotoURL(), message.getUsername(), message.getPassword());
+            if (photo == null) {
+                return false;
+            }
+        }
+
+        TelegramRateLimiter rateLimiter = getRateLimiter(bot.getToken());
+        for (int attempt = 0;; attempt++) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            PostMethod postMethod = photo == null ? createMessagePost(bot, message.getText())
+                    : createPhotoPost(bot, photo, message.getText());
+            long retryAfter = execute(postMethod);
+            if (retryAfter <= 0) {
+                return retryAfter == 0;
+            }
+
+            rateLimiter.pause(retryAfter);
+            if (attempt >= retries) {
+                logger.warn("Bot API rate limit exceeded, {} not sent", message);
+                return false;
+            }
+            logger.debug("Bot API rate limit exceeded, retrying {} in {} ms", message, retryAfter);
+        }
+    }
+
+    private static TelegramRateLimiter getRateLimiter(String token) {
+        TelegramRateLimiter rateLimiter = rateLimiters.get(token);
+        if (rateLimiter == null) {
+            rateLimiter = new TelegramRateLimiter(rateLimit);
+            TelegramRateLimiter existing = rateLimiters.putIfAbsent(token, rateLimiter);
+            if (existing != null) {
+                rateLimiter = existing;
+            }
+        }
+        return rateLimiter;
+    }
+
+    private static PostMethod createMessagePost(TelegramBot bot, String message) {
+        String url = String.format(TELEGRAM_URL, bot.getToken());
 
         PostMethod postMethod = new PostMethod(url);
         postMethod.getParams().setContentCharset("UTF-8");
         postMethod.getParams().setSoTimeout(HTTP_TIMEOUT);
         postMethod.getParams().setParameter(HttpMethodParams.RETRY_HANDLER,
                 new DefaultHttpMethodRetryHandler(3, false));
-        NameValuePair[] data = { new NameValuePair("chat_id", groupTokens.get(group).getChatId()),
-                new NameValuePair("text", message) };
+        NameValuePair[] data = { new NameValuePair("chat_id", bot.getChatId()), new NameValuePair("text", message) };
         postMethod.setRequestBody(data);
+        return postMethod;
+    }
+
+    private static PostMethod createPhotoPost(TelegramBot bot, TelegramPhoto photo, String caption) {
+        String url = String.format(TELEGRAM_PHOTO_URL, bot.getToken());
+
+        PostMethod postMethod = new PostMethod(url);
+        postMethod.getParams().setContentCharset("UTF-8");
+        postMethod.getParams().setSoTimeout(HTTP_PHOTO_TIMEOUT);
+        postMethod.getParams().setParameter(HttpMethodParams.RETRY_HANDLER,
+                new DefaultHttpMethodRetryHandler(3, false));
+        Part[] parts = new Part[caption != null ? 3 : 2];
+        parts[0] = new StringPart("chat_id", bot.getChatId());
+        parts[1] = new FilePart("photo",
+                new ByteArrayPartSource(String.format("image.%s", photo.getImageType()), photo.getImage()));
+        if (caption != null) {
+            parts[2] = new StringPart("caption", caption, "UTF-8");
+        }
+        postMethod.setRequestEntity(new MultipartRequestEntity(parts, postMethod.getParams()));
+        return postMethod;
+    }
 
+    /**
+     * Executes a request to the Bot API.
+     *
+     * @return 0 if the request succeeded, -1 if it failed or the time to wait
+     *         in milliseconds before retrying if the rate limit was exceeded
+     */
+    private static long execute(PostMethod postMethod) {
         try {
-            int statusCode = client.executeMethod(postMethod);
+            int statusCode = getHttpClient().executeMethod(postMethod);
 
             if (statusCode == HttpStatus.SC_NO_CONTENT || statusCode == HttpStatus.SC_ACCEPTED) {
-                return true;
+                return 0;
             }
 
-            if (statusCode != HttpStatus.SC_OK) {
-                logger.warn("Method failed: {}", postMethod.getStatusLine());
-                return false;
+            if (statusCode == SC_TOO_MANY_REQUESTS) {
+                Matcher matcher = RETRY_AFTER_PATTERN.matcher(readResponseBody(postMethod));
+                return matcher.find() ? Long.parseLong(matcher.group(1)) * 1000 : 1000;
             }
 
-            InputStream tmpResponseStream = postMethod.getResponseBodyAsStream();
-            Header encodingHeader = postMethod.getResponseHeader("Content-Encoding");
-            if (encodingHeader != null) {
-                for (HeaderElement ehElem : encodingHeader.getElements()) {
-                    if (ehElem.toString().matches(".*gzip.*")) {
-                        tmpResponseStream = new GZIPInputStream(tmpResponseStream);
-                        logger.debug("GZipped InputStream from {}", url);
-                    } else if (ehElem.toString().matches(".*deflate.*")) {
-                        tmpResponseStream = new InflaterInputStream(tmpResponseStream);
-                        logger.debug("Deflated InputStream from {}", url);
-                    }
-                }
+            if (statusCode != HttpStatus.SC_OK) {
+                logger.warn("Method failed: {}", postMethod.getStatusLine());
+                return -1;
             }
 
-            String responseBody = IOUtils.toString(tmpResponseStream);
+            String responseBody = readResponseBody(postMethod);
             if (!responseBody.isEmpty()) {
                 logger.debug(responseBody);
             }
-
+            return 0;
         } catch (HttpException e) {
             logger.error("Fatal protocol violation: {}", e.toString());
         } catch (IOException e) {
@@ -129,66 +338,129 @@ public class Telegram {
             postMethod.releaseConnection();
         }
 
-        return true;
+        return -1;
     }
 
-    @ActionDoc(text = "Sends a Telegram via Telegram REST API - build message with format and args")
-    static public boolean sendTelegram(@ParamDoc(name = "group") String group, @ParamDoc(name = "format") String format,
-            @ParamDoc(name = "args") Object... args) {
+    private static String readResponseBody(PostMethod postMethod) throws IOException {
+        InputStream tmpResponseStream = postMethod.getResponseBodyAsStream();
+        if (tmpResponseStream == null) {
+            return "";
+        }
+        Header encodingHeader = postMethod.getResponseHeader("Content-Encoding");
+        if (encodingHeader != null) {
+            for (HeaderElement ehElem : encodingHeader.getElements()) {
+                if (ehElem.toString().matches(".*gzip.*")) {
+                    tmpResponseStream = new GZIPInputStream(tmpResponseStream);
+                    logger.debug("GZipped InputStream from {}", postMethod.getPath());
+                } else if (ehElem.toString().matches(".*deflate.*")) {
+                    tmpResponseStream = new InflaterInputStream(tmpResponseStream);
+                    logger.debug("Deflated InputStream from {}", postMethod.getPath());
+                }
+            }
+        }
 
-        return sendTelegram(group, String.format(format, args));
+        return IOUtils.toString(tmpResponseStream);
     }
 
-    @ActionDoc(text = "Sends a Picture via Telegram REST API")
-    static public boolean sendTelegramPhoto(@ParamDoc(name = "group") String group,
-            @ParamDoc(name = "photoURL") String photoURL, @ParamDoc(name = "caption") String caption) {
+    /**
+     * Returns a photo, downloaded once for all chats within the photo cache
+     * time. Concurrent requests for the same photo wait for the same
+     * download.
+     *
+     * @return the photo, <code>null</code> if it couldn't be loaded
+     */
+    private static TelegramPhoto getPhoto(final String photoURL, final String username, final String password) {
+        long cacheTime = photoCacheTime;
+        if (cacheTime <= 0) {
+            return loadPhoto(photoURL, username, password);
+        }
 
-        return sendTelegramPhoto(group, photoURL, caption, null, null);
-    }
+        long now = System.currentTimeMillis();
+        for (Iterator<CachedPhoto> iterator = photoCache.values().iterator(); iterator.hasNext();) {
+            if (now - iterator.next().loaded > cacheTime) {
+                iterator.remove();
+            }
+        }
 
-    @ActionDoc(text = "Sends a Picture, protected by username/password authentication, via Telegram REST API")
-    static public boolean sendTelegramPhoto(@ParamDoc(name = "group") String group,
-            @ParamDoc(name = "photoURL") String photoURL, @ParamDoc(name = "caption") String caption,
-            @ParamDoc(name = "username") String username, @ParamDoc(name = "password") String password) {
+        String key = getCacheKey(photoURL, username, password);
+        CachedPhoto cachedPhoto = photoCache.get(key);
+        if (cachedPhoto == null) {
+            FutureTask<TelegramPhoto> download = new FutureTask<TelegramPhoto>(new Callable<TelegramPhoto>() {
+                @Override
+                public TelegramPhoto call() {
+                    return loadPhoto(photoURL, username, password);
+                }
+            });
+            CachedPhoto loadingPhoto = new CachedPhoto(now, download);
+            cachedPhoto = photoCache.putIfAbsent(key, loadingPhoto);
+            if (cachedPhoto == null) {
+                cachedPhoto = loadingPhoto;
+                loadingPhoto.photo.run();
+            }
+        }
 
-        if (groupTokens.get(group) == null) {
-            logger.error("Bot '{}' not defined, action skipped", group);
-            return false;
+        TelegramPhoto photo = null;
+        try {
+            photo = cachedPhoto.photo.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Cannot load photoURL: {}", e.getCause().toString());
+        }
+        if (photo == null) {
+            photoCache.remove(key, cachedPhoto);
         }
+        return photo;
+    }
 
-        if (photoURL == null) {
-            logger.error("photoURL not defined, action skipped");
-            return false;
+    /**
+     * Photos downloaded with credentials are cached under a hash of the
+     * credentials, so a wrong password never gets the photo loaded with the
+     * right one.
+     */
+    private static String getCacheKey(String photoURL, String username, String password) {
+        if (username == null || password == null) {
+            return photoURL;
         }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(username.getBytes("UTF-8"));
+            digest.update((byte) 0);
+            digest.update(password.getBytes("UTF-8"));
+            return new BigInteger(1, digest.digest()).toString(16) + "@" + photoURL;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
+    private static TelegramPhoto loadPhoto(String photoURL, String username, String password) {
         // load image from url
         byte[] imageFromURL;
 
-        HttpClient getClient = new HttpClient();
-
+        GetMethod getMethod = new GetMethod(photoURL);
         if (username != null && password != null) {
-            getClient.getParams().setAuthenticationPreemptive(true);
-            Credentials defaultcreds = new UsernamePasswordCredentials(username, password);
-            getClient.getState().setCredentials(AuthScope.ANY, defaultcreds);
+            // preemptive basic authentication, only for this request of the shared client
+            UsernamePasswordCredentials defaultcreds = new UsernamePasswordCredentials(username, password);
+            getMethod.setRequestHeader("Authorization", BasicScheme.authenticate(defaultcreds, "UTF-8"));
         }
-
-        GetMethod getMethod = new GetMethod(photoURL);
         getMethod.getParams().setSoTimeout(HTTP_PHOTO_TIMEOUT);
         getMethod.getParams().setParameter(HttpMethodParams.RETRY_HANDLER, new DefaultHttpMethodRetryHandler(3, false));
         try {
-            int statusCode = getClient.executeMethod(getMethod);
+            int statusCode = getHttpClient().executeMethod(getMethod);
             if (statusCode != HttpStatus.SC_OK) {
                 logger.error("Method failed: {}", getMethod.getStatusLine());
-                return false;
+                return null;
             }
 
             imageFromURL = getMethod.getResponseBody();
         } catch (HttpException e) {
             logger.error("Fatal protocol violation: {}", e.toString());
-            return false;
+            return null;
         } catch (IOException e) {
             logger.error("Fatal transport error: {}", e.toString());
-            return false;
+            return null;
         } finally {
             getMethod.releaseConnection();
         }
@@ -200,52 +472,28 @@ public class Telegram {
             Iterator<ImageReader> imageReaders = ImageIO.getImageReaders(iis);
             if (!imageReaders.hasNext()) {
                 logger.error("photoURL does not represent a known image type");
-                return false;
+                return null;
             }
             ImageReader reader = imageReaders.next();
             imageType = reader.getFormatName();
         } catch (IOException e) {
             logger.error("cannot parse photoURL as image: {}", e.getMessage());
-            return false;
+            return null;
         }
 
-        // post photo to telegram
-        String url = String.format(TELEGRAM_PHOTO_URL, groupTokens.get(group).getToken());
-
-        PostMethod postMethod = new PostMethod(url);
-        try {
-            postMethod.getParams().setContentCharset("UTF-8");
-            postMethod.getParams().setSoTimeout(HTTP_PHOTO_TIMEOUT);
-            postMethod.getParams().setParameter(HttpMethodParams.RETRY_HANDLER,
-                    new DefaultHttpMethodRetryHandler(3, false));
-            Part[] parts = new Part[caption != null ? 3 : 2];
-            parts[0] = new StringPart("chat_id", groupTokens.get(group).getChatId());
-            parts[1] = new FilePart("photo",
-                    new ByteArrayPartSource(String.format("image.%s", imageType), imageFromURL));
-            if (caption != null) {
-                parts[2] = new StringPart("caption", caption, "UTF-8");
-            }
-            postMethod.setRequestEntity(new MultipartRequestEntity(parts, postMethod.getParams()));
-
-            HttpClient client = new HttpClient();
-            int statusCode = client.executeMethod(postMethod);
+        return new TelegramPhoto(imageFromURL, imageType);
+    }
 
-            if (statusCode == HttpStatus.SC_NO_CONTENT || statusCode == HttpStatus.SC_ACCEPTED) {
-                return true;
-            }
+    /**
+     * A photo download, shared by all requests of the same photo.
+     */
+    private static class CachedPhoto {
+        private final long loaded;
+        private final FutureTask<TelegramPhoto> photo;
 
-            if (statusCode != HttpStatus.SC_OK) {
-                logger.error("Method failed: {}", postMethod.getStatusLine());
-                return false;
-            }
-        } catch (HttpException e) {
-            logger.error("Fatal protocol violation: {}", e.toString());
-        } catch (IOException e) {
-            logger.error("Fatal transport error: {}", e.toString());
-        } finally {
-            postMethod.releaseConnection();
+        private CachedPhoto(long loaded, FutureTask<TelegramPhoto> photo) {
+            this.loaded = loaded;
+            this.photo = photo;
         }
-
-        return true;
     }
 }
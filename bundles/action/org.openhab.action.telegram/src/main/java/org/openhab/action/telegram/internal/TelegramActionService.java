@@ -10,6 +10,7 @@ package org.openhab.action.telegram.internal;
 
 import java.util.Dictionary;
 
+import org.apache.commons.lang.StringUtils;
 import org.openhab.core.scriptengine.action.ActionService;
 import org.osgi.service.cm.ConfigurationException;
 import org.osgi.service.cm.ManagedService;
@@ -40,8 +41,7 @@ public class TelegramActionService implements ActionService, ManagedService {
     }
 
     public void deactivate() {
-        // deallocate Resources here that are no longer needed and
-        // should be reset when activating this binding again
+        Telegram.shutdown();
     }
 
     @Override
@@ -69,7 +69,33 @@ public class TelegramActionService implements ActionService, ManagedService {
                     logger.warn("Bot {} is misconfigured. Please check the configuration", bot);
                 }
             }
+
+            boolean async = "true".equalsIgnoreCase((String) config.get("async"));
+            int queueSize = parseInt(config, "queueSize", 100);
+            int threads = parseInt(config, "threads", 4);
+            int rateLimit = parseInt(config, "rateLimit", 30);
+            int photoCacheTime = parseInt(config, "photoCacheTime", 5000);
+            if (queueSize < 1 || threads < 1) {
+                throw new ConfigurationException(queueSize < 1 ? "queueSize" : "threads", "must be at least 1");
+            }
+            Telegram.configure(async, queueSize, threads, rateLimit, photoCacheTime);
+            logger.debug("Telegram {} delivery, {} messages per second and bot", async ? "asynchronous" : "synchronous",
+                    rateLimit);
+
             isProperlyConfigured = true;
         }
     }
+
+    private static int parseInt(Dictionary<String, ?> config, String key, int defaultValue)
+            throws ConfigurationException {
+        String value = (String) config.get(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException(key, "invalid number '" + value + "'");
+        }
+    }
 }
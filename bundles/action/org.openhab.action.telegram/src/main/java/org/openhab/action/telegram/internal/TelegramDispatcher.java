@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.telegram.internal;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers messages in the background, so the rules sending them don't wait
+ * for the Bot API. Messages to the same chat are delivered one after the other
+ * in the order they were sent, different chats are delivered in parallel. The
+ * number of waiting messages is bounded, further messages are rejected.
+ *
+ * @author Paolo Denti
+ * @since 1.9.0
+ */
+public class TelegramDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelegramDispatcher.class);
+
+    /** number of retries after a 429 Too Many Requests */
+    private static final int RETRIES = 3;
+
+    private final int capacity;
+
+    /** the number of waiting messages, only changed while holding this */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+
+    /** the chats with waiting messages, guarded by this */
+    private final Map<String, Lane> lanes = new HashMap<String, Lane>();
+
+    /** set by shutdown(), guarded by this */
+    private boolean shutdown = false;
+
+    /**
+     * @param capacity
+     *            maximum number of waiting messages
+     * @param threads
+     *            maximum number of chats delivered in parallel
+     */
+    public TelegramDispatcher(int capacity, int threads) {
+        this.capacity = capacity;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "Telegram Sender " + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues a message for delivery.
+     *
+     * @param message
+     *            message to deliver
+     * @return <code>false</code> if the queue is full or the dispatcher was
+     *         shut down
+     */
+    public boolean submit(TelegramMessage message) {
+        String key = message.getBot().getToken() + "/" + message.getBot().getChatId();
+        Lane lane;
+        boolean schedule;
+        synchronized (this) {
+            if (shutdown) {
+                logger.warn("Telegram dispatcher is shut down, {} dropped", message);
+                return false;
+            }
+            if (pending.get() >= capacity) {
+                logger.warn("Telegram queue is full ({} messages), {} dropped", capacity, message);
+                return false;
+            }
+            pending.incrementAndGet();
+
+            lane = lanes.get(key);
+            if (lane == null) {
+                lane = new Lane(key);
+                lanes.put(key, lane);
+            }
+            lane.messages.add(message);
+            schedule = !lane.scheduled;
+            lane.scheduled = true;
+        }
+
+        if (schedule) {
+            try {
+                executor.execute(lane);
+            } catch (RejectedExecutionException e) {
+                // shut down after the message was queued, shutdown() already dropped it
+                logger.warn("Telegram dispatcher is shut down, {} dropped", message);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of messages waiting for delivery
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the delivery, waiting messages are dropped.
+     */
+    public void shutdown() {
+        int dropped;
+        synchronized (this) {
+            shutdown = true;
+            dropped = pending.getAndSet(0);
+            lanes.clear();
+        }
+        executor.shutdownNow();
+        if (dropped > 0) {
+            logger.warn("Telegram dispatcher shut down, {} messages dropped", dropped);
+        }
+    }
+
+    /**
+     * The waiting messages of one chat, delivered by one thread at a time.
+     */
+    private class Lane implements Runnable {
+
+        private final String key;
+
+        private final Queue<TelegramMessage> messages = new ArrayDeque<TelegramMessage>();
+
+        private boolean scheduled;
+
+        private Lane(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                TelegramMessage message;
+                synchronized (TelegramDispatcher.this) {
+                    if (shutdown) {
+                        return;
+                    }
+                    message = messages.poll();
+                    if (message == null) {
+                        scheduled = false;
+                        lanes.remove(key);
+                        return;
+                    }
+                    pending.decrementAndGet();
+                }
+
+                try {
+                    if (!Telegram.deliver(message, RETRIES)) {
+                        logger.warn("Couldn't deliver Telegram {}", message);
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Error delivering Telegram " + message, e);
+                }
+            }
+        }
+    }
+}
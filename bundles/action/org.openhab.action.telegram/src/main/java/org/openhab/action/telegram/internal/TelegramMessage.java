@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.telegram.internal;
+
+/**
+ * A message or photo waiting for delivery to the chat of a bot.
+ *
+ * @author Paolo Denti
+ * @since 1.9.0
+ */
+public class TelegramMessage {
+
+    private final TelegramBot bot;
+    private final String text;
+    private final String photoURL;
+    private final String username;
+    private final String password;
+
+    private TelegramMessage(TelegramBot bot, String text, String photoURL, String username, String password) {
+        this.bot = bot;
+        this.text = text;
+        this.photoURL = photoURL;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Creates a text message.
+     */
+    public static TelegramMessage text(TelegramBot bot, String text) {
+        return new TelegramMessage(bot, text, null, null, null);
+    }
+
+    /**
+     * Creates a photo message, the text is the optional caption.
+     */
+    public static TelegramMessage photo(TelegramBot bot, String photoURL, String caption, String username,
+            String password) {
+        return new TelegramMessage(bot, caption, photoURL, username, password);
+    }
+
+    public TelegramBot getBot() {
+        return bot;
+    }
+
+    /**
+     * @return the text of a message or the caption of a photo
+     */
+    public String getText() {
+        return text;
+    }
+
+    public boolean isPhoto() {
+        return photoURL != null;
+    }
+
+    public String getPhotoURL() {
+        return photoURL;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String toString() {
+        return (isPhoto() ? "photo " + photoURL : "message") + " to chat " + bot.getChatId();
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.telegram.internal;
+
+/**
+ * A downloaded photo with its image type, shared by all chats it's sent to.
+ *
+ * @author Paolo Denti
+ * @since 1.9.0
+ */
+public class TelegramPhoto {
+
+    private final byte[] image;
+    private final String imageType;
+
+    public TelegramPhoto(byte[] image, String imageType) {
+        this.image = image;
+        this.imageType = imageType;
+    }
+
+    public byte[] getImage() {
+        return image;
+    }
+
+    /**
+     * @return the image format, e.g. <code>jpeg</code>
+     */
+    public String getImageType() {
+        return imageType;
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.action.telegram.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces the requests of one bot, so that it doesn't exceed the rate limit of
+ * the Telegram Bot API. Callers wait for their slot, the slots are handed out
+ * in the order of the calls.
+ *
+ * @author Paolo Denti
+ * @since 1.9.0
+ */
+public class TelegramRateLimiter {
+
+    private final long interval;
+
+    private long nextSlot = System.nanoTime();
+
+    /**
+     * @param messagesPerSecond
+     *            maximum number of requests per second, 0 for no limit
+     */
+    public TelegramRateLimiter(int messagesPerSecond) {
+        this.interval = messagesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / messagesPerSecond : 0;
+    }
+
+    /**
+     * Waits for the next free slot.
+     *
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = nextSlot - now > 0 ? nextSlot : now;
+            nextSlot = slot + interval;
+            wait = slot - now;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Holds back all requests, used when the Bot API answered with
+     * <code>429 Too Many Requests</code>.
+     *
+     * @param millis
+     *            time to hold back
+     */
+    public synchronized void pause(long millis) {
+        long resume = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        if (resume - nextSlot > 0) {
+            nextSlot = resume;
+        }
+    }
+}
@@ -9,6 +9,7 @@
 package org.openhab.binding.astro.internal.bus;
 
 import org.apache.commons.lang.StringUtils;
+import org.openhab.binding.astro.internal.common.AstroConfig;
 import org.openhab.binding.astro.internal.common.AstroContext;
 import org.openhab.binding.astro.internal.config.AstroBindingConfig;
 import org.openhab.binding.astro.internal.model.PlanetName;
@@ -39,6 +40,8 @@ import org.slf4j.LoggerFactory;
  *
  * Number   Sunset_Duration                         {astro="planet=sun, type=set, property=duration"}
  * String   Sunset_Duration_Str                     {astro="planet=sun, type=set, property=duration"}
+ *
+ * DateTime Sunrise_Office "Sunrise office [%1$tH:%1$tM]"  {astro="planet=sun, type=rise, property=start, location=office"}
  * </pre>
  *
  * @author Gerhard Riegler
@@ -96,8 +99,14 @@ public class BindingConfigParser {
             throw new BindingConfigParseException("Invalid binding, unknown planet: " + bindingConfig);
         }
 
+        // the locations are known once the openhab.cfg has been parsed
+        AstroConfig config = context.getConfig();
+        if (config.isValid() && config.getLocation(helper.location) == null) {
+            throw new BindingConfigParseException("Invalid binding, unknown location: " + bindingConfig);
+        }
+
         AstroBindingConfig astroConfig = new AstroBindingConfig(planetName, helper.type, helper.property,
-                helper.offset);
+                helper.offset, helper.location);
 
         if (!PropertyUtils.hasProperty(context.getPlanet(astroConfig.getPlanetName()),
                 astroConfig.getPlanetProperty())) {
@@ -151,6 +160,7 @@ public class BindingConfigParser {
         public String type;
         public String property;
         public int offset = 0;
+        public String location = AstroConfig.DEFAULT_LOCATION;
 
         protected boolean isValid() {
             return StringUtils.isNotBlank(planet) && StringUtils.isNotBlank(type) && StringUtils.isNotBlank(property);
@@ -83,20 +83,24 @@ public class PlanetPublisher {
             logger.warn("Astro binding for item {} not found", itemName);
         } else {
             itemCache.remove(itemName);
-            publish(bindingConfig.getPlanetName());
+            publish(bindingConfig.getLocation(), bindingConfig.getPlanetName());
         }
     }
 
     /**
-     * Iterates through all items and publishes the states.
+     * Iterates through all items of the location and publishes the states.
      */
-    public void publish(final PlanetName planetName) {
-        final Planet planet = context.getPlanet(planetName);
+    public void publish(final String location, final PlanetName planetName) {
+        final Planet planet = context.getPlanet(location, planetName);
+        if (planet == null) {
+            logger.debug("No {} data available for location {}", planetName, location);
+            return;
+        }
         new ItemIterator().iterate(new ItemIteratorCallback() {
 
             @Override
             public void next(AstroBindingConfig bindingConfig, Item item) {
-                if (planetName == bindingConfig.getPlanetName()) {
+                if (planetName == bindingConfig.getPlanetName() && location.equals(bindingConfig.getLocation())) {
                     try {
                         Object value = PropertyUtils.getPropertyValue(planet, bindingConfig.getPlanetProperty());
                         if (!equalsCachedValue(value, item)) {
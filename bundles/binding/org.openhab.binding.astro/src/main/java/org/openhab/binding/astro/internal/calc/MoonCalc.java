@@ -651,6 +651,41 @@ public class MoonCalc {
      * Sets the azimuth, elevation and zodiac in the moon object.
      */
     private void setAzimuthElevationZodiac(double julianDate, double latitude, double longitude, Moon moon) {
+        double[] azAltLon = getAzimuthAltitudeLongitude(julianDate, latitude, longitude);
+
+        Position position = moon.getPosition();
+        position.setAzimuth(azAltLon[0] * SunCalc.RAD2DEG);
+        position.setElevation(azAltLon[1] * SunCalc.RAD2DEG + refraction(azAltLon[1]));
+
+        // zodiac
+        double moonLon = azAltLon[2];
+        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
+        int idx = 0;
+        if (idxd < 0) {
+            idx = (int) (Math.ceil(idxd));
+        } else {
+            idx = (int) (Math.floor(idxd));
+        }
+
+        if (idx >= 0 || idx <= ZodiacSign.values().length) {
+            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
+        }
+    }
+
+    /**
+     * Returns the azimuth and the elevation without refraction in degrees.
+     */
+    double[] getGeometricPosition(Calendar calendar, double latitude, double longitude) {
+        double[] azAltLon = getAzimuthAltitudeLongitude(DateTimeUtils.dateToJulianDate(calendar), latitude,
+                longitude);
+        return new double[] { azAltLon[0] * SunCalc.RAD2DEG, azAltLon[1] * SunCalc.RAD2DEG };
+    }
+
+    /**
+     * Returns the topocentric azimuth and altitude without refraction and the
+     * ecliptic longitude of the moon in radians.
+     */
+    private double[] getAzimuthAltitudeLongitude(double julianDate, double latitude, double longitude) {
         double lat = latitude * SunCalc.DEG2RAD;
         double lon = longitude * SunCalc.DEG2RAD;
 
@@ -691,22 +726,7 @@ public class MoonCalc {
         double raDecTopo[] = geoEqu2TopoEqu(raDec, distance, lat, lmst);
         double azAlt[] = equ2AzAlt(raDecTopo[0], raDecTopo[1], lat, lmst);
 
-        Position position = moon.getPosition();
-        position.setAzimuth(azAlt[0] * SunCalc.RAD2DEG);
-        position.setElevation(azAlt[1] * SunCalc.RAD2DEG + refraction(azAlt[1]));
-
-        // zodiac
-        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
-        int idx = 0;
-        if (idxd < 0) {
-            idx = (int) (Math.ceil(idxd));
-        } else {
-            idx = (int) (Math.floor(idxd));
-        }
-
-        if (idx >= 0 || idx <= ZodiacSign.values().length) {
-            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
-        }
+        return new double[] { azAlt[0], azAlt[1], moonLon };
     }
 
     private double mod2Pi(double x) {
@@ -817,7 +837,7 @@ public class MoonCalc {
      * Returns altitude increase in altitude in degrees. Rough refraction
      * formula using standard atmosphere: 1015 mbar and 10°C.
      */
-    private double refraction(double alt) {
+    double refraction(double alt) {
         int pressure = 1015;
         int temperature = 10;
         double altdeg = alt * SunCalc.RAD2DEG;
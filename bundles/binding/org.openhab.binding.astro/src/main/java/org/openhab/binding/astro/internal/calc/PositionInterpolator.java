@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import java.util.Calendar;
+
+import org.openhab.binding.astro.internal.common.AstroLocation;
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.Sun;
+import org.openhab.binding.astro.internal.model.Zodiac;
+import org.openhab.binding.astro.internal.model.ZodiacSign;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+
+/**
+ * Interpolates the sun and moon positions of one day at one location.
+ * <p>
+ * The positions are calculated once every five minutes of the day and
+ * converted to the coefficients of a cubic polynomial per interval
+ * (Catmull-Rom spline), so the IntervalJob only evaluates a polynomial instead
+ * of the full sun and moon calculation. The azimuth is unwrapped before the
+ * fit to avoid the jump from 360 to 0 degrees, the moon elevation is fitted
+ * without refraction, because the refraction formula is not continuous.
+ * </p>
+ *
+ * @author Gerhard Riegler
+ * @since 1.9.0
+ */
+public class PositionInterpolator {
+    private static final long STEP = 5 * 60 * 1000L;
+
+    private static final int SUN_AZIMUTH = 0;
+    private static final int SUN_ELEVATION = 1;
+    private static final int MOON_AZIMUTH = 2;
+    private static final int MOON_ELEVATION = 3;
+    private static final int MOON_DISTANCE = 4;
+    private static final int MOON_ILLUMINATION = 5;
+    private static final int CHANNELS = 6;
+
+    private AstroLocation location;
+    private long start;
+    private long end;
+    private int intervals;
+    private double[][] coefficients = new double[CHANNELS][];
+    private ZodiacSign[] moonZodiacs;
+    private MoonCalc moonCalc = new MoonCalc();
+
+    /**
+     * Calculates the coefficients for the day of the calendar at the location.
+     */
+    public PositionInterpolator(Calendar calendar, AstroLocation location) {
+        this.location = location;
+
+        Calendar day = DateTimeUtils.truncateToMidnight(calendar);
+        start = day.getTimeInMillis();
+        day.add(Calendar.DAY_OF_MONTH, 1);
+        end = day.getTimeInMillis();
+        intervals = (int) ((end - start + STEP - 1) / STEP);
+
+        // one additional sample before and after the day for the slopes at the
+        // first and last interval
+        double[][] samples = new double[CHANNELS][intervals + 3];
+        moonZodiacs = new ZodiacSign[intervals + 1];
+
+        SunCalc sunCalc = new SunCalc();
+        Sun sun = new Sun();
+        Moon moon = new Moon();
+        Calendar cal = (Calendar) calendar.clone();
+        for (int i = 0; i < intervals + 3; i++) {
+            cal.setTimeInMillis(start + (i - 1) * STEP);
+            sunCalc.setSunPosition(cal, location.getLatitude(), location.getLongitude(), sun);
+            moonCalc.setMoonPosition(cal, location.getLatitude(), location.getLongitude(), moon);
+            double[] moonPosition = moonCalc.getGeometricPosition(cal, location.getLatitude(),
+                    location.getLongitude());
+
+            samples[SUN_AZIMUTH][i] = sun.getPosition().getAzimuth();
+            samples[SUN_ELEVATION][i] = sun.getPosition().getElevation();
+            samples[MOON_AZIMUTH][i] = moonPosition[0];
+            samples[MOON_ELEVATION][i] = moonPosition[1];
+            samples[MOON_DISTANCE][i] = moon.getDistance().getKilometer();
+            samples[MOON_ILLUMINATION][i] = moon.getPhase().getIllumination();
+
+            if (i > 0 && i <= intervals + 1 && moon.getZodiac() != null) {
+                moonZodiacs[i - 1] = moon.getZodiac().getSign();
+            }
+        }
+
+        unwrapDegrees(samples[SUN_AZIMUTH]);
+        unwrapDegrees(samples[MOON_AZIMUTH]);
+        for (int channel = 0; channel < CHANNELS; channel++) {
+            coefficients[channel] = toCoefficients(samples[channel]);
+        }
+    }
+
+    /**
+     * Returns true, if the interpolator has been calculated for the location
+     * and covers the time of the calendar.
+     */
+    public boolean isValid(Calendar calendar, AstroLocation location) {
+        long time = calendar.getTimeInMillis();
+        return time >= start && time < end && this.location.equals(location);
+    }
+
+    /**
+     * Sets the interpolated sun position (azimuth and elevation).
+     */
+    public void setSunPosition(Calendar calendar, Sun sun) {
+        double t = toIntervalTime(calendar);
+        sun.getPosition().setAzimuth(normalizeDegrees(interpolate(SUN_AZIMUTH, t)));
+        sun.getPosition().setElevation(interpolate(SUN_ELEVATION, t));
+    }
+
+    /**
+     * Sets the interpolated moon position, distance, illumination and zodiac.
+     */
+    public void setMoonPosition(Calendar calendar, Moon moon) {
+        double t = toIntervalTime(calendar);
+        moon.getPosition().setAzimuth(normalizeDegrees(interpolate(MOON_AZIMUTH, t)));
+        double elevation = interpolate(MOON_ELEVATION, t);
+        moon.getPosition().setElevation(elevation + moonCalc.refraction(elevation * SunCalc.DEG2RAD));
+        moon.getDistance().setDate(Calendar.getInstance());
+        moon.getDistance().setKilometer(interpolate(MOON_DISTANCE, t));
+        moon.getPhase().setIllumination(interpolate(MOON_ILLUMINATION, t));
+
+        ZodiacSign sign = moonZodiacs[(int) Math.round(t)];
+        if (sign != null) {
+            moon.setZodiac(new Zodiac(sign));
+        }
+    }
+
+    /**
+     * Returns the time of the calendar in intervals since the start of the day.
+     */
+    private double toIntervalTime(Calendar calendar) {
+        double t = (double) (calendar.getTimeInMillis() - start) / STEP;
+        return Math.max(0, Math.min(t, intervals));
+    }
+
+    /**
+     * Evaluates the polynomial of the interval.
+     */
+    private double interpolate(int channel, double t) {
+        int interval = Math.min((int) t, intervals - 1);
+        double x = t - interval;
+        double[] c = coefficients[channel];
+        int i = interval * 4;
+        return c[i] + x * (c[i + 1] + x * (c[i + 2] + x * c[i + 3]));
+    }
+
+    /**
+     * Converts the samples to the coefficients of a cubic Hermite polynomial
+     * per interval, the slopes are the central differences of the samples.
+     */
+    private static double[] toCoefficients(double[] samples) {
+        int intervals = samples.length - 3;
+        double[] c = new double[intervals * 4];
+        for (int interval = 0; interval < intervals; interval++) {
+            double p1 = samples[interval + 1];
+            double p2 = samples[interval + 2];
+            double m1 = (samples[interval + 2] - samples[interval]) / 2;
+            double m2 = (samples[interval + 3] - samples[interval + 1]) / 2;
+
+            int i = interval * 4;
+            c[i] = p1;
+            c[i + 1] = m1;
+            c[i + 2] = 3 * (p2 - p1) - 2 * m1 - m2;
+            c[i + 3] = 2 * (p1 - p2) + m1 + m2;
+        }
+        return c;
+    }
+
+    /**
+     * Removes the jumps between 360 and 0 degrees from the samples.
+     */
+    private static void unwrapDegrees(double[] samples) {
+        double offset = 0;
+        for (int i = 1; i < samples.length; i++) {
+            double delta = samples[i] + offset - samples[i - 1];
+            if (delta > 180) {
+                offset -= 360;
+            } else if (delta < -180) {
+                offset += 360;
+            }
+            samples[i] += offset;
+        }
+    }
+
+    /**
+     * Returns the angle in the range of 0 to 360 degrees.
+     */
+    private static double normalizeDegrees(double degrees) {
+        double normalized = degrees % 360;
+        return normalized < 0 ? normalized + 360 : normalized;
+    }
+}
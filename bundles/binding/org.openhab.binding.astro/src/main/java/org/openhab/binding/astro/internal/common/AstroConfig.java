@@ -10,8 +10,15 @@ package org.openhab.binding.astro.internal.common;
 
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.builder.ToStringBuilder;
@@ -32,6 +39,10 @@ import org.osgi.service.cm.ConfigurationException;
  *
  * # Refresh interval for sun azimuth/elevation and moon distance/illumination calculation in seconds (optional, defaults to disabled)
  * astro:interval=nnn
+ *
+ * # Additional named locations (optional), referenced in the item binding with location=&lt;name&gt;
+ * astro:&lt;name&gt;.latitude=nn.nnnnnn
+ * astro:&lt;name&gt;.longitude=nn.nnnnnn
  * </pre>
  *
  * @author Gerhard Riegler
@@ -41,10 +52,18 @@ public class AstroConfig {
     private static final String CONFIG_KEY_LATITUDE = "latitude";
     private static final String CONFIG_KEY_LONGITUDE = "longitude";
     private static final String CONFIG_KEY_INTERVAL = "interval";
+    private static final Pattern CONFIG_KEY_LOCATION = Pattern
+            .compile("^(\\w+)\\.(" + CONFIG_KEY_LATITUDE + "|" + CONFIG_KEY_LONGITUDE + ")$");
+
+    /**
+     * The name of the location configured with latitude and longitude.
+     */
+    public static final String DEFAULT_LOCATION = "default";
 
     private double latitude;
     private double longitude;
     private int interval;
+    private Map<String, AstroLocation> locations = Collections.emptyMap();
     private boolean valid;
 
     /**
@@ -70,10 +89,45 @@ public class AstroConfig {
         }
 
         interval = parseInt(properties, CONFIG_KEY_INTERVAL, 0);
+        locations = parseLocations(properties);
 
         valid = true;
     }
 
+    /**
+     * Parses the default and all named locations.
+     */
+    private Map<String, AstroLocation> parseLocations(Dictionary<String, ?> properties)
+            throws ConfigurationException {
+        Map<String, AstroLocation> locations = new LinkedHashMap<String, AstroLocation>();
+        locations.put(DEFAULT_LOCATION, new AstroLocation(DEFAULT_LOCATION, latitude, longitude));
+
+        Enumeration<String> keys = properties.keys();
+        while (keys.hasMoreElements()) {
+            Matcher matcher = CONFIG_KEY_LOCATION.matcher(keys.nextElement());
+            if (!matcher.matches() || locations.containsKey(matcher.group(1))) {
+                continue;
+            }
+            String name = matcher.group(1);
+            String cfgLatitude = (String) properties.get(name + "." + CONFIG_KEY_LATITUDE);
+            String cfgLongitude = (String) properties.get(name + "." + CONFIG_KEY_LONGITUDE);
+
+            if (StringUtils.isBlank(cfgLatitude) || StringUtils.isBlank(cfgLongitude)) {
+                throw new ConfigurationException("astro", "Parameters " + name + ".latitude and " + name
+                        + ".longitude must both be configured. Please check your openhab.cfg!");
+            }
+
+            try {
+                locations.put(name, new AstroLocation(name, Double.parseDouble(cfgLatitude),
+                        Double.parseDouble(cfgLongitude)));
+            } catch (NumberFormatException ex) {
+                throw new ConfigurationException("astro", "Parameters " + name + ".latitude and/or " + name
+                        + ".longitude in wrong format. Please check your openhab.cfg!");
+            }
+        }
+        return locations;
+    }
+
     /**
      * Parses a integer property.
      */
@@ -114,6 +168,21 @@ public class AstroConfig {
         return longitude;
     }
 
+    /**
+     * Returns all locations, the default location first.
+     */
+    public Collection<AstroLocation> getLocations() {
+        return locations.values();
+    }
+
+    /**
+     * Returns the location with the specified name or null, if the location is
+     * not configured.
+     */
+    public AstroLocation getLocation(String name) {
+        return locations.get(name);
+    }
+
     /**
      * Returns the specified interval.
      */
@@ -133,6 +202,7 @@ public class AstroConfig {
         tzInfo.append(")");
         return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append("latitude", latitude)
                 .append("longitude", longitude).append("interval", intervallMessage)
+                .append("locations", locations.size())
                 .append("systemTimezone", tzInfo.toString())
                 .append("daylightSavings", Calendar.getInstance().get(Calendar.DST_OFFSET) != 0).toString();
     }
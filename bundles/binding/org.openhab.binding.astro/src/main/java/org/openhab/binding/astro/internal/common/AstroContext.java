@@ -9,10 +9,11 @@
 package org.openhab.binding.astro.internal.common;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openhab.binding.astro.AstroBindingProvider;
+import org.openhab.binding.astro.internal.calc.PositionInterpolator;
 import org.openhab.binding.astro.internal.job.JobScheduler;
 import org.openhab.binding.astro.internal.model.Moon;
 import org.openhab.binding.astro.internal.model.Planet;
@@ -32,7 +33,8 @@ public class AstroContext {
     private AstroConfig config = new AstroConfig();
     private JobScheduler jobScheduler = new JobScheduler(this);
 
-    private Map<PlanetName, Planet> planets = new HashMap<PlanetName, Planet>();
+    private Map<String, Map<PlanetName, Planet>> planets = new ConcurrentHashMap<String, Map<PlanetName, Planet>>();
+    private Map<String, PositionInterpolator> positionInterpolators = new ConcurrentHashMap<String, PositionInterpolator>();
 
     private static AstroContext instance;
 
@@ -45,8 +47,8 @@ public class AstroContext {
     public static AstroContext getInstance() {
         if (instance == null) {
             instance = new AstroContext();
-            instance.planets.put(PlanetName.SUN, new Sun());
-            instance.planets.put(PlanetName.MOON, new Moon());
+            instance.setPlanet(AstroConfig.DEFAULT_LOCATION, PlanetName.SUN, new Sun());
+            instance.setPlanet(AstroConfig.DEFAULT_LOCATION, PlanetName.MOON, new Moon());
         }
         return instance;
     }
@@ -94,16 +96,45 @@ public class AstroContext {
     }
 
     /**
-     * Returns the specified planet.
+     * Returns the specified planet of the default location.
      */
     public Planet getPlanet(PlanetName planetName) {
-        return planets.get(planetName);
+        return getPlanet(AstroConfig.DEFAULT_LOCATION, planetName);
     }
 
     /**
-     * Sets the planet data.
+     * Returns the specified planet of the location or null, if the location
+     * has not been calculated.
      */
-    public void setPlanet(PlanetName planetName, Planet planet) {
-        planets.put(planetName, planet);
+    public Planet getPlanet(String location, PlanetName planetName) {
+        Map<PlanetName, Planet> locationPlanets = planets.get(location);
+        return locationPlanets == null ? null : locationPlanets.get(planetName);
+    }
+
+    /**
+     * Sets the planet data of the location.
+     */
+    public void setPlanet(String location, PlanetName planetName, Planet planet) {
+        Map<PlanetName, Planet> locationPlanets = planets.get(location);
+        if (locationPlanets == null) {
+            locationPlanets = new ConcurrentHashMap<PlanetName, Planet>();
+            planets.put(location, locationPlanets);
+        }
+        locationPlanets.put(planetName, planet);
+    }
+
+    /**
+     * Returns the position interpolator of the current day for the location or
+     * null, if not available.
+     */
+    public PositionInterpolator getPositionInterpolator(String location) {
+        return positionInterpolators.get(location);
+    }
+
+    /**
+     * Sets the position interpolator of the current day for the location.
+     */
+    public void setPositionInterpolator(String location, PositionInterpolator positionInterpolator) {
+        positionInterpolators.put(location, positionInterpolator);
     }
 }
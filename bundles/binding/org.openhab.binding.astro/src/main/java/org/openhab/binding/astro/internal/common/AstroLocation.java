@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.astro.internal.common;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.builder.ToStringBuilder;
+import org.apache.commons.lang.builder.ToStringStyle;
+
+/**
+ * A named location with the coordinates for the astro calculations.
+ *
+ * @author Gerhard Riegler
+ * @since 1.9.0
+ */
+public class AstroLocation {
+    private String name;
+    private double latitude;
+    private double longitude;
+
+    public AstroLocation(String name, double latitude, double longitude) {
+        this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    /**
+     * Returns the name of the location.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the latitude.
+     */
+    public double getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Returns the longitude.
+     */
+    public double getLongitude() {
+        return longitude;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().append(name).append(latitude).append(longitude).toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || !(obj instanceof AstroLocation)) {
+            return false;
+        }
+        AstroLocation comp = (AstroLocation) obj;
+        return new EqualsBuilder().append(name, comp.getName()).append(latitude, comp.getLatitude())
+                .append(longitude, comp.getLongitude()).isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append("name", name)
+                .append("latitude", latitude).append("longitude", longitude).toString();
+    }
+}
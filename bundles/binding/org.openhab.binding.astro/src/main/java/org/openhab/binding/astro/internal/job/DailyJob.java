@@ -11,9 +11,12 @@ package org.openhab.binding.astro.internal.job;
 import java.util.Calendar;
 
 import org.openhab.binding.astro.internal.calc.MoonCalc;
+import org.openhab.binding.astro.internal.calc.PositionInterpolator;
 import org.openhab.binding.astro.internal.calc.SeasonCalc;
 import org.openhab.binding.astro.internal.calc.SunCalc;
 import org.openhab.binding.astro.internal.calc.SunZodiacCalc;
+import org.openhab.binding.astro.internal.common.AstroConfig;
+import org.openhab.binding.astro.internal.common.AstroLocation;
 import org.openhab.binding.astro.internal.model.Moon;
 import org.openhab.binding.astro.internal.model.PlanetName;
 import org.openhab.binding.astro.internal.model.Sun;
@@ -22,7 +25,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Calculates and publishes the Sun data.
+ * Calculates and publishes the Sun and Moon data of all locations. The data of
+ * a location is calculated once per day, a restart of the jobs on the same day
+ * only republishes it.
  *
  * @author Gerhard Riegler
  * @since 1.6.0
@@ -34,27 +39,49 @@ public class DailyJob extends AbstractBaseJob {
     protected void executeJob(JobDataMap jobDataMap) {
         Calendar now = Calendar.getInstance();
 
+        for (AstroLocation location : context.getConfig().getLocations()) {
+            PositionInterpolator interpolator = context.getPositionInterpolator(location.getName());
+            if (interpolator != null && interpolator.isValid(now, location)) {
+                logger.debug("Astro data of location {} already calculated for today", location.getName());
+            } else {
+                calculate(now, location);
+            }
+
+            planetPublisher.publish(location.getName(), PlanetName.SUN);
+            planetPublisher.publish(location.getName(), PlanetName.MOON);
+        }
+
+        Sun sun = (Sun) context.getPlanet(AstroConfig.DEFAULT_LOCATION, PlanetName.SUN);
+        context.getJobScheduler().scheduleSeasonJob(sun.getSeason());
+    }
+
+    /**
+     * Calculates the Sun and Moon data and the position interpolator of the
+     * day for the location.
+     */
+    private void calculate(Calendar now, AstroLocation location) {
+        PositionInterpolator interpolator = new PositionInterpolator(now, location);
+
         // sun
         SunCalc sunCalc = new SunCalc();
-        Sun sun = sunCalc.getSunInfo(now, context.getConfig().getLatitude(), context.getConfig().getLongitude());
-        sunCalc.setSunPosition(now, context.getConfig().getLatitude(), context.getConfig().getLongitude(), sun);
+        Sun sun = sunCalc.getSunInfo(now, location.getLatitude(), location.getLongitude());
+        interpolator.setSunPosition(now, sun);
 
         SunZodiacCalc zodiacCalc = new SunZodiacCalc();
         sun.setZodiac(zodiacCalc.getZodiac(now));
 
         SeasonCalc seasonCalc = new SeasonCalc();
-        sun.setSeason(seasonCalc.getSeason(now, context.getConfig().getLatitude()));
-        context.getJobScheduler().scheduleSeasonJob(sun.getSeason());
+        sun.setSeason(seasonCalc.getSeason(now, location.getLatitude()));
 
-        context.setPlanet(PlanetName.SUN, sun);
-        logger.debug("{}", sun);
-        planetPublisher.publish(PlanetName.SUN);
+        context.setPlanet(location.getName(), PlanetName.SUN, sun);
+        logger.debug("{}: {}", location.getName(), sun);
 
         // moon
         MoonCalc moonCalc = new MoonCalc();
-        Moon moon = moonCalc.getMoonInfo(now, context.getConfig().getLatitude(), context.getConfig().getLongitude());
-        context.setPlanet(PlanetName.MOON, moon);
-        logger.debug("{}", moon);
-        planetPublisher.publish(PlanetName.MOON);
+        Moon moon = moonCalc.getMoonInfo(now, location.getLatitude(), location.getLongitude());
+        context.setPlanet(location.getName(), PlanetName.MOON, moon);
+        logger.debug("{}: {}", location.getName(), moon);
+
+        context.setPositionInterpolator(location.getName(), interpolator);
     }
 }
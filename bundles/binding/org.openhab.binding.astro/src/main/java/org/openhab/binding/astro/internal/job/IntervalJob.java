@@ -11,7 +11,9 @@ package org.openhab.binding.astro.internal.job;
 import java.util.Calendar;
 
 import org.openhab.binding.astro.internal.calc.MoonCalc;
+import org.openhab.binding.astro.internal.calc.PositionInterpolator;
 import org.openhab.binding.astro.internal.calc.SunCalc;
+import org.openhab.binding.astro.internal.common.AstroLocation;
 import org.openhab.binding.astro.internal.model.Moon;
 import org.openhab.binding.astro.internal.model.PlanetName;
 import org.openhab.binding.astro.internal.model.Sun;
@@ -19,7 +21,8 @@ import org.quartz.JobDataMap;
 
 /**
  * Calculates and publishes the current sun azimuth and elevation and moon
- * illumination end distance.
+ * illumination end distance of all locations. The positions are interpolated
+ * from the data calculated by the DailyJob.
  *
  * @author Gerhard Riegler
  * @since 1.5.0
@@ -30,16 +33,25 @@ public class IntervalJob extends AbstractBaseJob {
     protected void executeJob(JobDataMap jobDataMap) {
         Calendar now = Calendar.getInstance();
 
-        // sun
-        SunCalc sunCalc = new SunCalc();
-        Sun sun = (Sun) context.getPlanet(PlanetName.SUN);
-        sunCalc.setSunPosition(now, context.getConfig().getLatitude(), context.getConfig().getLongitude(), sun);
-        planetPublisher.publish(PlanetName.SUN);
+        for (AstroLocation location : context.getConfig().getLocations()) {
+            Sun sun = (Sun) context.getPlanet(location.getName(), PlanetName.SUN);
+            Moon moon = (Moon) context.getPlanet(location.getName(), PlanetName.MOON);
+            if (sun == null || moon == null) {
+                continue;
+            }
 
-        // moon
-        MoonCalc moonCalc = new MoonCalc();
-        Moon moon = (Moon) context.getPlanet(PlanetName.MOON);
-        moonCalc.setMoonPosition(now, context.getConfig().getLatitude(), context.getConfig().getLongitude(), moon);
-        planetPublisher.publish(PlanetName.MOON);
+            PositionInterpolator interpolator = context.getPositionInterpolator(location.getName());
+            if (interpolator != null && interpolator.isValid(now, location)) {
+                interpolator.setSunPosition(now, sun);
+                interpolator.setMoonPosition(now, moon);
+            } else {
+                // the DailyJob has not calculated the current day yet
+                new SunCalc().setSunPosition(now, location.getLatitude(), location.getLongitude(), sun);
+                new MoonCalc().setMoonPosition(now, location.getLatitude(), location.getLongitude(), moon);
+            }
+
+            planetPublisher.publish(location.getName(), PlanetName.SUN);
+            planetPublisher.publish(location.getName(), PlanetName.MOON);
+        }
     }
 }
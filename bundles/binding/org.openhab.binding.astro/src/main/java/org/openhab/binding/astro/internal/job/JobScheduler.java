@@ -115,23 +115,25 @@ public class JobScheduler {
     }
 
     /**
-     * Checks if a binding for the IntervalJob is available.
+     * Checks if a binding for the IntervalJob is available at any location.
      */
     private boolean isBindingForIntervalJobAvailable() {
-        List<AstroBindingConfig> intervalBindings = new ArrayList<AstroBindingConfig>();
-        intervalBindings.add(new AstroBindingConfig(PlanetName.SUN, "position", "azimuth"));
-        intervalBindings.add(new AstroBindingConfig(PlanetName.SUN, "position", "elevation"));
-        intervalBindings.add(new AstroBindingConfig(PlanetName.MOON, "distance", "kilometer"));
-        intervalBindings.add(new AstroBindingConfig(PlanetName.MOON, "distance", "miles"));
-        intervalBindings.add(new AstroBindingConfig(PlanetName.MOON, "distance", "date"));
-        intervalBindings.add(new AstroBindingConfig(PlanetName.MOON, "phase", "illumination"));
-        intervalBindings.add(new AstroBindingConfig(PlanetName.MOON, "zodiac", "sign"));
-        intervalBindings.add(new AstroBindingConfig(PlanetName.MOON, "position", "azimuth"));
-        intervalBindings.add(new AstroBindingConfig(PlanetName.MOON, "position", "elevation"));
+        List<String> intervalProperties = new ArrayList<String>();
+        intervalProperties.add(PlanetName.SUN + ":position.azimuth");
+        intervalProperties.add(PlanetName.SUN + ":position.elevation");
+        intervalProperties.add(PlanetName.MOON + ":distance.kilometer");
+        intervalProperties.add(PlanetName.MOON + ":distance.miles");
+        intervalProperties.add(PlanetName.MOON + ":distance.date");
+        intervalProperties.add(PlanetName.MOON + ":phase.illumination");
+        intervalProperties.add(PlanetName.MOON + ":zodiac.sign");
+        intervalProperties.add(PlanetName.MOON + ":position.azimuth");
+        intervalProperties.add(PlanetName.MOON + ":position.elevation");
 
         for (AstroBindingProvider provider : context.getProviders()) {
-            for (AstroBindingConfig astroBindingConfig : intervalBindings) {
-                if (provider.hasBinding(astroBindingConfig)) {
+            for (String itemName : provider.getItemNames()) {
+                AstroBindingConfig bindingConfig = provider.getBindingFor(itemName);
+                if (bindingConfig != null && bindingConfig.getOffset() == 0 && intervalProperties
+                        .contains(bindingConfig.getPlanetName() + ":" + bindingConfig.getPlanetProperty())) {
                     return true;
                 }
             }
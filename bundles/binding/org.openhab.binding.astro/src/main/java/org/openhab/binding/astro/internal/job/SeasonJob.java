@@ -11,6 +11,7 @@ package org.openhab.binding.astro.internal.job;
 import java.util.Calendar;
 
 import org.openhab.binding.astro.internal.calc.SeasonCalc;
+import org.openhab.binding.astro.internal.common.AstroLocation;
 import org.openhab.binding.astro.internal.model.PlanetName;
 import org.openhab.binding.astro.internal.model.Sun;
 import org.quartz.JobDataMap;
@@ -26,11 +27,15 @@ public class SeasonJob extends AbstractBaseJob {
 
     @Override
     protected void executeJob(JobDataMap jobDataMap) {
-        Sun sun = (Sun) context.getPlanet(PlanetName.SUN);
-
         SeasonCalc seasonCalc = new SeasonCalc();
-        sun.setSeason(seasonCalc.getSeason(Calendar.getInstance(), context.getConfig().getLatitude()));
+        Calendar now = Calendar.getInstance();
 
-        planetPublisher.publish(PlanetName.SUN);
+        for (AstroLocation location : context.getConfig().getLocations()) {
+            Sun sun = (Sun) context.getPlanet(location.getName(), PlanetName.SUN);
+            if (sun != null) {
+                sun.setSeason(seasonCalc.getSeason(now, location.getLatitude()));
+                planetPublisher.publish(location.getName(), PlanetName.SUN);
+            }
+        }
     }
 }
@@ -12,7 +12,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Dictionary;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +52,7 @@ import org.openhab.binding.digitalstrom.internal.client.job.DeviceOutputValueSen
 import org.openhab.binding.digitalstrom.internal.client.job.DeviceSensorValueJob;
 import org.openhab.binding.digitalstrom.internal.client.job.SceneOutputValueSensorJob;
 import org.openhab.binding.digitalstrom.internal.client.job.SensorJob;
+import org.openhab.binding.digitalstrom.internal.client.job.SensorJobScheduler;
 import org.openhab.binding.digitalstrom.internal.config.ConnectionConfig;
 import org.openhab.binding.digitalstrom.internal.config.ConsumptionConfig;
 import org.openhab.binding.digitalstrom.internal.config.ContextConfig;
@@ -107,6 +107,8 @@ public class DigitalSTROMBinding extends AbstractActiveBinding<DigitalSTROMBindi
 
     private int readTimeout = ConnectionConfig.DEFAULT_READ_TIMEOUT;
 
+    private int sensorJobInterval = SensorJobScheduler.DEFAULT_INTERVAL;
+
     private String user = null;
 
     private String password = null;
@@ -144,11 +146,7 @@ public class DigitalSTROMBinding extends AbstractActiveBinding<DigitalSTROMBindi
 
     private List<String> echoBox = Collections.synchronizedList(new LinkedList<String>());
 
-    private List<SensorJob> highPrioritySensorJobs = Collections.synchronizedList(new LinkedList<SensorJob>());
-    private List<SensorJob> mediumPrioritySensorJobs = Collections.synchronizedList(new LinkedList<SensorJob>());
-    private List<SensorJob> lowPrioritySensorJobs = Collections.synchronizedList(new LinkedList<SensorJob>());
-
-    private SensorJobExecutor sensorJobExecutor = null;
+    private SensorJobScheduler sensorJobScheduler = null;
 
     public DigitalSTROMBinding() {
     }
@@ -168,9 +166,9 @@ public class DigitalSTROMBinding extends AbstractActiveBinding<DigitalSTROMBindi
             digitalSTROMEventListener = null;
         }
 
-        if (sensorJobExecutor != null) {
-            sensorJobExecutor.shutdown();
-            sensorJobExecutor = null;
+        if (sensorJobScheduler != null) {
+            sensorJobScheduler.shutdown();
+            sensorJobScheduler = null;
         }
 
         removeAllDeviceListener();
@@ -403,6 +401,11 @@ public class DigitalSTROMBinding extends AbstractActiveBinding<DigitalSTROMBindi
                 readTimeout = Integer.parseInt(readTimeoutStr);
             }
 
+            String sensorJobIntervalStr = (String) config.get("sensorJobInterval");
+            if (StringUtils.isNotBlank(sensorJobIntervalStr)) {
+                sensorJobInterval = Integer.parseInt(sensorJobIntervalStr);
+            }
+
             String applicationTokenStr = (String) config.get("loginToken");
             if (StringUtils.isNotBlank(applicationTokenStr)) {
                 applicationToken = applicationTokenStr;
@@ -420,7 +423,7 @@ public class DigitalSTROMBinding extends AbstractActiveBinding<DigitalSTROMBindi
             this.digitalSTROM = new DigitalSTROMJSONImpl(uri, connectTimeout, readTimeout);
 
             registerDigitalSTROMEventListener();
-            startSensorJobExecutor();
+            startSensorJobScheduler();
             initializeDevices();
 
             setProperlyConfigured(true);
@@ -1366,95 +1369,29 @@ public class DigitalSTROMBinding extends AbstractActiveBinding<DigitalSTROMBindi
         addMediumPriorityJob(new SceneOutputValueSensorJob(device, sceneId));
     }
 
-    private void addHighPriorityJob(DeviceOutputValueSensorJob deviceOutputValueSensorJob) {
-        synchronized (highPrioritySensorJobs) {
-            if (!highPrioritySensorJobs.contains(deviceOutputValueSensorJob)) {
-                highPrioritySensorJobs.add(deviceOutputValueSensorJob);
-            }
-        }
-    }
-
-    private void addHighPriorityJob(DeviceSensorValueJob deviceSensorValueJob) {
-        synchronized (highPrioritySensorJobs) {
-            if (!highPrioritySensorJobs.contains(deviceSensorValueJob)) {
-                highPrioritySensorJobs.add(deviceSensorValueJob);
-            }
-        }
+    private void addHighPriorityJob(SensorJob sensorJob) {
+        addSensorJob(sensorJob, SensorJobScheduler.Priority.HIGH);
     }
 
-    private void addMediumPriorityJob(SceneOutputValueSensorJob sceneOutputValueSensorJob) {
-        synchronized (mediumPrioritySensorJobs) {
-            if (!mediumPrioritySensorJobs.contains(sceneOutputValueSensorJob)) {
-                mediumPrioritySensorJobs.add(sceneOutputValueSensorJob);
-            }
-        }
+    private void addMediumPriorityJob(SensorJob sensorJob) {
+        addSensorJob(sensorJob, SensorJobScheduler.Priority.MEDIUM);
     }
 
-    private void addLowPriorityJob(DeviceConsumptionSensorJob deviceConsumptionSensorJob) {
-        synchronized (lowPrioritySensorJobs) {
-            if (!lowPrioritySensorJobs.contains(deviceConsumptionSensorJob)) {
-                lowPrioritySensorJobs.add(deviceConsumptionSensorJob);
-            }
-        }
+    private void addLowPriorityJob(SensorJob sensorJob) {
+        addSensorJob(sensorJob, SensorJobScheduler.Priority.LOW);
     }
 
-    private SensorJob getLowPriorityJob() {
-        SensorJob job = null;
-        synchronized (lowPrioritySensorJobs) {
-            if (lowPrioritySensorJobs.size() > 0) {
-                job = lowPrioritySensorJobs.get(0);
-                lowPrioritySensorJobs.remove(job);
-            }
+    private void addSensorJob(SensorJob sensorJob, SensorJobScheduler.Priority priority) {
+        SensorJobScheduler scheduler = sensorJobScheduler;
+        if (scheduler != null) {
+            scheduler.addJob(sensorJob, priority);
         }
-        return job;
-    }
-
-    private SensorJob getMediumPriorityJob() {
-        SensorJob job = null;
-        synchronized (mediumPrioritySensorJobs) {
-            if (mediumPrioritySensorJobs.size() > 0) {
-                job = mediumPrioritySensorJobs.get(0);
-                mediumPrioritySensorJobs.remove(job);
-            }
-        }
-        return job;
-    }
-
-    private SensorJob getHighPriorityJob() {
-        SensorJob job = null;
-        synchronized (highPrioritySensorJobs) {
-            if (highPrioritySensorJobs.size() > 0) {
-                job = highPrioritySensorJobs.get(0);
-                highPrioritySensorJobs.remove(job);
-            }
-        }
-        return job;
     }
 
     private void removeSensorJobs(DSID dsid) {
-        synchronized (lowPrioritySensorJobs) {
-            for (Iterator<SensorJob> iter = lowPrioritySensorJobs.iterator(); iter.hasNext();) {
-                SensorJob job = iter.next();
-                if (job.getDsid().equals(dsid)) {
-                    iter.remove();
-                }
-            }
-        }
-        synchronized (mediumPrioritySensorJobs) {
-            for (Iterator<SensorJob> iter = mediumPrioritySensorJobs.iterator(); iter.hasNext();) {
-                SensorJob job = iter.next();
-                if (job.getDsid().equals(dsid)) {
-                    iter.remove();
-                }
-            }
-        }
-        synchronized (highPrioritySensorJobs) {
-            for (Iterator<SensorJob> iter = highPrioritySensorJobs.iterator(); iter.hasNext();) {
-                SensorJob job = iter.next();
-                if (job.getDsid().equals(dsid)) {
-                    iter.remove();
-                }
-            }
+        SensorJobScheduler scheduler = sensorJobScheduler;
+        if (scheduler != null) {
+            scheduler.removeJobs(dsid);
         }
     }
 
@@ -1497,9 +1434,16 @@ public class DigitalSTROMBinding extends AbstractActiveBinding<DigitalSTROMBindi
         serverIsFound = found;
     }
 
-    private void startSensorJobExecutor() {
-        this.sensorJobExecutor = new SensorJobExecutor();
-        this.sensorJobExecutor.start();
+    private void startSensorJobScheduler() {
+        if (this.sensorJobScheduler != null) {
+            this.sensorJobScheduler.shutdown();
+        }
+        this.sensorJobScheduler = new SensorJobScheduler(digitalSTROM, sensorJobInterval) {
+            @Override
+            protected String getSessionToken() {
+                return DigitalSTROMBinding.this.getSessionToken();
+            }
+        };
     }
 
     private void registerDigitalSTROMEventListener() {
@@ -1510,50 +1454,6 @@ public class DigitalSTROMBinding extends AbstractActiveBinding<DigitalSTROMBindi
         this.digitalSTROMEventListener.start();
     }
 
-    /**
-     * In order to avoid many sensor readings in a time, this thread starts the
-     * jobs, after the old one is finished
-     *
-     * @author Alexander Betker
-     * @since 1.3.0
-     *
-     */
-    private class SensorJobExecutor extends Thread {
-
-        private boolean shutdown = false;
-
-        private final int sleepTime = readTimeout;
-
-        @Override
-        public void run() {
-
-            while (!this.shutdown) {
-                SensorJob job = getHighPriorityJob();
-
-                if (job == null) {
-                    job = getMediumPriorityJob();
-                    if (job == null) {
-                        job = getLowPriorityJob();
-                    }
-                }
-                if (job != null) {
-                    job.execute(digitalSTROM, getSessionToken());
-                }
-
-                try {
-                    sleep(this.sleepTime);
-                } catch (InterruptedException e) {
-                    this.shutdown();
-                    logger.error("InterruptedException in SensorJobExecutor Thread ... " + e.getStackTrace());
-                }
-            }
-        }
-
-        public synchronized void shutdown() {
-            this.shutdown = true;
-        }
-    }
-
     /**
      * If someone turns a device or a zone etc. on, we will get a notification
      * to update the state of the item
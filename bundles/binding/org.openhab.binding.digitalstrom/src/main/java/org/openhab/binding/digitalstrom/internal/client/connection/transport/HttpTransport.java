@@ -10,6 +10,7 @@ package org.openhab.binding.digitalstrom.internal.client.connection.transport;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -20,6 +21,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Executes the JSON requests to the dSS. The connections are not closed after a
+ * request, so the JVM keeps them alive and reuses them for the next request
+ * to the same server.
+ *
  * @author Alexander Betker
  * @author Alex Maier
  * @since 1.3.0
@@ -47,6 +52,8 @@ public class HttpTransport {
         if (request != null && !request.trim().equals("")) {
 
             HttpURLConnection connection = null;
+            // the connection is kept alive for the next request if the response was read completely
+            boolean keepAlive = false;
 
             StringBuilder response = new StringBuilder();
             BufferedReader in = null;
@@ -77,9 +84,10 @@ public class HttpTransport {
 
                         in.close();
                     } else {
+                        discard(connection.getErrorStream());
                         response = null;
                     }
-
+                    keepAlive = true;
                 }
                 if (response != null) {
                     return response.toString();
@@ -92,7 +100,7 @@ public class HttpTransport {
             } catch (IOException e) {
                 logger.error("IOException by executing jsonRequest: " + request + " ; " + e.getLocalizedMessage());
             } finally {
-                if (connection != null) {
+                if (connection != null && !keepAlive) {
                     connection.disconnect();
                 }
             }
@@ -100,4 +108,19 @@ public class HttpTransport {
         return null;
     }
 
+    /**
+     * Reads and closes the body of an error response, otherwise the connection can't be reused.
+     */
+    private void discard(InputStream errorStream) throws IOException {
+        if (errorStream != null) {
+            try {
+                byte[] buffer = new byte[1024];
+                while (errorStream.read(buffer) >= 0) {
+                }
+            } finally {
+                errorStream.close();
+            }
+        }
+    }
+
 }
\ No newline at end of file
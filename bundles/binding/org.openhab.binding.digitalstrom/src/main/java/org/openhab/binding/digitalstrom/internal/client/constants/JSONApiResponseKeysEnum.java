@@ -40,6 +40,7 @@ public enum JSONApiResponseKeysEnum {
     ZONE_GET_REACHABLE_SCENES("reachableScenes"),
 
     DEVICE_GET_NAME("name"),
+    DEVICE_METER_ID("meterDSID"),
     DEVICE_GET_SPEC("result"),
     DEVICE_GET_GROUPS("groups"),
     DEVICE_GET_GROUPS_ID("id"),
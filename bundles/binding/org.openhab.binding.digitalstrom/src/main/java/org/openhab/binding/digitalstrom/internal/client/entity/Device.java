@@ -27,6 +27,14 @@ public interface Device {
 
     public int getZoneId();
 
+    /**
+     * The dSM (meter) the device is connected to. Sensor readings of
+     * one meter are processed one after another.
+     * 
+     * @return the dsid of the meter or null if it is unknown
+     */
+    public DSID getMeterDSID();
+
     /**
      * This device is available in his zone or not.
      * Every 24h the dSM (meter) checks, if the devices are
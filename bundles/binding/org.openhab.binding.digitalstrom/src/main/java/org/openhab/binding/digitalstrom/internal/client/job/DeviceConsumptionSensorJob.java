@@ -59,14 +59,23 @@ public class DeviceConsumptionSensorJob implements SensorJob {
     public boolean equals(Object obj) {
         if (obj instanceof DeviceConsumptionSensorJob) {
             DeviceConsumptionSensorJob other = (DeviceConsumptionSensorJob) obj;
-            String device = this.device.getDSID().getValue() + this.sensorIndex.getIndex();
-            return device.equals(other.device.getDSID().getValue() + other.sensorIndex.getIndex());
+            return this.device.getDSID().equals(other.device.getDSID()) && this.sensorIndex == other.sensorIndex;
         }
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * this.device.getDSID().hashCode() + this.sensorIndex.hashCode();
+    }
+
     @Override
     public DSID getDsid() {
         return device.getDSID();
     }
+
+    @Override
+    public DSID getMeterDsid() {
+        return device.getMeterDSID();
+    }
 }
@@ -60,14 +60,23 @@ public class DeviceOutputValueSensorJob implements SensorJob {
     public boolean equals(Object obj) {
         if (obj instanceof DeviceOutputValueSensorJob) {
             DeviceOutputValueSensorJob other = (DeviceOutputValueSensorJob) obj;
-            String key = this.device.getDSID().getValue() + this.index;
-            return key.equals((other.device.getDSID().getValue() + other.index));
+            return this.device.getDSID().equals(other.device.getDSID()) && this.index == other.index;
         }
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * this.device.getDSID().hashCode() + this.index;
+    }
+
     @Override
     public DSID getDsid() {
         return device.getDSID();
     }
+
+    @Override
+    public DSID getMeterDsid() {
+        return device.getMeterDSID();
+    }
 }
@@ -68,14 +68,23 @@ public class DeviceSensorValueJob implements SensorJob {
     public boolean equals(Object obj) {
         if (obj instanceof DeviceSensorValueJob) {
             DeviceSensorValueJob other = (DeviceSensorValueJob) obj;
-            String device = this.device.getDSID().getValue() + this.sensorIndex.getIndex();
-            return device.equals(other.device.getDSID().getValue() + other.sensorIndex.getIndex());
+            return this.device.getDSID().equals(other.device.getDSID()) && this.sensorIndex == other.sensorIndex;
         }
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * this.device.getDSID().hashCode() + (this.sensorIndex != null ? this.sensorIndex.hashCode() : 0);
+    }
+
     @Override
     public DSID getDsid() {
         return device.getDSID();
     }
+
+    @Override
+    public DSID getMeterDsid() {
+        return device.getMeterDSID();
+    }
 }
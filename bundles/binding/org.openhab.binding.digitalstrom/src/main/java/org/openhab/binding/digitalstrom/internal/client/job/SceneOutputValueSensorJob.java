@@ -55,15 +55,23 @@ public class SceneOutputValueSensorJob implements SensorJob {
     public boolean equals(Object obj) {
         if (obj instanceof SceneOutputValueSensorJob) {
             SceneOutputValueSensorJob other = (SceneOutputValueSensorJob) obj;
-            String str = other.device.getDSID().getValue() + "-" + other.sceneId;
-            return (this.device.getDSID().getValue() + "-" + this.sceneId).equals(str);
+            return this.device.getDSID().equals(other.device.getDSID()) && this.sceneId == other.sceneId;
         }
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * this.device.getDSID().hashCode() + this.sceneId;
+    }
+
     @Override
     public DSID getDsid() {
         return device.getDSID();
     }
 
+    @Override
+    public DSID getMeterDsid() {
+        return device.getMeterDSID();
+    }
 }
@@ -19,6 +19,14 @@ import org.openhab.binding.digitalstrom.internal.client.entity.DSID;
 public interface SensorJob {
     public DSID getDsid();
 
+    /**
+     * Jobs with the same meter are executed one after another,
+     * jobs of different meters in parallel.
+     * 
+     * @return the dsid of the dSM the device is connected to or null if unknown
+     */
+    public DSID getMeterDsid();
+
     public void execute(DigitalSTROMAPI digitalSTROM, String token);
 
 }
@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.digitalstrom.internal.client.job;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.binding.digitalstrom.internal.client.DigitalSTROMAPI;
+import org.openhab.binding.digitalstrom.internal.client.entity.DSID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes {@link SensorJob}s by priority. Jobs are deduplicated, a job
+ * which is equal to an already queued job is ignored.
+ *
+ * A dSM (meter) handles one sensor reading after the other, so there is one
+ * lane per meter. The jobs of a lane are executed one after another with a
+ * pause of {@code interval} milliseconds, the lanes of different meters run
+ * in parallel.
+ *
+ * @author Alexander Betker
+ * @since 1.9.0
+ */
+public abstract class SensorJobScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SensorJobScheduler.class);
+
+    /** default pause between two jobs of the same meter in milliseconds */
+    public static final int DEFAULT_INTERVAL = 2000;
+
+    /** maximum number of meters which are read at the same time */
+    public static final int MAX_PARALLEL_METERS = 4;
+
+    public enum Priority {
+        HIGH,
+        MEDIUM,
+        LOW
+    }
+
+    private final DigitalSTROMAPI digitalSTROM;
+    private final int interval;
+    private final ScheduledExecutorService executor;
+
+    // meter dsid (null for unknown meter) - lane, guarded by this
+    private final Map<DSID, Lane> lanes = new HashMap<DSID, Lane>();
+    private boolean shutdown = false;
+
+    public SensorJobScheduler(DigitalSTROMAPI digitalSTROM, int interval) {
+        this.digitalSTROM = digitalSTROM;
+        this.interval = interval;
+        this.executor = Executors.newScheduledThreadPool(MAX_PARALLEL_METERS);
+    }
+
+    /**
+     * @return the current session token used to execute the jobs
+     */
+    protected abstract String getSessionToken();
+
+    /**
+     * Queues a job, if an equal job is already queued the job is ignored.
+     *
+     * @param job the job to execute
+     * @param priority priority of the job within the lane of its meter
+     */
+    public synchronized void addJob(SensorJob job, Priority priority) {
+        if (shutdown) {
+            return;
+        }
+        DSID meter = job.getMeterDsid();
+        Lane lane = lanes.get(meter);
+        if (lane == null) {
+            lane = new Lane(meter);
+            lanes.put(meter, lane);
+        }
+        if (lane.add(job, priority) && !lane.scheduled) {
+            lane.scheduled = true;
+            executor.execute(lane);
+        }
+    }
+
+    /**
+     * Removes all queued jobs of a device.
+     *
+     * @param dsid the dsid of the device
+     */
+    public synchronized void removeJobs(DSID dsid) {
+        for (Lane lane : lanes.values()) {
+            lane.remove(dsid);
+        }
+    }
+
+    /**
+     * Stops the execution, queued jobs are discarded.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            lanes.clear();
+        }
+        executor.shutdownNow();
+    }
+
+    private synchronized SensorJob nextJob(Lane lane) {
+        SensorJob job = shutdown ? null : lane.poll();
+        if (job == null) {
+            lane.scheduled = false;
+        }
+        return job;
+    }
+
+    private synchronized void jobDone(Lane lane) {
+        if (shutdown || lane.isEmpty()) {
+            lane.scheduled = false;
+        } else {
+            executor.schedule(lane, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * The queued jobs of one meter.
+     */
+    private class Lane implements Runnable {
+        private final DSID meter;
+        private final List<LinkedHashSet<SensorJob>> queues = new ArrayList<LinkedHashSet<SensorJob>>();
+        // true while the lane is executed or waits for its next execution
+        private boolean scheduled = false;
+
+        Lane(DSID meter) {
+            this.meter = meter;
+            for (int i = 0; i < Priority.values().length; i++) {
+                queues.add(new LinkedHashSet<SensorJob>());
+            }
+        }
+
+        boolean add(SensorJob job, Priority priority) {
+            for (LinkedHashSet<SensorJob> queue : queues) {
+                if (queue.contains(job)) {
+                    return false;
+                }
+            }
+            return queues.get(priority.ordinal()).add(job);
+        }
+
+        void remove(DSID dsid) {
+            for (LinkedHashSet<SensorJob> queue : queues) {
+                for (Iterator<SensorJob> iter = queue.iterator(); iter.hasNext();) {
+                    if (iter.next().getDsid().equals(dsid)) {
+                        iter.remove();
+                    }
+                }
+            }
+        }
+
+        SensorJob poll() {
+            for (LinkedHashSet<SensorJob> queue : queues) {
+                Iterator<SensorJob> iter = queue.iterator();
+                if (iter.hasNext()) {
+                    SensorJob job = iter.next();
+                    iter.remove();
+                    return job;
+                }
+            }
+            return null;
+        }
+
+        boolean isEmpty() {
+            for (LinkedHashSet<SensorJob> queue : queues) {
+                if (!queue.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            SensorJob job = nextJob(this);
+            if (job == null) {
+                return;
+            }
+            try {
+                job.execute(digitalSTROM, getSessionToken());
+            } catch (RuntimeException e) {
+                logger.error("sensor job for dsid {} on meter {} failed", job.getDsid(), meter, e);
+            } finally {
+                jobDone(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.dmx.internal.core;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.dmx.internal.action.FadeAction;
+
+/**
+ * DmxUniverse frame rendering tests.
+ *
+ * @author Davy Vanherbergen
+ * @since 1.9.0
+ */
+public class DmxUniverseTest {
+
+    private DmxUniverse universe;
+
+    @Before
+    public void setUp() {
+        universe = new DmxUniverse();
+    }
+
+    @Test
+    public void rendersChangedValueOnce() {
+
+        universe.getChannel(3).setValue(200);
+
+        assertTrue(universe.renderFrame(1000));
+        assertEquals((byte) 200, universe.getFrame()[2]);
+        assertEquals(0, universe.getTrackedChannelCount());
+
+        assertFalse(universe.renderFrame(1035));
+        assertEquals((byte) 200, universe.getFrame()[2]);
+    }
+
+    @Test
+    public void doesNotReportUnchangedValue() {
+
+        universe.getChannel(3).setValue(200);
+        universe.renderFrame(1000);
+
+        universe.getChannel(3).setValue(200);
+        assertFalse(universe.renderFrame(1035));
+    }
+
+    @Test
+    public void tracksChannelWithRunningActions() {
+
+        DmxChannel channel = universe.getChannel(1);
+        channel.setChannelAction(new FadeAction(1000, 255, -1));
+
+        universe.renderFrame(1000);
+        assertEquals(1, universe.getTrackedChannelCount());
+
+        assertTrue(universe.renderFrame(1500));
+        int value = universe.getFrame()[0] & 0xFF;
+        assertTrue(value > 0 && value < 255);
+
+        assertTrue(universe.renderFrame(2500));
+        assertEquals(255, universe.getFrame()[0] & 0xFF);
+        assertEquals(1, universe.getTrackedChannelCount());
+
+        channel.setValue(10);
+        assertTrue(universe.renderFrame(2535));
+        assertEquals(10, universe.getFrame()[0] & 0xFF);
+        assertEquals(0, universe.getTrackedChannelCount());
+    }
+
+    @Test
+    public void switchedOffChannelRendersZero() {
+
+        DmxChannel channel = universe.getChannel(5);
+        channel.setValue(100);
+        universe.renderFrame(1000);
+
+        channel.switchOff();
+        assertTrue(universe.renderFrame(1035));
+        assertEquals(0, universe.getFrame()[4]);
+
+        channel.switchOn();
+        assertTrue(universe.renderFrame(1070));
+        assertEquals(100, universe.getFrame()[4]);
+    }
+
+    @Test
+    public void reusesFrames() {
+
+        DmxChannel channel = universe.getChannel(1);
+        byte[] first = null;
+        byte[] second = null;
+
+        for (int i = 1; i <= 10; i++) {
+            channel.setValue(i);
+            universe.renderFrame(1000 + i * 35);
+            if (first == null) {
+                first = universe.getFrame();
+            } else if (second == null && universe.getFrame() != first) {
+                second = universe.getFrame();
+            }
+            assertTrue(universe.getFrame() == first || universe.getFrame() == second);
+            assertEquals(i, universe.getFrame()[0]);
+        }
+        assertNotNull(second);
+    }
+
+    @Test
+    public void growsFrameForHigherChannels() {
+
+        assertEquals(32, universe.calculateBuffer().length);
+
+        universe.getChannel(2).setValue(50);
+        universe.renderFrame(1000);
+        universe.getChannel(100).setValue(60);
+        universe.renderFrame(1035);
+
+        byte[] frame = universe.getFrame();
+        assertEquals(100, frame.length);
+        assertEquals(50, frame[1]);
+        assertEquals(60, frame[99]);
+    }
+}
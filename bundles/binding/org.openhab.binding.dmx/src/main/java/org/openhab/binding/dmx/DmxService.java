@@ -248,4 +248,11 @@ public interface DmxService {
      */
     public void addChannelResume(int channel);
 
+    /**
+     * Get the frame time statistics of the DMX transmitter.
+     * 
+     * @return statistics as readable text
+     */
+    public String getFrameStatistics();
+
 }
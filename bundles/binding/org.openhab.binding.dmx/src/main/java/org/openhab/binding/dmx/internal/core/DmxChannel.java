@@ -43,6 +43,9 @@ public class DmxChannel implements Comparable<DmxChannel> {
 
     private int suspendedValue;
 
+    /** Universe which renders this channel **/
+    private final DmxUniverse universe;
+
     /** Maximum DMX output value **/
     public static int DMX_MAX_VALUE = 255;
 
@@ -56,7 +59,29 @@ public class DmxChannel implements Comparable<DmxChannel> {
      *            DMX channel id.
      */
     public DmxChannel(int channelId) {
+        this(channelId, null);
+    }
+
+    /**
+     * Create new DMX channel, which notifies the universe about changes.
+     * 
+     * @param channelId
+     *            DMX channel id.
+     * @param universe
+     *            universe which renders the channel
+     */
+    DmxChannel(int channelId, DmxUniverse universe) {
         this.channelId = channelId;
+        this.universe = universe;
+    }
+
+    /**
+     * Let the universe calculate this channel with the next frame.
+     */
+    private void changed() {
+        if (universe != null) {
+            universe.activate(this);
+        }
     }
 
     /**
@@ -75,6 +100,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
 
         // set value
         this.value = DmxUtil.capDmxValue(value);
+        changed();
     }
 
     /**
@@ -101,7 +127,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
         } else {
             value = DmxUtil.getOutputValue(value, outputlevel.intValue());
         }
-
+        changed();
     }
 
     /**
@@ -125,6 +151,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
      */
     public synchronized void switchOn() {
         switchedOn = true;
+        changed();
     }
 
     /**
@@ -134,6 +161,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
     public synchronized void switchOff() {
         switchedOn = false;
         actions.clear();
+        changed();
     }
 
     /**
@@ -144,7 +172,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
      * 
      * @return value 0-255
      */
-    public synchronized Integer getNextValue(long calculationTime) {
+    public synchronized int getNextValue(long calculationTime) {
 
         if (!switchedOn) {
             return DMX_MIN_VALUE;
@@ -175,6 +203,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
         actions.remove(0);
         action.reset();
         actions.add(action);
+        changed();
     }
 
     /**
@@ -190,6 +219,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
         switchedOn = true;
         actions.clear();
         actions.add(channelAction);
+        changed();
     }
 
     /**
@@ -200,6 +230,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
      */
     public synchronized void addChannelAction(BaseAction channelAction) {
         actions.add(channelAction);
+        changed();
     }
 
     /**
@@ -243,6 +274,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
                 a.increase(increment);
             }
         }
+        changed();
     }
 
     /**
@@ -266,6 +298,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
                 a.decrease(decrement);
             }
         }
+        changed();
     }
 
     /**
@@ -297,6 +330,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
         } else {
             setValue(suspendedValue);
         }
+        changed();
     }
 
     /**
@@ -305,6 +339,7 @@ public class DmxChannel implements Comparable<DmxChannel> {
      */
     public void addResumeAction() {
         actions.add(new ResumeAction());
+        changed();
     }
 
 }
\ No newline at end of file
@@ -9,7 +9,7 @@
 package org.openhab.binding.dmx.internal.core;
 
 import java.util.Dictionary;
-import java.util.Timer;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.commons.lang.StringUtils;
 import org.openhab.binding.dmx.DmxConnection;
@@ -35,8 +35,14 @@ public class DmxController implements DmxService, ManagedService {
 
     private static int TRANSMIT_FREQUENCY_MS = 35;
 
+    /** Time in ms between two frames **/
+    private int transmitInterval = TRANSMIT_FREQUENCY_MS;
+
+    /** Time in ms after which unchanged values are transmitted again, 0 is never **/
+    private int keepAliveInterval = 0;
+
     /** Thread in which the DMX transmitter is running **/
-    private Timer transmitterTimer;
+    private Thread transmitterThread;
 
     private DmxTransmitter transmitter;
 
@@ -51,9 +57,11 @@ public class DmxController implements DmxService, ManagedService {
     public void start() throws Exception {
 
         logger.trace("Starting Dmx transmitter ...");
-        transmitter = new DmxTransmitter(this);
-        transmitterTimer = new Timer(true);
-        transmitterTimer.schedule(transmitter, 0, TRANSMIT_FREQUENCY_MS);
+        transmitter = new DmxTransmitter(this, transmitInterval, keepAliveInterval);
+        transmitterThread = new Thread(transmitter, "DMX Transmitter");
+        transmitterThread.setDaemon(true);
+        transmitterThread.setPriority(Thread.MAX_PRIORITY);
+        transmitterThread.start();
         logger.trace("Dmx transmitter started.");
 
     }
@@ -64,10 +72,11 @@ public class DmxController implements DmxService, ManagedService {
     @Override
     public void stop() {
 
-        if (transmitterTimer != null) {
-            transmitterTimer.cancel();
+        if (transmitterThread != null) {
+            transmitter.stop();
+            LockSupport.unpark(transmitterThread);
         }
-        transmitterTimer = null;
+        transmitterThread = null;
     }
 
     /**
@@ -297,6 +306,31 @@ public class DmxController implements DmxService, ManagedService {
                 connectionString = configuredConnection;
                 logger.debug("Setting connection from config: {}", connectionString);
             }
+
+            String configuredInterval = (String) config.get("interval");
+            if (StringUtils.isNotBlank(configuredInterval)) {
+                try {
+                    transmitInterval = Integer.parseInt(configuredInterval.trim());
+                } catch (NumberFormatException e) {
+                    throw new ConfigurationException("dmx:interval", "Invalid interval " + configuredInterval);
+                }
+                logger.debug("Setting transmit interval from config: {} ms", transmitInterval);
+            }
+
+            String configuredKeepAlive = (String) config.get("keepalive");
+            if (StringUtils.isNotBlank(configuredKeepAlive)) {
+                try {
+                    keepAliveInterval = Integer.parseInt(configuredKeepAlive.trim());
+                } catch (NumberFormatException e) {
+                    throw new ConfigurationException("dmx:keepalive", "Invalid keep alive " + configuredKeepAlive);
+                }
+                logger.debug("Setting keep alive interval from config: {} ms", keepAliveInterval);
+            }
+
+            if (transmitter != null) {
+                transmitter.setFrameInterval(transmitInterval);
+                transmitter.setKeepAliveInterval(keepAliveInterval);
+            }
         }
     }
 
@@ -316,4 +350,16 @@ public class DmxController implements DmxService, ManagedService {
         transmitter.getChannel(channel).addResumeAction();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getFrameStatistics() {
+        if (transmitter == null) {
+            return "Dmx transmitter not started.";
+        }
+        return transmitter.getStatistics().toString() + ", active channels="
+                + transmitter.getUniverse().getTrackedChannelCount();
+    }
+
 }
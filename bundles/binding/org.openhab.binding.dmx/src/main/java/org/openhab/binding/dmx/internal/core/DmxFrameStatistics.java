@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.dmx.internal.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame time statistics of the DMX transmitter. The frame time is the time
+ * needed to render and transmit a frame.
+ *
+ * @author Davy Vanherbergen
+ * @since 1.9.0
+ */
+public class DmxFrameStatistics {
+
+    private long frames;
+
+    private long transmittedFrames;
+
+    private long skippedFrames;
+
+    private long totalFrameTime;
+
+    private long maxFrameTime;
+
+    private long lastFrameTime;
+
+    /**
+     * Add a rendered frame.
+     *
+     * @param frameTime
+     *            time in ns to render and transmit the frame
+     * @param transmitted
+     *            true if the frame was transmitted
+     */
+    synchronized void addFrame(long frameTime, boolean transmitted) {
+        frames++;
+        if (transmitted) {
+            transmittedFrames++;
+        }
+        totalFrameTime += frameTime;
+        lastFrameTime = frameTime;
+        if (frameTime > maxFrameTime) {
+            maxFrameTime = frameTime;
+        }
+    }
+
+    /**
+     * Add frames which were skipped, because the previous frame took too long.
+     *
+     * @param count
+     *            number of skipped frames
+     */
+    synchronized void addSkippedFrames(long count) {
+        skippedFrames += count;
+    }
+
+    /**
+     * Reset all counters.
+     */
+    public synchronized void reset() {
+        frames = 0;
+        transmittedFrames = 0;
+        skippedFrames = 0;
+        totalFrameTime = 0;
+        maxFrameTime = 0;
+        lastFrameTime = 0;
+    }
+
+    /**
+     * @return number of rendered frames
+     */
+    public synchronized long getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return number of frames sent to the connection
+     */
+    public synchronized long getTransmittedFrames() {
+        return transmittedFrames;
+    }
+
+    /**
+     * @return number of frames skipped to keep the frame rate
+     */
+    public synchronized long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    /**
+     * @return average frame time in microseconds
+     */
+    public synchronized long getAverageFrameTime() {
+        return frames == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalFrameTime / frames);
+    }
+
+    /**
+     * @return maximum frame time in microseconds
+     */
+    public synchronized long getMaxFrameTime() {
+        return TimeUnit.NANOSECONDS.toMicros(maxFrameTime);
+    }
+
+    /**
+     * @return frame time of the last frame in microseconds
+     */
+    public synchronized long getLastFrameTime() {
+        return TimeUnit.NANOSECONDS.toMicros(lastFrameTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return "frames=" + frames + ", transmitted=" + transmittedFrames + ", skipped=" + skippedFrames
+                + ", avg=" + getAverageFrameTime() + "us, max=" + getMaxFrameTime() + "us, last="
+                + getLastFrameTime() + "us";
+    }
+}
@@ -8,7 +8,8 @@
  */
 package org.openhab.binding.dmx.internal.core;
 
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import org.openhab.binding.dmx.DmxConnection;
 import org.openhab.binding.dmx.DmxService;
@@ -20,12 +21,15 @@ import org.slf4j.LoggerFactory;
  * changes to the DMX connection.
  *
  * This transmitter should always run in a separate thread to allow for smooth
- * transmissions.
+ * transmissions. Frames are rendered at a fixed rate based on
+ * {@link System#nanoTime()}, a frame is only transmitted if it changed or if
+ * the keep alive interval passed since the last transmission. Frames which
+ * can't be rendered in time are skipped instead of being rendered in a burst.
  *
  * @author Davy Vanherbergen
  * @since 1.2.0
  */
-public final class DmxTransmitter extends TimerTask {
+public final class DmxTransmitter implements Runnable {
 
     private static Logger logger = LoggerFactory.getLogger(DmxTransmitter.class);
 
@@ -33,37 +37,108 @@ public final class DmxTransmitter extends TimerTask {
 
     private DmxService service;
 
-    private boolean running;
+    private volatile boolean running;
 
-    private boolean suspended;
+    private volatile boolean suspended;
+
+    private volatile boolean stopped;
+
+    /** Time in ns between two frames **/
+    private volatile long frameInterval;
+
+    /** Time in ns after which an unchanged frame is transmitted again, 0 to disable **/
+    private volatile long keepAliveInterval;
+
+    private long lastTransmitTime;
+
+    private final DmxFrameStatistics statistics = new DmxFrameStatistics();
 
     /**
      * Default constructor.
      */
     public DmxTransmitter(DmxService service) {
+        this(service, 35, 0);
+    }
+
+    /**
+     * Create transmitter.
+     *
+     * @param service
+     *            service providing the connection
+     * @param frameInterval
+     *            time in ms between two frames
+     * @param keepAliveInterval
+     *            time in ms after which an unchanged frame is transmitted
+     *            again, 0 to only transmit changed frames
+     */
+    public DmxTransmitter(DmxService service, int frameInterval, int keepAliveInterval) {
         this.service = service;
+        this.lastTransmitTime = System.nanoTime();
+        setFrameInterval(frameInterval);
+        setKeepAliveInterval(keepAliveInterval);
     }
 
     /**
-     * @{inheritDoc
+     * Render and transmit frames until the transmitter is stopped.
      */
     @Override
     public void run() {
 
+        long nextFrameTime = System.nanoTime();
+
+        while (!stopped) {
+
+            long now = System.nanoTime();
+            if (now < nextFrameTime) {
+                LockSupport.parkNanos(nextFrameTime - now);
+                continue;
+            }
+
+            transmitFrame(now);
+
+            // fixed rate, skip the frames which couldn't be rendered in time
+            long interval = frameInterval;
+            nextFrameTime += interval;
+            long end = System.nanoTime();
+            if (end - nextFrameTime > interval) {
+                long skipped = (end - nextFrameTime) / interval;
+                statistics.addSkippedFrames(skipped);
+                nextFrameTime += skipped * interval;
+            }
+        }
+        logger.trace("Dmx transmitter stopped.");
+    }
+
+    /**
+     * Render the next frame and transmit it if it changed or the keep alive
+     * interval passed.
+     *
+     * @param frameTime
+     *            frame start as {@link System#nanoTime()}
+     */
+    void transmitFrame(long frameTime) {
+
         if (suspended) {
             return;
         }
 
         running = true;
         try {
-            byte[] b = universe.calculateBuffer();
-            if (universe.getBufferChanged()) {
+            boolean changed = universe.renderFrame(System.currentTimeMillis());
+            long keepAlive = keepAliveInterval;
+            boolean sent = false;
+            if (changed || (keepAlive > 0 && frameTime - lastTransmitTime >= keepAlive)) {
                 DmxConnection conn = service.getConnection();
                 if (conn != null) {
-                    conn.sendDmx(b);
-                    universe.notifyStatusListeners();
+                    conn.sendDmx(universe.getFrame());
+                    lastTransmitTime = frameTime;
+                    sent = true;
+                    if (changed) {
+                        universe.notifyStatusListeners();
+                    }
                 }
             }
+            statistics.addFrame(System.nanoTime() - frameTime, sent);
         } catch (Exception e) {
             logger.error("Error sending dmx values.", e);
         } finally {
@@ -71,6 +146,13 @@ public final class DmxTransmitter extends TimerTask {
         }
     }
 
+    /**
+     * Stop transmitting, the transmitter can't be restarted.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
     /**
      * @return true if the transmitter is calculating values and transmitting
      */
@@ -80,7 +162,7 @@ public final class DmxTransmitter extends TimerTask {
 
     /**
      * Suspend/resume transmittting.
-     * 
+     *
      * @param suspend
      *            true to suspend
      */
@@ -88,9 +170,33 @@ public final class DmxTransmitter extends TimerTask {
         this.suspended = suspend;
     }
 
+    /**
+     * @param frameInterval
+     *            time in ms between two frames
+     */
+    public void setFrameInterval(int frameInterval) {
+        this.frameInterval = TimeUnit.MILLISECONDS.toNanos(Math.max(1, frameInterval));
+    }
+
+    /**
+     * @param keepAliveInterval
+     *            time in ms after which an unchanged frame is transmitted
+     *            again, 0 to only transmit changed frames
+     */
+    public void setKeepAliveInterval(int keepAliveInterval) {
+        this.keepAliveInterval = TimeUnit.MILLISECONDS.toNanos(Math.max(0, keepAliveInterval));
+    }
+
+    /**
+     * @return frame time statistics
+     */
+    public DmxFrameStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * Get the DMX channel in the current universe.
-     * 
+     *
      * @param channel
      *            number
      * @return DMX channel
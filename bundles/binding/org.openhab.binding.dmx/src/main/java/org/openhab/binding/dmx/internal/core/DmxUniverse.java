@@ -11,7 +11,10 @@ package org.openhab.binding.dmx.internal.core;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.openhab.binding.dmx.DmxStatusUpdateListener;
 import org.slf4j.Logger;
@@ -20,6 +23,12 @@ import org.slf4j.LoggerFactory;
 /**
  * DMX Universe. Can contain up to 512 DMX channels.
  *
+ * The universe renders its channels into two reusable frames. Only channels
+ * which were changed or have running actions are calculated, all other
+ * channels keep their value in the frame. A channel that was changed is
+ * queued by {@link #activate(DmxChannel)} and is tracked by the renderer until
+ * it has no more running actions.
+ *
  * @author Davy Vanherbergen
  * @since 1.2.0
  */
@@ -27,51 +36,127 @@ public class DmxUniverse {
 
     private static final Logger logger = LoggerFactory.getLogger(DmxUniverse.class);
 
+    /** Maximum number of channels in a universe **/
+    public static final int MAX_CHANNELS = 512;
+
     private Vector<DmxChannel> channels = new Vector<DmxChannel>();
 
-    private short[] buffer = new short[512];
+    private final DmxChannel[] channelIndex = new DmxChannel[MAX_CHANNELS + 1];
+
+    /** Last rendered frame, which is transmitted **/
+    private byte[] frontFrame = new byte[32];
+
+    /** Frame the next values are rendered into **/
+    private byte[] backFrame = new byte[32];
 
     private boolean bufferChanged = false;
 
     private int minimumBufferSize = 32;
 
+    /** Channels which were changed since the last frame **/
+    private final Queue<DmxChannel> changedChannels = new ConcurrentLinkedQueue<DmxChannel>();
+
+    /** 1 if the channel is in changedChannels, by channel id **/
+    private final AtomicIntegerArray queuedChannels = new AtomicIntegerArray(MAX_CHANNELS + 1);
+
+    /** Channels calculated by the renderer, only used by the rendering thread **/
+    private final DmxChannel[] trackedChannels = new DmxChannel[MAX_CHANNELS];
+
+    private final boolean[] tracked = new boolean[MAX_CHANNELS + 1];
+
+    private int trackedCount = 0;
+
     private List<DmxStatusUpdateListener> updateListeners = new ArrayList<DmxStatusUpdateListener>();
 
     /**
-     * Change the buffer value at the given index.
-     * 
-     * @param index
-     * @param value
+     * Mark a channel as changed, so it is calculated with the next frame.
+     *
+     * @param channel
+     *            changed channel
      */
-    private void setBufferValue(int index, short value) {
+    void activate(DmxChannel channel) {
+        if (queuedChannels.compareAndSet(channel.getChannelId(), 0, 1)) {
+            changedChannels.offer(channel);
+        }
+    }
+
+    /**
+     * Calculate the next frame. Only channels with running actions and channels
+     * which were changed since the last frame are calculated.
+     *
+     * @param calculationTime
+     *            time to use as current time
+     * @return true if the frame differs from the last rendered frame.
+     */
+    public synchronized boolean renderFrame(long calculationTime) {
+
+        DmxChannel channel;
+        while ((channel = changedChannels.poll()) != null) {
+            int channelId = channel.getChannelId();
+            queuedChannels.set(channelId, 0);
+            if (!tracked[channelId]) {
+                tracked[channelId] = true;
+                trackedChannels[trackedCount++] = channel;
+            }
+        }
 
-        if (buffer[index] == value) {
-            return;
-        } else {
-            buffer[index] = value;
-            bufferChanged = true;
+        boolean changed = false;
+        int i = 0;
+        while (i < trackedCount) {
+            channel = trackedChannels[i];
+            int index = channel.getChannelId() - 1;
+            byte value = (byte) channel.getNextValue(calculationTime);
+            backFrame[index] = value;
+            if (frontFrame[index] != value) {
+                changed = true;
+            }
+
+            if (channel.hasRunningActions()) {
+                i++;
+            } else {
+                // value is stable until the channel is changed again
+                tracked[channel.getChannelId()] = false;
+                trackedChannels[i] = trackedChannels[--trackedCount];
+                trackedChannels[trackedCount] = null;
+            }
+        }
+
+        if (changed) {
+            byte[] frame = frontFrame;
+            frontFrame = backFrame;
+            backFrame = frame;
+            System.arraycopy(frontFrame, 0, backFrame, 0, frontFrame.length);
         }
+
+        bufferChanged = changed;
+        return changed;
     }
 
     /**
      * Calculate the current DMX buffer state.
-     * 
+     *
      * @return DMX buffer.
      */
     public byte[] calculateBuffer() {
+        renderFrame(System.currentTimeMillis());
+        return getFrame();
+    }
 
-        bufferChanged = false;
-        long calculationTime = System.currentTimeMillis();
-
-        for (DmxChannel channel : channels) {
-            setBufferValue(channel.getChannelId() - 1, channel.getNextValue(calculationTime).shortValue());
-        }
+    /**
+     * The last rendered frame. The frame is reused and must not be modified or
+     * kept after the next frame has been rendered.
+     *
+     * @return DMX frame of at least 32 channels
+     */
+    public synchronized byte[] getFrame() {
+        return frontFrame;
+    }
 
-        byte[] b = new byte[minimumBufferSize];
-        for (int i = 0; i < minimumBufferSize; i++) {
-            b[i] = (byte) (buffer[i]);
-        }
-        return b;
+    /**
+     * @return number of channels calculated with each frame
+     */
+    public synchronized int getTrackedChannelCount() {
+        return trackedCount;
     }
 
     /**
@@ -85,9 +170,15 @@ public class DmxUniverse {
         logger.trace("Adding channel {}", channel.getChannelId());
         channels.add(channel);
         Collections.sort(channels);
+        channelIndex[channel.getChannelId()] = channel;
 
         if (channel.getChannelId() > minimumBufferSize) {
             minimumBufferSize = channel.getChannelId();
+
+            byte[] frame = new byte[minimumBufferSize];
+            System.arraycopy(frontFrame, 0, frame, 0, frontFrame.length);
+            frontFrame = frame;
+            backFrame = frame.clone();
         }
     }
 
@@ -105,13 +196,12 @@ public class DmxUniverse {
      *            int
      * @return channel
      */
-    public DmxChannel getChannel(int channelId) {
-        for (DmxChannel c : channels) {
-            if (c.getChannelId() == channelId) {
-                return c;
-            }
+    public synchronized DmxChannel getChannel(int channelId) {
+        DmxChannel c = channelIndex[channelId];
+        if (c != null) {
+            return c;
         }
-        DmxChannel c = new DmxChannel(channelId);
+        c = new DmxChannel(channelId, this);
         addChannel(c);
         return c;
     }
@@ -95,8 +95,8 @@ public class DmxUtil {
      * @return dimmed value
      */
     public static int getOutputValue(int input, int outputLevel) {
-        BigDecimal value = BigDecimal.valueOf(input);
-        return value.multiply(BigDecimal.valueOf(outputLevel))
-                .divide(PercentType.HUNDRED.toBigDecimal(), 0, BigDecimal.ROUND_UP).intValue();
+        // integer division rounding up (away from zero), called for every frame
+        int value = input * outputLevel;
+        return value >= 0 ? (value + 99) / 100 : -((99 - value) / 100);
     }
 }
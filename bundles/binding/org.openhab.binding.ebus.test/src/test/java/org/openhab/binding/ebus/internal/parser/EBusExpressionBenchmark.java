@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.parser;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.ebus.internal.parser.EBusExpressionTest.MapScope;
+import org.openhab.binding.ebus.internal.utils.NumberUtils;
+
+/**
+ * Compares the evaluation of typical telegram value scripts by
+ * {@link EBusExpression} with the evaluation by the JavaScript engine. Only
+ * runs if the system property <code>ebus.benchmark</code> is set to
+ * <code>true</code>, the number of evaluations can be set with
+ * <code>ebus.benchmark.evaluations</code> (defaults to 100,000).
+ *
+ * @author Christian Sowada
+ * @since 1.9.0
+ */
+public class EBusExpressionBenchmark {
+
+    private static final String[] SCRIPTS = { "thisValue / 10", "(a * 1000 + b) / 1000",
+            "thisValue > 127 ? thisValue - 256 : thisValue", "a * 0.5 + b * 0.25 - 3" };
+
+    private int evaluations;
+
+    private MapScope scope;
+
+    @Before
+    public void init() {
+        Assume.assumeTrue(Boolean.getBoolean("ebus.benchmark"));
+        evaluations = Integer.getInteger("ebus.benchmark.evaluations", 100000);
+
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("thisValue", 200);
+        variables.put("a", 21);
+        variables.put("b", 500);
+        scope = new MapScope(variables);
+    }
+
+    @Test
+    public void benchmarkExpression() {
+        for (String script : SCRIPTS) {
+            EBusExpression expression = EBusExpression.compile(script);
+            assertNotNull(expression);
+
+            long startTime = System.nanoTime();
+            for (int index = 0; index < evaluations; index++) {
+                assertNotNull(expression.evaluate(scope));
+            }
+            report("expression", script, System.nanoTime() - startTime);
+        }
+    }
+
+    @Test
+    public void benchmarkScriptEngine() throws Exception {
+        ScriptEngine engine = new ScriptEngineManager().getEngineByName("JavaScript");
+        Assume.assumeTrue(engine instanceof Compilable);
+
+        for (String script : SCRIPTS) {
+            CompiledScript compiledScript = ((Compilable) engine).compile(script);
+
+            // the same work as EBusTelegramParser does for each value
+            long startTime = System.nanoTime();
+            for (int index = 0; index < evaluations; index++) {
+                Bindings bindings = engine.createBindings();
+                scope.copyTo(bindings);
+                assertNotNull(NumberUtils.toBigDecimal(compiledScript.eval(bindings)));
+            }
+            report("script engine", script, System.nanoTime() - startTime);
+        }
+    }
+
+    @Test
+    public void compareResults() throws Exception {
+        ScriptEngine engine = new ScriptEngineManager().getEngineByName("JavaScript");
+        Assume.assumeTrue(engine instanceof Compilable);
+
+        for (String script : SCRIPTS) {
+            Bindings bindings = engine.createBindings();
+            scope.copyTo(bindings);
+            BigDecimal expected = NumberUtils.toBigDecimal(((Compilable) engine).compile(script).eval(bindings));
+            BigDecimal actual = (BigDecimal) EBusExpression.compile(script).evaluate(scope);
+            assertEquals(script, 0, expected.compareTo(actual));
+        }
+    }
+
+    private void report(String name, String script, long nanos) {
+        System.out.println(name + " '" + script + "': " + (nanos / evaluations) + "ns per evaluation");
+    }
+
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.parser;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the compilation and evaluation of {@link EBusExpression}s.
+ *
+ * @author Christian Sowada
+ * @since 1.9.0
+ */
+public class EBusExpressionTest {
+
+    /**
+     * A scope with the variables of a map.
+     */
+    static class MapScope implements EBusExpression.Scope {
+        private final Map<String, Object> variables;
+
+        MapScope(Map<String, Object> variables) {
+            this.variables = variables;
+        }
+
+        @Override
+        public Object get(String name) {
+            return variables.get(name);
+        }
+
+        @Override
+        public void copyTo(Map<String, Object> bindings) {
+            bindings.putAll(variables);
+        }
+    }
+
+    private Map<String, Object> variables;
+
+    private MapScope scope;
+
+    @Before
+    public void setUp() {
+        variables = new HashMap<String, Object>();
+        scope = new MapScope(variables);
+    }
+
+    private Object evaluate(String script) {
+        EBusExpression expression = EBusExpression.compile(script);
+        assertNotNull("'" + script + "' should compile", expression);
+        return expression.evaluate(scope);
+    }
+
+    private void assertNumber(String expected, String script) {
+        Object value = evaluate(script);
+        assertTrue("'" + script + "' should be a number but was " + value, value instanceof BigDecimal);
+        assertEquals(script, 0, new BigDecimal(expected).compareTo((BigDecimal) value));
+    }
+
+    @Test
+    public void testArithmeticPrecedence() {
+        assertNumber("7", "1 + 2 * 3");
+        assertNumber("9", "(1 + 2) * 3");
+        assertNumber("5", "1 + 8 / 2");
+        assertNumber("3", "1 + 8 % 3");
+        assertNumber("2", "2 * 3 % 4");
+        assertNumber("-5", "-2 * 3 + 1");
+        assertNumber("-6", "-(2 * 3)");
+        assertNumber("3", "+3");
+        assertNumber("4", "2 - -2");
+    }
+
+    @Test
+    public void testLeftAssociativity() {
+        assertNumber("3", "10 - 4 - 3");
+        assertNumber("1", "12 / 4 / 3");
+        assertNumber("1", "7 % 4 % 2");
+    }
+
+    @Test
+    public void testComparisonAndLogicalPrecedence() {
+        assertEquals(Boolean.TRUE, evaluate("1 + 2 > 2 && 0 < 1"));
+        assertEquals(Boolean.TRUE, evaluate("1 < 2 == 2 < 3"));
+        assertEquals(Boolean.FALSE, evaluate("1 > 2 || 3 <= 2"));
+        assertEquals(Boolean.TRUE, evaluate("2 >= 2 && 2 <= 2 && 2 != 3"));
+        assertEquals(Boolean.TRUE, evaluate("2 === 2 && 2 !== 3"));
+        assertEquals(Boolean.TRUE, evaluate("!0 == true"));
+        assertEquals(Boolean.FALSE, evaluate("!(1 < 2)"));
+
+        // && binds tighter than ||, returning the deciding operand like JavaScript
+        assertNumber("1", "1 || 0 && 0");
+        assertNumber("0", "(1 || 0) && 0");
+    }
+
+    @Test
+    public void testConditional() {
+        variables.put("a", -5);
+        assertNumber("5", "a > 0 ? a : -a");
+        assertNumber("-1", "a > 0 ? 1 : a < 0 ? -1 : 0");
+        assertNumber("3", "(a < 0 ? 1 : 2) + 2");
+
+        variables.put("a", 0);
+        assertNumber("0", "a > 0 ? 1 : a < 0 ? -1 : 0");
+    }
+
+    @Test
+    public void testVariables() {
+        variables.put("a", 21);
+        variables.put("b", 500);
+        variables.put("thisValue", 2.5d);
+        variables.put("value_with_underscore", (byte) 3);
+        variables.put("$x", 4L);
+        variables.put("flag", Boolean.TRUE);
+
+        assertNumber("21.5", "(a * 1000 + b) / 1000");
+        assertNumber("5", "thisValue * 2");
+        assertNumber("7", "value_with_underscore + $x");
+        assertEquals(Boolean.TRUE, evaluate("flag"));
+        assertNumber("21", "flag ? a : b");
+    }
+
+    @Test
+    public void testDivisionPrecision() {
+        assertNumber("0.3333333333333333", "1 / 3");
+        assertNumber("2.5", "5 / 2");
+        assertNumber("0.5", "5.5 % 1");
+    }
+
+    @Test
+    public void testValuesNotHandledReturnNull() {
+        // left to the script engine, which returns Infinity or NaN
+        assertNull(evaluate("1 / 0"));
+        assertNull(evaluate("5 % 0"));
+
+        // unknown or non numeric variables
+        assertNull(evaluate("unknown + 1"));
+        variables.put("s", "text");
+        assertNull(evaluate("s * 2"));
+        assertNull(evaluate("-s"));
+
+        // mixed types follow the JavaScript conversion rules
+        assertNull(evaluate("true == 1"));
+        assertNull(evaluate("true + 1"));
+    }
+
+    @Test
+    public void testUnsupportedSyntaxIsNotCompiled() {
+        assertNull(EBusExpression.compile(null));
+        assertNull(EBusExpression.compile(""));
+        assertNull(EBusExpression.compile("Math.round(a)"));
+        assertNull(EBusExpression.compile("String.fromCharCode(a)"));
+        assertNull(EBusExpression.compile("f (a)"));
+        assertNull(EBusExpression.compile("a.length"));
+        assertNull(EBusExpression.compile("'abc' + a"));
+        assertNull(EBusExpression.compile("\"abc\" + a"));
+        assertNull(EBusExpression.compile("0x10"));
+        assertNull(EBusExpression.compile("010"));
+        assertNull(EBusExpression.compile("1e3"));
+        assertNull(EBusExpression.compile("a = 1"));
+        assertNull(EBusExpression.compile("a & 1"));
+        assertNull(EBusExpression.compile("a | 1"));
+        assertNull(EBusExpression.compile("a; b"));
+    }
+
+    @Test
+    public void testSyntaxErrorsAreNotCompiled() {
+        assertNull(EBusExpression.compile("1 +"));
+        assertNull(EBusExpression.compile("(1 + 2"));
+        assertNull(EBusExpression.compile("1 + 2)"));
+        assertNull(EBusExpression.compile("a ? 1"));
+        assertNull(EBusExpression.compile("* 2"));
+        assertNull(EBusExpression.compile("1 2"));
+    }
+
+    @Test
+    public void testWhitespace() {
+        assertNumber("7", "  1+2*3  ");
+        assertNumber("7", "1\t+\n2 * 3");
+    }
+}
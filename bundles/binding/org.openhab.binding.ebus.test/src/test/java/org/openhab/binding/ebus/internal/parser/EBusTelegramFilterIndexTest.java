@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.parser;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.ebus.internal.configuration.TelegramConfiguration;
+import org.openhab.binding.ebus.internal.utils.EBusUtils;
+
+/**
+ * Compares the matches of the {@link EBusTelegramFilterIndex} with the
+ * regular expression matching of the hex dump it replaces, for the
+ * configurations shipped with the binding.
+ *
+ * @author Christian Sowada
+ * @since 1.9.0
+ */
+public class EBusTelegramFilterIndexTest {
+
+    private static final String[] CONFIGURATIONS = { "common", "vaillant-bai00", "vaillant-vr90", "vaillant-vrc430",
+            "vaillant-vrc470", "vaillant-vrc630", "wolf-cgb2", "wolf-cgb2_hc", "wolf-sm1" };
+
+    private static final String PLACEHOLDER = "[0-9A-Z]{2}";
+
+    private static final String OPEN_END = ".*";
+
+    private final Random random = new Random(0);
+
+    private List<TelegramConfiguration> configurations;
+
+    private EBusTelegramFilterIndex index;
+
+    @Before
+    public void setUp() throws IOException {
+        EBusConfigurationProvider provider = new EBusConfigurationProvider();
+        ObjectMapper mapper = new ObjectMapper();
+
+        configurations = new ArrayList<TelegramConfiguration>();
+        for (String name : CONFIGURATIONS) {
+            URL url = getClass().getResource("/" + name + "-configuration.json");
+            assertNotNull(name, url);
+
+            InputStream inputStream = url.openStream();
+            try {
+                List<TelegramConfiguration> loaded = mapper.readValue(inputStream,
+                        new TypeReference<List<TelegramConfiguration>>() {
+                        });
+                for (TelegramConfiguration configuration : loaded) {
+                    provider.transformDataTypes(configuration);
+                    configurations.add(configuration);
+                }
+            } finally {
+                inputStream.close();
+            }
+        }
+
+        index = new EBusTelegramFilterIndex(configurations);
+    }
+
+    /**
+     * The matching before the index, every filter against the hex dump.
+     */
+    private List<TelegramConfiguration> matchRegex(ByteBuffer buffer) {
+        String bufferString = EBusUtils.toHexDumpString(buffer).toString();
+        List<TelegramConfiguration> result = new ArrayList<TelegramConfiguration>();
+        for (TelegramConfiguration configuration : configurations) {
+            if (configuration.getFilterPattern().matcher(bufferString).matches()) {
+                result.add(configuration);
+            }
+        }
+        return result;
+    }
+
+    private ByteBuffer toBuffer(List<Byte> bytes) {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.size());
+        for (byte b : bytes) {
+            buffer.put(b);
+        }
+        return buffer;
+    }
+
+    private byte randomByte() {
+        return (byte) random.nextInt(256);
+    }
+
+    /**
+     * Creates a telegram matching the filter of the configuration, or
+     * <code>null</code> if the filter is no plain byte sequence.
+     */
+    private List<Byte> createTelegram(TelegramConfiguration configuration) {
+        List<Byte> bytes = new ArrayList<Byte>();
+        for (String token : configuration.getFilterPattern().pattern().split(" ")) {
+            if (PLACEHOLDER.equals(token)) {
+                bytes.add(randomByte());
+            } else if (OPEN_END.equals(token)) {
+                for (int i = random.nextInt(8); i >= 0; i--) {
+                    bytes.add(randomByte());
+                }
+            } else if (token.matches("[0-9A-F]{2}")) {
+                bytes.add((byte) Integer.parseInt(token, 16));
+            } else {
+                return null;
+            }
+        }
+        return bytes;
+    }
+
+    private int assertSameMatches(List<Byte> telegram) {
+        ByteBuffer buffer = toBuffer(telegram);
+        List<TelegramConfiguration> expected = matchRegex(buffer);
+        assertEquals(EBusUtils.toHexDumpString(buffer).toString(), expected, index.match(buffer));
+        return expected.size();
+    }
+
+    @Test
+    public void testShippedConfigurationsAreLoaded() {
+        assertTrue(configurations.size() > 100);
+    }
+
+    @Test
+    public void testTelegramsOfEveryFilter() {
+        int matches = 0;
+        for (int round = 0; round < 10; round++) {
+            for (TelegramConfiguration configuration : configurations) {
+                List<Byte> telegram = createTelegram(configuration);
+                if (telegram == null) {
+                    continue;
+                }
+                matches += assertSameMatches(telegram);
+
+                // one byte short
+                assertSameMatches(new ArrayList<Byte>(telegram.subList(0, telegram.size() - 1)));
+
+                // one byte more
+                List<Byte> longer = new ArrayList<Byte>(telegram);
+                longer.add(randomByte());
+                assertSameMatches(longer);
+
+                // one byte changed
+                List<Byte> changed = new ArrayList<Byte>(telegram);
+                int position = random.nextInt(changed.size());
+                changed.set(position, (byte) (changed.get(position) + 1 + random.nextInt(255)));
+                assertSameMatches(changed);
+            }
+        }
+        assertTrue(matches >= 10 * configurations.size());
+    }
+
+    @Test
+    public void testRandomTelegrams() {
+        for (int i = 0; i < 10000; i++) {
+            List<Byte> telegram = new ArrayList<Byte>();
+            for (int length = random.nextInt(24); length >= 0; length--) {
+                telegram.add(randomByte());
+            }
+            if (telegram.size() > 3 && random.nextBoolean()) {
+                // the command bytes of a configured telegram
+                List<Byte> template = createTelegram(configurations.get(random.nextInt(configurations.size())));
+                if (template != null && template.size() > 3) {
+                    telegram.set(2, template.get(2));
+                    telegram.set(3, template.get(3));
+                }
+            }
+            assertSameMatches(telegram);
+        }
+    }
+
+}
@@ -16,6 +16,7 @@ import javax.script.CompiledScript;
 import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.codehaus.jackson.annotate.JsonIgnoreProperties;
 import org.codehaus.jackson.annotate.JsonProperty;
+import org.openhab.binding.ebus.internal.parser.EBusExpression;
 
 /**
  * This class stores the values of an eBus bytes telegram.
@@ -29,6 +30,7 @@ public class TelegramValue {
     private Integer bit;
     private CompiledScript csript;
     private String debug;
+    private EBusExpression expression;
     private BigDecimal factor;
     private String label;
     private Map<String, String> mapping;
@@ -68,6 +70,16 @@ public class TelegramValue {
         return debug;
     }
 
+    /**
+     * Returns the natively compiled script, null if the script
+     * is only available for the script engine
+     * 
+     * @return
+     */
+    public EBusExpression getExpression() {
+        return expression;
+    }
+
     /**
      * Returns factor
      * 
@@ -188,6 +200,13 @@ public class TelegramValue {
         this.debug = debug;
     }
 
+    /**
+     * @param expression
+     */
+    public void setExpression(EBusExpression expression) {
+        this.expression = expression;
+    }
+
     /**
      * @param factor
      */
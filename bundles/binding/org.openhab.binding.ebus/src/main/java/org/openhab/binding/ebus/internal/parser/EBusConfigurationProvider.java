@@ -11,8 +11,10 @@ package org.openhab.binding.ebus.internal.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -62,6 +64,13 @@ public class EBusConfigurationProvider {
 
     private Map<String, String> loadedFilters = new HashMap<String, String>();
 
+    // The compiled filters of all loaded configuration entries
+    private volatile EBusTelegramFilterIndex filterIndex = new EBusTelegramFilterIndex(
+            Collections.<TelegramConfiguration> emptyList());
+
+    // All loaded configuration entries by class and id
+    private volatile Map<String, TelegramConfiguration> commandIndex = new HashMap<String, TelegramConfiguration>();
+
     // The script engine if available
     private Compilable compEngine;
 
@@ -101,6 +110,7 @@ public class EBusConfigurationProvider {
         if (telegramRegistry != null) {
             telegramRegistry.clear();
         }
+        rebuildIndexes();
     }
 
     /**
@@ -137,6 +147,31 @@ public class EBusConfigurationProvider {
         if (loadedTelegramRegistry != null && !loadedTelegramRegistry.isEmpty()) {
             telegramRegistry.addAll(loadedTelegramRegistry);
         }
+
+        rebuildIndexes();
+    }
+
+    /**
+     * Compiles the filters of all loaded configurations and indexes them by
+     * class and id.
+     */
+    private void rebuildIndexes() {
+        Map<String, TelegramConfiguration> newCommandIndex = new HashMap<String, TelegramConfiguration>();
+        for (TelegramConfiguration entry : telegramRegistry) {
+            String key = getCommandKey(entry.getClazz(), entry.getId());
+
+            // the first loaded entry wins, as before with the linear search
+            if (!newCommandIndex.containsKey(key)) {
+                newCommandIndex.put(key, entry);
+            }
+        }
+
+        filterIndex = new EBusTelegramFilterIndex(telegramRegistry);
+        commandIndex = newCommandIndex;
+    }
+
+    private static String getCommandKey(String commandClass, String commandId) {
+        return commandClass + "." + commandId;
     }
 
     /**
@@ -183,67 +218,57 @@ public class EBusConfigurationProvider {
         }
 
         // compile scipt's if available also once
-        if (configurationEntry.getValues() != null && !configurationEntry.getValues().isEmpty()) {
-            Map<String, TelegramValue> values = configurationEntry.getValues();
-            for (Entry<String, TelegramValue> entry : values.entrySet()) {
-                if (StringUtils.isNotEmpty(entry.getValue().getScript())) {
-                    String script = entry.getValue().getScript();
-
-                    // check if engine is available
-                    if (StringUtils.isNotEmpty(script) && compEngine != null) {
-                        try {
-                            CompiledScript compile = compEngine.compile(script);
-                            entry.getValue().setCsript(compile);
-                        } catch (ScriptException e) {
-                            logger.error("Error while compiling JavaScript!", e);
-                        }
-                    }
-                }
-            }
-        }
+        compileScripts(configurationEntry.getValues());
 
         // compile scipt's if available
-        if (configurationEntry.getComputedValues() != null && !configurationEntry.getComputedValues().isEmpty()) {
-            Map<String, TelegramValue> cvalues = configurationEntry.getComputedValues();
-            for (Entry<String, TelegramValue> entry : cvalues.entrySet()) {
-                if (StringUtils.isNotEmpty(entry.getValue().getScript())) {
-                    String script = entry.getValue().getScript();
-
-                    // check if engine is available
-                    if (StringUtils.isNotEmpty(script) && compEngine != null) {
-                        try {
-                            CompiledScript compile = compEngine.compile(script);
-                            entry.getValue().setCsript(compile);
-                        } catch (ScriptException e) {
-                            logger.error("Error while compiling JavaScript!", e);
-                        }
-                    }
-                }
-            }
-        }
+        compileScripts(configurationEntry.getComputedValues());
 
     }
 
     /**
-     * Return all configuration which filter match the bufferString paramter
+     * Compiles the scripts of all values. Simple arithmetic scripts are
+     * compiled to a native expression, the script engine is still used for
+     * all other scripts and for values the expression can't handle.
      * 
-     * @param bufferString The byte string to check against all loaded filters
-     * @return All configurations with matching filter
+     * @param values
      */
-    public List<TelegramConfiguration> getCommandsByFilter(String bufferString) {
+    private void compileScripts(Map<String, TelegramValue> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
 
-        final List<TelegramConfiguration> matchedTelegramRegistry = new ArrayList<TelegramConfiguration>();
+        for (Entry<String, TelegramValue> entry : values.entrySet()) {
+            String script = entry.getValue().getScript();
+            if (StringUtils.isEmpty(script)) {
+                continue;
+            }
 
-        /** select matching telegram registry entries */
-        for (TelegramConfiguration registryEntry : telegramRegistry) {
-            Pattern pattern = registryEntry.getFilterPattern();
-            Matcher matcher = pattern.matcher(bufferString);
-            if (matcher.matches()) {
-                matchedTelegramRegistry.add(registryEntry);
+            EBusExpression expression = EBusExpression.compile(script);
+            entry.getValue().setExpression(expression);
+            if (expression == null) {
+                logger.trace("Script is evaluated by script engine only: {}", script);
+            }
+
+            // check if engine is available
+            if (compEngine != null) {
+                try {
+                    CompiledScript compile = compEngine.compile(script);
+                    entry.getValue().setCsript(compile);
+                } catch (ScriptException e) {
+                    logger.error("Error while compiling JavaScript!", e);
+                }
             }
         }
+    }
 
-        return matchedTelegramRegistry;
+    /**
+     * Return all configuration which filter match the telegram
+     * 
+     * @param byteBuffer The telegram bytes to check against all loaded filters
+     * @return All configurations with matching filter
+     */
+    public List<TelegramConfiguration> getCommandsByFilter(ByteBuffer byteBuffer) {
+        return filterIndex.match(byteBuffer);
     }
 
     /**
@@ -263,12 +288,6 @@ public class EBusConfigurationProvider {
             commandId = idElements[1];
         }
 
-        for (TelegramConfiguration entry : telegramRegistry) {
-            if (StringUtils.equals(entry.getId(), commandId) && StringUtils.equals(entry.getClazz(), commandClass)) {
-                return entry;
-            }
-        }
-
-        return null;
+        return commandIndex.get(getCommandKey(commandClass, commandId));
     }
 }
@@ -0,0 +1,497 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.parser;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Map;
+
+import org.openhab.binding.ebus.internal.utils.NumberUtils;
+
+/**
+ * A compiled arithmetic expression of a telegram value script. The
+ * configuration scripts are nearly always simple JavaScript arithmetic like
+ * <code>(a * 1000 + b) / 1000</code>, these are evaluated directly on
+ * BigDecimal values without a script engine.
+ *
+ * Supported are number literals, variables, the arithmetic operators
+ * <code>+ - * / %</code>, comparisons, <code>&& || !</code>, the conditional
+ * operator and parentheses. Scripts with other syntax (strings, function
+ * calls, member access ...) are not compiled and remain for the script
+ * engine. If an expression can't be evaluated with the current values (non
+ * numeric values, division by zero) it returns <code>null</code> and the
+ * caller has to use the script engine.
+ *
+ * @author Christian Sowada
+ * @since 1.9.0
+ */
+public abstract class EBusExpression {
+
+    /**
+     * The variables of an evaluation.
+     */
+    public interface Scope {
+
+        /**
+         * Returns the value of a variable or <code>null</code> if unknown.
+         *
+         * @param name The variable name
+         * @return The value
+         */
+        Object get(String name);
+
+        /**
+         * Copies all variables to script engine bindings.
+         *
+         * @param bindings The bindings
+         */
+        void copyTo(Map<String, Object> bindings);
+    }
+
+    // the precision of a JavaScript number
+    private static final MathContext CONTEXT = MathContext.DECIMAL64;
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param scope The variables
+     * @return The result as BigDecimal or Boolean, <code>null</code> if the
+     *         values can't be handled by the expression
+     */
+    public abstract Object evaluate(Scope scope);
+
+    /**
+     * Compiles a script to an expression.
+     *
+     * @param script The script
+     * @return The expression or <code>null</code> if the script uses syntax
+     *         not supported by the expression compiler
+     */
+    public static EBusExpression compile(String script) {
+        if (script == null) {
+            return null;
+        }
+        Compiler compiler = new Compiler(script);
+        try {
+            EBusExpression expression = compiler.parseConditional();
+            compiler.skipWhitespace();
+            if (compiler.pos != script.length()) {
+                return null;
+            }
+            return expression;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isTrue(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return ((BigDecimal) value).signum() != 0;
+    }
+
+    /**
+     * A recursive descent parser with the precedence of JavaScript operators.
+     */
+    private static class Compiler {
+
+        private final String script;
+        private int pos;
+
+        private Compiler(String script) {
+            this.script = script;
+        }
+
+        private void skipWhitespace() {
+            while (pos < script.length() && Character.isWhitespace(script.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private boolean accept(String token) {
+            skipWhitespace();
+            if (script.startsWith(token, pos)) {
+                // don't take the first char of a longer operator, e.g. = of ==
+                int end = pos + token.length();
+                if (end < script.length() && "=<>!".indexOf(token.charAt(token.length() - 1)) >= 0
+                        && script.charAt(end) == '=') {
+                    return false;
+                }
+                if (token.length() == 1 && end < script.length() && "&|".indexOf(token.charAt(0)) >= 0
+                        && script.charAt(end) == token.charAt(0)) {
+                    return false;
+                }
+                pos = end;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw new IllegalArgumentException("Expected " + token);
+            }
+        }
+
+        private EBusExpression parseConditional() {
+            EBusExpression condition = parseOr();
+            if (accept("?")) {
+                EBusExpression whenTrue = parseConditional();
+                expect(":");
+                EBusExpression whenFalse = parseConditional();
+                return new Conditional(condition, whenTrue, whenFalse);
+            }
+            return condition;
+        }
+
+        private EBusExpression parseOr() {
+            EBusExpression left = parseAnd();
+            while (accept("||")) {
+                left = new Logical(left, parseAnd(), false);
+            }
+            return left;
+        }
+
+        private EBusExpression parseAnd() {
+            EBusExpression left = parseEquality();
+            while (accept("&&")) {
+                left = new Logical(left, parseEquality(), true);
+            }
+            return left;
+        }
+
+        private EBusExpression parseEquality() {
+            EBusExpression left = parseRelational();
+            while (true) {
+                if (accept("===") || accept("==")) {
+                    left = new Comparison(left, parseRelational(), Comparison.EQ);
+                } else if (accept("!==") || accept("!=")) {
+                    left = new Comparison(left, parseRelational(), Comparison.NE);
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private EBusExpression parseRelational() {
+            EBusExpression left = parseAdditive();
+            while (true) {
+                if (accept("<=")) {
+                    left = new Comparison(left, parseAdditive(), Comparison.LE);
+                } else if (accept(">=")) {
+                    left = new Comparison(left, parseAdditive(), Comparison.GE);
+                } else if (accept("<")) {
+                    left = new Comparison(left, parseAdditive(), Comparison.LT);
+                } else if (accept(">")) {
+                    left = new Comparison(left, parseAdditive(), Comparison.GT);
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private EBusExpression parseAdditive() {
+            EBusExpression left = parseMultiplicative();
+            while (true) {
+                if (accept("+")) {
+                    left = new Arithmetic(left, parseMultiplicative(), '+');
+                } else if (accept("-")) {
+                    left = new Arithmetic(left, parseMultiplicative(), '-');
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private EBusExpression parseMultiplicative() {
+            EBusExpression left = parseUnary();
+            while (true) {
+                if (accept("*")) {
+                    left = new Arithmetic(left, parseUnary(), '*');
+                } else if (accept("/")) {
+                    left = new Arithmetic(left, parseUnary(), '/');
+                } else if (accept("%")) {
+                    left = new Arithmetic(left, parseUnary(), '%');
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private EBusExpression parseUnary() {
+            if (accept("!")) {
+                return new Not(parseUnary());
+            } else if (accept("-")) {
+                return new Negate(parseUnary());
+            } else if (accept("+")) {
+                return new Arithmetic(new Constant(BigDecimal.ZERO), parseUnary(), '+');
+            }
+            return parsePrimary();
+        }
+
+        private EBusExpression parsePrimary() {
+            skipWhitespace();
+            if (pos >= script.length()) {
+                throw new IllegalArgumentException("Unexpected end");
+            }
+
+            char c = script.charAt(pos);
+
+            if (c == '(') {
+                pos++;
+                EBusExpression expression = parseConditional();
+                expect(")");
+                return expression;
+            }
+
+            if (Character.isDigit(c) || c == '.') {
+                int start = pos;
+                while (pos < script.length()
+                        && (Character.isDigit(script.charAt(pos)) || script.charAt(pos) == '.')) {
+                    pos++;
+                }
+                // hex, octal or exponent notation is left to the script engine
+                if (pos < script.length() && Character.isLetter(script.charAt(pos))) {
+                    throw new IllegalArgumentException("Unsupported number");
+                }
+                String number = script.substring(start, pos);
+                if (number.length() > 1 && number.charAt(0) == '0' && Character.isDigit(number.charAt(1))) {
+                    throw new IllegalArgumentException("Unsupported number");
+                }
+                return new Constant(new BigDecimal(number));
+            }
+
+            if (Character.isJavaIdentifierStart(c)) {
+                int start = pos;
+                while (pos < script.length() && Character.isJavaIdentifierPart(script.charAt(pos))) {
+                    pos++;
+                }
+                String name = script.substring(start, pos);
+
+                // member access and function calls are left to the script engine
+                skipWhitespace();
+                if (pos < script.length() && (script.charAt(pos) == '.' || script.charAt(pos) == '(')) {
+                    throw new IllegalArgumentException("Unsupported syntax");
+                }
+
+                if ("true".equals(name)) {
+                    return new Constant(Boolean.TRUE);
+                } else if ("false".equals(name)) {
+                    return new Constant(Boolean.FALSE);
+                }
+                return new Variable(name);
+            }
+
+            throw new IllegalArgumentException("Unsupported syntax");
+        }
+    }
+
+    private static class Constant extends EBusExpression {
+        private final Object value;
+
+        private Constant(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(Scope scope) {
+            return value;
+        }
+    }
+
+    private static class Variable extends EBusExpression {
+        private final String name;
+
+        private Variable(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object evaluate(Scope scope) {
+            Object value = scope.get(name);
+            if (value instanceof Boolean) {
+                return value;
+            }
+            return NumberUtils.toBigDecimal(value);
+        }
+    }
+
+    private static class Arithmetic extends EBusExpression {
+        private final EBusExpression left;
+        private final EBusExpression right;
+        private final char operator;
+
+        private Arithmetic(EBusExpression left, EBusExpression right, char operator) {
+            this.left = left;
+            this.right = right;
+            this.operator = operator;
+        }
+
+        @Override
+        public Object evaluate(Scope scope) {
+            Object l = left.evaluate(scope);
+            if (!(l instanceof BigDecimal)) {
+                return null;
+            }
+            Object r = right.evaluate(scope);
+            if (!(r instanceof BigDecimal)) {
+                return null;
+            }
+
+            BigDecimal a = (BigDecimal) l;
+            BigDecimal b = (BigDecimal) r;
+
+            switch (operator) {
+                case '+':
+                    return a.add(b);
+                case '-':
+                    return a.subtract(b);
+                case '*':
+                    return a.multiply(b);
+                case '/':
+                    // JavaScript returns Infinity or NaN
+                    return b.signum() == 0 ? null : a.divide(b, CONTEXT);
+                case '%':
+                    return b.signum() == 0 ? null : a.remainder(b, CONTEXT);
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private static class Negate extends EBusExpression {
+        private final EBusExpression operand;
+
+        private Negate(EBusExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public Object evaluate(Scope scope) {
+            Object value = operand.evaluate(scope);
+            return value instanceof BigDecimal ? ((BigDecimal) value).negate() : null;
+        }
+    }
+
+    private static class Not extends EBusExpression {
+        private final EBusExpression operand;
+
+        private Not(EBusExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public Object evaluate(Scope scope) {
+            Object value = operand.evaluate(scope);
+            return value == null ? null : !isTrue(value);
+        }
+    }
+
+    private static class Logical extends EBusExpression {
+        private final EBusExpression left;
+        private final EBusExpression right;
+        private final boolean and;
+
+        private Logical(EBusExpression left, EBusExpression right, boolean and) {
+            this.left = left;
+            this.right = right;
+            this.and = and;
+        }
+
+        @Override
+        public Object evaluate(Scope scope) {
+            // like JavaScript, returns the deciding operand and not a boolean
+            Object l = left.evaluate(scope);
+            if (l == null) {
+                return null;
+            }
+            if (isTrue(l) != and) {
+                return l;
+            }
+            return right.evaluate(scope);
+        }
+    }
+
+    private static class Comparison extends EBusExpression {
+        private static final int EQ = 0;
+        private static final int NE = 1;
+        private static final int LT = 2;
+        private static final int LE = 3;
+        private static final int GT = 4;
+        private static final int GE = 5;
+
+        private final EBusExpression left;
+        private final EBusExpression right;
+        private final int operator;
+
+        private Comparison(EBusExpression left, EBusExpression right, int operator) {
+            this.left = left;
+            this.right = right;
+            this.operator = operator;
+        }
+
+        @Override
+        public Object evaluate(Scope scope) {
+            Object l = left.evaluate(scope);
+            Object r = right.evaluate(scope);
+            if (l == null || r == null) {
+                return null;
+            }
+
+            if (l instanceof Boolean && r instanceof Boolean && (operator == EQ || operator == NE)) {
+                return l.equals(r) == (operator == EQ);
+            }
+
+            // mixed types follow the JavaScript conversion rules, left to the engine
+            if (!(l instanceof BigDecimal) || !(r instanceof BigDecimal)) {
+                return null;
+            }
+
+            int result = ((BigDecimal) l).compareTo((BigDecimal) r);
+            switch (operator) {
+                case EQ:
+                    return result == 0;
+                case NE:
+                    return result != 0;
+                case LT:
+                    return result < 0;
+                case LE:
+                    return result <= 0;
+                case GT:
+                    return result > 0;
+                case GE:
+                    return result >= 0;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private static class Conditional extends EBusExpression {
+        private final EBusExpression condition;
+        private final EBusExpression whenTrue;
+        private final EBusExpression whenFalse;
+
+        private Conditional(EBusExpression condition, EBusExpression whenTrue, EBusExpression whenFalse) {
+            this.condition = condition;
+            this.whenTrue = whenTrue;
+            this.whenFalse = whenFalse;
+        }
+
+        @Override
+        public Object evaluate(Scope scope) {
+            Object value = condition.evaluate(scope);
+            if (value == null) {
+                return null;
+            }
+            return isTrue(value) ? whenTrue.evaluate(scope) : whenFalse.evaluate(scope);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.parser;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.openhab.binding.ebus.internal.configuration.TelegramConfiguration;
+import org.openhab.binding.ebus.internal.utils.EBusUtils;
+
+/**
+ * An index of all telegram filters which matches raw telegram bytes.
+ *
+ * The filter patterns of the configuration are compiled to byte masks, a
+ * concrete byte or a wildcard (??) per position and an optional open end
+ * (.*). The masks are grouped by the primary and secondary command byte, so
+ * only the few filters of a command have to be compared byte per byte. Filters
+ * with wildcards at the command bytes are compared for every telegram. Filter
+ * patterns that can't be expressed as byte mask are matched with the regular
+ * expression against the hex dump as before, the hex dump is only created if
+ * such a filter exists.
+ *
+ * @author Christian Sowada
+ * @since 1.9.0
+ */
+public class EBusTelegramFilterIndex {
+
+    // filter: ??
+    private static final String PLACEHOLDER = "[0-9A-Z]{2}";
+
+    // filter: .*
+    private static final String OPEN_END = ".*";
+
+    // filter: 00 (upper case only, the hex dump uses upper case)
+    private static Pattern P_HEX_BYTE = Pattern.compile("[0-9A-F]{2}");
+
+    private static final Comparator<Filter> ORDER = new Comparator<Filter>() {
+        @Override
+        public int compare(Filter f1, Filter f2) {
+            return f1.order < f2.order ? -1 : (f1.order == f2.order ? 0 : 1);
+        }
+    };
+
+    private final Map<Integer, List<Filter>> commandFilters = new HashMap<Integer, List<Filter>>();
+
+    private final List<Filter> genericFilters = new ArrayList<Filter>();
+
+    private final List<Filter> patternFilters = new ArrayList<Filter>();
+
+    /**
+     * Compiles the filters of all configurations.
+     *
+     * @param configurations The configurations in registry order
+     */
+    public EBusTelegramFilterIndex(List<TelegramConfiguration> configurations) {
+        int order = 0;
+        for (TelegramConfiguration configuration : configurations) {
+            if (configuration.getFilterPattern() == null) {
+                continue;
+            }
+
+            Filter filter = compile(configuration, order++);
+
+            if (filter.pattern != null) {
+                patternFilters.add(filter);
+
+            } else if (filter.length > 3 && !filter.wildcards[2] && !filter.wildcards[3]) {
+                Integer key = getCommandKey(filter.values[2], filter.values[3]);
+                List<Filter> filters = commandFilters.get(key);
+                if (filters == null) {
+                    filters = new ArrayList<Filter>();
+                    commandFilters.put(key, filters);
+                }
+                filters.add(filter);
+
+            } else {
+                genericFilters.add(filter);
+            }
+        }
+    }
+
+    /**
+     * Return all configurations which filter match the telegram
+     *
+     * @param buffer The telegram bytes, from zero up to the buffer position
+     * @return All configurations with matching filter in registry order
+     */
+    public List<TelegramConfiguration> match(ByteBuffer buffer) {
+
+        final int length = buffer.position();
+        final List<Filter> matched = new ArrayList<Filter>(4);
+
+        if (length > 3) {
+            List<Filter> filters = commandFilters.get(getCommandKey(buffer.get(2), buffer.get(3)));
+            if (filters != null) {
+                addMatching(filters, buffer, length, matched);
+            }
+        }
+
+        int sources = matched.isEmpty() ? 0 : 1;
+        int size = matched.size();
+
+        addMatching(genericFilters, buffer, length, matched);
+        if (matched.size() > size) {
+            sources++;
+            size = matched.size();
+        }
+
+        if (!patternFilters.isEmpty()) {
+            String bufferString = EBusUtils.toHexDumpString(buffer).toString();
+            for (Filter filter : patternFilters) {
+                if (filter.pattern.matcher(bufferString).matches()) {
+                    matched.add(filter);
+                }
+            }
+            if (matched.size() > size) {
+                sources++;
+            }
+        }
+
+        // keep the registry order if the matches come from different groups
+        if (sources > 1) {
+            Collections.sort(matched, ORDER);
+        }
+
+        final List<TelegramConfiguration> result = new ArrayList<TelegramConfiguration>(matched.size());
+        for (Filter filter : matched) {
+            result.add(filter.configuration);
+        }
+        return result;
+    }
+
+    private static void addMatching(List<Filter> filters, ByteBuffer buffer, int length, List<Filter> matched) {
+        for (Filter filter : filters) {
+            if (filter.matches(buffer, length)) {
+                matched.add(filter);
+            }
+        }
+    }
+
+    private static Integer getCommandKey(byte primary, byte secondary) {
+        return (primary & 0xFF) << 8 | (secondary & 0xFF);
+    }
+
+    /**
+     * Compiles the regular expression of the configuration to a byte mask if
+     * it only consists of space separated hex bytes and placeholders, and
+     * optionally ends with an open end.
+     */
+    private static Filter compile(TelegramConfiguration configuration, int order) {
+        Pattern pattern = configuration.getFilterPattern();
+        String[] tokens = pattern.pattern().split(" ", -1);
+
+        int length = tokens.length;
+        boolean openEnd = false;
+        if (length > 1 && OPEN_END.equals(tokens[length - 1])) {
+            openEnd = true;
+            length--;
+        }
+
+        byte[] values = new byte[length];
+        boolean[] wildcards = new boolean[length];
+
+        for (int i = 0; i < length; i++) {
+            String token = tokens[i];
+            if (PLACEHOLDER.equals(token)) {
+                wildcards[i] = true;
+            } else if (P_HEX_BYTE.matcher(token).matches()) {
+                values[i] = (byte) Integer.parseInt(token, 16);
+            } else {
+                return new Filter(configuration, order, pattern);
+            }
+        }
+
+        return new Filter(configuration, order, values, wildcards, openEnd);
+    }
+
+    /**
+     * A compiled filter of one configuration.
+     */
+    private static class Filter {
+
+        private final TelegramConfiguration configuration;
+        private final int order;
+
+        private final int length;
+        private final byte[] values;
+        private final boolean[] wildcards;
+        private final boolean openEnd;
+
+        private final Pattern pattern;
+
+        private Filter(TelegramConfiguration configuration, int order, byte[] values, boolean[] wildcards,
+                boolean openEnd) {
+            this.configuration = configuration;
+            this.order = order;
+            this.length = values.length;
+            this.values = values;
+            this.wildcards = wildcards;
+            this.openEnd = openEnd;
+            this.pattern = null;
+        }
+
+        private Filter(TelegramConfiguration configuration, int order, Pattern pattern) {
+            this.configuration = configuration;
+            this.order = order;
+            this.length = 0;
+            this.values = null;
+            this.wildcards = null;
+            this.openEnd = false;
+            this.pattern = pattern;
+        }
+
+        private boolean matches(ByteBuffer buffer, int bufferLength) {
+            // an open end " .*" requires at least one more byte in the hex dump
+            if (openEnd ? bufferLength <= length : bufferLength != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (!wildcards[i] && buffer.get(i) != values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -146,25 +146,31 @@ public class EBusTelegramParser {
     }
 
     /**
-     * Evaluates the compiled script of a entry.
+     * Evaluates the compiled script of a entry. The native expression is
+     * used if available, the script engine only if the script isn't
+     * supported by the expression or the expression can't handle the values.
      * 
-     * @param entry The configuration entry to evaluate
-     * @param scopeValues All known values for script scope
+     * @param telegramValue The configuration entry to evaluate
+     * @param scope All known values for script scope
      * @return The computed value
      * @throws ScriptException
      */
-    private Object evaluateScript(Entry<String, TelegramValue> entry, Map<String, Object> scopeValues)
-            throws ScriptException {
+    private Object evaluateScript(TelegramValue telegramValue, EBusExpression.Scope scope) throws ScriptException {
 
         Object value = null;
 
+        // evaluates native expression
+        if (telegramValue.getExpression() != null) {
+            value = telegramValue.getExpression().evaluate(scope);
+        }
+
         // executes compiled script
-        if (entry.getValue().getCsript() != null) {
-            CompiledScript cscript = entry.getValue().getCsript();
+        if (value == null && telegramValue.getCsript() != null) {
+            CompiledScript cscript = telegramValue.getCsript();
 
             // Add global variables thisValue and keyName to JavaScript context
             Bindings bindings = cscript.getEngine().createBindings();
-            bindings.putAll(scopeValues);
+            scope.copyTo(bindings);
             value = cscript.eval(bindings);
         }
 
@@ -179,6 +185,65 @@ public class EBusTelegramParser {
         return value;
     }
 
+    /**
+     * The scope of a value script, the value is available by its short key,
+     * its full key and as thisValue.
+     */
+    private static class ValueScope implements EBusExpression.Scope {
+        private final String shortKey;
+        private final String uniqueKey;
+        private final Object value;
+
+        private ValueScope(String shortKey, String uniqueKey, Object value) {
+            this.shortKey = shortKey;
+            this.uniqueKey = uniqueKey;
+            this.value = value;
+        }
+
+        @Override
+        public Object get(String name) {
+            if (name.equals(shortKey) || name.equals(uniqueKey) || name.equals("thisValue")) {
+                return value;
+            }
+            return null;
+        }
+
+        @Override
+        public void copyTo(Map<String, Object> bindings) {
+            bindings.put(shortKey, value); // short key
+            bindings.put(uniqueKey, value); // full key
+            bindings.put("thisValue", value); // alias thisValue
+        }
+    }
+
+    /**
+     * The scope of a computed value script, all values parsed so far by full
+     * and short key. The full keys take precedence.
+     */
+    private static class RegistryScope implements EBusExpression.Scope {
+        private final Map<String, Object> valueRegistry;
+        private final Map<String, Object> valueRegistryShortKeys;
+
+        private RegistryScope(Map<String, Object> valueRegistry, Map<String, Object> valueRegistryShortKeys) {
+            this.valueRegistry = valueRegistry;
+            this.valueRegistryShortKeys = valueRegistryShortKeys;
+        }
+
+        @Override
+        public Object get(String name) {
+            if (valueRegistry.containsKey(name)) {
+                return valueRegistry.get(name);
+            }
+            return valueRegistryShortKeys.get(name);
+        }
+
+        @Override
+        public void copyTo(Map<String, Object> bindings) {
+            bindings.putAll(valueRegistryShortKeys);
+            bindings.putAll(valueRegistry);
+        }
+    }
+
     /**
      * A function show data from unknown telegrams
      * 
@@ -267,12 +332,13 @@ public class EBusTelegramParser {
         // Get as byte buffer
         final ByteBuffer byteBuffer = telegram.getBuffer();
 
-        // Get hex string for debugging
-        final String bufferString = EBusUtils.toHexDumpString(byteBuffer).toString();
-
         // queries the configuration provider for matching registry entries
         final List<TelegramConfiguration> matchedTelegramRegistry = configurationProvider
-                .getCommandsByFilter(bufferString);
+                .getCommandsByFilter(byteBuffer);
+
+        // Get hex string for debugging
+        final String bufferString = loggerAnalyses.isDebugEnabled() || loggerBrutforce.isTraceEnabled()
+                ? EBusUtils.toHexDumpString(byteBuffer).toString() : null;
 
         loggerAnalyses.debug(bufferString);
 
@@ -340,17 +406,11 @@ public class EBusTelegramParser {
                 }
 
                 // If compiled script available for this key, execute it now
-                if (settings.getCsript() != null) {
+                if (settings.getExpression() != null || settings.getCsript() != null) {
                     try {
 
-                        // Add global variables thisValue and keyName to JavaScript context
-                        HashMap<String, Object> bindings = new HashMap<String, Object>();
-                        bindings.put(entry.getKey(), value); // short key
-                        bindings.put(uniqueKey, value); // full key
-                        bindings.put("thisValue", value); // alias thisValue
-
                         // Evaluates script
-                        value = evaluateScript(entry, bindings);
+                        value = evaluateScript(settings, new ValueScope(entry.getKey(), uniqueKey, value));
 
                     } catch (ScriptException e) {
                         logger.error("Error on evaluating JavaScript!", e);
@@ -400,22 +460,18 @@ public class EBusTelegramParser {
                 continue;
             }
 
-            // post execute the computes_values block
+            // post execute the computes_values block, all values are in script scope
             Map<String, TelegramValue> cvalues = registryEntry.getComputedValues();
+            RegistryScope scope = new RegistryScope(valueRegistry, valueRegistryShortKeys);
             for (Entry<String, TelegramValue> entry : cvalues.entrySet()) {
 
                 String uniqueKey = (classKey != "" ? classKey + "." : "") + (idKey != "" ? idKey + "." : "")
                         + entry.getKey();
 
-                // Add all values to script scope
-                HashMap<String, Object> bindings = new HashMap<String, Object>();
-                bindings.putAll(valueRegistryShortKeys);
-                bindings.putAll(valueRegistry);
-
                 Object value;
                 try {
                     // Evaluates script
-                    value = evaluateScript(entry, bindings);
+                    value = evaluateScript(entry.getValue(), scope);
 
                     // Add result to registry
                     valueRegistry.put(uniqueKey, value);
@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.homematic.test.client;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.reflect.FieldUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.homematic.internal.common.HomematicConfig;
+import org.openhab.binding.homematic.internal.common.HomematicContext;
+import org.openhab.binding.homematic.internal.communicator.client.BaseHomematicClient.HmValueItemIteratorCallback;
+import org.openhab.binding.homematic.internal.communicator.client.CcuClient;
+import org.openhab.binding.homematic.internal.communicator.client.HomegearClient;
+import org.openhab.binding.homematic.internal.communicator.client.HomematicClientException;
+import org.openhab.binding.homematic.internal.communicator.client.interfaces.RpcClient;
+import org.openhab.binding.homematic.internal.config.binding.DatapointConfig;
+import org.openhab.binding.homematic.internal.config.binding.HomematicBindingConfig;
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDatapoint;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmRssiInfo;
+import org.openhab.binding.homematic.internal.model.HmValueItem;
+
+/**
+ * Testcases for the datapoint reload of stale devices with the CCU and
+ * Homegear clients.
+ *
+ * @author Gerhard Riegler
+ * @since 1.9.0
+ */
+public class DatapointReloadTest {
+    private static final int PARALLELISM = 3;
+
+    private Map<String, AtomicInteger> rpcCalls;
+    private RpcClient rpcClient;
+    private Object[] homegearValues = new Object[0];
+
+    private List<String> reloadedDatapoints;
+    private List<Thread> callbackThreads;
+    private HmValueItemIteratorCallback callback;
+
+    private HomematicConfig previousConfig;
+
+    @Before
+    public void setUp() throws Exception {
+        Hashtable<String, String> properties = new Hashtable<String, String>();
+        properties.put("host", "localhost");
+        properties.put("callback.host", "localhost");
+        properties.put("reload.parallelism", String.valueOf(PARALLELISM));
+        HomematicConfig config = new HomematicConfig();
+        config.parse(properties);
+
+        // the context is a singleton, the other tests see its config
+        HomematicContext context = HomematicContext.getInstance();
+        previousConfig = context.getConfig();
+        FieldUtils.writeField(context, "config", config, true);
+
+        rpcCalls = Collections.synchronizedMap(new HashMap<String, AtomicInteger>());
+        rpcClient = (RpcClient) Proxy.newProxyInstance(RpcClient.class.getClassLoader(),
+                new Class<?>[] { RpcClient.class }, new InvocationHandler() {
+
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        getRpcCalls(method.getName()).incrementAndGet();
+                        if ("getRssiInfo".equals(method.getName())) {
+                            Map<String, HmRssiInfo> rssiList = new HashMap<String, HmRssiInfo>();
+                            rssiList.put("DEV1", new HmRssiInfo("DEV1", -60, -65));
+                            return rssiList;
+                        } else if ("getAllValues".equals(method.getName())) {
+                            return homegearValues;
+                        }
+                        return null;
+                    }
+                });
+
+        reloadedDatapoints = Collections.synchronizedList(new ArrayList<String>());
+        callbackThreads = Collections.synchronizedList(new ArrayList<Thread>());
+        callback = new HmValueItemIteratorCallback() {
+
+            @Override
+            public void iterate(HomematicBindingConfig bindingConfig, HmValueItem hmValueItem) {
+                DatapointConfig dpConfig = (DatapointConfig) bindingConfig;
+                reloadedDatapoints.add(dpConfig.getAddress() + ":" + dpConfig.getChannel() + "#"
+                        + dpConfig.getParameter() + "=" + hmValueItem.getValue());
+                callbackThreads.add(Thread.currentThread());
+            }
+        };
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FieldUtils.writeField(HomematicContext.getInstance(), "config", previousConfig, true);
+    }
+
+    private AtomicInteger getRpcCalls(String methodName) {
+        synchronized (rpcCalls) {
+            AtomicInteger calls = rpcCalls.get(methodName);
+            if (calls == null) {
+                calls = new AtomicInteger();
+                rpcCalls.put(methodName, calls);
+            }
+            return calls;
+        }
+    }
+
+    private List<String> getAddresses(int count) {
+        List<String> addresses = new ArrayList<String>();
+        for (int i = 1; i <= count; i++) {
+            addresses.add("DEV" + i);
+        }
+        return addresses;
+    }
+
+    @Test
+    public void testCcuLoadsChunksInParallelWithOneRssiRequest() throws Exception {
+        TestCcuClient client = new TestCcuClient(rpcClient, new CyclicBarrier(PARALLELISM));
+        client.iterateDatapoints(getAddresses(10), callback);
+
+        // every device is loaded exactly once, in one chunk per parallel request
+        assertEquals(PARALLELISM, client.filters.size());
+        List<String> loadedAddresses = new ArrayList<String>();
+        for (String filter : client.filters) {
+            loadedAddresses.addAll(Arrays.asList(StringUtils.splitByWholeSeparator(filter, "\\t")));
+        }
+        Collections.sort(loadedAddresses);
+        List<String> expectedAddresses = getAddresses(10);
+        Collections.sort(expectedAddresses);
+        assertEquals(expectedAddresses, loadedAddresses);
+
+        assertEquals(PARALLELISM, client.maxConcurrentLoads.get());
+        assertEquals(1, getRpcCalls("getRssiInfo").get());
+        // DEV1 gets the missing RSSI datapoints from the RSSI info
+        assertEquals(11, reloadedDatapoints.size());
+        assertTrue(reloadedDatapoints.contains("DEV1:0#RSSI_DEVICE=-60"));
+        assertTrue(reloadedDatapoints.contains("DEV1:0#RSSI_PEER=-65"));
+    }
+
+    @Test
+    public void testCcuCallsCallbackFromCallingThread() throws Exception {
+        TestCcuClient client = new TestCcuClient(rpcClient, null);
+        client.iterateDatapoints(getAddresses(7), callback);
+
+        assertEquals(8, callbackThreads.size());
+        for (Thread thread : callbackThreads) {
+            assertSame(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    public void testCcuLoadsFewDevicesWithOneRequest() throws Exception {
+        TestCcuClient client = new TestCcuClient(rpcClient, null);
+        client.iterateDatapoints(getAddresses(1), callback);
+
+        assertEquals(Arrays.asList("\\tDEV1\\t"), client.filters);
+        assertEquals(1, getRpcCalls("getRssiInfo").get());
+        assertEquals(2, reloadedDatapoints.size());
+    }
+
+    @Test
+    public void testCcuSendsNoRequestWithoutStaleDevices() throws Exception {
+        TestCcuClient client = new TestCcuClient(rpcClient, null);
+        client.iterateDatapoints(new ArrayList<String>(), callback);
+
+        assertTrue(client.filters.isEmpty());
+        assertEquals(0, getRpcCalls("getRssiInfo").get());
+    }
+
+    @Test
+    public void testCcuReportsFailedChunk() throws Exception {
+        TestCcuClient client = new TestCcuClient(rpcClient, null);
+        client.failingAddress = "DEV5";
+        try {
+            client.iterateDatapoints(getAddresses(10), callback);
+            fail("HomematicClientException expected");
+        } catch (HomematicClientException ex) {
+            assertEquals("DEV5 failed", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testHomegearLoadsAllValuesOnce() throws Exception {
+        homegearValues = new Object[] { createHomegearDevice("DEV1"), createHomegearDevice("DEV2"),
+                createHomegearDevice("DEV3") };
+        HomegearClient client = new HomegearClient(rpcClient);
+        client.iterateDatapoints(Arrays.asList("DEV1", "DEV3"), callback);
+
+        assertEquals(1, getRpcCalls("getAllValues").get());
+        assertEquals(Arrays.asList("DEV1:1#STATE=true", "DEV3:1#STATE=true"), reloadedDatapoints);
+    }
+
+    @Test
+    public void testHomegearSendsNoRequestWithoutStaleDevices() throws Exception {
+        HomegearClient client = new HomegearClient(rpcClient);
+        client.iterateDatapoints(new ArrayList<String>(), callback);
+
+        assertEquals(0, getRpcCalls("getAllValues").get());
+    }
+
+    private Map<String, Object> createHomegearDevice(String address) {
+        Map<String, Object> datapoint = new HashMap<String, Object>();
+        datapoint.put("WRITEABLE", Boolean.TRUE);
+        datapoint.put("TYPE", "BOOL");
+        datapoint.put("VALUE", Boolean.TRUE);
+        Map<String, Object> paramset = new HashMap<String, Object>();
+        paramset.put("STATE", datapoint);
+        Map<String, Object> channel = new HashMap<String, Object>();
+        channel.put("INDEX", 1);
+        channel.put("PARAMSET", paramset);
+
+        Map<String, Object> device = new HashMap<String, Object>();
+        device.put("ADDRESS", address);
+        device.put("TYPE", "HM-LC-Sw1-FM");
+        device.put("CHANNELS", new Object[] { channel });
+        return device;
+    }
+
+    /**
+     * CcuClient which returns a device with one datapoint for every address
+     * of the filter instead of sending the TclRega script to a CCU.
+     */
+    private static class TestCcuClient extends CcuClient {
+        private List<String> filters = Collections.synchronizedList(new ArrayList<String>());
+        private AtomicInteger concurrentLoads = new AtomicInteger();
+        private AtomicInteger maxConcurrentLoads = new AtomicInteger();
+        private CyclicBarrier barrier;
+        private String failingAddress;
+
+        public TestCcuClient(RpcClient rpcClient, CyclicBarrier barrier) {
+            super(rpcClient);
+            this.barrier = barrier;
+        }
+
+        @Override
+        protected List<HmDevice> loadDevices(String deviceAddressFilter) throws HomematicClientException {
+            filters.add(deviceAddressFilter);
+            int loads = concurrentLoads.incrementAndGet();
+            synchronized (maxConcurrentLoads) {
+                maxConcurrentLoads.set(Math.max(maxConcurrentLoads.get(), loads));
+            }
+            try {
+                if (barrier != null) {
+                    // only passes if all chunks are loaded in parallel
+                    barrier.await(5, TimeUnit.SECONDS);
+                }
+                List<HmDevice> devices = new ArrayList<HmDevice>();
+                for (String address : StringUtils.splitByWholeSeparator(deviceAddressFilter, "\\t")) {
+                    if (address.equals(failingAddress)) {
+                        throw new HomematicClientException(address + " failed");
+                    }
+                    devices.add(createDevice(address));
+                }
+                return devices;
+            } catch (HomematicClientException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new HomematicClientException(ex.getMessage(), ex);
+            } finally {
+                concurrentLoads.decrementAndGet();
+            }
+        }
+
+        private HmDevice createDevice(String address) throws IllegalAccessException {
+            HmDevice device = new HmDevice();
+            FieldUtils.writeField(device, "address", address, true);
+            FieldUtils.writeField(device, "type", "HM-LC-Sw1-FM", true);
+
+            HmChannel channel = new HmChannel();
+            FieldUtils.writeField(channel, "number", "0", true);
+            device.addChannel(channel);
+            if (!"DEV1".equals(address)) {
+                HmDatapoint dp = new HmDatapoint();
+                dp.setName("UNREACH");
+                dp.setValueType(2);
+                dp.setValue(Boolean.FALSE);
+                channel.addDatapoint(dp);
+            }
+            return device;
+        }
+    }
+}
@@ -106,10 +106,12 @@ public class HomematicBinding extends AbstractActiveBinding<HomematicBindingProv
 
     protected void addBindingProvider(HomematicBindingProvider bindingProvider) {
         super.addBindingProvider(bindingProvider);
+        context.getProviderItemIndex().invalidate();
     }
 
     protected void removeBindingProvider(HomematicBindingProvider bindingProvider) {
         super.removeBindingProvider(bindingProvider);
+        context.getProviderItemIndex().invalidate();
     }
 
     /**
@@ -118,6 +120,7 @@ public class HomematicBinding extends AbstractActiveBinding<HomematicBindingProv
     @Override
     public void allBindingsChanged(BindingProvider provider) {
         super.allBindingsChanged(provider);
+        context.getProviderItemIndex().invalidate();
         if (isProperlyConfigured()) {
             if (provider instanceof HomematicBindingProvider) {
                 HomematicBindingProvider hmProvider = (HomematicBindingProvider) provider;
@@ -134,6 +137,7 @@ public class HomematicBinding extends AbstractActiveBinding<HomematicBindingProv
     @Override
     public void bindingChanged(BindingProvider provider, String itemName) {
         super.bindingChanged(provider, itemName);
+        context.getProviderItemIndex().invalidate();
         if (isProperlyConfigured()) {
             if (provider instanceof HomematicBindingProvider) {
                 HomematicBindingProvider hmProvider = (HomematicBindingProvider) provider;
@@ -48,6 +48,16 @@ import org.osgi.service.cm.ConfigurationException;
  * # The reconnect.interval disables the alive.interval and reconnects after a fixed period in time.
  * # Think in hours when configuring (one hour = 3600)
  * # homematic:reconnect.interval=
+ *
+ * # The maximum number of parallel requests to a CCU (optional, default is 1)
+ * # Increase this on a CCU2 with many devices to load the datapoints in parallel chunks.
+ * # Homegear always loads all datapoints with one request.
+ * # homematic:reload.parallelism=
+ *
+ * # The time in seconds after which a device without events is considered stale (optional, default is 300)
+ * # A datapoint reload only fetches devices which have not sent an event within this time.
+ * # Set to 0 to always reload all devices.
+ * # homematic:reload.stale.interval=
  * </pre>
  *
  * @author Gerhard Riegler
@@ -60,10 +70,14 @@ public class HomematicConfig {
     private static final String CONFIG_KEY_CALLBACK_PORT = "callback.port";
     private static final String CONFIG_KEY_ALIVE_INTERVAL = "alive.interval";
     private static final String CONFIG_KEY_RECONNECT_INTERVAL = "reconnect.interval";
+    private static final String CONFIG_KEY_RELOAD_PARALLELISM = "reload.parallelism";
+    private static final String CONFIG_KEY_RELOAD_STALE_INTERVAL = "reload.stale.interval";
 
     private static final Integer DEFAULT_CALLBACK_PORT = 9123;
     private static final int DEFAULT_ALIVE_INTERVAL = 300;
     private static final int DEFAULT_HOST_TIMEOUT = 15;
+    private static final int DEFAULT_RELOAD_PARALLELISM = 1;
+    private static final int DEFAULT_RELOAD_STALE_INTERVAL = 300;
 
     private boolean valid;
     private String host;
@@ -72,6 +86,8 @@ public class HomematicConfig {
     private Integer callbackPort;
     private Integer aliveInterval;
     private Integer reconnectInterval;
+    private Integer reloadParallelism;
+    private Integer reloadStaleInterval;
 
     /**
      * Parses and validates the properties in the openhab.cfg.
@@ -95,6 +111,13 @@ public class HomematicConfig {
         callbackPort = parseInt(properties, CONFIG_KEY_CALLBACK_PORT, DEFAULT_CALLBACK_PORT);
         aliveInterval = parseInt(properties, CONFIG_KEY_ALIVE_INTERVAL, DEFAULT_ALIVE_INTERVAL);
         reconnectInterval = parseInt(properties, CONFIG_KEY_RECONNECT_INTERVAL, null);
+
+        reloadParallelism = parseInt(properties, CONFIG_KEY_RELOAD_PARALLELISM, DEFAULT_RELOAD_PARALLELISM);
+        if (reloadParallelism < 1) {
+            throw new ConfigurationException("homematic", "Parameter " + CONFIG_KEY_RELOAD_PARALLELISM
+                    + " must be at least 1. Please check your openhab.cfg!");
+        }
+        reloadStaleInterval = parseInt(properties, CONFIG_KEY_RELOAD_STALE_INTERVAL, DEFAULT_RELOAD_STALE_INTERVAL);
         valid = true;
     }
 
@@ -159,6 +182,21 @@ public class HomematicConfig {
         return reconnectInterval;
     }
 
+    /**
+     * Returns the number of parallel requests used for a datapoint reload.
+     */
+    public Integer getReloadParallelism() {
+        return reloadParallelism;
+    }
+
+    /**
+     * Returns the interval in seconds after which a device without events is
+     * considered stale.
+     */
+    public Integer getReloadStaleInterval() {
+        return reloadStaleInterval;
+    }
+
     /**
      * Returns true if this config is valid.
      */
@@ -185,6 +223,8 @@ public class HomematicConfig {
         return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append("host", host)
                 .append("timeout", timeout).append("callbackHost", callbackHost).append("callbackPort", callbackPort)
                 .append("aliveInterval", reconnectInterval == null ? aliveInterval : "disabled")
-                .append("reconnectInterval", reconnectInterval == null ? "disabled" : reconnectInterval).toString();
+                .append("reconnectInterval", reconnectInterval == null ? "disabled" : reconnectInterval)
+                .append("reloadParallelism", reloadParallelism).append("reloadStaleInterval", reloadStaleInterval)
+                .toString();
     }
 }
@@ -11,6 +11,7 @@ package org.openhab.binding.homematic.internal.common;
 import java.util.Collection;
 
 import org.openhab.binding.homematic.HomematicBindingProvider;
+import org.openhab.binding.homematic.internal.communicator.ProviderItemIndex;
 import org.openhab.binding.homematic.internal.communicator.StateHolder;
 import org.openhab.binding.homematic.internal.communicator.client.ServerId;
 import org.openhab.binding.homematic.internal.communicator.client.interfaces.HomematicClient;
@@ -30,6 +31,7 @@ public class HomematicContext {
     private ConverterFactory converterFactory = new ConverterFactory();
     private HomematicClient homematicClient;
     private StateHolder stateHolder;
+    private ProviderItemIndex providerItemIndex;
     private ServerId serverId;
 
     private static HomematicContext instance;
@@ -44,6 +46,7 @@ public class HomematicContext {
         if (instance == null) {
             instance = new HomematicContext();
             instance.stateHolder = new StateHolder(instance);
+            instance.providerItemIndex = new ProviderItemIndex(instance);
         }
         return instance;
     }
@@ -81,6 +84,7 @@ public class HomematicContext {
      */
     public void setProviders(Collection<HomematicBindingProvider> providers) {
         this.providers = providers;
+        providerItemIndex.invalidate();
     }
 
     /**
@@ -111,6 +115,13 @@ public class HomematicContext {
         return stateHolder;
     }
 
+    /**
+     * Returns the index of all bound items.
+     */
+    public ProviderItemIndex getProviderItemIndex() {
+        return providerItemIndex;
+    }
+
     /**
      * Returns the serverId.
      */
@@ -117,7 +117,7 @@ public class HomematicCommunicator implements HomematicCallbackReceiver {
             @Override
             public void run() {
                 logger.debug("Initial Homematic datapoints reload");
-                context.getStateHolder().reloadDatapoints();
+                context.getStateHolder().reloadAllDatapoints();
             }
         }, 61000); // 61 seconds to prevent reload at a reconnect
     }
@@ -167,7 +167,10 @@ public class HomematicCommunicator implements HomematicCallbackReceiver {
         if (isVariable) {
             bindingConfig = new VariableConfig(parameter);
         } else {
-            bindingConfig = new DatapointConfig(HmInterface.parse(interfaceId), addressWithChannel, parameter);
+            DatapointConfig datapointConfig = new DatapointConfig(HmInterface.parse(interfaceId), addressWithChannel,
+                    parameter);
+            context.getStateHolder().deviceUpdated(datapointConfig.getAddress());
+            bindingConfig = datapointConfig;
         }
 
         String className = value == null ? "Unknown" : value.getClass().getSimpleName();
@@ -288,7 +291,7 @@ public class HomematicCommunicator implements HomematicCallbackReceiver {
                     }
                 } catch (Exception ex) {
                     logger.error(ex.getMessage(), ex);
-                    context.getStateHolder().reloadDatapoints();
+                    context.getStateHolder().reloadAllDatapoints();
                     context.getStateHolder().reloadVariables();
                 }
             }
@@ -381,7 +384,7 @@ public class HomematicCommunicator implements HomematicCallbackReceiver {
         // prevent from duplicate loading at startup
         if (newDevicesCounter > 2) {
             logger.info("New device(s) detected, refreshing datapoints");
-            context.getStateHolder().reloadDatapoints();
+            context.getStateHolder().reloadAllDatapoints();
         }
     }
 
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openhab.binding.homematic.HomematicBindingProvider;
+import org.openhab.binding.homematic.internal.common.HomematicContext;
+import org.openhab.binding.homematic.internal.config.binding.HomematicBindingConfig;
+import org.openhab.core.items.Item;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index from a bindingConfig (address, channel, parameter for datapoints) to
+ * all bound items of all providers. The index is rebuilt lazily after a
+ * binding has changed, so incoming events don't have to iterate through all
+ * providers and items.
+ *
+ * @author Gerhard Riegler
+ * @since 1.9.0
+ */
+public class ProviderItemIndex {
+    private static final Logger logger = LoggerFactory.getLogger(ProviderItemIndex.class);
+
+    private HomematicContext context;
+
+    private volatile boolean dirty = true;
+    private volatile Map<HomematicBindingConfig, List<ProviderItem>> index;
+
+    public ProviderItemIndex(HomematicContext context) {
+        this.context = context;
+        this.index = new ConcurrentHashMap<HomematicBindingConfig, List<ProviderItem>>();
+    }
+
+    /**
+     * Marks the index as outdated, it is rebuilt with the next lookup.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Returns all items bound to the specified bindingConfig.
+     */
+    public List<ProviderItem> getItems(HomematicBindingConfig bindingConfig) {
+        if (dirty) {
+            rebuild();
+        }
+        List<ProviderItem> providerItems = index.get(bindingConfig);
+        if (providerItems == null) {
+            return Collections.emptyList();
+        }
+        return providerItems;
+    }
+
+    /**
+     * Rebuilds the index from all providers.
+     */
+    private synchronized void rebuild() {
+        if (!dirty) {
+            return;
+        }
+        // reset first, a binding change during the rebuild triggers the next rebuild
+        dirty = false;
+
+        Map<HomematicBindingConfig, List<ProviderItem>> newIndex;
+        newIndex = new ConcurrentHashMap<HomematicBindingConfig, List<ProviderItem>>();
+        Collection<HomematicBindingProvider> providers = context.getProviders();
+        if (providers != null) {
+            for (HomematicBindingProvider provider : providers) {
+                for (String itemName : provider.getItemNames()) {
+                    Item item = provider.getItem(itemName);
+                    HomematicBindingConfig bindingConfig = provider.getBindingFor(itemName);
+                    if (item != null && bindingConfig != null) {
+                        List<ProviderItem> providerItems = newIndex.get(bindingConfig);
+                        if (providerItems == null) {
+                            providerItems = new ArrayList<ProviderItem>();
+                            newIndex.put(bindingConfig, providerItems);
+                        }
+                        providerItems.add(new ProviderItem(item, bindingConfig));
+                    }
+                }
+            }
+        }
+        index = newIndex;
+        logger.debug("Rebuilt Homematic item index with {} bindings", newIndex.size());
+    }
+
+    /**
+     * An item with the bindingConfig of its provider.
+     */
+    public static class ProviderItem {
+        private Item item;
+        private HomematicBindingConfig bindingConfig;
+
+        public ProviderItem(Item item, HomematicBindingConfig bindingConfig) {
+            this.item = item;
+            this.bindingConfig = bindingConfig;
+        }
+
+        /**
+         * Returns the item.
+         */
+        public Item getItem() {
+            return item;
+        }
+
+        /**
+         * Returns the bindingConfig of the provider.
+         */
+        public HomematicBindingConfig getBindingConfig() {
+            return bindingConfig;
+        }
+    }
+}
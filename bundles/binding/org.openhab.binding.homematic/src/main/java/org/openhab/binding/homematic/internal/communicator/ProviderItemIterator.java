@@ -8,10 +8,8 @@
  */
 package org.openhab.binding.homematic.internal.communicator;
 
-import java.util.List;
-
-import org.openhab.binding.homematic.HomematicBindingProvider;
 import org.openhab.binding.homematic.internal.common.HomematicContext;
+import org.openhab.binding.homematic.internal.communicator.ProviderItemIndex.ProviderItem;
 import org.openhab.binding.homematic.internal.config.binding.HomematicBindingConfig;
 import org.openhab.binding.homematic.internal.converter.state.Converter;
 import org.openhab.core.items.Item;
@@ -26,24 +24,23 @@ public class ProviderItemIterator {
     protected HomematicContext context = HomematicContext.getInstance();
 
     /**
-     * Iterate through all providers and their items, creates a converter and
-     * calls the callback.
+     * Iterate through all items bound to the bindingConfig, creates a converter
+     * and calls the callback. The items are looked up in the
+     * {@link ProviderItemIndex}.
      */
     public void iterate(HomematicBindingConfig bindingConfig, ProviderItemIteratorCallback callback) {
-        for (HomematicBindingProvider provider : context.getProviders()) {
-            List<Item> items = provider.getItemsFor(bindingConfig);
-            for (Item item : items) {
-                HomematicBindingConfig providerBindingConfig = provider.getBindingFor(item.getName());
-                Converter<?> converter = context.getConverterFactory().createConverter(item, providerBindingConfig);
-                if (converter != null) {
-                    callback.next(providerBindingConfig, item, converter);
-                }
+        for (ProviderItem providerItem : context.getProviderItemIndex().getItems(bindingConfig)) {
+            Item item = providerItem.getItem();
+            HomematicBindingConfig providerBindingConfig = providerItem.getBindingConfig();
+            Converter<?> converter = context.getConverterFactory().createConverter(item, providerBindingConfig);
+            if (converter != null) {
+                callback.next(providerBindingConfig, item, converter);
             }
         }
     }
 
     /**
-     * This callback interface is executed for every item in all providers.
+     * This callback interface is executed for every bound item.
      */
     public interface ProviderItemIteratorCallback {
         public void next(HomematicBindingConfig providerBindingConfig, Item item, Converter<?> converter);
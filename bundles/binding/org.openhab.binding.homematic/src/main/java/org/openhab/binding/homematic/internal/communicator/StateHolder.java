@@ -8,8 +8,13 @@
  */
 package org.openhab.binding.homematic.internal.communicator;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -41,9 +46,11 @@ public class StateHolder {
 
     private ExecutorService reloadExecutorPool;
 
-    private boolean datapointReloadInProgress = false;
-    private Map<HomematicBindingConfig, Object> refreshCache = new HashMap<HomematicBindingConfig, Object>();
-    private Map<HomematicBindingConfig, HmValueItem> datapoints = new HashMap<HomematicBindingConfig, HmValueItem>();
+    private volatile boolean datapointReloadInProgress = false;
+    private Map<HomematicBindingConfig, Object> refreshCache = new ConcurrentHashMap<HomematicBindingConfig, Object>();
+    private Map<HomematicBindingConfig, HmValueItem> datapoints = new ConcurrentHashMap<HomematicBindingConfig,
+            HmValueItem>();
+    private Map<String, Long> deviceUpdateTimes = new ConcurrentHashMap<String, Long>();
     private Map<HomematicBindingConfig, HmValueItem> variables = new HashMap<HomematicBindingConfig, HmValueItem>();
 
     public StateHolder(HomematicContext context) {
@@ -62,13 +69,26 @@ public class StateHolder {
      * receives from the Homematic server during the reload.
      */
     public void addToRefreshCache(HomematicBindingConfig bindingConfig, Object value) {
-        refreshCache.put(bindingConfig, value);
+        if (value != null) {
+            refreshCache.put(bindingConfig, value);
+        }
+    }
+
+    /**
+     * Called for every event from the Homematic server, a device with recent
+     * events is skipped in a datapoint reload.
+     */
+    public void deviceUpdated(String address) {
+        deviceUpdateTimes.put(address, System.currentTimeMillis());
     }
 
     /**
      * Returns the cached HmValueItem.
      */
     public HmValueItem getState(HomematicBindingConfig bindingConfig) {
+        if (bindingConfig == null) {
+            return null;
+        }
         HmValueItem hmValueItem = datapoints.get(bindingConfig);
         if (hmValueItem == null) {
             hmValueItem = variables.get(bindingConfig);
@@ -91,41 +111,45 @@ public class StateHolder {
         logger.info("Finished loading {} Homematic datapoints", datapoints.size());
     }
 
+    /**
+     * Reloads the datapoints of all stale devices from the Homematic server and
+     * publishes only changed values to the openHAB bus. A device is stale if
+     * there was no event within the configured reload stale interval.
+     */
+    public void reloadDatapoints() {
+        reload(false);
+    }
+
     /**
      * Reloads all datapoints from the Homematic server and publishes only
      * changed values to the openHAB bus.
      */
-    public void reloadDatapoints() {
+    public void reloadAllDatapoints() {
+        reload(true);
+    }
+
+    /**
+     * Executes the datapoint reload in the reload executor pool.
+     */
+    private void reload(final boolean all) {
         reloadExecutorPool.execute(new Runnable() {
 
             @Override
             public void run() {
 
                 try {
-                    logger.debug("Reloading Homematic server datapoints");
                     datapointReloadInProgress = true;
-                    context.getHomematicClient().iterateAllDatapoints(new HmValueItemIteratorCallback() {
-                        @Override
-                        public void iterate(HomematicBindingConfig bindingConfig, HmValueItem hmValueItem) {
-                            if (!datapoints.containsKey(bindingConfig)) {
-                                logger.info("Adding new {}", bindingConfig);
-                                datapoints.put(bindingConfig, hmValueItem);
-                            } else {
-                                Object cachedValue = refreshCache.get(bindingConfig);
-                                if (cachedValue != null) {
-                                    logger.debug("Value changed while refreshing from '{}' to '{}' for binding {}",
-                                            hmValueItem.getValue(), cachedValue, bindingConfig);
-                                    hmValueItem.setValue(cachedValue);
-                                }
-
-                                if (hasChanged(bindingConfig, datapoints.get(bindingConfig), hmValueItem)) {
-                                    datapoints.put(bindingConfig, hmValueItem);
-                                    publish(bindingConfig, hmValueItem);
-                                }
-                            }
-                        }
-                    });
-                    logger.debug("Finished reloading {} Homematic server datapoints", datapoints.size());
+                    long staleMillis = context.getConfig().getReloadStaleInterval() * 1000L;
+                    if (all || staleMillis <= 0) {
+                        logger.debug("Reloading Homematic server datapoints");
+                        context.getHomematicClient().iterateAllDatapoints(new ReloadCallback());
+                    } else {
+                        List<String> staleDevices = getStaleDevices(System.currentTimeMillis() - staleMillis);
+                        logger.debug("Reloading Homematic server datapoints of {} stale devices", staleDevices.size());
+                        reloadDevices(staleDevices);
+                    }
+                    logger.debug("Finished reloading Homematic server datapoints, {} datapoints cached",
+                            datapoints.size());
                 } catch (HomematicClientException ex) {
                     logger.error(ex.getMessage(), ex);
                 } finally {
@@ -137,6 +161,65 @@ public class StateHolder {
         });
     }
 
+    /**
+     * Returns the addresses of all devices without an event or reload since the
+     * specified time.
+     */
+    private List<String> getStaleDevices(long updatedBefore) {
+        Set<String> addresses = new HashSet<String>();
+        for (HomematicBindingConfig bindingConfig : datapoints.keySet()) {
+            if (bindingConfig instanceof DatapointConfig) {
+                addresses.add(((DatapointConfig) bindingConfig).getAddress());
+            }
+        }
+        List<String> staleDevices = new ArrayList<String>();
+        for (String address : addresses) {
+            Long updateTime = deviceUpdateTimes.get(address);
+            if (updateTime == null || updateTime < updatedBefore) {
+                staleDevices.add(address);
+            }
+        }
+        return staleDevices;
+    }
+
+    /**
+     * Reloads the specified devices, the client splits them into the
+     * configured number of parallel requests to the Homematic server.
+     */
+    private void reloadDevices(List<String> addresses) throws HomematicClientException {
+        context.getHomematicClient().iterateDatapoints(addresses, new ReloadCallback());
+    }
+
+    /**
+     * Callback which updates the cache with the reloaded datapoints and
+     * publishes changed values.
+     */
+    private class ReloadCallback implements HmValueItemIteratorCallback {
+
+        @Override
+        public void iterate(HomematicBindingConfig bindingConfig, HmValueItem hmValueItem) {
+            if (bindingConfig instanceof DatapointConfig) {
+                deviceUpdated(((DatapointConfig) bindingConfig).getAddress());
+            }
+            if (!datapoints.containsKey(bindingConfig)) {
+                logger.info("Adding new {}", bindingConfig);
+                datapoints.put(bindingConfig, hmValueItem);
+            } else {
+                Object cachedValue = refreshCache.get(bindingConfig);
+                if (cachedValue != null) {
+                    logger.debug("Value changed while refreshing from '{}' to '{}' for binding {}",
+                            hmValueItem.getValue(), cachedValue, bindingConfig);
+                    hmValueItem.setValue(cachedValue);
+                }
+
+                if (hasChanged(bindingConfig, datapoints.get(bindingConfig), hmValueItem)) {
+                    datapoints.put(bindingConfig, hmValueItem);
+                    publish(bindingConfig, hmValueItem);
+                }
+            }
+        }
+    }
+
     /**
      * Reloads all RSSI values from the Homematic server and publishes only
      * changed values to the openHAB bus.
@@ -248,6 +331,7 @@ public class StateHolder {
         }
         datapoints.clear();
         variables.clear();
+        deviceUpdateTimes.clear();
     }
 
     /**
@@ -10,16 +10,23 @@ package org.openhab.binding.homematic.internal.communicator.client;
 
 import java.io.InputStream;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 
 import org.apache.commons.httpclient.HttpClient;
-import org.apache.commons.httpclient.SimpleHttpConnectionManager;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
 import org.apache.commons.httpclient.methods.ByteArrayRequestEntity;
 import org.apache.commons.httpclient.methods.PostMethod;
 import org.apache.commons.httpclient.methods.RequestEntity;
@@ -80,7 +87,12 @@ public class CcuClient extends BaseHomematicClient {
 
         tclregaScripts = loadTclRegaScripts();
 
-        httpClient = new HttpClient(new SimpleHttpConnectionManager(true));
+        // limits the concurrent requests to the CCU, other requests wait for a free connection
+        int maxConnections = context.getConfig().getReloadParallelism();
+        MultiThreadedHttpConnectionManager connectionManager = new MultiThreadedHttpConnectionManager();
+        connectionManager.getParams().setDefaultMaxConnectionsPerHost(maxConnections);
+        connectionManager.getParams().setMaxTotalConnections(maxConnections);
+        httpClient = new HttpClient(connectionManager);
         HttpClientParams params = httpClient.getParams();
         Long timeout = context.getConfig().getTimeout() * 1000L;
         params.setConnectionManagerTimeout(timeout);
@@ -95,6 +107,9 @@ public class CcuClient extends BaseHomematicClient {
     public void shutdown() throws HomematicClientException {
         super.shutdown();
         tclregaScripts = null;
+        if (httpClient != null) {
+            ((MultiThreadedHttpConnectionManager) httpClient.getHttpConnectionManager()).shutdown();
+        }
         httpClient = null;
     }
 
@@ -123,8 +138,88 @@ public class CcuClient extends BaseHomematicClient {
      */
     @Override
     public void iterateAllDatapoints(HmValueItemIteratorCallback callback) throws HomematicClientException {
-        List<HmDevice> devices = sendScriptByName("getAllDevices", HmDeviceList.class).getDevices();
-        Map<String, HmRssiInfo> rssiList = rpcClient.getRssiInfo(HmInterface.RF);
+        List<HmDevice> devices = loadDevices("");
+        iterateDevices(devices, rpcClient.getRssiInfo(HmInterface.RF), callback);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The devices are split into reload.parallelism chunks which are loaded
+     * in parallel, the RSSI info is loaded only once for all chunks. The
+     * callback is always called from the calling thread.
+     */
+    @Override
+    public void iterateDatapoints(Collection<String> deviceAddresses, HmValueItemIteratorCallback callback)
+            throws HomematicClientException {
+        if (deviceAddresses.isEmpty()) {
+            return;
+        }
+        List<String> addresses = new ArrayList<String>(deviceAddresses);
+        int parallelism = Math.min(context.getConfig().getReloadParallelism(), addresses.size());
+        if (parallelism <= 1) {
+            List<HmDevice> devices = loadDevices(toDeviceAddressFilter(addresses));
+            iterateDevices(devices, rpcClient.getRssiInfo(HmInterface.RF), callback);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<List<HmDevice>>> futures = new ArrayList<Future<List<HmDevice>>>();
+            int chunkSize = (addresses.size() + parallelism - 1) / parallelism;
+            for (int i = 0; i < addresses.size(); i += chunkSize) {
+                final String deviceAddressFilter = toDeviceAddressFilter(
+                        addresses.subList(i, Math.min(i + chunkSize, addresses.size())));
+                futures.add(executor.submit(new Callable<List<HmDevice>>() {
+
+                    @Override
+                    public List<HmDevice> call() throws Exception {
+                        return loadDevices(deviceAddressFilter);
+                    }
+                }));
+            }
+
+            Map<String, HmRssiInfo> rssiList = rpcClient.getRssiInfo(HmInterface.RF);
+            for (Future<List<HmDevice>> future : futures) {
+                iterateDevices(future.get(), rssiList, callback);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new HomematicClientException("Interrupted while loading the datapoints from the CCU", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof HomematicClientException) {
+                throw (HomematicClientException) ex.getCause();
+            }
+            throw new HomematicClientException(ex.getMessage(), ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the address filter for the getAllDevices script: tab separated
+     * with a leading and trailing tab, the script searches for the address
+     * enclosed in tabs.
+     */
+    private String toDeviceAddressFilter(Collection<String> deviceAddresses) {
+        return "\\t" + StringUtils.join(deviceAddresses, "\\t") + "\\t";
+    }
+
+    /**
+     * Loads the devices with the specified address filter from the CCU, an
+     * empty filter loads all devices.
+     */
+    protected List<HmDevice> loadDevices(String deviceAddressFilter) throws HomematicClientException {
+        return sendScriptByName("getAllDevices", HmDeviceList.class, new String[] { "device_addresses" },
+                new String[] { deviceAddressFilter }).getDevices();
+    }
+
+    /**
+     * Adds the battery and RSSI info to the devices and calls the callback
+     * for all datapoints.
+     */
+    private void iterateDevices(List<HmDevice> devices, Map<String, HmRssiInfo> rssiList,
+            HmValueItemIteratorCallback callback) throws HomematicClientException {
         for (HmDevice device : devices) {
             addBatteryInfo(device);
             boolean deviceHasRssiDatapoint = false;
@@ -294,7 +389,7 @@ public class CcuClient extends BaseHomematicClient {
      * Main method for sending a TclRega script and parsing the XML result.
      */
     @SuppressWarnings("unchecked")
-    private synchronized <T> T sendScript(String script, Class<T> clazz) throws HomematicClientException {
+    private <T> T sendScript(String script, Class<T> clazz) throws HomematicClientException {
         PostMethod post = null;
         try {
             script = StringUtils.trim(script);
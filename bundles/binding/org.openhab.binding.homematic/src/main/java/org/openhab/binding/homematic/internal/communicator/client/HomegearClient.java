@@ -8,8 +8,11 @@
  */
 package org.openhab.binding.homematic.internal.communicator.client;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
@@ -91,6 +94,30 @@ public class HomegearClient extends BaseHomematicClient {
      */
     @Override
     public void iterateAllDatapoints(HmValueItemIteratorCallback callback) throws HomematicClientException {
+        iterateValues(null, callback);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Homegear has no filter for getAllValues, all values are loaded with one
+     * request and the devices are filtered after loading.
+     */
+    @Override
+    public void iterateDatapoints(Collection<String> deviceAddresses, HmValueItemIteratorCallback callback)
+            throws HomematicClientException {
+        iterateValues(new HashSet<String>(deviceAddresses), callback);
+    }
+
+    /**
+     * Loads all values and calls the callback for the datapoints of the
+     * specified devices, null for all devices.
+     */
+    private void iterateValues(Set<String> deviceAddresses, HmValueItemIteratorCallback callback)
+            throws HomematicClientException {
+        if (deviceAddresses != null && deviceAddresses.isEmpty()) {
+            return;
+        }
         Object[] result = rpcClient.getAllValues(getDefaultInterface());
 
         try {
@@ -98,6 +125,9 @@ public class HomegearClient extends BaseHomematicClient {
                 @SuppressWarnings("unchecked")
                 Map<String, ?> entryMap = (Map<String, ?>) result[i];
                 HmDevice device = parseDevice(entryMap);
+                if (deviceAddresses != null && !deviceAddresses.contains(device.getAddress())) {
+                    continue;
+                }
                 addBatteryInfo(device);
                 logger.trace("{}", device);
 
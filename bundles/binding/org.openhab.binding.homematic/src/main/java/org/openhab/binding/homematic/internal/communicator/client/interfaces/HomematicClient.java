@@ -8,6 +8,7 @@
  */
 package org.openhab.binding.homematic.internal.communicator.client.interfaces;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.openhab.binding.homematic.internal.communicator.client.BaseHomematicClient.HmValueItemIteratorCallback;
@@ -65,6 +66,13 @@ public interface HomematicClient {
      */
     public void iterateAllDatapoints(HmValueItemIteratorCallback callback) throws HomematicClientException;
 
+    /**
+     * Retrieves the datapoints of the specified devices from the Homematic
+     * server.
+     */
+    public void iterateDatapoints(Collection<String> deviceAddresses, HmValueItemIteratorCallback callback)
+            throws HomematicClientException;
+
     /**
      * Execute a program/script on the Homematic server.
      */
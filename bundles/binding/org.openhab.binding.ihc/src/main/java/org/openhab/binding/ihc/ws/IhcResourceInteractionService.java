@@ -8,22 +8,10 @@
  */
 package org.openhab.binding.ihc.ws;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
-import javax.xml.namespace.NamespaceContext;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-
-import org.apache.commons.lang.StringUtils;
 import org.openhab.binding.ihc.ws.datatypes.WSBaseDataType;
 import org.openhab.binding.ihc.ws.datatypes.WSBooleanValue;
 import org.openhab.binding.ihc.ws.datatypes.WSDateValue;
@@ -34,9 +22,6 @@ import org.openhab.binding.ihc.ws.datatypes.WSResourceValue;
 import org.openhab.binding.ihc.ws.datatypes.WSTimeValue;
 import org.openhab.binding.ihc.ws.datatypes.WSTimerValue;
 import org.openhab.binding.ihc.ws.datatypes.WSWeekdayValue;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
 /**
  * Class to handle IHC / ELKO LS Controller's resource interaction service.
@@ -48,6 +33,34 @@ import org.xml.sax.InputSource;
  */
 public class IhcResourceInteractionService extends IhcHttpsClient {
 
+    private static final String RUNTIME_VALUE_QUERY_PREFIX = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">" + "<soapenv:Body>"
+            + " <ns1:getRuntimeValue1 xmlns:ns1=\"utcs\">";
+
+    private static final String RUNTIME_VALUE_QUERY_SUFFIX = "</ns1:getRuntimeValue1>" + "</soapenv:Body>"
+            + "</soapenv:Envelope>";
+
+    private static final String UPDATE_QUERY_PREFIX = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">" + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:";
+
+    private static final String UPDATE_QUERY_SUFFIX = "</resourceID>" + "  <isValueRuntime>true</isValueRuntime>"
+            + " </setResourceValue1>" + "</soap:Body>" + "</soap:Envelope>";
+
+    private static final String NOTIFICATIONS_QUERY_PREFIX = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<soap:Body>" + "<enableRuntimeValueNotifications1 xmlns=\"utcs\">";
+
+    private static final String NOTIFICATIONS_QUERY_SUFFIX = "</enableRuntimeValueNotifications1>" + "</soap:Body>"
+            + "</soap:Envelope>";
+
+    private static final String WAIT_QUERY_PREFIX = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:utcs=\"utcs\">"
+            + "<soapenv:Header/>" + "<soapenv:Body>" + " <utcs:waitForResourceValueChanges1>";
+
+    private static final String WAIT_QUERY_SUFFIX = "</utcs:waitForResourceValueChanges1>" + "</soapenv:Body>"
+            + "</soapenv:Envelope>";
+
     private String url;
     private int timeout;
 
@@ -67,271 +80,27 @@ public class IhcResourceInteractionService extends IhcHttpsClient {
      */
     public WSResourceValue resourceQuery(int resoureId) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">" + "<soapenv:Body>"
-                + " <ns1:getRuntimeValue1 xmlns:ns1=\"utcs\">%s</ns1:getRuntimeValue1>" + "</soapenv:Body>"
-                + "</soapenv:Envelope>";
-
-        String query = String.format(soapQuery, String.valueOf(resoureId));
+        String query = RUNTIME_VALUE_QUERY_PREFIX + resoureId + RUNTIME_VALUE_QUERY_SUFFIX;
 
         openConnection(url);
         String response = sendQuery(query, timeout);
         closeConnection();
 
-        NodeList nodeList;
-        try {
-            nodeList = parseList(response, "/SOAP-ENV:Envelope/SOAP-ENV:Body/ns1:getRuntimeValue2");
-
-            if (nodeList.getLength() == 1) {
-
-                WSResourceValue val = parseResourceValue(nodeList.item(0), 2);
-
-                if (val.getResourceID() == resoureId) {
-                    return val;
-                } else {
-                    throw new IhcExecption("No resource id found");
-                }
-
-            } else {
-                throw new IhcExecption("No resource value found");
-            }
-
-        } catch (XPathExpressionException e) {
-            throw new IhcExecption(e);
-        } catch (UnsupportedEncodingException e) {
-            throw new IhcExecption(e);
-        }
-    }
-
-    private NodeList parseList(String xml, String xpathExpression)
-            throws XPathExpressionException, UnsupportedEncodingException {
-        InputStream is = new ByteArrayInputStream(xml.getBytes("UTF8"));
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        InputSource inputSource = new InputSource(is);
-
-        xpath.setNamespaceContext(new NamespaceContext() {
-            @Override
-            public String getNamespaceURI(String prefix) {
-                if (prefix == null) {
-                    throw new NullPointerException("Null prefix");
-                } else if ("SOAP-ENV".equals(prefix)) {
-                    return "http://schemas.xmlsoap.org/soap/envelope/";
-                } else if ("ns1".equals(prefix)) {
-                    return "utcs";
-                } else if ("ns2".equals(prefix)) {
-                    return "utcs.values";
-                }
-                return null;
-            }
-
-            @Override
-            public String getPrefix(String uri) {
-                return null;
-            }
-
-            @Override
-            @SuppressWarnings("rawtypes")
-            public Iterator getPrefixes(String uri) {
-                throw new UnsupportedOperationException();
-            }
-        });
-
-        return (NodeList) xpath.evaluate(xpathExpression, inputSource, XPathConstants.NODESET);
-    }
-
-    private WSResourceValue parseResourceValue(Node n, int index) throws XPathExpressionException {
-
-        // parse resource id
-        String resourceId = getValue(n, "ns1:resourceID");
-
-        if (StringUtils.isNotBlank(resourceId)) {
-
-            int id = Integer.parseInt(resourceId);
-
-            // Parse floating point value
-
-            String value = getValue(n, "ns1:value/ns" + index + ":floatingPointValue");
-
-            if (StringUtils.isNotBlank(value)) {
-
-                WSFloatingPointValue val = new WSFloatingPointValue();
-                val.setResourceID(id);
-                val.setFloatingPointValue(Double.valueOf(value));
-
-                value = getValue(n, "ns1:value/ns" + index + ":maximumValue");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setMaximumValue(Double.valueOf(value));
-                }
-
-                value = getValue(n, "ns1:value/ns" + index + ":minimumValue");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setMinimumValue(Double.valueOf(value));
-                }
-
-                return val;
-            }
-
-            // Parse boolean value
-
-            value = getValue(n, "ns1:value/ns" + index + ":value");
-            if (StringUtils.isNotBlank(value)) {
-                WSBooleanValue val = new WSBooleanValue();
-                val.setResourceID(id);
-                val.setValue(Boolean.valueOf(value));
-                return val;
-            }
-
-            // Parse integer value
-
-            value = getValue(n, "ns1:value/ns" + index + ":integer");
-            if (StringUtils.isNotBlank(value)) {
-
-                WSIntegerValue val = new WSIntegerValue();
-                val.setResourceID(id);
-                val.setInteger(Integer.valueOf(value));
-
-                value = getValue(n, "ns1:value/ns" + index + ":maximumValue");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setMaximumValue(Integer.valueOf(value));
-                }
-
-                value = getValue(n, "ns1:value/ns" + index + ":minimumValue");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setMinimumValue(Integer.valueOf(value));
-                }
-
-                return val;
-            }
-
-            // Parse timer value
-
-            value = getValue(n, "ns1:value/ns" + index + ":milliseconds");
-            if (StringUtils.isNotBlank(value)) {
-                WSTimerValue val = new WSTimerValue();
-                val.setResourceID(id);
-                val.setMilliseconds(Integer.valueOf(value));
-
-                return val;
-            }
-
-            // Parse time value
-
-            value = getValue(n, "ns1:value/ns" + index + ":hours");
-            if (StringUtils.isNotBlank(value)) {
-
-                WSTimeValue val = new WSTimeValue();
-                val.setResourceID(id);
-                val.setHours(Integer.valueOf(value));
+        List<WSResourceValue> values = IhcResourceValueDecoder.decode(response, "getRuntimeValue2");
 
-                value = getValue(n, "ns1:value/ns" + index + ":minutes");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setMinutes(Integer.valueOf(value));
-                }
+        if (values.size() == 1) {
 
-                value = getValue(n, "ns1:value/ns" + index + ":seconds");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setSeconds(Integer.valueOf(value));
-                }
-
-                return val;
-            }
-
-            // Parse date value
-
-            value = getValue(n, "ns1:value/ns" + index + ":day");
-            if (StringUtils.isNotBlank(value)) {
-
-                WSDateValue val = new WSDateValue();
-                val.setResourceID(id);
-                val.setDay(Byte.valueOf(value));
-
-                value = getValue(n, "ns1:value/ns" + index + ":month");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setMonth(Byte.valueOf(value));
-                }
-
-                value = getValue(n, "ns1:value/ns" + index + ":year");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setYear(Short.valueOf(value));
-                }
-
-                return val;
-            }
-
-            // Parse enum value
-
-            value = getValue(n, "ns1:value/ns" + index + ":definitionTypeID");
-            if (StringUtils.isNotBlank(value)) {
-
-                WSEnumValue val = new WSEnumValue();
-                val.setResourceID(id);
-                val.setDefinitionTypeID(Integer.valueOf(value));
-
-                value = getValue(n, "ns1:value/ns" + index + ":enumValueID");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setEnumValueID(Integer.valueOf(value));
-                }
-
-                value = getValue(n, "ns1:value/ns" + index + ":enumName");
-                if (StringUtils.isNotBlank(value)) {
-                    val.setEnumName(value);
-                }
-
-                return val;
-            }
-
-            // Parse week day value
-
-            value = getValue(n, "ns1:value/ns" + index + ":weekdayNumber");
-            if (StringUtils.isNotBlank(value)) {
-                WSWeekdayValue val = new WSWeekdayValue();
-                val.setResourceID(id);
-                val.setWeekdayNumber(Integer.valueOf(value));
+            WSResourceValue val = values.get(0);
 
+            if (val != null && val.getResourceID() == resoureId) {
                 return val;
+            } else {
+                throw new IhcExecption("No resource id found");
             }
 
-            throw new IllegalArgumentException("Unsupported value type");
+        } else {
+            throw new IhcExecption("No resource value found");
         }
-
-        return null;
-
-    }
-
-    private String getValue(Node n, String expr) throws XPathExpressionException {
-
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setNamespaceContext(new NamespaceContext() {
-
-            @Override
-            public String getNamespaceURI(String prefix) {
-
-                if (prefix == null) {
-                    throw new NullPointerException("Null prefix");
-                } else if ("SOAP-ENV".equals(prefix)) {
-                    return "http://schemas.xmlsoap.org/soap/envelope/";
-                } else if ("ns1".equals(prefix)) {
-                    return "utcs";
-                }
-                // else if ("ns2".equals(prefix)) return "utcs.values";
-                return "utcs.values";
-                // return null;
-            }
-
-            @Override
-            public String getPrefix(String uri) {
-                return null;
-            }
-
-            @Override
-            @SuppressWarnings("rawtypes")
-            public Iterator getPrefixes(String uri) {
-                throw new UnsupportedOperationException();
-            }
-        });
-
-        XPathExpression pathExpr = xpath.compile(expr);
-        return (String) pathExpr.evaluate(n, XPathConstants.STRING);
     }
 
     /**
@@ -387,129 +156,89 @@ public class IhcResourceInteractionService extends IhcHttpsClient {
 
     public boolean resourceUpdate(WSBooleanValue value) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">"
-                + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:WSBooleanValue\">" + "   <q1:value>%s</q1:value>"
-                + "  </value>" + "  <resourceID>%s</resourceID>" + "  <isValueRuntime>true</isValueRuntime>"
-                + " </setResourceValue1>" + "</soap:Body>" + "</soap:Envelope>";
-
-        String query = String.format(soapQuery, value.isValue() ? "true" : "false", value.getResourceID());
+        StringBuilder query = startUpdateQuery("WSBooleanValue");
+        appendField(query, "value", value.isValue() ? "true" : "false");
 
-        return doResourceUpdate(query);
+        return doResourceUpdate(endUpdateQuery(query, value.getResourceID()));
     }
 
     public boolean resourceUpdate(WSFloatingPointValue value) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">"
-                + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:WSFloatingPointValue\">"
-                + "   <q1:maximumValue>%s</q1:maximumValue>" + "   <q1:minimumValue>%s</q1:minimumValue>"
-                + "   <q1:floatingPointValue>%s</q1:floatingPointValue>" + "  </value>"
-                + "  <resourceID>%s</resourceID>" + "  <isValueRuntime>true</isValueRuntime>" + " </setResourceValue1>"
-                + "</soap:Body>" + "</soap:Envelope>";
+        StringBuilder query = startUpdateQuery("WSFloatingPointValue");
+        appendField(query, "maximumValue", value.getMaximumValue());
+        appendField(query, "minimumValue", value.getMinimumValue());
+        appendField(query, "floatingPointValue", value.getFloatingPointValue());
 
-        String query = String.format(soapQuery, value.getMaximumValue(), value.getMinimumValue(),
-                value.getFloatingPointValue(), value.getResourceID());
-
-        return doResourceUpdate(query);
+        return doResourceUpdate(endUpdateQuery(query, value.getResourceID()));
     }
 
     public boolean resourceUpdate(WSIntegerValue value) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">"
-                + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:WSIntegerValue\">"
-                + "   <q1:maximumValue>%s</q1:maximumValue>" + "   <q1:minimumValue>%s</q1:minimumValue>"
-                + "   <q1:integer>%s</q1:integer>" + "  </value>" + "  <resourceID>%s</resourceID>"
-                + "  <isValueRuntime>true</isValueRuntime>" + " </setResourceValue1>" + "</soap:Body>"
-                + "</soap:Envelope>";
-
-        String query = String.format(soapQuery, value.getMaximumValue(), value.getMinimumValue(), value.getInteger(),
-                value.getResourceID());
+        StringBuilder query = startUpdateQuery("WSIntegerValue");
+        appendField(query, "maximumValue", value.getMaximumValue());
+        appendField(query, "minimumValue", value.getMinimumValue());
+        appendField(query, "integer", value.getInteger());
 
-        return doResourceUpdate(query);
+        return doResourceUpdate(endUpdateQuery(query, value.getResourceID()));
     }
 
     public boolean resourceUpdate(WSTimerValue value) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">"
-                + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:WSTimerValue\">"
-                + "   <q1:milliseconds>%s</q1:milliseconds>" + "  </value>" + "  <resourceID>%s</resourceID>"
-                + "  <isValueRuntime>true</isValueRuntime>" + " </setResourceValue1>" + "</soap:Body>"
-                + "</soap:Envelope>";
+        StringBuilder query = startUpdateQuery("WSTimerValue");
+        appendField(query, "milliseconds", value.getMilliseconds());
 
-        String query = String.format(soapQuery, value.getMilliseconds(), value.getResourceID());
-
-        return doResourceUpdate(query);
+        return doResourceUpdate(endUpdateQuery(query, value.getResourceID()));
     }
 
     public boolean resourceUpdate(WSWeekdayValue value) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">"
-                + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:WSWeekdayValue\">"
-                + "   <q1:weekdayNumber>%s</q1:weekdayNumber>" + "  </value>" + "  <resourceID>%s</resourceID>"
-                + "  <isValueRuntime>true</isValueRuntime>" + " </setResourceValue1>" + "</soap:Body>"
-                + "</soap:Envelope>";
-
-        String query = String.format(soapQuery, value.getWeekdayNumber(), value.getResourceID());
+        StringBuilder query = startUpdateQuery("WSWeekdayValue");
+        appendField(query, "weekdayNumber", value.getWeekdayNumber());
 
-        return doResourceUpdate(query);
+        return doResourceUpdate(endUpdateQuery(query, value.getResourceID()));
     }
 
     public boolean resourceUpdate(WSEnumValue value) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">"
-                + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:WSEnumValue\">"
-                + "   <q1:definitionTypeID>%s</q1:definitionTypeID>" + "   <q1:enumValueID>%s</q1:enumValueID>"
-                + "   <q1:enumName>%s</q1:enumName>" + "  </value>" + "  <resourceID>%s</resourceID>"
-                + "  <isValueRuntime>true</isValueRuntime>" + " </setResourceValue1>" + "</soap:Body>"
-                + "</soap:Envelope>";
+        StringBuilder query = startUpdateQuery("WSEnumValue");
+        appendField(query, "definitionTypeID", value.getDefinitionTypeID());
+        appendField(query, "enumValueID", value.getEnumValueID());
+        appendField(query, "enumName", value.getEnumName());
 
-        String query = String.format(soapQuery, value.getDefinitionTypeID(), value.getEnumValueID(),
-                value.getEnumName(), value.getResourceID());
-
-        return doResourceUpdate(query);
+        return doResourceUpdate(endUpdateQuery(query, value.getResourceID()));
     }
 
     public boolean resourceUpdate(WSTimeValue value) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">"
-                + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:WSTimeValue\">" + "   <q1:hours>%s</q1:hours>"
-                + "   <q1:minutes>%s</q1:minutes>" + "   <q1:seconds>%s</q1:seconds>" + "  </value>"
-                + "  <resourceID>%s</resourceID>" + "  <isValueRuntime>true</isValueRuntime>" + " </setResourceValue1>"
-                + "</soap:Body>" + "</soap:Envelope>";
-
-        String query = String.format(soapQuery, value.getHours(), value.getMinutes(), value.getSeconds(),
-                value.getResourceID());
+        StringBuilder query = startUpdateQuery("WSTimeValue");
+        appendField(query, "hours", value.getHours());
+        appendField(query, "minutes", value.getMinutes());
+        appendField(query, "seconds", value.getSeconds());
 
-        return doResourceUpdate(query);
+        return doResourceUpdate(endUpdateQuery(query, value.getResourceID()));
     }
 
     public boolean resourceUpdate(WSDateValue value) throws IhcExecption {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + " <setResourceValue1 xmlns=\"utcs\">"
-                + "  <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:WSDateValue\">" + "   <q1:month>%s</q1:month>"
-                + "   <q1:year>%s</q1:year>" + "   <q1:day>%s</q1:day>" + "  </value>" + "  <resourceID>%s</resourceID>"
-                + "  <isValueRuntime>true</isValueRuntime>" + " </setResourceValue1>" + "</soap:Body>"
-                + "</soap:Envelope>";
+        StringBuilder query = startUpdateQuery("WSDateValue");
+        appendField(query, "month", value.getMonth());
+        appendField(query, "year", value.getYear());
+        appendField(query, "day", value.getDay());
 
-        String query = String.format(soapQuery, value.getMonth(), value.getYear(), value.getDay(),
-                value.getResourceID());
+        return doResourceUpdate(endUpdateQuery(query, value.getResourceID()));
+    }
+
+    private static StringBuilder startUpdateQuery(String valueType) {
+        return new StringBuilder(768).append(UPDATE_QUERY_PREFIX).append(valueType).append("\">");
+    }
 
-        return doResourceUpdate(query);
+    private static void appendField(StringBuilder query, String name, Object value) {
+        query.append("<q1:").append(name).append('>').append(value).append("</q1:").append(name).append('>');
+    }
+
+    private static String endUpdateQuery(StringBuilder query, int resourceId) {
+        return query.append("</value>").append("<resourceID>").append(resourceId).append(UPDATE_QUERY_SUFFIX)
+                .toString();
     }
 
     private boolean doResourceUpdate(String query) throws IhcExecption {
@@ -531,21 +260,15 @@ public class IhcResourceInteractionService extends IhcHttpsClient {
      */
     public void enableRuntimeValueNotifications(List<? extends Integer> resourceIdList) throws IhcExecption {
 
-        final String soapQueryPrefix = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
-                + "<soap:Body>" + "<enableRuntimeValueNotifications1 xmlns=\"utcs\">";
-
-        final String soapQuerySuffix = "</enableRuntimeValueNotifications1>" + "</soap:Body>" + "</soap:Envelope>";
-
-        String query = soapQueryPrefix;
+        StringBuilder query = new StringBuilder(NOTIFICATIONS_QUERY_PREFIX);
         for (int i : resourceIdList) {
-            query += "<xsd:arrayItem>" + i + "</xsd:arrayItem>";
+            query.append("<xsd:arrayItem>").append(i).append("</xsd:arrayItem>");
         }
-        query += soapQuerySuffix;
+        query.append(NOTIFICATIONS_QUERY_SUFFIX);
 
         openConnection(url);
         @SuppressWarnings("unused")
-        String response = sendQuery(query, timeout);
+        String response = sendQuery(query.toString(), timeout);
         closeConnection();
     }
 
@@ -563,46 +286,26 @@ public class IhcResourceInteractionService extends IhcHttpsClient {
     public List<? extends WSResourceValue> waitResourceValueNotifications(int timeoutInSeconds)
             throws IhcExecption, SocketTimeoutException {
 
-        final String soapQuery = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
-                + "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:utcs=\"utcs\">"
-                + "<soapenv:Header/>" + "<soapenv:Body>"
-                + " <utcs:waitForResourceValueChanges1>%s</utcs:waitForResourceValueChanges1>" + "</soapenv:Body>"
-                + "</soapenv:Envelope>";
-
-        String query = String.format(soapQuery, timeoutInSeconds);
+        String query = WAIT_QUERY_PREFIX + timeoutInSeconds + WAIT_QUERY_SUFFIX;
         openConnection(url);
         String response = sendQuery(query, timeout + timeoutInSeconds * 1000);
         closeConnection();
 
-        List<WSResourceValue> resourceValueList = new ArrayList<WSResourceValue>();
-
-        NodeList nodeList;
-        try {
-            nodeList = parseList(response,
-                    "/SOAP-ENV:Envelope/SOAP-ENV:Body/ns1:waitForResourceValueChanges2/ns1:arrayItem");
+        List<WSResourceValue> values = IhcResourceValueDecoder.decode(response, "arrayItem");
 
-            if (nodeList.getLength() == 1) {
-                String resourceId = getValue(nodeList.item(0), "ns1:resourceID");
-                if (resourceId == null || resourceId == "") {
-                    throw new SocketTimeoutException();
-                }
-            }
-
-            for (int i = 0; i < nodeList.getLength(); i++) {
-
-                int index = i + 2;
+        // the controller returns a single empty item if no value changed
+        if (values.size() == 1 && values.get(0) == null) {
+            throw new SocketTimeoutException();
+        }
 
-                WSResourceValue newVal = parseResourceValue(nodeList.item(i), index);
-                resourceValueList.add(newVal);
+        List<WSResourceValue> resourceValueList = new ArrayList<WSResourceValue>(values.size());
+        for (WSResourceValue value : values) {
+            if (value != null) {
+                resourceValueList.add(value);
             }
-
-            return resourceValueList;
-
-        } catch (XPathExpressionException e) {
-            throw new IhcExecption(e);
-        } catch (UnsupportedEncodingException e) {
-            throw new IhcExecption(e);
         }
+
+        return resourceValueList;
     }
 
 }
@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ihc.ws;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang.StringUtils;
+import org.openhab.binding.ihc.ws.datatypes.WSBooleanValue;
+import org.openhab.binding.ihc.ws.datatypes.WSDateValue;
+import org.openhab.binding.ihc.ws.datatypes.WSEnumValue;
+import org.openhab.binding.ihc.ws.datatypes.WSFloatingPointValue;
+import org.openhab.binding.ihc.ws.datatypes.WSIntegerValue;
+import org.openhab.binding.ihc.ws.datatypes.WSResourceValue;
+import org.openhab.binding.ihc.ws.datatypes.WSTimeValue;
+import org.openhab.binding.ihc.ws.datatypes.WSTimerValue;
+import org.openhab.binding.ihc.ws.datatypes.WSWeekdayValue;
+
+/**
+ * Single pass decoder for the resource values of the controller's
+ * getRuntimeValue2 and waitForResourceValueChanges2 SOAP responses.
+ *
+ * Every resource value element contains a resourceID and a value element,
+ * the children of the value element are collected by their local name and
+ * converted to the matching {@link WSResourceValue} when the resource value
+ * element ends. The namespace prefixes of the value fields differ between
+ * the resource values of a response, so they are ignored.
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+final class IhcResourceValueDecoder {
+
+    private static final XMLInputFactory factory = createFactory();
+
+    private IhcResourceValueDecoder() {
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        return factory;
+    }
+
+    /**
+     * Decodes all resource values of a SOAP response.
+     *
+     * @param xml
+     *            SOAP response.
+     * @param valueElement
+     *            Local name of the elements holding a resource value, e.g.
+     *            getRuntimeValue2 or arrayItem.
+     * @return Resource values in document order. Elements without resource
+     *         id are returned as null.
+     */
+    static List<WSResourceValue> decode(String xml, String valueElement) throws IhcExecption {
+
+        List<WSResourceValue> values = new ArrayList<WSResourceValue>();
+
+        XMLStreamReader reader = null;
+        try {
+            reader = factory.createXMLStreamReader(new StringReader(xml));
+
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && valueElement.equals(reader.getLocalName())) {
+                    values.add(decodeResourceValue(reader));
+                }
+            }
+
+        } catch (XMLStreamException e) {
+            throw new IhcExecption(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // nothing to do, the reader only works on a string
+                }
+            }
+        }
+
+        return values;
+    }
+
+    private static WSResourceValue decodeResourceValue(XMLStreamReader reader) throws XMLStreamException {
+
+        String resourceId = null;
+        Map<String, String> fields = new HashMap<String, String>(8);
+        boolean inValue = false;
+        int depth = 1;
+
+        while (depth > 0) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                String name = reader.getLocalName();
+
+                if (depth == 2 && "resourceID".equals(name)) {
+                    // getElementText consumes the end element
+                    resourceId = reader.getElementText();
+                    depth--;
+                } else if (depth == 2 && "value".equals(name)) {
+                    inValue = true;
+                } else if (depth == 3 && inValue) {
+                    fields.put(name, reader.getElementText());
+                    depth--;
+                }
+
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                if (depth == 1) {
+                    inValue = false;
+                }
+            }
+        }
+
+        if (StringUtils.isBlank(resourceId)) {
+            return null;
+        }
+
+        return createResourceValue(Integer.parseInt(resourceId.trim()), fields);
+    }
+
+    private static WSResourceValue createResourceValue(int id, Map<String, String> fields) {
+
+        // Parse floating point value
+
+        String value = getField(fields, "floatingPointValue");
+        if (value != null) {
+
+            WSFloatingPointValue val = new WSFloatingPointValue();
+            val.setResourceID(id);
+            val.setFloatingPointValue(Double.valueOf(value));
+
+            value = getField(fields, "maximumValue");
+            if (value != null) {
+                val.setMaximumValue(Double.valueOf(value));
+            }
+
+            value = getField(fields, "minimumValue");
+            if (value != null) {
+                val.setMinimumValue(Double.valueOf(value));
+            }
+
+            return val;
+        }
+
+        // Parse boolean value
+
+        value = getField(fields, "value");
+        if (value != null) {
+            WSBooleanValue val = new WSBooleanValue();
+            val.setResourceID(id);
+            val.setValue(Boolean.valueOf(value));
+            return val;
+        }
+
+        // Parse integer value
+
+        value = getField(fields, "integer");
+        if (value != null) {
+
+            WSIntegerValue val = new WSIntegerValue();
+            val.setResourceID(id);
+            val.setInteger(Integer.valueOf(value));
+
+            value = getField(fields, "maximumValue");
+            if (value != null) {
+                val.setMaximumValue(Integer.valueOf(value));
+            }
+
+            value = getField(fields, "minimumValue");
+            if (value != null) {
+                val.setMinimumValue(Integer.valueOf(value));
+            }
+
+            return val;
+        }
+
+        // Parse timer value
+
+        value = getField(fields, "milliseconds");
+        if (value != null) {
+            WSTimerValue val = new WSTimerValue();
+            val.setResourceID(id);
+            val.setMilliseconds(Integer.valueOf(value));
+
+            return val;
+        }
+
+        // Parse time value
+
+        value = getField(fields, "hours");
+        if (value != null) {
+
+            WSTimeValue val = new WSTimeValue();
+            val.setResourceID(id);
+            val.setHours(Integer.valueOf(value));
+
+            value = getField(fields, "minutes");
+            if (value != null) {
+                val.setMinutes(Integer.valueOf(value));
+            }
+
+            value = getField(fields, "seconds");
+            if (value != null) {
+                val.setSeconds(Integer.valueOf(value));
+            }
+
+            return val;
+        }
+
+        // Parse date value
+
+        value = getField(fields, "day");
+        if (value != null) {
+
+            WSDateValue val = new WSDateValue();
+            val.setResourceID(id);
+            val.setDay(Byte.valueOf(value));
+
+            value = getField(fields, "month");
+            if (value != null) {
+                val.setMonth(Byte.valueOf(value));
+            }
+
+            value = getField(fields, "year");
+            if (value != null) {
+                val.setYear(Short.valueOf(value));
+            }
+
+            return val;
+        }
+
+        // Parse enum value
+
+        value = getField(fields, "definitionTypeID");
+        if (value != null) {
+
+            WSEnumValue val = new WSEnumValue();
+            val.setResourceID(id);
+            val.setDefinitionTypeID(Integer.valueOf(value));
+
+            value = getField(fields, "enumValueID");
+            if (value != null) {
+                val.setEnumValueID(Integer.valueOf(value));
+            }
+
+            value = getField(fields, "enumName");
+            if (value != null) {
+                val.setEnumName(value);
+            }
+
+            return val;
+        }
+
+        // Parse week day value
+
+        value = getField(fields, "weekdayNumber");
+        if (value != null) {
+            WSWeekdayValue val = new WSWeekdayValue();
+            val.setResourceID(id);
+            val.setWeekdayNumber(Integer.valueOf(value));
+
+            return val;
+        }
+
+        throw new IllegalArgumentException("Unsupported value type");
+    }
+
+    private static String getField(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        return StringUtils.isNotBlank(value) ? value : null;
+    }
+}
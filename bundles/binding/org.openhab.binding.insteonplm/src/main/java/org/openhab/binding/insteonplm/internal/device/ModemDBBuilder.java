@@ -99,7 +99,7 @@ public class ModemDBBuilder implements MsgListener, Runnable {
             return;
         }
         try {
-            if (msg.getByte("Cmd") == 0x69 || msg.getByte("Cmd") == 0x6a) {
+            if (msg.getCmd() == 0x69 || msg.getCmd() == 0x6a) {
                 // If the flag is "ACK/NACK", a record response
                 // will follow, so we do nothing here.
                 // If its "NACK", there are none
@@ -107,7 +107,7 @@ public class ModemDBBuilder implements MsgListener, Runnable {
                     logger.debug("got all link records.");
                     done();
                 }
-            } else if (msg.getByte("Cmd") == 0x57) {
+            } else if (msg.getCmd() == 0x57) {
                 // we got the link record response
                 updateModemDB(msg.getAddress("LinkAddr"), m_port, msg);
                 m_port.writeMessage(Msg.s_makeMessage("GetNextALLLinkRecord"));
@@ -66,14 +66,14 @@ public class Msg {
 
     // has the structure of all known messages
     private static final HashMap<String, Msg> s_msgMap = new HashMap<String, Msg>();
-    // maps between command number and the length of the header
-    private static final HashMap<Integer, Integer> s_headerMap = new HashMap<Integer, Integer>();
-    // has templates for all message from modem to host
-    private static final HashMap<Integer, Msg> s_replyMap = new HashMap<Integer, Msg>();
+    // maps between command number and the length of the header, indexed by unsigned command byte
+    private static final int[] s_headerLengths = new int[256];
+    // has templates for all message from modem to host, indexed by s_cmdToKey()
+    private static final Msg[] s_replyTemplates = new Msg[512];
 
     private int m_headerLength = -1;
     private byte[] m_data = null;
-    private MsgDefinition m_definition = new MsgDefinition();
+    private MsgDefinition m_definition = MsgDefinition.EMPTY;
     private Direction m_direction = Direction.TO_MODEM;
     private long m_quietTime = 0;
 
@@ -100,8 +100,8 @@ public class Msg {
     public Msg(Msg m) {
         m_headerLength = m.m_headerLength;
         m_data = m.m_data.clone();
-        // the message definition usually doesn't change, but just to be sure...
-        m_definition = new MsgDefinition(m.m_definition);
+        // the message definition is immutable and can be shared
+        m_definition = m.m_definition;
         m_direction = m.m_direction;
     }
 
@@ -174,14 +174,11 @@ public class Msg {
         if (m_data == null || getLength() < 2) {
             return false;
         }
-        if (m_definition == null) {
+        if (m_definition == null || m_definition.getMessageFlags() == null) {
             return false;
         }
-        if (!m_definition.containsField("messageFlags")) {
-            return (false);
-        }
         try {
-            byte flags = getByte("messageFlags");
+            byte flags = getMessageFlags();
             return ((flags & 0x10) == 0x10);
         } catch (FieldException e) {
             // do nothing
@@ -192,7 +189,7 @@ public class Msg {
     public boolean isUnsolicited() {
         // if the message has an ACK/NACK, it is in response to our message,
         // otherwise it is out-of-band, i.e. unsolicited
-        return (m_definition != null) && (!m_definition.containsField("ACK/NACK"));
+        return (m_definition != null) && (!m_definition.hasAckNack());
     }
 
     public boolean isEcho() {
@@ -201,7 +198,7 @@ public class Msg {
 
     public boolean isOfType(MsgType mt) {
         try {
-            MsgType t = MsgType.s_fromValue(getByte("messageFlags"));
+            MsgType t = MsgType.s_fromValue(getMessageFlags());
             return (t == mt);
         } catch (FieldException e) {
             return false;
@@ -230,7 +227,7 @@ public class Msg {
 
     public boolean isX10() {
         try {
-            int cmd = getByte("Cmd") & 0xff;
+            int cmd = getCmd() & 0xff;
             if (cmd == 0x63 || cmd == 0x52) {
                 return true;
             }
@@ -247,13 +244,6 @@ public class Msg {
         m_quietTime = t;
     }
 
-    public void addField(Field f) {
-        if (m_definition == null) {
-            return;
-        }
-        m_definition.addField(f);
-    }
-
     public InsteonAddress getAddr(String name) {
         if (m_definition == null) {
             return null;
@@ -268,7 +258,7 @@ public class Msg {
     }
 
     public int getHopsLeft() throws FieldException {
-        int hops = (getByte("messageFlags") & 0x0c) >> 2;
+        int hops = (getMessageFlags() & 0x0c) >> 2;
         return hops;
     }
 
@@ -334,6 +324,49 @@ public class Msg {
         return (m_definition.getField(key).getByte(m_data));
     }
 
+    /**
+     * Fetches the messageFlags field without looking it up by name
+     * 
+     * @return the byte
+     */
+    public byte getMessageFlags() throws FieldException {
+        return getByte(m_definition == null ? null : m_definition.getMessageFlags(), "messageFlags");
+    }
+
+    /**
+     * Fetches the command1 field without looking it up by name
+     * 
+     * @return the byte
+     */
+    public byte getCommand1() throws FieldException {
+        return getByte(m_definition == null ? null : m_definition.getCommand1(), "command1");
+    }
+
+    /**
+     * Fetches the command2 field without looking it up by name
+     * 
+     * @return the byte
+     */
+    public byte getCommand2() throws FieldException {
+        return getByte(m_definition == null ? null : m_definition.getCommand2(), "command2");
+    }
+
+    /**
+     * Fetches the Cmd field without looking it up by name
+     * 
+     * @return the byte
+     */
+    public byte getCmd() throws FieldException {
+        return getByte(m_definition == null ? null : m_definition.getCmd(), "Cmd");
+    }
+
+    private byte getByte(Field f, String name) throws FieldException {
+        if (f == null) {
+            throw new FieldException("field " + name + " not found");
+        }
+        return f.getByte(m_data);
+    }
+
     /**
      * Will fetch a byte array starting at a certain field
      * 
@@ -367,6 +400,31 @@ public class Msg {
         return (m_definition.getField(field).getAddress(m_data));
     }
 
+    /**
+     * Fetches the toAddress field without looking it up by name
+     * 
+     * @return the address
+     */
+    public InsteonAddress getToAddress() throws FieldException {
+        return getAddress(m_definition == null ? null : m_definition.getToAddress(), "toAddress");
+    }
+
+    /**
+     * Fetches the fromAddress field without looking it up by name
+     * 
+     * @return the address
+     */
+    public InsteonAddress getFromAddress() throws FieldException {
+        return getAddress(m_definition == null ? null : m_definition.getFromAddress(), "fromAddress");
+    }
+
+    private InsteonAddress getAddress(Field f, String name) throws FieldException {
+        if (f == null) {
+            throw new FieldException("field " + name + " not found");
+        }
+        return f.getAddress(m_data);
+    }
+
     /**
      * Fetch 3-byte (24bit) from message
      * 
@@ -426,7 +484,7 @@ public class Msg {
     public int setCRC() {
         int crc;
         try {
-            crc = getByte("command1") + getByte("command2");
+            crc = getCommand1() + getCommand2();
             byte[] bytes = getBytes("userData1", 13); // skip userData14!
             for (byte b : bytes) {
                 crc += b;
@@ -527,7 +585,7 @@ public class Msg {
         if (m_buf == null || m_buf.length < 2) {
             return null;
         }
-        Msg template = s_replyMap.get(s_cmdToKey(m_buf[1], isExtended));
+        Msg template = s_replyTemplates[s_cmdToKey(m_buf[1], isExtended)];
         if (template == null) {
             return null; // cannot find lookup map
         }
@@ -547,8 +605,8 @@ public class Msg {
      * @return the length of the header to expect
      */
     public static int s_getHeaderLength(byte cmd) {
-        Integer len = s_headerMap.get(new Integer(cmd));
-        if (len == null) {
+        int len = s_headerLengths[cmd & 0xff];
+        if (len == 0) {
             return (-1); // not found
         }
         return len;
@@ -563,7 +621,7 @@ public class Msg {
      */
     public static int s_getMessageLength(byte b, boolean isExtended) {
         int key = s_cmdToKey(b, isExtended);
-        Msg msg = s_replyMap.get(key);
+        Msg msg = s_replyTemplates[key];
         if (msg == null) {
             return -1;
         }
@@ -608,13 +666,13 @@ public class Msg {
     }
 
     private static int s_cmdToKey(byte cmd, boolean isExtended) {
-        return (cmd + (isExtended ? 256 : 0));
+        return ((cmd & 0xff) + (isExtended ? 256 : 0));
     }
 
     private static void s_buildHeaderMap() {
         for (Msg m : s_msgMap.values()) {
             if (m.getDirection() == Direction.FROM_MODEM) {
-                s_headerMap.put(new Integer(m.getCommandNumber()), m.getHeaderLength());
+                s_headerLengths[m.getCommandNumber() & 0xff] = m.getHeaderLength();
             }
         }
     }
@@ -622,8 +680,7 @@ public class Msg {
     private static void s_buildLengthMap() {
         for (Msg m : s_msgMap.values()) {
             if (m.getDirection() == Direction.FROM_MODEM) {
-                Integer key = new Integer(s_cmdToKey(m.getCommandNumber(), m.isExtended()));
-                s_replyMap.put(key, m);
+                s_replyTemplates[s_cmdToKey(m.getCommandNumber(), m.isExtended())] = m;
             }
         }
     }
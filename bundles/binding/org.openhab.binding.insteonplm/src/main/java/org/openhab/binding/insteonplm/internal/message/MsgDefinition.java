@@ -8,33 +8,53 @@
  */
 package org.openhab.binding.insteonplm.internal.message;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Definition (layout) of an Insteon message. Says which bytes go where.
  * For more info, see the public Insteon Developer's Guide, 2nd edition,
  * and the Insteon Modem Developer's Guide.
  *
+ * The definition is compiled once from the xml message definitions and is immutable
+ * afterwards, so all messages of the same type share a single instance. The fields that
+ * are accessed for every message are resolved when the definition is built.
+ *
  * @author Daniel Pfrommer
  * @since 1.5.0
  */
 
-public class MsgDefinition {
-    private HashMap<String, Field> m_fields = new HashMap<String, Field>();
+public final class MsgDefinition {
+    /** definition without any fields */
+    static final MsgDefinition EMPTY = new MsgDefinition(new HashMap<String, Field>());
 
-    MsgDefinition() {
-    }
+    private final Map<String, Field> m_fields;
+    private final Field m_messageFlags;
+    private final Field m_command1;
+    private final Field m_command2;
+    private final Field m_cmd;
+    private final Field m_toAddress;
+    private final Field m_fromAddress;
+    private final boolean m_hasAckNack;
 
-    /*
-     * Copy constructor, needed to make a copy of a message
+    /**
+     * Constructor
      * 
-     * @param m the definition to copy
+     * @param fields the named fields of the message
      */
-    MsgDefinition(MsgDefinition m) {
-        m_fields = new HashMap<String, Field>(m.m_fields);
+    MsgDefinition(Map<String, Field> fields) {
+        m_fields = Collections.unmodifiableMap(new HashMap<String, Field>(fields));
+        m_messageFlags = fields.get("messageFlags");
+        m_command1 = fields.get("command1");
+        m_command2 = fields.get("command2");
+        m_cmd = fields.get("Cmd");
+        m_toAddress = fields.get("toAddress");
+        m_fromAddress = fields.get("fromAddress");
+        m_hasAckNack = fields.containsKey("ACK/NACK");
     }
 
-    public HashMap<String, Field> getFields() {
+    public Map<String, Field> getFields() {
         return m_fields;
     }
 
@@ -42,10 +62,6 @@ public class MsgDefinition {
         return m_fields.containsKey(name);
     }
 
-    public void addField(Field field) {
-        m_fields.put(field.getName(), field);
-    }
-
     /**
      * Finds field of a given name
      * 
@@ -60,4 +76,53 @@ public class MsgDefinition {
         }
         return f;
     }
+
+    /**
+     * @return the messageFlags field, or null if the message has none
+     */
+    Field getMessageFlags() {
+        return m_messageFlags;
+    }
+
+    /**
+     * @return the command1 field, or null if the message has none
+     */
+    Field getCommand1() {
+        return m_command1;
+    }
+
+    /**
+     * @return the command2 field, or null if the message has none
+     */
+    Field getCommand2() {
+        return m_command2;
+    }
+
+    /**
+     * @return the Cmd field, or null if the message has none
+     */
+    Field getCmd() {
+        return m_cmd;
+    }
+
+    /**
+     * @return the toAddress field, or null if the message has none
+     */
+    Field getToAddress() {
+        return m_toAddress;
+    }
+
+    /**
+     * @return the fromAddress field, or null if the message has none
+     */
+    Field getFromAddress() {
+        return m_fromAddress;
+    }
+
+    /**
+     * @return true if the message has an ACK/NACK field, i.e. is the echo of a message sent
+     */
+    boolean hasAckNack() {
+        return m_hasAckNack;
+    }
 }
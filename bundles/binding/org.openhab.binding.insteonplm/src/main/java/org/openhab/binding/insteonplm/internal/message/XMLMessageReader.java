@@ -158,13 +158,16 @@ public class XMLMessageReader {
     private static Msg s_createMsg(HashMap<Field, Object> values, int length, int headerLength, Msg.Direction dir)
             throws FieldException {
         Msg msg = new Msg(headerLength, new byte[length], length, dir);
+        HashMap<String, Field> fields = new HashMap<String, Field>();
         for (Entry<Field, Object> e : values.entrySet()) {
             Field f = e.getKey();
             f.set(msg.getData(), e.getValue());
             if (f.getName() != null && !f.getName().equals("")) {
-                msg.addField(f);
+                fields.put(f.getName(), f);
             }
         }
+        // compile the layout once, it is shared by all messages made from this template
+        msg.setDefinition(new MsgDefinition(fields));
         return msg;
     }
 
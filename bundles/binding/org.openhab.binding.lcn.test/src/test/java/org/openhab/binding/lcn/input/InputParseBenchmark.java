@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lcn.input;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the time {@link Input#parse(String)} and the parser based on regular expressions
+ * ({@link RegexInputParser}) take for a typical mix of inputs received from LCN-PCHK. Only runs if the system
+ * property <code>lcn.benchmark</code> is set to <code>true</code>, the number of iterations over the inputs can be set
+ * with <code>lcn.benchmark.iterations</code> (defaults to 100,000).
+ * <p>
+ * Captured traffic is replayed if <code>lcn.benchmark.capture</code> names a file with one input per line, either the
+ * raw PCK lines or the "received input" lines the binding logs at debug level. Otherwise a built-in mix of inputs is
+ * parsed.
+ *
+ * @author Tobias Jttner
+ */
+public class InputParseBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(InputParseBenchmark.class);
+
+    /** Mostly status messages, as received on a busy bus. */
+    private static final String[] DEFAULT_INPUTS = { ":M000005A1050", ":M000005O2101", ":M000005Rx170", ":M000005Bx085",
+            "%M000005.A0011234", "%M000005.S132768", "%M000005.T11500", "%M000005.1234", "-M000005!",
+            "-M000005015", "=M000005.TLAEBFAAAAAAAANTVN", "=M000005.TX255000127", "=M000005.SK012",
+            "$io:#LCN:connected", "(H)" };
+
+    private static final String LOGGED_INPUT = "received input: ";
+
+    private String[] inputs;
+
+    private int iterations;
+
+    @Before
+    public void init() throws IOException {
+        Assume.assumeTrue(Boolean.getBoolean("lcn.benchmark"));
+        iterations = Integer.getInteger("lcn.benchmark.iterations", 100000);
+        String capture = System.getProperty("lcn.benchmark.capture");
+        inputs = capture != null ? readCapture(capture) : DEFAULT_INPUTS;
+        logger.info("parsing {} inputs {} times", inputs.length, iterations);
+
+        // warm up both parsers
+        for (int i = 0; i < 10000; ++i) {
+            for (String input : inputs) {
+                assertFalse(Input.parse(input).isEmpty());
+                assertFalse(RegexInputParser.parse(input).isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void benchmarkParse() {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; ++i) {
+            for (String input : inputs) {
+                assertFalse(Input.parse(input).isEmpty());
+            }
+        }
+        report("Input.parse()", System.nanoTime() - startTime);
+    }
+
+    @Test
+    public void benchmarkRegexParse() {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; ++i) {
+            for (String input : inputs) {
+                assertFalse(RegexInputParser.parse(input).isEmpty());
+            }
+        }
+        report("regular expressions", System.nanoTime() - startTime);
+    }
+
+    /**
+     * Reads the inputs of a capture, PCK is ISO-8859-1 encoded.
+     */
+    private static String[] readCapture(String fileName) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(fileName), "ISO-8859-1"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int pos = line.indexOf(LOGGED_INPUT);
+                if (pos >= 0) {
+                    line = line.substring(pos + LOGGED_INPUT.length());
+                }
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        assertFalse("no inputs in " + fileName, lines.isEmpty());
+        return lines.toArray(new String[lines.size()]);
+    }
+
+    private void report(String name, long nanos) {
+        logger.info("{}: {}ns per input", name, nanos / ((long) iterations * inputs.length));
+    }
+
+}
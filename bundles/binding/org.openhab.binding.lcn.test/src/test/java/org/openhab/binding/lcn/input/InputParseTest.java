@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lcn.input;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests that {@link Input#parse(String)} returns the same inputs as the parser based on the regular expressions of
+ * {@link org.openhab.binding.lcn.common.PckParser} ({@link RegexInputParser}).
+ *
+ * @author Tobias Jttner
+ */
+public class InputParseTest {
+
+    /**
+     * Describes the parsed inputs with their type, source address and values.
+     *
+     * @param inputs the parsed inputs
+     * @return the descriptions
+     */
+    static List<String> describe(Collection<Input> inputs) {
+        List<String> ret = new ArrayList<String>();
+        for (Input input : inputs) {
+            StringBuilder sb = new StringBuilder(input.getClass().getSimpleName());
+            if (input instanceof Mod) {
+                sb.append(' ').append(((Mod) input).physicalSourceAddr);
+            }
+            if (input instanceof ModAck) {
+                sb.append(" code=").append(((ModAck) input).getCode());
+            } else if (input instanceof ModSk) {
+                sb.append(" segId=").append(((ModSk) input).getReportedSegId());
+            } else if (input instanceof ModSn) {
+                sb.append(" swAge=").append(((ModSn) input).getSwAge());
+            } else if (input instanceof ModStatusOutput) {
+                ModStatusOutput output = (ModStatusOutput) input;
+                sb.append(" outputId=").append(output.getOutputId()).append(" percent=").append(output.getPercent());
+            } else if (input instanceof ModStatusRelays) {
+                for (int i = 0; i < 8; ++i) {
+                    sb.append(((ModStatusRelays) input).getState(i) ? '1' : '0');
+                }
+            } else if (input instanceof ModStatusBinSensors) {
+                for (int i = 0; i < 8; ++i) {
+                    sb.append(((ModStatusBinSensors) input).getState(i) ? '1' : '0');
+                }
+            } else if (input instanceof ModStatusVar) {
+                ModStatusVar var = (ModStatusVar) input;
+                sb.append(" var=").append(var.getVar()).append(" value=").append(var.getValue().toNative());
+            } else if (input instanceof ModStatusLedsAndLogicOps) {
+                ModStatusLedsAndLogicOps status = (ModStatusLedsAndLogicOps) input;
+                for (int i = 0; i < 12; ++i) {
+                    sb.append(' ').append(status.getLedState(i));
+                }
+                for (int i = 0; i < 4; ++i) {
+                    sb.append(' ').append(status.getLogicOpState(i));
+                }
+            } else if (input instanceof ModStatusKeyLocks) {
+                for (int tableId = 0; tableId < 4; ++tableId) {
+                    sb.append(' ');
+                    for (int keyId = 0; keyId < 8; ++keyId) {
+                        sb.append(((ModStatusKeyLocks) input).getState(tableId, keyId) ? '1' : '0');
+                    }
+                }
+            } else if (input instanceof LcnConnState) {
+                sb.append(" connected=").append(((LcnConnState) input).isLcnConnected());
+            } else if (input instanceof Unknown) {
+                sb.append(" '").append(((Unknown) input).getInput()).append('\'');
+            }
+            ret.add(sb.toString());
+        }
+        return ret;
+    }
+
+    private void assertParsedLikeRegex(String expectedType, String... inputs) {
+        for (String input : inputs) {
+            List<String> expected = describe(RegexInputParser.parse(input));
+            List<String> actual = describe(Input.parse(input));
+            assertEquals("'" + input + "'", expected, actual);
+            assertTrue("'" + input + "' should be parsed as " + expectedType + ": " + actual,
+                    actual.get(0).startsWith(expectedType));
+        }
+    }
+
+    @Test
+    public void testAck() {
+        assertParsedLikeRegex("ModAck", "-M000005!", "-M012255!", "-M0000055", "-M000005015");
+        assertParsedLikeRegex("Unknown", "-M000005", "-M00005!", "-M00A005!", "-M000005!!", "-M0000051x");
+    }
+
+    @Test
+    public void testOutputStatus() {
+        assertParsedLikeRegex("ModStatusOutput", ":M000005A1050", ":M000005A4100", ":M000005A20", ":M003010O1200",
+                ":M000005O2101", ":M000005O30");
+        assertParsedLikeRegex("Unknown", ":M000005A1", ":M000005A", ":M000005AX50", ":M000005A1x", ":M000005O",
+                ":M000005a150");
+    }
+
+    @Test
+    public void testRelaysStatus() {
+        assertParsedLikeRegex("ModStatusRelays", ":M000005Rx0", ":M000005Rx001", ":M000005Rx170", ":M000005Rx255");
+        assertParsedLikeRegex("Unknown", ":M000005Rx", ":M000005Rx256", ":M000005R255", ":M000005Rx1a");
+    }
+
+    @Test
+    public void testBinSensorsStatus() {
+        assertParsedLikeRegex("ModStatusBinSensors", ":M000005Bx0", ":M000005Bx085", ":M000005Bx255");
+        assertParsedLikeRegex("Unknown", ":M000005Bx", ":M000005Bx999", ":M000005B1", ":M000005Bx+1");
+    }
+
+    @Test
+    public void testVarStatus() {
+        assertParsedLikeRegex("ModStatusVar", "%M000005.A0011234", "%M000005.A0120", "%M000005.S132768",
+                "%M000005.S21000", "%M000005.T11500", "%M000005.T15200", "%M000005.T44200", "%M000005.C112",
+                "%M000005.C40", "%M000005.1234", "%M000005.0");
+        assertParsedLikeRegex("Unknown", "%M000005.", "%M000005.A001", "%M000005.A0131234", "%M000005.S31000",
+                "%M000005.T61500", "%M000005.T45200", "%M000005.C5100", "%M000005.X100", "%M000005A0011234",
+                "%M000005.12a");
+    }
+
+    @Test
+    public void testThresholdRegisterStatus() {
+        assertParsedLikeRegex("ModStatusVar", "=M000005.S1000010000200003000040000500006");
+        assertEquals(5, Input.parse("=M000005.S1000010000200003000040000500006").size());
+        assertParsedLikeRegex("Unknown", "=M000005.S100001000020000300004000050000", "=M000005.S1");
+    }
+
+    @Test
+    public void testSegmentCouplerResponse() {
+        assertParsedLikeRegex("ModSk", "=M000005.SK0", "=M000005.SK012");
+        assertParsedLikeRegex("Unknown", "=M000005.SK", "=M000005.SKx");
+    }
+
+    @Test
+    public void testSerialNumberResponse() {
+        assertParsedLikeRegex("ModSn", "=M000005.SN1AB20A123401FW190011HW015", "=M000005xSN1AB20A123401FW170206HW4");
+        assertParsedLikeRegex("Unknown", "=M000005.SN1AB20A123401FW1900HW015", "=M000005.SN");
+    }
+
+    @Test
+    public void testLedsAndLogicOpsStatus() {
+        assertParsedLikeRegex("ModStatusLedsAndLogicOps", "=M000005.TLAEBFAAAAAAAANTVN",
+                "=M000005.TLEEEEEEEEEEEEVVVV");
+        assertParsedLikeRegex("Unknown", "=M000005.TLAEBFAAAAAAAANTV", "=M000005.TLAEBFAAAAAAAXNTVN");
+    }
+
+    @Test
+    public void testKeyLocksStatus() {
+        assertParsedLikeRegex("ModStatusKeyLocks", "=M000005.TX255000127", "=M000005.TX255000127001");
+        assertParsedLikeRegex("Unknown", "=M000005.TX255000", "=M000005.TX256000000", "=M000005.TY255000127");
+    }
+
+    @Test
+    public void testAuthAndConnectionState() {
+        assertParsedLikeRegex("AuthUsername", "Username:");
+        assertParsedLikeRegex("AuthPassword", "Password:");
+        assertParsedLikeRegex("AuthOk", "OK");
+        assertParsedLikeRegex("LcnConnState", "$io:#LCN:connected", "$io:#LCN:disconnected");
+    }
+
+    @Test
+    public void testUnknown() {
+        assertParsedLikeRegex("Unknown", "", "M", ":M", "=M", "-M000", ":M000005", "=M000005", "=M000005.",
+                "Username", "OK!", "$io:#LCN:", "(H)", "+M004000005.A001", "M000005.A0011234");
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreUnknown() {
+        // Integer.parseInt() used to throw for these
+        for (String input : new String[] { ":M000005A199999999999", "-M00000599999999999",
+                "%M000005.99999999999" }) {
+            assertEquals(input, "Unknown '" + input + "'", describe(Input.parse(input)).get(0));
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lcn.input;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.regex.Matcher;
+
+import org.openhab.binding.lcn.common.LcnAddrMod;
+import org.openhab.binding.lcn.common.LcnDefs;
+import org.openhab.binding.lcn.common.PckParser;
+
+/**
+ * The parser used before {@link Input#parse(String)} dispatched by the input prefix: All parsers are tried in order
+ * and the status messages are matched with the regular expressions of {@link PckParser}.
+ * Serves as reference for the results of the current parser.
+ *
+ * @author Tobias Jttner
+ */
+class RegexInputParser {
+
+    /**
+     * Parses the given input like {@link Input#parse(String)} did with regular expressions.
+     *
+     * @param input the text to parse
+     * @return the parsed {@link Input} list. Will always contain at least one element
+     */
+    static Collection<Input> parse(String input) {
+        Collection<Input> ret;
+        if (!(ret = AuthUsername.tryParseInput(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = AuthPassword.tryParseInput(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = AuthOk.tryParseInput(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = LcnConnState.tryParseInput(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = parseAck(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = ModSk.tryParseInput(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = ModSn.tryParseInput(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = parseOutput(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = parseRelays(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = parseBinSensors(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = parseVar(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = ModStatusLedsAndLogicOps.tryParseInput(input)).isEmpty()) {
+            return ret;
+        } else if (!(ret = ModStatusKeyLocks.tryParseInput(input)).isEmpty()) {
+            return ret;
+        }
+        return Arrays.asList((Input) new Unknown(input));
+    }
+
+    private static LcnAddrMod addr(Matcher matcher) {
+        return new LcnAddrMod(Integer.parseInt(matcher.group("segId")), Integer.parseInt(matcher.group("modId")));
+    }
+
+    private static Collection<Input> parseAck(String input) {
+        LinkedList<Input> ret = new LinkedList<Input>();
+        Matcher matcher;
+        if ((matcher = PckParser.PATTERN_ACK_POS.matcher(input)).matches()) {
+            ret.add(new ModAck(addr(matcher), -1));
+        } else if ((matcher = PckParser.PATTERN_ACK_NEG.matcher(input)).matches()) {
+            ret.add(new ModAck(addr(matcher), Integer.parseInt(matcher.group("code"))));
+        }
+        return ret;
+    }
+
+    private static Collection<Input> parseOutput(String input) {
+        LinkedList<Input> ret = new LinkedList<Input>();
+        Matcher matcher;
+        if ((matcher = PckParser.PATTERN_STATUS_OUTPUT_PERCENT.matcher(input)).matches()) {
+            ret.add(new ModStatusOutput(addr(matcher), Integer.parseInt(matcher.group("outputId")) - 1,
+                    Integer.parseInt(matcher.group("percent"))));
+        } else if ((matcher = PckParser.PATTERN_STATUS_OUTPUT_NATIVE.matcher(input)).matches()) {
+            ret.add(new ModStatusOutput(addr(matcher), Integer.parseInt(matcher.group("outputId")) - 1,
+                    (double) Integer.parseInt(matcher.group("value")) / 2));
+        }
+        return ret;
+    }
+
+    private static Collection<Input> parseRelays(String input) {
+        LinkedList<Input> ret = new LinkedList<Input>();
+        try {
+            Matcher matcher = PckParser.PATTERN_STATUS_RELAYS.matcher(input);
+            if (matcher.matches()) {
+                ret.add(new ModStatusRelays(addr(matcher),
+                        PckParser.getBooleanValue(Integer.parseInt(matcher.group("byteValue")))));
+            }
+        } catch (IllegalArgumentException ex) {
+        }
+        return ret;
+    }
+
+    private static Collection<Input> parseBinSensors(String input) {
+        LinkedList<Input> ret = new LinkedList<Input>();
+        try {
+            Matcher matcher = PckParser.PATTERN_STATUS_BINSENSORS.matcher(input);
+            if (matcher.matches()) {
+                ret.add(new ModStatusBinSensors(addr(matcher),
+                        PckParser.getBooleanValue(Integer.parseInt(matcher.group("byteValue")))));
+            }
+        } catch (IllegalArgumentException ex) {
+        }
+        return ret;
+    }
+
+    private static Collection<Input> parseVar(String input) {
+        LinkedList<Input> ret = new LinkedList<Input>();
+        try {
+            Matcher matcher;
+            if ((matcher = PckParser.PATTERN_STATUS_VAR.matcher(input)).matches()) {
+                ret.add(new ModStatusVar(addr(matcher),
+                        LcnDefs.Var.varIdToVar(Integer.parseInt(matcher.group("id")) - 1),
+                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
+            } else if ((matcher = PckParser.PATTERN_STATUS_SETVAR.matcher(input)).matches()) {
+                ret.add(new ModStatusVar(addr(matcher),
+                        LcnDefs.Var.setPointIdToVar(Integer.parseInt(matcher.group("id")) - 1),
+                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
+            } else if ((matcher = PckParser.PATTERN_STATUS_THRS.matcher(input)).matches()) {
+                ret.add(new ModStatusVar(addr(matcher),
+                        LcnDefs.Var.thrsIdToVar(Integer.parseInt(matcher.group("registerId")) - 1,
+                                Integer.parseInt(matcher.group("thrsId")) - 1),
+                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
+            } else if ((matcher = PckParser.PATTERN_STATUS_S0INPUT.matcher(input)).matches()) {
+                ret.add(new ModStatusVar(addr(matcher),
+                        LcnDefs.Var.s0IdToVar(Integer.parseInt(matcher.group("id")) - 1),
+                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
+            } else if ((matcher = PckParser.PATTERN_VAR_GENERIC.matcher(input)).matches()) {
+                ret.add(new ModStatusVar(addr(matcher), LcnDefs.Var.UNKNOWN,
+                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
+            } else if ((matcher = PckParser.PATTERN_THRS5.matcher(input)).matches()) {
+                for (int thrsId = 0; thrsId < 5; ++thrsId) {
+                    ret.add(new ModStatusVar(addr(matcher), LcnDefs.Var.thrsIdToVar(0, thrsId), LcnDefs.VarValue
+                            .fromNative(Integer.parseInt(matcher.group(String.format("value%d", thrsId + 1))))));
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+        }
+        return ret;
+    }
+
+}
@@ -96,6 +96,51 @@ public final class PckParser {
     public static final Pattern PATTERN_STATUS_KEYLOCKS = Pattern.compile(
             "=M(?<segId>\\d{3})(?<modId>\\d{3})\\.TX(?<table0>\\d{3})(?<table1>\\d{3})(?<table2>\\d{3})((?<table3>\\d{3}))?");
 
+    /** Length of the "=M", ":M", "%M" and "-M" prefix including segment and module id ("=M000005"). */
+    public static final int MOD_PREFIX_LENGTH = 8;
+
+    /**
+     * Parses the module address of inputs starting with "=M", ":M", "%M" or "-M".
+     * The first character is not checked and selects the input type.
+     * 
+     * @param input the input data received from LCN-PCHK
+     * @return the module address or null if the input does not start with a module address
+     */
+    public static LcnAddrMod parseModAddr(String input) {
+        if (input.length() < MOD_PREFIX_LENGTH || input.charAt(1) != 'M') {
+            return null;
+        }
+        int segId = parseDecimal(input, 2, 5);
+        int modId = parseDecimal(input, 5, MOD_PREFIX_LENGTH);
+        if (segId < 0 || modId < 0) {
+            return null;
+        }
+        return new LcnAddrMod(segId, modId);
+    }
+
+    /**
+     * Parses decimal digits of the given input without creating intermediate strings.
+     * 
+     * @param input the input data received from LCN-PCHK
+     * @param beginIndex index of the first digit
+     * @param endIndex index after the last digit
+     * @return the parsed value or -1 if the range is empty, exceeds the input or contains non-digits
+     */
+    public static int parseDecimal(String input, int beginIndex, int endIndex) {
+        if (beginIndex >= endIndex || endIndex > input.length()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = beginIndex; i < endIndex; ++i) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
     /**
      * Generates an array of booleans from an input integer (actually a byte).
      * 
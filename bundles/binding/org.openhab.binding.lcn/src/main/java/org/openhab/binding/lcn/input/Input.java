@@ -10,8 +10,8 @@ package org.openhab.binding.lcn.input;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
 
+import org.openhab.binding.lcn.common.PckParser;
 import org.openhab.binding.lcn.connection.Connection;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.items.Item;
@@ -100,129 +100,103 @@ public abstract class Input {
 
     }
 
-    /** Interface for parsers. */
-    private interface Parser {
-
-        /**
-         * Tries to parse the given input text.
-         * Will return a list of parsed {@link Input}s. The list might be empty (but not null).
-         * 
-         * @param input the input data received from LCN-PCHK
-         * @return the parsed {@link Input}s (never null)
-         */
-        Collection<Input> tryParseInput(String input);
-
+    /**
+     * Parses the given input (received from LCN-PCHK).
+     * <p>
+     * The parser is selected by the leading characters of the input ("=M", ":M", "%M", "-M"), so each input is only
+     * passed to the parsers which can actually handle it. The frequent status messages are parsed without regular
+     * expressions.
+     * 
+     * @param input the text to parse
+     * @return the parsed {@link Input} list. Will always contain at least one element
+     */
+    public static Collection<Input> parse(String input) {
+        Collection<Input> ret = null;
+        if (input.length() > 1 && input.charAt(1) == 'M') {
+            switch (input.charAt(0)) {
+                case ':':
+                    ret = tryParseStatus(input);
+                    break;
+                case '%':
+                    ret = ModStatusVar.tryParseInput(input);
+                    break;
+                case '-':
+                    ret = ModAck.tryParseInput(input);
+                    break;
+                case '=':
+                    ret = tryParseResponse(input);
+                    break;
+            }
+        } else if (input.equals(PckParser.AUTH_USERNAME)) {
+            ret = AuthUsername.tryParseInput(input);
+        } else if (input.equals(PckParser.AUTH_PASSWORD)) {
+            ret = AuthPassword.tryParseInput(input);
+        } else if (input.equals(PckParser.AUTH_OK)) {
+            ret = AuthOk.tryParseInput(input);
+        } else {
+            ret = LcnConnState.tryParseInput(input);
+        }
+        if (ret == null || ret.isEmpty()) {
+            ret = Arrays.asList((Input) new Unknown(input));
+        }
+        return ret;
     }
 
     /**
-     * Registered parsers.
-     * Will be used to create {@link Input} objects from read input.
+     * Dispatches ":M" status messages by the character after the module address.
+     * 
+     * @param input the text to parse
+     * @return the parsed {@link Input}s or null if there is no matching parser
      */
-    private static final LinkedList<Parser> inputParsers = new LinkedList<Parser>();
-
-    /** Initializes static data once this class is first used. */
-    static {
-        // Register parsers
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return AuthUsername.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return AuthPassword.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return AuthOk.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return LcnConnState.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return ModAck.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return ModSk.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return ModSn.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
+    private static Collection<Input> tryParseStatus(String input) {
+        if (input.length() <= PckParser.MOD_PREFIX_LENGTH) {
+            return null;
+        }
+        switch (input.charAt(PckParser.MOD_PREFIX_LENGTH)) {
+            case 'A':
+            case 'O':
                 return ModStatusOutput.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
+            case 'R':
                 return ModStatusRelays.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
+            case 'B':
                 return ModStatusBinSensors.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return ModStatusVar.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return ModStatusLedsAndLogicOps.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return ModStatusKeyLocks.tryParseInput(input);
-            }
-        });
-        inputParsers.add(new Parser() {
-            @Override
-            public Collection<Input> tryParseInput(String input) {
-                return Arrays.asList((Input) new Unknown(input));
-            } // Will "catch" everything
-        });
+            default:
+                return null;
+        }
     }
 
     /**
-     * Parses the given input (received from LCN-PCHK).
+     * Dispatches "=M" responses by the two characters after the module address and the ".".
      * 
      * @param input the text to parse
-     * @return the parsed {@link Input} list. Will always contain at least one element
+     * @return the parsed {@link Input}s or null if there is no matching parser
      */
-    public static Collection<Input> parse(String input) {
-        for (Parser p : inputParsers) {
-            Collection<Input> ret = p.tryParseInput(input);
-            if (!ret.isEmpty()) {
-                return ret;
-            }
+    private static Collection<Input> tryParseResponse(String input) {
+        int pos = PckParser.MOD_PREFIX_LENGTH + 1;
+        if (input.length() <= pos + 1) {
+            return null;
+        }
+        char c = input.charAt(pos + 1);
+        switch (input.charAt(pos)) {
+            case 'S':
+                if (c == 'K') {
+                    return ModSk.tryParseInput(input);
+                } else if (c == 'N') {
+                    return ModSn.tryParseInput(input);
+                } else if (c == '1') {
+                    return ModStatusVar.tryParseInput(input); // Threshold register 1 (before 170206)
+                }
+                return null;
+            case 'T':
+                if (c == 'L') {
+                    return ModStatusLedsAndLogicOps.tryParseInput(input);
+                } else if (c == 'X') {
+                    return ModStatusKeyLocks.tryParseInput(input);
+                }
+                return null;
+            default:
+                return null;
         }
-        throw new Error();
     }
 
     /**
@@ -10,7 +10,6 @@ package org.openhab.binding.lcn.input;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.regex.Matcher;
 
 import org.openhab.binding.lcn.common.LcnAddrMod;
 import org.openhab.binding.lcn.common.PckParser;
@@ -57,15 +56,17 @@ public class ModAck extends Mod {
      */
     static Collection<Input> tryParseInput(String input) {
         LinkedList<Input> ret = new LinkedList<Input>();
-        Matcher matcher;
-        if ((matcher = PckParser.PATTERN_ACK_POS.matcher(input)).matches()) {
-            ret.add(new ModAck(
-                    new LcnAddrMod(Integer.parseInt(matcher.group("segId")), Integer.parseInt(matcher.group("modId"))),
-                    -1));
-        } else if ((matcher = PckParser.PATTERN_ACK_NEG.matcher(input)).matches()) {
-            ret.add(new ModAck(
-                    new LcnAddrMod(Integer.parseInt(matcher.group("segId")), Integer.parseInt(matcher.group("modId"))),
-                    Integer.parseInt(matcher.group("code"))));
+        LcnAddrMod addr = PckParser.parseModAddr(input);
+        if (addr != null && input.charAt(0) == '-') {
+            int pos = PckParser.MOD_PREFIX_LENGTH;
+            if (input.length() == pos + 1 && input.charAt(pos) == '!') { // See PckParser.PATTERN_ACK_POS
+                ret.add(new ModAck(addr, -1));
+            } else {
+                int code = PckParser.parseDecimal(input, pos, input.length()); // See PckParser.PATTERN_ACK_NEG
+                if (code >= 0) {
+                    ret.add(new ModAck(addr, code));
+                }
+            }
         }
         return ret;
     }
@@ -10,7 +10,6 @@ package org.openhab.binding.lcn.input;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.regex.Matcher;
 
 import org.openhab.binding.lcn.common.LcnAddrMod;
 import org.openhab.binding.lcn.common.PckParser;
@@ -72,16 +71,21 @@ public class ModStatusOutput extends Mod {
      */
     static Collection<Input> tryParseInput(String input) {
         LinkedList<Input> ret = new LinkedList<Input>();
-        Matcher matcher;
-        if ((matcher = PckParser.PATTERN_STATUS_OUTPUT_PERCENT.matcher(input)).matches()) {
-            ret.add(new ModStatusOutput(
-                    new LcnAddrMod(Integer.parseInt(matcher.group("segId")), Integer.parseInt(matcher.group("modId"))),
-                    Integer.parseInt(matcher.group("outputId")) - 1, Integer.parseInt(matcher.group("percent"))));
-        } else if ((matcher = PckParser.PATTERN_STATUS_OUTPUT_NATIVE.matcher(input)).matches()) {
-            ret.add(new ModStatusOutput(
-                    new LcnAddrMod(Integer.parseInt(matcher.group("segId")), Integer.parseInt(matcher.group("modId"))),
-                    Integer.parseInt(matcher.group("outputId")) - 1,
-                    (double) Integer.parseInt(matcher.group("value")) / 2));
+        LcnAddrMod addr = PckParser.parseModAddr(input);
+        int pos = PckParser.MOD_PREFIX_LENGTH;
+        if (addr != null && input.charAt(0) == ':' && input.length() > pos + 2) {
+            int outputId = PckParser.parseDecimal(input, pos + 1, pos + 2);
+            int value = PckParser.parseDecimal(input, pos + 2, input.length());
+            if (outputId >= 0 && value >= 0) {
+                switch (input.charAt(pos)) {
+                    case 'A': // See PckParser.PATTERN_STATUS_OUTPUT_PERCENT
+                        ret.add(new ModStatusOutput(addr, outputId - 1, value));
+                        break;
+                    case 'O': // See PckParser.PATTERN_STATUS_OUTPUT_NATIVE
+                        ret.add(new ModStatusOutput(addr, outputId - 1, (double) value / 2));
+                        break;
+                }
+            }
         }
         return ret;
     }
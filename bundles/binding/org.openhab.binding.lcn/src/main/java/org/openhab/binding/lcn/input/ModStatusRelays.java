@@ -10,7 +10,6 @@ package org.openhab.binding.lcn.input;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.regex.Matcher;
 
 import org.openhab.binding.lcn.common.LcnAddrMod;
 import org.openhab.binding.lcn.common.PckParser;
@@ -60,12 +59,14 @@ public class ModStatusRelays extends Mod {
     static Collection<Input> tryParseInput(String input) {
         LinkedList<Input> ret = new LinkedList<Input>();
         try {
-            Matcher matcher = PckParser.PATTERN_STATUS_RELAYS.matcher(input);
-            if (matcher.matches()) {
-                ret.add(new ModStatusRelays(
-                        new LcnAddrMod(Integer.parseInt(matcher.group("segId")),
-                                Integer.parseInt(matcher.group("modId"))),
-                        PckParser.getBooleanValue(Integer.parseInt(matcher.group("byteValue")))));
+            // See PckParser.PATTERN_STATUS_RELAYS
+            LcnAddrMod addr = PckParser.parseModAddr(input);
+            int pos = PckParser.MOD_PREFIX_LENGTH;
+            if (addr != null && input.charAt(0) == ':' && input.startsWith("Rx", pos)) {
+                int byteValue = PckParser.parseDecimal(input, pos + 2, input.length());
+                if (byteValue >= 0) {
+                    ret.add(new ModStatusRelays(addr, PckParser.getBooleanValue(byteValue)));
+                }
             }
         } catch (IllegalArgumentException ex) {
         }
@@ -77,37 +77,16 @@ public class ModStatusVar extends Mod {
     static Collection<Input> tryParseInput(String input) {
         LinkedList<Input> ret = new LinkedList<Input>();
         try {
+            LcnAddrMod addr = PckParser.parseModAddr(input);
+            int pos = PckParser.MOD_PREFIX_LENGTH;
             Matcher matcher;
-            if ((matcher = PckParser.PATTERN_STATUS_VAR.matcher(input)).matches()) {
-                ret.add(new ModStatusVar(
-                        new LcnAddrMod(Integer.parseInt(matcher.group("segId")),
-                                Integer.parseInt(matcher.group("modId"))),
-                        LcnDefs.Var.varIdToVar(Integer.parseInt(matcher.group("id")) - 1),
-                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
-            } else if ((matcher = PckParser.PATTERN_STATUS_SETVAR.matcher(input)).matches()) {
-                ret.add(new ModStatusVar(
-                        new LcnAddrMod(Integer.parseInt(matcher.group("segId")),
-                                Integer.parseInt(matcher.group("modId"))),
-                        LcnDefs.Var.setPointIdToVar(Integer.parseInt(matcher.group("id")) - 1),
-                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
-            } else if ((matcher = PckParser.PATTERN_STATUS_THRS.matcher(input)).matches()) {
-                ret.add(new ModStatusVar(
-                        new LcnAddrMod(Integer.parseInt(matcher.group("segId")),
-                                Integer.parseInt(matcher.group("modId"))),
-                        LcnDefs.Var.thrsIdToVar(Integer.parseInt(matcher.group("registerId")) - 1,
-                                Integer.parseInt(matcher.group("thrsId")) - 1),
-                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
-            } else if ((matcher = PckParser.PATTERN_STATUS_S0INPUT.matcher(input)).matches()) {
-                ret.add(new ModStatusVar(
-                        new LcnAddrMod(Integer.parseInt(matcher.group("segId")),
-                                Integer.parseInt(matcher.group("modId"))),
-                        LcnDefs.Var.s0IdToVar(Integer.parseInt(matcher.group("id")) - 1),
-                        LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
-            } else if ((matcher = PckParser.PATTERN_VAR_GENERIC.matcher(input)).matches()) {
-                ret.add(new ModStatusVar(
-                        new LcnAddrMod(Integer.parseInt(matcher.group("segId")),
-                                Integer.parseInt(matcher.group("modId"))),
-                        LcnDefs.Var.UNKNOWN, LcnDefs.VarValue.fromNative(Integer.parseInt(matcher.group("value")))));
+            if (addr != null && input.charAt(0) == '%') {
+                if (input.length() > pos + 1 && input.charAt(pos) == '.') {
+                    ModStatusVar status = tryParseStatus(addr, input, pos + 1);
+                    if (status != null) {
+                        ret.add(status);
+                    }
+                }
             } else if ((matcher = PckParser.PATTERN_THRS5.matcher(input)).matches()) {
                 for (int thrsId = 0; thrsId < 5; ++thrsId) {
                     ret.add(new ModStatusVar(
@@ -122,6 +101,50 @@ public class ModStatusVar extends Mod {
         return ret;
     }
 
+    /**
+     * Parses a "%M" variable status after the "." without using regular expressions.
+     * 
+     * @param addr the source address
+     * @param input the input
+     * @param pos the position after the "."
+     * @return the {@link ModStatusVar} or null if the input does not match
+     * @throws IllegalArgumentException if the variable id is out of range
+     */
+    private static ModStatusVar tryParseStatus(LcnAddrMod addr, String input, int pos)
+            throws IllegalArgumentException {
+        int end = input.length();
+        int value;
+        switch (input.charAt(pos)) {
+            case 'A': // See PckParser.PATTERN_STATUS_VAR
+                int varId = PckParser.parseDecimal(input, pos + 1, pos + 4);
+                value = PckParser.parseDecimal(input, pos + 4, end);
+                return varId >= 0 && value >= 0 ? new ModStatusVar(addr, LcnDefs.Var.varIdToVar(varId - 1),
+                        LcnDefs.VarValue.fromNative(value)) : null;
+            case 'S': // See PckParser.PATTERN_STATUS_SETVAR
+                int setPointId = PckParser.parseDecimal(input, pos + 1, pos + 2);
+                value = PckParser.parseDecimal(input, pos + 2, end);
+                return setPointId >= 0 && value >= 0 ? new ModStatusVar(addr,
+                        LcnDefs.Var.setPointIdToVar(setPointId - 1), LcnDefs.VarValue.fromNative(value)) : null;
+            case 'T': // See PckParser.PATTERN_STATUS_THRS
+                int registerId = PckParser.parseDecimal(input, pos + 1, pos + 2);
+                int thrsId = PckParser.parseDecimal(input, pos + 2, pos + 3);
+                value = PckParser.parseDecimal(input, pos + 3, end);
+                return registerId >= 0 && thrsId >= 0 && value >= 0 ? new ModStatusVar(addr,
+                        LcnDefs.Var.thrsIdToVar(registerId - 1, thrsId - 1), LcnDefs.VarValue.fromNative(value))
+                        : null;
+            case 'C': // See PckParser.PATTERN_STATUS_S0INPUT
+                int s0Id = PckParser.parseDecimal(input, pos + 1, pos + 2);
+                value = PckParser.parseDecimal(input, pos + 2, end);
+                return s0Id >= 0 && value >= 0
+                        ? new ModStatusVar(addr, LcnDefs.Var.s0IdToVar(s0Id - 1), LcnDefs.VarValue.fromNative(value))
+                        : null;
+            default: // See PckParser.PATTERN_VAR_GENERIC
+                value = PckParser.parseDecimal(input, pos, end);
+                return value >= 0 ? new ModStatusVar(addr, LcnDefs.Var.UNKNOWN, LcnDefs.VarValue.fromNative(value))
+                        : null;
+        }
+    }
+
     /**
      * Resolves "unknown" variable types and notifies the connection about the received variable status.
      * {@inheritDoc}
@@ -9,6 +9,7 @@
 package org.openhab.binding.networkhealth;
 
 import org.openhab.core.binding.BindingProvider;
+import org.openhab.core.items.Item;
 
 /**
  * This interface is implemented by classes that can provide mapping information
@@ -37,4 +38,9 @@ public interface NetworkHealthBindingProvider extends BindingProvider {
      */
     public int getTimeout(String itemName);
 
+    /**
+     * @return the type of the item, NumberItems receive the round trip time
+     */
+    public Class<? extends Item> getItemType(String itemName);
+
 }
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.networkhealth.internal;
+
+import java.io.IOException;
+
+/**
+ * Checks the reachability of a host without a port, e.g. with an ICMP echo
+ * request. Implementations may block up to the given timeout, they are called
+ * from the probe threads of the {@link NetworkHealthProber}.
+ *
+ * @author Thomas.Eichstaedt-Engelen
+ * @since 1.9.0
+ */
+public interface IcmpHelper {
+
+    /**
+     * @param hostname
+     *            host to check
+     * @param timeout
+     *            timeout in milliseconds
+     * @return <code>true</code> if the host answered within the timeout
+     * @throws IOException
+     *             if the host couldn't be checked
+     */
+    boolean isReachable(String hostname, int timeout) throws IOException;
+
+}
@@ -9,15 +9,20 @@
 package org.openhab.binding.networkhealth.internal;
 
 import java.io.IOException;
-import java.net.SocketTimeoutException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 import org.openhab.binding.networkhealth.NetworkHealthBindingProvider;
 import org.openhab.core.binding.AbstractActiveBinding;
+import org.openhab.core.binding.BindingProvider;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
-import org.openhab.io.net.actions.Ping;
+import org.openhab.core.types.UnDefType;
 import org.osgi.service.cm.ConfigurationException;
 import org.osgi.service.cm.ManagedService;
 import org.slf4j.Logger;
@@ -28,20 +33,37 @@ import org.slf4j.LoggerFactory;
  * interval and post all values to the internal event bus. The interval is 1
  * minute by default and can be changed via openhab.cfg.
  *
+ * The hosts are probed concurrently by the {@link NetworkHealthProber}, at
+ * most <code>maxProbes</code> at the same time. Every host has its own
+ * schedule, the first probe and every following interval are slightly
+ * randomized so the probes spread over the refresh interval. Hosts which are
+ * not reachable are probed with an exponentially growing interval up to
+ * <code>maxBackoff</code>. Number items receive the round trip time.
+ *
  * @author Thomas.Eichstaedt-Engelen
  * @author Kai Kreuzer
  * @since 0.6.0
  */
-public class NetworkHealthBinding extends AbstractActiveBinding<NetworkHealthBindingProvider>implements ManagedService {
+public class NetworkHealthBinding extends AbstractActiveBinding<NetworkHealthBindingProvider>
+        implements ManagedService, NetworkHealthProber.ProbeListener {
 
     private static final Logger logger = LoggerFactory.getLogger(NetworkHealthBinding.class);
 
+    /** the interval in ms to look for targets which have to be probed */
+    private static final long GRANULARITY = 1000;
+
     /** the port to use for connecting to a given host (defaults to 5000) */
     private int timeout = 5000;
 
     /** the refresh interval which is used to poll the vitality of the given hosts (defaults to 60000ms) */
     private long refreshInterval = 60000;
 
+    /** the maximum number of hosts probed at the same time (defaults to 32) */
+    private int maxProbes = 32;
+
+    /** the maximum interval in ms between two probes of a host which is down (defaults to 600000ms) */
+    private long maxBackoff = 600000;
+
     /** The states will be cached for this period (in minutes, defaults to 0 = off). */
     private int cachePeriod = 0;
 
@@ -51,6 +73,20 @@ public class NetworkHealthBinding extends AbstractActiveBinding<NetworkHealthBin
     /** Cached state of all devices for which a binding exists. */
     private final Map<String, Boolean> cachedStates = new HashMap<String, Boolean>();
 
+    /** All probed hosts by host and port */
+    private Map<String, NetworkHealthTarget> targets = new HashMap<String, NetworkHealthTarget>();
+
+    private volatile boolean targetsChanged = true;
+
+    /** The targets which are being probed by their key, the result is applied to the current target of the key */
+    private final Map<String, NetworkHealthTarget> runningProbes = new HashMap<String, NetworkHealthTarget>();
+
+    private final Random random = new Random();
+
+    private IcmpHelper icmpHelper = new PingIcmpHelper();
+
+    private NetworkHealthProber prober;
+
     @Override
     protected String getName() {
         return "NetworkHealth Refresh Service";
@@ -58,58 +94,193 @@ public class NetworkHealthBinding extends AbstractActiveBinding<NetworkHealthBin
 
     @Override
     protected long getRefreshInterval() {
-        return refreshInterval;
+        return Math.min(GRANULARITY, refreshInterval);
     }
 
     protected void addBindingProvider(NetworkHealthBindingProvider bindingProvider) {
         super.addBindingProvider(bindingProvider);
     }
- 
+
     protected void removeBindingProvider(NetworkHealthBindingProvider bindingProvider) {
         super.removeBindingProvider(bindingProvider);
     }
 
+    @Override
+    public void deactivate() {
+        super.deactivate();
+        stopProber();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindingChanged(BindingProvider provider, String itemName) {
+        super.bindingChanged(provider, itemName);
+        targetsChanged = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void allBindingsChanged(BindingProvider provider) {
+        super.allBindingsChanged(provider);
+        targetsChanged = true;
+    }
+
+    /**
+     * Replace the helper which checks hosts without a port.
+     *
+     * @param icmpHelper
+     *            the helper to use for new probes
+     */
+    public synchronized void setIcmpHelper(IcmpHelper icmpHelper) {
+        this.icmpHelper = icmpHelper;
+        stopProber();
+    }
+
+    private synchronized void stopProber() {
+        if (prober != null) {
+            prober.stop();
+            prober = null;
+        }
+        runningProbes.clear();
+        // new target instances, so late results of the stopped prober are ignored
+        targetsChanged = true;
+    }
 
     /**
      * @{inheritDoc}
      */
     @Override
-    public void execute() {
+    public synchronized void execute() {
+        if (prober == null) {
+            try {
+                prober = new NetworkHealthProber(this, icmpHelper, maxProbes);
+                prober.start();
+            } catch (IOException ioe) {
+                logger.error("couldn't start network health prober", ioe);
+                prober = null;
+                return;
+            }
+        }
+
+        if (targetsChanged) {
+            targetsChanged = false;
+            updateTargets();
+        }
+
+        long now = System.currentTimeMillis();
+        for (NetworkHealthTarget target : targets.values()) {
+            if (runningProbes.containsKey(target.getKey()) || target.nextProbe > now) {
+                continue;
+            }
+            if (runningProbes.size() >= maxProbes) {
+                logger.debug("{} probes running, delaying the remaining probes", maxProbes);
+                break;
+            }
+
+            runningProbes.put(target.getKey(), target);
+            prober.probe(target);
+        }
+    }
+
+    /**
+     * Collects the hosts of all items, the schedule of known hosts is kept.
+     */
+    private void updateTargets() {
+        Map<String, NetworkHealthTarget> newTargets = new HashMap<String, NetworkHealthTarget>();
+        long now = System.currentTimeMillis();
+
         for (NetworkHealthBindingProvider provider : providers) {
             for (String itemName : provider.getItemNames()) {
 
                 String hostname = provider.getHostname(itemName);
                 int port = provider.getPort(itemName);
+                int itemTimeout = provider.getTimeout(itemName) > 0 ? provider.getTimeout(itemName) : timeout;
 
-                if (provider.getTimeout(itemName) > 0) {
-                    timeout = provider.getTimeout(itemName);
+                String key = NetworkHealthTarget.getKey(hostname, port);
+                NetworkHealthTarget target = newTargets.get(key);
+                if (target == null) {
+                    target = new NetworkHealthTarget(hostname, port, itemTimeout);
+                    NetworkHealthTarget previous = targets.get(key);
+                    if (previous != null) {
+                        target.takeOverSchedule(previous);
+                    } else {
+                        // spread the first probes of all hosts
+                        target.nextProbe = now + jitter(Math.min(refreshInterval, 10000));
+                    }
+                    newTargets.put(key, target);
+                } else if (itemTimeout > target.getTimeout()) {
+                    target.setTimeout(itemTimeout);
                 }
 
-                boolean success = false;
+                if (NumberItem.class.equals(provider.getItemType(itemName))) {
+                    target.roundTripTimeItems.add(itemName);
+                } else {
+                    target.stateItems.add(itemName);
+                }
+            }
+        }
 
-                try {
-                    success = Ping.checkVitality(hostname, port, timeout);
+        logger.debug("probing {} hosts for network health", newTargets.size());
+        targets = newTargets;
+    }
 
-                    if(success) {
-                        logger.debug("established connection [host '{}' port '{}' timeout '{}']",
-                            new Object[] { hostname, port, timeout });
-                    } else {
-                        logger.debug("couldn't establish connection [host '{}' port '{}' timeout '{}']",
-                            new Object[] { hostname, port, timeout });
-                    }
-                } catch (SocketTimeoutException se) {
-                    logger.debug("timed out while connecting [host '{}' port '{}' timeout '{}']",
-                            new Object[] { hostname, port, timeout });
-                } catch (IOException ioe) {
-                    logger.debug("couldn't establish network connection [host '{}' port '{}' timeout '{}']",
-                            new Object[] { hostname, port, timeout });
+    private long jitter(long range) {
+        return range > 0 ? (long) (random.nextDouble() * range) : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void probeCompleted(NetworkHealthTarget probedTarget, boolean success, long roundTripTime) {
+        NetworkHealthTarget target;
+        synchronized (this) {
+            if (runningProbes.get(probedTarget.getKey()) != probedTarget) {
+                // late result of a stopped prober
+                return;
+            }
+            runningProbes.remove(probedTarget.getKey());
+
+            // the targets might have been replaced while probing
+            target = targets.get(probedTarget.getKey());
+            if (target == null) {
+                return;
+            }
+
+            long delay;
+            if (success) {
+                logger.debug("established connection {}", target);
+                target.failures = 0;
+                delay = refreshInterval;
+            } else {
+                logger.debug("couldn't establish connection {}", target);
+                int failures = ++target.failures;
+                delay = refreshInterval << Math.min(failures - 1, 20);
+                delay = Math.max(refreshInterval, Math.min(delay, maxBackoff));
+            }
+            // +-5% so hosts probed at the same time drift apart
+            target.nextProbe = System.currentTimeMillis() + delay - delay / 20 + jitter(delay / 10);
+        }
+
+        if (eventPublisher != null) {
+
+            // check cached state and update only if state differs
+            if (!target.stateItems.isEmpty() && shouldPostUpdate(target.getHostname(), target.getPort(), success)) {
+                for (String itemName : target.stateItems) {
+                    eventPublisher.postUpdate(itemName, success ? OnOffType.ON : OnOffType.OFF);
                 }
-                if (eventPublisher != null) {
+            }
 
-                    // check cached state and update only if state differs
-                    if (shouldPostUpdate(hostname, port, success)) {
-                        eventPublisher.postUpdate(itemName, success ? OnOffType.ON : OnOffType.OFF);
-                    }
+            for (String itemName : target.roundTripTimeItems) {
+                if (success) {
+                    BigDecimal milliseconds = BigDecimal.valueOf(roundTripTime, 6).setScale(1, RoundingMode.HALF_UP);
+                    eventPublisher.postUpdate(itemName, new DecimalType(milliseconds));
+                } else {
+                    eventPublisher.postUpdate(itemName, UnDefType.UNDEF);
                 }
             }
         }
@@ -128,7 +299,7 @@ public class NetworkHealthBinding extends AbstractActiveBinding<NetworkHealthBin
      *         <code>false</code> if the state is already cached and did not
      *         change.
      */
-    private boolean shouldPostUpdate(String hostname, int port, boolean newState) {
+    private synchronized boolean shouldPostUpdate(String hostname, int port, boolean newState) {
         if (cachePeriod <= 0) {
             return true; // caching disabled
         }
@@ -166,11 +337,25 @@ public class NetworkHealthBinding extends AbstractActiveBinding<NetworkHealthBin
                 refreshInterval = Long.parseLong(refreshIntervalString);
             }
 
+            String maxProbesString = (String) config.get("maxProbes");
+            if (maxProbesString != null && !maxProbesString.isEmpty()) {
+                maxProbes = Math.max(1, Integer.parseInt(maxProbesString));
+            }
+
+            String maxBackoffString = (String) config.get("maxBackoff");
+            if (maxBackoffString != null && !maxBackoffString.isEmpty()) {
+                maxBackoff = Long.parseLong(maxBackoffString);
+            }
+
             // read cache period from configuration
             String cachePeriodString = (String) config.get("cachePeriod");
             if (cachePeriodString != null && !cachePeriodString.isEmpty()) {
                 cachePeriod = Integer.parseInt(cachePeriodString);
             }
+
+            // apply the timeouts and the number of probe threads
+            stopProber();
+            targetsChanged = true;
         }
         setProperlyConfigured(true);
     }
@@ -11,6 +11,7 @@ package org.openhab.binding.networkhealth.internal;
 import org.openhab.binding.networkhealth.NetworkHealthBindingProvider;
 import org.openhab.core.binding.BindingConfig;
 import org.openhab.core.items.Item;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.library.items.StringItem;
 import org.openhab.core.library.items.SwitchItem;
 import org.openhab.model.item.binding.AbstractGenericBindingProvider;
@@ -33,6 +34,8 @@ import org.openhab.model.item.binding.BindingConfigParseException;
  * <li>
  * <code>{ nh="ssh.secureserver.com:22:10000" } -  - which checks if the given host allows connections on port 22 with a timeout of 10000ms</code>
  * </li>
+ * <li><code>{ nh="imap.email.com:993" }</code> bound to a NumberItem - which receives the time in ms to connect to
+ * the given host on port 993</li>
  * </ul>
  *
  * @author Thomas.Eichstaedt-Engelen
@@ -56,10 +59,10 @@ public class NetworkHealthGenericBindingProvider extends AbstractGenericBindingP
      */
     @Override
     public void validateItemType(Item item, String bindingConfig) throws BindingConfigParseException {
-        if (!(item instanceof SwitchItem || item instanceof StringItem)) {
-            throw new BindingConfigParseException(
-                    "item '" + item.getName() + "' is of type '" + item.getClass().getSimpleName()
-                            + "', only Switch- and StringItems are allowed - please check your *.items configuration");
+        if (!(item instanceof SwitchItem || item instanceof StringItem || item instanceof NumberItem)) {
+            throw new BindingConfigParseException("item '" + item.getName() + "' is of type '"
+                    + item.getClass().getSimpleName()
+                    + "', only Switch-, String- and NumberItems are allowed - please check your *.items configuration");
         }
     }
 
@@ -87,6 +90,7 @@ public class NetworkHealthGenericBindingProvider extends AbstractGenericBindingP
         if (configParts.length > 2) {
             config.timeout = Integer.valueOf(configParts[2]);
         }
+        config.itemType = item.getClass();
         addBindingConfig(item, config);
     }
 
@@ -117,6 +121,15 @@ public class NetworkHealthGenericBindingProvider extends AbstractGenericBindingP
         return config != null ? config.timeout : 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<? extends Item> getItemType(String itemName) {
+        NhBindingConfig config = (NhBindingConfig) bindingConfigs.get(itemName);
+        return config != null ? config.itemType : null;
+    }
+
     /**
      * This is an internal data structure to store information from the binding
      * config strings and use it to answer the requests to the NetworkHealth
@@ -126,6 +139,7 @@ public class NetworkHealthGenericBindingProvider extends AbstractGenericBindingP
         public String hostname;
         public int port;
         public int timeout;
+        public Class<? extends Item> itemType;
     }
 
 }
@@ -0,0 +1,301 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.networkhealth.internal;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Probes targets without blocking the caller. TCP targets are connected with
+ * non-blocking {@link SocketChannel}s, which are all handled by one selector
+ * thread. The host name resolution and the ICMP checks of targets without a
+ * port block, these run on a pool of probe threads.
+ *
+ * @author Thomas.Eichstaedt-Engelen
+ * @since 1.9.0
+ */
+public class NetworkHealthProber implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkHealthProber.class);
+
+    /**
+     * Receives the result of a probe.
+     */
+    public interface ProbeListener {
+
+        /**
+         * @param target
+         *            probed target
+         * @param reachable
+         *            <code>true</code> if the target was reachable
+         * @param roundTripTime
+         *            connect time in nanoseconds if reachable, -1 otherwise
+         */
+        void probeCompleted(NetworkHealthTarget target, boolean reachable, long roundTripTime);
+    }
+
+    private final ProbeListener listener;
+
+    private final IcmpHelper icmpHelper;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Queue<Connect> registrations = new ConcurrentLinkedQueue<Connect>();
+
+    private Selector selector;
+
+    private Thread thread;
+
+    private volatile boolean running;
+
+    /**
+     * @param listener
+     *            receives the results
+     * @param icmpHelper
+     *            checks targets without port
+     * @param threads
+     *            maximum number of probe threads for name resolution and ICMP
+     *            checks
+     */
+    public NetworkHealthProber(ProbeListener listener, IcmpHelper icmpHelper, int threads) {
+        this.listener = listener;
+        this.icmpHelper = icmpHelper;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread probeThread = new Thread(runnable, "NetworkHealth Probe " + count.incrementAndGet());
+                        probeThread.setDaemon(true);
+                        return probeThread;
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Opens the selector and starts the selector thread.
+     *
+     * @throws IOException
+     *             if the selector couldn't be opened
+     */
+    public synchronized void start() throws IOException {
+        selector = Selector.open();
+        running = true;
+        thread = new Thread(this, "NetworkHealth Selector");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the selector thread and the probe threads. Running probes are not
+     * completed.
+     */
+    public synchronized void stop() {
+        running = false;
+        executor.shutdownNow();
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Starts probing a target, the listener is called when the target answered
+     * or the timeout passed.
+     *
+     * @param target
+     *            target to probe
+     */
+    public void probe(final NetworkHealthTarget target) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (target.getPort() == 0) {
+                    checkIcmp(target);
+                } else {
+                    connect(target);
+                }
+            }
+        });
+    }
+
+    private void checkIcmp(NetworkHealthTarget target) {
+        long start = System.nanoTime();
+        boolean reachable = false;
+        try {
+            reachable = icmpHelper.isReachable(target.getHostname(), target.getTimeout());
+        } catch (IOException ioe) {
+            logger.debug("couldn't check reachability {}: {}", target, ioe.getMessage());
+        }
+        listener.probeCompleted(target, reachable, reachable ? System.nanoTime() - start : -1);
+    }
+
+    private void connect(NetworkHealthTarget target) {
+        InetSocketAddress address = new InetSocketAddress(target.getHostname(), target.getPort());
+        if (address.isUnresolved()) {
+            logger.debug("couldn't resolve host {}", target);
+            listener.probeCompleted(target, false, -1);
+            return;
+        }
+
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+
+            long start = System.nanoTime();
+            if (channel.connect(address)) {
+                close(channel);
+                listener.probeCompleted(target, true, System.nanoTime() - start);
+                return;
+            }
+
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(target.getTimeout());
+            Connect connect = new Connect(target, channel, start, deadline);
+            registrations.offer(connect);
+            selector.wakeup();
+            // the selector loop may have closed the pending connects already
+            if (!running && registrations.remove(connect)) {
+                close(channel);
+            }
+        } catch (IOException ioe) {
+            logger.debug("couldn't establish network connection {}: {}", target, ioe.getMessage());
+            close(channel);
+            listener.probeCompleted(target, false, -1);
+        }
+    }
+
+    /**
+     * Selector loop, completes the connects and times out the connects which
+     * didn't complete in time.
+     */
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Connect connect;
+                while ((connect = registrations.poll()) != null) {
+                    try {
+                        connect.channel.register(selector, SelectionKey.OP_CONNECT, connect);
+                    } catch (ClosedChannelException e) {
+                        complete(connect, false);
+                    }
+                }
+
+                long now = System.nanoTime();
+                long nextDeadline = Long.MAX_VALUE;
+                for (SelectionKey key : selector.keys()) {
+                    if (key.isValid()) {
+                        nextDeadline = Math.min(nextDeadline, ((Connect) key.attachment()).deadline);
+                    }
+                }
+                if (nextDeadline == Long.MAX_VALUE) {
+                    selector.select();
+                } else if (nextDeadline > now) {
+                    selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextDeadline - now)));
+                } else {
+                    selector.selectNow();
+                }
+
+                for (Iterator<SelectionKey> iterator = selector.selectedKeys().iterator(); iterator.hasNext();) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+
+                    connect = (Connect) key.attachment();
+                    try {
+                        if (connect.channel.finishConnect()) {
+                            key.cancel();
+                            complete(connect, true);
+                        }
+                    } catch (IOException ioe) {
+                        logger.debug("couldn't establish network connection {}: {}", connect.target,
+                                ioe.getMessage());
+                        key.cancel();
+                        complete(connect, false);
+                    }
+                }
+
+                now = System.nanoTime();
+                for (SelectionKey key : selector.keys()) {
+                    connect = (Connect) key.attachment();
+                    if (key.isValid() && now - connect.deadline >= 0) {
+                        logger.debug("timed out while connecting {}", connect.target);
+                        key.cancel();
+                        complete(connect, false);
+                    }
+                }
+            } catch (IOException ioe) {
+                logger.error("NetworkHealth selector failed", ioe);
+            } catch (RuntimeException e) {
+                logger.error("NetworkHealth probe failed", e);
+            }
+        }
+
+        for (SelectionKey key : selector.keys()) {
+            close(((Connect) key.attachment()).channel);
+        }
+        Connect connect;
+        while ((connect = registrations.poll()) != null) {
+            close(connect.channel);
+        }
+        try {
+            selector.close();
+        } catch (IOException ioe) {
+            logger.debug("couldn't close selector", ioe);
+        }
+    }
+
+    private void complete(Connect connect, boolean reachable) {
+        close(connect.channel);
+        listener.probeCompleted(connect.target, reachable, reachable ? System.nanoTime() - connect.start : -1);
+    }
+
+    private static void close(SocketChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ioe) {
+                logger.trace("couldn't close channel", ioe);
+            }
+        }
+    }
+
+    /**
+     * A connect which is waiting for completion.
+     */
+    private static final class Connect {
+        private final NetworkHealthTarget target;
+        private final SocketChannel channel;
+        private final long start;
+        private final long deadline;
+
+        private Connect(NetworkHealthTarget target, SocketChannel channel, long start, long deadline) {
+            this.target = target;
+            this.channel = channel;
+            this.start = start;
+            this.deadline = deadline;
+        }
+    }
+}
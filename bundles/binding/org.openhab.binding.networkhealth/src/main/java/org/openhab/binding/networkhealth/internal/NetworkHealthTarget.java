@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.networkhealth.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A host and port which is probed for all items bound to it, together with
+ * its probe schedule.
+ *
+ * @author Thomas.Eichstaedt-Engelen
+ * @since 1.9.0
+ */
+public class NetworkHealthTarget {
+
+    private final String hostname;
+
+    private final int port;
+
+    private int timeout;
+
+    /** Items posting the reachability as ON/OFF */
+    final List<String> stateItems = new ArrayList<String>();
+
+    /** Items posting the round trip time in milliseconds */
+    final List<String> roundTripTimeItems = new ArrayList<String>();
+
+    /** Number of failed probes in a row */
+    volatile int failures = 0;
+
+    /** Time of the next probe in milliseconds */
+    volatile long nextProbe = 0;
+
+    public NetworkHealthTarget(String hostname, int port, int timeout) {
+        this.hostname = hostname;
+        this.port = port;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Take over the schedule of the target, which was replaced by this one.
+     *
+     * @param target
+     *            previous target of the same host and port
+     */
+    void takeOverSchedule(NetworkHealthTarget target) {
+        failures = target.failures;
+        nextProbe = target.nextProbe;
+    }
+
+    public String getHostname() {
+        return hostname;
+    }
+
+    /**
+     * @return the port to connect to, 0 for an ICMP check
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * @return the timeout in milliseconds
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    void setTimeout(int timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return the key of this target, the host and port
+     */
+    String getKey() {
+        return getKey(hostname, port);
+    }
+
+    /**
+     * @return the key of a target, the host and port
+     */
+    static String getKey(String hostname, int port) {
+        return hostname + ":" + port;
+    }
+
+    @Override
+    public String toString() {
+        return "[host '" + hostname + "' port '" + port + "' timeout '" + timeout + "']";
+    }
+}
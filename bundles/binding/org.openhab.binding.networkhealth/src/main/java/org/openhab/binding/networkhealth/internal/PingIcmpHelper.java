@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.networkhealth.internal;
+
+import java.io.IOException;
+
+import org.openhab.io.net.actions.Ping;
+
+/**
+ * Default {@link IcmpHelper}, which uses the vitality check of the openHAB
+ * {@link Ping} action without a port.
+ *
+ * @author Thomas.Eichstaedt-Engelen
+ * @since 1.9.0
+ */
+public class PingIcmpHelper implements IcmpHelper {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReachable(String hostname, int timeout) throws IOException {
+        return Ping.checkVitality(hostname, 0, timeout);
+    }
+
+}
@@ -103,6 +103,9 @@ public class OneWireBinding extends AbstractBinding<OneWireBindingProvider>
 
             // Connection config
             OneWireConnection.updated(pvConfig);
+
+            // one reader task per connection to the owserver
+            ivOneWireReaderScheduler.setNumberOfReaderTasks(OneWireConnection.getConnectionPoolSize());
         }
 
         for (OneWireBindingProvider lvProvider : providers) {
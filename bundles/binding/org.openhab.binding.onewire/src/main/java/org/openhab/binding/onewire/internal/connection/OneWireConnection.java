@@ -9,9 +9,16 @@
 package org.openhab.binding.onewire.internal.connection;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Dictionary;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.openhab.binding.onewire.internal.deviceproperties.AbstractOneWireDevicePropertyBindingConfig;
@@ -29,6 +36,12 @@ import org.slf4j.LoggerFactory;
 /**
  * This class establishes the connection to the 1-Wire-bus.
  *
+ * Reads and writes borrow one of up to <code>connections</code> owserver
+ * connections, so the reader threads of the OneWireUpdateScheduler can access
+ * the owserver in parallel. The devices of the root directory are cached, so
+ * the existence of a device is only checked with an extra request if it is not
+ * in the last directory listing.
+ *
  * @author Dennis Riegelbauer
  * @author Chris Carman (added server connection retry logic)
  * @since 1.7.0
@@ -75,10 +88,57 @@ public class OneWireConnection {
      */
     private static int cvServerRetryInterval = 60;
 
+    /**
+     * The maximum number of parallel connections to the owserver (optional, defaults to 5)
+     */
+    private static int cvConnectionPoolSize = 5;
+
+    /**
+     * The time in seconds after which the cached root directory listing is refreshed (optional, defaults to 300)
+     */
+    private static int cvDirectoryRefreshInterval = 300;
+
+    /**
+     * Trigger a simultaneous temperature conversion of all sensors before each refresh cycle (optional, defaults to
+     * false)
+     */
+    private static boolean cvSimultaneousTemperature = false;
+
+    /**
+     * The time in seconds to wait for a free connection
+     */
+    private static final int CONNECTION_WAIT_TIMEOUT = 30;
+
     /**
      * signals that the connection is established
      */
-    private static boolean cvIsEstablished = false;
+    private static volatile boolean cvIsEstablished = false;
+
+    /**
+     * Factory for additional connections to the owserver, created on connect
+     */
+    private static OwfsConnectionFactory cvOwConnectionFactory = null;
+
+    /**
+     * All open connections of the pool, idle or borrowed
+     */
+    private static final Set<OwfsConnection> cvPoolConnections = new HashSet<OwfsConnection>();
+
+    /**
+     * Connections of the pool which are not in use
+     */
+    private static final BlockingQueue<OwfsConnection> cvIdleConnections = new LinkedBlockingQueue<OwfsConnection>();
+
+    /**
+     * Devices and directories of the last root directory listing
+     */
+    private static final Set<String> cvDirectory = Collections
+            .newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    /**
+     * Time of the last root directory listing
+     */
+    private static volatile long cvDirectoryTimestamp = 0;
 
     /**
      * Returns an OwfsConnection
@@ -107,6 +167,7 @@ public class OneWireConnection {
         owConnectionConfig.setBusReturn(OwBusReturn.ON);
         owfsConnectorFactory.setConnectionConfig(owConnectionConfig);
 
+        cvOwConnectionFactory = owfsConnectorFactory;
         cvOwConnection = owfsConnectorFactory.createNewConnection();
 
         boolean connected = false;
@@ -157,6 +218,11 @@ public class OneWireConnection {
         }
 
         logger.info("Connected to owserver [IP '{}' Port '{}']", cvIp, cvPort);
+        updateDirectory(result);
+
+        // the first connection is the first one of the pool
+        cvPoolConnections.add(cvOwConnection);
+        cvIdleConnections.offer(cvOwConnection);
         cvIsEstablished = true;
         return true;
     }
@@ -168,16 +234,99 @@ public class OneWireConnection {
      */
     public static synchronized boolean reconnect() {
         logger.info("Trying to reconnect to owserver...");
-        try {
-            cvOwConnection.disconnect();
-        } catch (Exception lvException) {
-            logger.error("Error while disconnecting from owserver: ", lvException);
+
+        // borrowed connections are disconnected when they are released
+        OwfsConnection lvConnection;
+        while ((lvConnection = cvIdleConnections.poll()) != null) {
+            disconnect(lvConnection);
         }
+        cvPoolConnections.clear();
+        cvDirectory.clear();
+        cvDirectoryTimestamp = 0;
+
         cvOwConnection = null;
         cvIsEstablished = false;
         return connect();
     }
 
+    /**
+     * Borrows a connection of the pool, opens a new connection if all are in use
+     * and the pool is not full, otherwise waits for a connection to be released.
+     *
+     * @return connection for exclusive use until it is released
+     * @throws IOException if there is no connection to the owserver or no
+     *             connection was released in time
+     */
+    private static OwfsConnection borrowConnection() throws IOException {
+        OwfsConnection lvConnection = cvIdleConnections.poll();
+        if (lvConnection != null) {
+            return lvConnection;
+        }
+
+        synchronized (OneWireConnection.class) {
+            if (getConnection() == null) {
+                throw new IOException("Not connected to owserver");
+            }
+            lvConnection = cvIdleConnections.poll();
+            if (lvConnection != null) {
+                return lvConnection;
+            }
+            if (cvPoolConnections.size() < cvConnectionPoolSize) {
+                lvConnection = cvOwConnectionFactory.createNewConnection();
+                cvPoolConnections.add(lvConnection);
+                logger.debug("Opened owserver connection {} of {}", cvPoolConnections.size(), cvConnectionPoolSize);
+                return lvConnection;
+            }
+        }
+
+        try {
+            lvConnection = cvIdleConnections.poll(CONNECTION_WAIT_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (lvConnection == null) {
+            throw new IOException("No free owserver connection available");
+        }
+        return lvConnection;
+    }
+
+    /**
+     * Returns a borrowed connection to the pool. Connections which were opened
+     * before a reconnect are closed.
+     */
+    private static void releaseConnection(OwfsConnection pvConnection) {
+        synchronized (OneWireConnection.class) {
+            if (cvPoolConnections.contains(pvConnection)) {
+                cvIdleConnections.offer(pvConnection);
+                return;
+            }
+        }
+        disconnect(pvConnection);
+    }
+
+    /**
+     * Closes a broken connection and reconnects to the owserver, if the
+     * connection was not already replaced by a reconnect of another thread.
+     */
+    private static void discardConnection(OwfsConnection pvConnection) {
+        boolean lvCurrent;
+        synchronized (OneWireConnection.class) {
+            lvCurrent = cvPoolConnections.contains(pvConnection);
+        }
+        disconnect(pvConnection);
+        if (lvCurrent) {
+            reconnect();
+        }
+    }
+
+    private static void disconnect(OwfsConnection pvConnection) {
+        try {
+            pvConnection.disconnect();
+        } catch (Exception lvException) {
+            logger.error("Error while disconnecting from owserver: ", lvException);
+        }
+    }
+
     public static synchronized void updated(Dictionary<String, ?> pvConfig) throws ConfigurationException {
         if (pvConfig == null) {
             logger.debug(
@@ -238,6 +387,24 @@ public class OneWireConnection {
         }
         logger.debug("onewire:server_retryInterval = {} seconds", cvServerRetryInterval);
 
+        String lvConnectionsString = Objects.toString(pvConfig.get("connections"), null);
+        if (StringUtils.isNotBlank(lvConnectionsString)) {
+            cvConnectionPoolSize = Math.max(1, Integer.parseInt(lvConnectionsString));
+        }
+        logger.debug("onewire:connections = {}", cvConnectionPoolSize);
+
+        String lvDirectoryRefreshString = Objects.toString(pvConfig.get("directory_refresh"), null);
+        if (StringUtils.isNotBlank(lvDirectoryRefreshString)) {
+            cvDirectoryRefreshInterval = Integer.parseInt(lvDirectoryRefreshString);
+        }
+        logger.debug("onewire:directory_refresh = {} seconds", cvDirectoryRefreshInterval);
+
+        String lvSimultaneousString = Objects.toString(pvConfig.get("simultaneous_temperature"), null);
+        if (StringUtils.isNotBlank(lvSimultaneousString)) {
+            cvSimultaneousTemperature = Boolean.parseBoolean(lvSimultaneousString);
+        }
+        logger.debug("onewire:simultaneous_temperature = {}", cvSimultaneousTemperature);
+
         if (cvOwConnection == null) {
             logger.debug("Not connected to owserver yet. Trying to connect...");
             if (!connect()) {
@@ -256,21 +423,71 @@ public class OneWireConnection {
     }
 
     /**
-     * Checks if an device exists in 1-Wire network
+     * @return int, the maximum number of parallel connections to the owserver
+     */
+    public static int getConnectionPoolSize() {
+        return cvConnectionPoolSize;
+    }
+
+    /**
+     * @return boolean, should a simultaneous temperature conversion be triggered before each refresh cycle
+     */
+    public static boolean isSimultaneousTemperature() {
+        return cvSimultaneousTemperature;
+    }
+
+    /**
+     * Replaces the cached root directory listing
      *
+     * @param pvDirectory
+     */
+    private static void updateDirectory(List<String> pvDirectory) {
+        Set<String> lvDevices = new HashSet<String>();
+        for (String lvEntry : pvDirectory) {
+            lvDevices.add(StringUtils.strip(lvEntry, "/"));
+        }
+        cvDirectory.retainAll(lvDevices);
+        cvDirectory.addAll(lvDevices);
+        cvDirectoryTimestamp = System.currentTimeMillis();
+        logger.debug("cached owserver directory with {} entries", lvDevices.size());
+    }
+
+    /**
+     * Returns the device part of a device property path
+     */
+    private static String getDevicePath(String pvDevicePropertyPath) {
+        return StringUtils.removeStart(pvDevicePropertyPath.trim(), "/").split("/")[0];
+    }
+
+    /**
+     * Checks if an device exists in 1-Wire network. Devices of the cached root
+     * directory listing are not checked again on the owserver.
+     *
+     * @param pvConnection
      * @param pvDevicePropertyPath
      * @return
      * @throws IOException
      * @throws OwfsException
      */
-    private static synchronized boolean checkIfDeviceExists(String pvDevicePropertyPath)
+    private static boolean checkIfDeviceExists(OwfsConnection pvConnection, String pvDevicePropertyPath)
             throws IOException, OwfsException {
-        String[] pvDevicePropertyPathParts = pvDevicePropertyPath.trim().split("/");
+        String lvDevicePath = getDevicePath(pvDevicePropertyPath);
 
-        String lvDevicePath = pvDevicePropertyPathParts[0];
-        logger.debug("check if device exists '{}': ", new Object[] { lvDevicePath });
+        if (System.currentTimeMillis() - cvDirectoryTimestamp > cvDirectoryRefreshInterval * 1000L) {
+            logger.debug("refreshing cached owserver directory");
+            updateDirectory(pvConnection.listDirectory("/"));
+        }
+        if (cvDirectory.contains(lvDevicePath)) {
+            return true;
+        }
 
-        return OneWireConnection.getConnection().exists(lvDevicePath);
+        // not part of the root directory listing, e.g. a device which was just connected
+        logger.debug("check if device exists '{}': ", lvDevicePath);
+        if (pvConnection.exists(lvDevicePath)) {
+            cvDirectory.add(lvDevicePath);
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -279,16 +496,18 @@ public class OneWireConnection {
      * @param pvDevicePropertyPath
      * @return device property value as String
      */
-    public static synchronized String readFromOneWire(AbstractOneWireDevicePropertyBindingConfig pvBindingConfig) {
+    public static String readFromOneWire(AbstractOneWireDevicePropertyBindingConfig pvBindingConfig) {
         String lvDevicePropertyPath = pvBindingConfig.getDevicePropertyPath();
 
         int lvAttempt = 1;
         while (lvAttempt <= cvRetry) {
+            OwfsConnection lvConnection = null;
             try {
                 logger.debug("trying to read from '{}', read attempt={}",
                         new Object[] { lvDevicePropertyPath, lvAttempt });
-                if (checkIfDeviceExists(lvDevicePropertyPath)) {
-                    String lvReadValue = OneWireConnection.getConnection().read(lvDevicePropertyPath);
+                lvConnection = borrowConnection();
+                if (checkIfDeviceExists(lvConnection, lvDevicePropertyPath)) {
+                    String lvReadValue = lvConnection.read(lvDevicePropertyPath);
                     logger.debug("Read value '{}' from {}, read attempt={}",
                             new Object[] { lvReadValue, lvDevicePropertyPath, lvAttempt });
 
@@ -309,22 +528,36 @@ public class OneWireConnection {
                             new Object[] { lvDevicePropertyPath, lvAttempt });
                 }
             } catch (OwfsException oe) {
+                // the device might have been removed from the bus
+                cvDirectory.remove(getDevicePath(lvDevicePropertyPath));
+
                 String lvLogText = "reading from path " + lvDevicePropertyPath + " attempt " + lvAttempt
                         + " throws exception";
                 if (pvBindingConfig.isIgnoreReadErrors()) {
                     logger.debug(lvLogText, oe);
                 } else {
                     logger.error(lvLogText, oe);
-                    reconnect();
+                    discardConnection(lvConnection);
+                    lvConnection = null;
                 }
             } catch (IOException ioe) {
-                logger.error("couldn't establish network connection while read attempt {} '{}'" + " ip:port={}:{}",
-                        lvAttempt, lvDevicePropertyPath, cvIp, cvPort, ioe);
-                reconnect();
+                if (lvConnection != null) {
+                    logger.error("couldn't establish network connection while read attempt {} '{}'" + " ip:port={}:{}",
+                            lvAttempt, lvDevicePropertyPath, cvIp, cvPort, ioe);
+                    discardConnection(lvConnection);
+                    lvConnection = null;
+                } else {
+                    // no connection could be borrowed, the connections in use by other readers are kept
+                    logger.warn("couldn't read '{}', read attempt={}: {}", lvDevicePropertyPath, lvAttempt,
+                            ioe.getMessage());
+                }
             } catch (NumberFormatException lvNumberFormatException) {
                 logger.error(
                         "Ignoring 85C PowerOnReset values can only be used with temperature sensors! Read a value, which is not a number");
             } finally {
+                if (lvConnection != null) {
+                    releaseConnection(lvConnection);
+                }
                 lvAttempt++;
             }
         }
@@ -338,29 +571,70 @@ public class OneWireConnection {
      * @param pvDevicePropertyPath
      * @param pvValue
      */
-    public static synchronized void writeToOneWire(String pvDevicePropertyPath, String pvValue) {
+    public static void writeToOneWire(String pvDevicePropertyPath, String pvValue) {
         int lvAttempt = 1;
         while (lvAttempt <= cvRetry) {
+            OwfsConnection lvConnection = null;
             try {
                 logger.debug("Trying to write '{}' to '{}', write attempt={}", pvValue, pvDevicePropertyPath,
                         lvAttempt);
-                if (checkIfDeviceExists(pvDevicePropertyPath)) {
-                    OneWireConnection.getConnection().write(pvDevicePropertyPath, pvValue);
+                lvConnection = borrowConnection();
+                if (checkIfDeviceExists(lvConnection, pvDevicePropertyPath)) {
+                    lvConnection.write(pvDevicePropertyPath, pvValue);
                     return; // Success, exit
                 } else {
                     logger.info("There is no device for path {}, write attempt={}", pvDevicePropertyPath, lvAttempt);
                 }
             } catch (OwfsException oe) {
+                cvDirectory.remove(getDevicePath(pvDevicePropertyPath));
                 logger.error("Writing {} to path {} attempt {} threw an exception", pvValue, pvDevicePropertyPath,
                         lvAttempt, oe);
-                reconnect();
+                discardConnection(lvConnection);
+                lvConnection = null;
             } catch (IOException ioe) {
-                logger.error("Couldn't establish network connection while write attempt {} to '{}'" + " ip:port={}:{}",
-                        lvAttempt, pvDevicePropertyPath, cvIp, cvPort, ioe);
-                reconnect();
+                if (lvConnection != null) {
+                    logger.error(
+                            "Couldn't establish network connection while write attempt {} to '{}'" + " ip:port={}:{}",
+                            lvAttempt, pvDevicePropertyPath, cvIp, cvPort, ioe);
+                    discardConnection(lvConnection);
+                    lvConnection = null;
+                } else {
+                    // no connection could be borrowed, the connections in use by other readers are kept
+                    logger.warn("Couldn't write '{}' to '{}', write attempt={}: {}",
+                            new Object[] { pvValue, pvDevicePropertyPath, lvAttempt, ioe.getMessage() });
+                }
             } finally {
+                if (lvConnection != null) {
+                    releaseConnection(lvConnection);
+                }
                 lvAttempt++;
             }
         }
     }
+
+    /**
+     * Triggers a simultaneous temperature conversion of all temperature sensors
+     * on the bus. The owserver waits for the conversion, subsequent reads of the
+     * temperatures return the converted values without an own conversion delay.
+     */
+    public static void triggerSimultaneousTemperatureConversion() {
+        OwfsConnection lvConnection = null;
+        try {
+            lvConnection = borrowConnection();
+            logger.debug("triggering simultaneous temperature conversion");
+            lvConnection.write("/simultaneous/temperature", "1");
+        } catch (OwfsException oe) {
+            logger.warn("Triggering simultaneous temperature conversion failed: {}", oe.getMessage());
+        } catch (IOException ioe) {
+            logger.warn("Couldn't trigger simultaneous temperature conversion: {}", ioe.getMessage());
+            if (lvConnection != null) {
+                discardConnection(lvConnection);
+                lvConnection = null;
+            }
+        } finally {
+            if (lvConnection != null) {
+                releaseConnection(lvConnection);
+            }
+        }
+    }
 }
@@ -19,6 +19,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import org.openhab.binding.onewire.internal.connection.OneWireConnection;
 import org.openhab.binding.onewire.internal.listener.InterfaceOneWireDevicePropertyWantsUpdateListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,16 +65,90 @@ public class OneWireUpdateScheduler {
     private boolean ivIsRunning = false;
 
     /**
-     * this task runs in an separate Thread. It informs the Listeners, that an item wants to get updated
+     * the listener which is informed, that an item wants to get updated
      */
-    private OneWireUpdateTask ivOneWireUpdateTask = null;
+    private final InterfaceOneWireDevicePropertyWantsUpdateListener ivWantsUpdateListener;
+
+    /**
+     * these tasks run in separate Threads. They inform the Listeners, that an item wants to get updated. There is
+     * one task per connection to the owserver.
+     */
+    private OneWireUpdateTask[] ivOneWireUpdateTasks;
+
+    /**
+     * guards the replacement of the reader tasks
+     */
+    private final Object ivReaderTasksLock = new Object();
+
+    /**
+     * are the reader tasks running
+     */
+    private boolean ivReaderTasksRunning = false;
 
     /**
      * @param pvWantsUpdateListener
      */
     public OneWireUpdateScheduler(InterfaceOneWireDevicePropertyWantsUpdateListener pvWantsUpdateListener) {
         super();
-        ivOneWireUpdateTask = new OneWireUpdateTask(ivUpdateQueue, pvWantsUpdateListener);
+        ivWantsUpdateListener = pvWantsUpdateListener;
+        ivOneWireUpdateTasks = createReaderTasks(OneWireConnection.getConnectionPoolSize());
+    }
+
+    private OneWireUpdateTask[] createReaderTasks(int pvNumberOfReaderTasks) {
+        OneWireUpdateTask[] lvOneWireUpdateTasks = new OneWireUpdateTask[pvNumberOfReaderTasks];
+        for (int i = 0; i < lvOneWireUpdateTasks.length; i++) {
+            lvOneWireUpdateTasks[i] = new OneWireUpdateTask(i, ivUpdateQueue, ivWantsUpdateListener);
+        }
+        return lvOneWireUpdateTasks;
+    }
+
+    /**
+     * Sets the number of reader tasks, which take items from the update queue in parallel. The running reader tasks
+     * are replaced if the number changes.
+     *
+     * @param pvNumberOfReaderTasks
+     */
+    public void setNumberOfReaderTasks(int pvNumberOfReaderTasks) {
+        synchronized (ivReaderTasksLock) {
+            if (pvNumberOfReaderTasks == ivOneWireUpdateTasks.length) {
+                return;
+            }
+            logger.debug("Changing number of reader tasks from {} to {}", ivOneWireUpdateTasks.length,
+                    pvNumberOfReaderTasks);
+            OneWireUpdateTask[] lvOldOneWireUpdateTasks = ivOneWireUpdateTasks;
+            ivOneWireUpdateTasks = createReaderTasks(pvNumberOfReaderTasks);
+            if (ivReaderTasksRunning) {
+                for (OneWireUpdateTask lvOneWireUpdateTask : lvOldOneWireUpdateTasks) {
+                    lvOneWireUpdateTask.interrupt();
+                }
+                for (OneWireUpdateTask lvOneWireUpdateTask : ivOneWireUpdateTasks) {
+                    lvOneWireUpdateTask.start();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts new reader tasks for the ones which have died
+     */
+    private void restartDeadReaderTasks() {
+        synchronized (ivReaderTasksLock) {
+            if (!ivReaderTasksRunning) {
+                return;
+            }
+            for (int i = 0; i < ivOneWireUpdateTasks.length; i++) {
+                logger.debug("Update Task {} isAlive: {}", i, ivOneWireUpdateTasks[i].isAlive());
+                if (!ivOneWireUpdateTasks[i].isAlive()) {
+                    logger.debug("create and start a new Update Task {} again...", i);
+
+                    OneWireUpdateTask lvNewOneWireUpdateTask = new OneWireUpdateTask(i, ivUpdateQueue,
+                            ivWantsUpdateListener);
+                    ivOneWireUpdateTasks[i] = lvNewOneWireUpdateTask;
+
+                    lvNewOneWireUpdateTask.start();
+                }
+            }
+        }
     }
 
     /**
@@ -82,9 +157,14 @@ public class OneWireUpdateScheduler {
     public void start() {
         logger.debug("Starting auto refresh scheduler");
 
-        logger.debug("Starting reader task.");
+        synchronized (ivReaderTasksLock) {
+            logger.debug("Starting {} reader tasks.", ivOneWireUpdateTasks.length);
 
-        ivOneWireUpdateTask.start();
+            for (OneWireUpdateTask lvOneWireUpdateTask : ivOneWireUpdateTasks) {
+                lvOneWireUpdateTask.start();
+            }
+            ivReaderTasksRunning = true;
+        }
 
         logger.debug("Starting schedule executor.");
         ivScheduledExecutorService = Executors.newScheduledThreadPool(cvNumberOfThreads);
@@ -114,8 +194,13 @@ public class OneWireUpdateScheduler {
             logger.debug("Auto refresh scheduler: interrupted while waiting for termination.");
         }
 
-        logger.debug("Stopping reader task");
-        ivOneWireUpdateTask.interrupt();
+        synchronized (ivReaderTasksLock) {
+            logger.debug("Stopping reader tasks");
+            for (OneWireUpdateTask lvOneWireUpdateTask : ivOneWireUpdateTasks) {
+                lvOneWireUpdateTask.interrupt();
+            }
+            ivReaderTasksRunning = false;
+        }
         ivIsRunning = false;
     }
 
@@ -288,7 +373,9 @@ public class OneWireUpdateScheduler {
 
     /**
      * This Taks fills the ivUpdateQueue with items, which must be updated.
-     * The ivUpdateQueue is used by OneWireUpdateTask to inform the Listeners about theses items
+     * The ivUpdateQueue is used by the OneWireUpdateTasks to inform the Listeners about theses items.
+     * If configured, a simultaneous temperature conversion is triggered before, so the temperature
+     * sensors don't need to convert one after another.
      * 
      * @author Dennis Riegelbauer
      * @since 1.7.0
@@ -303,7 +390,12 @@ public class OneWireUpdateScheduler {
 
         @Override
         public void run() {
-            List<String> lvItemNameList = null;
+            List<String> lvItemNameList = cvScheduleMap.get(ivAutoRefreshTimeInSecs);
+            if (lvItemNameList != null && !lvItemNameList.isEmpty() && OneWireConnection.isSimultaneousTemperature()
+                    && OneWireConnection.isConnectionEstablished()) {
+                OneWireConnection.triggerSimultaneousTemperatureConversion();
+            }
+
             synchronized (cvScheduleMap) {
                 lvItemNameList = cvScheduleMap.get(ivAutoRefreshTimeInSecs);
                 if (lvItemNameList == null) {
@@ -311,16 +403,7 @@ public class OneWireUpdateScheduler {
                 } else {
                     logger.debug("Autorefresh: Adding {} item(s) with refresh time {} to reader queue.",
                             lvItemNameList.size(), ivAutoRefreshTimeInSecs);
-                    logger.debug("Update Task isAlive: {}", ivOneWireUpdateTask.isAlive());
-                    if (!ivOneWireUpdateTask.isAlive()) {
-                        logger.debug("create and start a new Update Task again...");
-
-                        OneWireUpdateTask lvNewOneWireUpdateTask = new OneWireUpdateTask(ivUpdateQueue,
-                                ivOneWireUpdateTask.getIvWantsUpdateListener());
-                        ivOneWireUpdateTask = lvNewOneWireUpdateTask;
-
-                        ivOneWireUpdateTask.start();
-                    }
+                    restartDeadReaderTasks();
                     synchronized (lvItemNameList) {
                         // increase performance one slower systems on startup
                         // only add items to queue which aren't already in queue
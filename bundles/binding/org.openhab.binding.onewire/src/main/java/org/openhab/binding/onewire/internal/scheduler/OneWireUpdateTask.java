@@ -35,7 +35,21 @@ public class OneWireUpdateTask extends Thread {
 
     public OneWireUpdateTask(BlockingQueue<String> pvQueue,
             InterfaceOneWireDevicePropertyWantsUpdateListener pvWantsUpdateListener) {
-        super("OneWireBinding/ReaderTask");
+        this("OneWireBinding/ReaderTask", pvQueue, pvWantsUpdateListener);
+    }
+
+    /**
+     * @param pvNumber
+     *            number of the reader, if several readers take items from the same queue
+     */
+    public OneWireUpdateTask(int pvNumber, BlockingQueue<String> pvQueue,
+            InterfaceOneWireDevicePropertyWantsUpdateListener pvWantsUpdateListener) {
+        this("OneWireBinding/ReaderTask-" + pvNumber, pvQueue, pvWantsUpdateListener);
+    }
+
+    private OneWireUpdateTask(String pvName, BlockingQueue<String> pvQueue,
+            InterfaceOneWireDevicePropertyWantsUpdateListener pvWantsUpdateListener) {
+        super(pvName);
         setDaemon(true);
         this.ivUpdateQueue = pvQueue;
         this.ivWantsUpdateListener = pvWantsUpdateListener;
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.rfxcom.internal.messages;
+
+import static org.junit.Assert.*;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.junit.Test;
+import org.openhab.binding.rfxcom.internal.RFXComException;
+import org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage.PacketType;
+
+/**
+ * Test for RFXCom-binding
+ *
+ * @author Martin van Wingerden
+ * @since 1.9.0
+ */
+public class RFXComMessageFactoryTest {
+
+    private void testDeviceId(String hexMsg) throws RFXComException {
+        byte[] packet = DatatypeConverter.parseHexBinary(hexMsg);
+        RFXComMessageInterface msg = RFXComMessageFactory.getMessageInterface(packet);
+        assertEquals("Device Id", msg.generateDeviceId(), RFXComMessageFactory.getDeviceId(packet));
+    }
+
+    @Test
+    public void testDeviceIdWithoutDecoding() throws RFXComException {
+        testDeviceId("08500110000180BC69");
+        testDeviceId("0850021DFB0100D770");
+        testDeviceId("0A520211700200A72D0089");
+        testDeviceId("105601122F000087000000140000000079");
+    }
+
+    @Test
+    public void testDeviceIdNeedsDecoding() {
+        assertNull(RFXComMessageFactory.getDeviceId(DatatypeConverter.parseHexBinary("0B11000600109B520B000080")));
+    }
+
+    @Test
+    public void testAllPacketTypes() {
+        for (PacketType packetType : PacketType.values()) {
+            try {
+                RFXComMessageInterface msg = RFXComMessageFactory.getMessageInterface(packetType);
+                assertNotNull(packetType.toString(), msg);
+            } catch (RFXComException e) {
+                // not implemented
+            }
+        }
+    }
+
+    @Test(expected = RFXComException.class)
+    public void testUnknownPacket() throws RFXComException {
+        RFXComMessageFactory.getMessageInterface(DatatypeConverter.parseHexBinary("08FF0110000180BC69"));
+    }
+}
@@ -9,8 +9,12 @@
 package org.openhab.binding.rfxcom.internal;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EventObject;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +31,7 @@ import org.openhab.binding.rfxcom.internal.messages.RFXComMessageFactory;
 import org.openhab.binding.rfxcom.internal.messages.RFXComMessageInterface;
 import org.openhab.binding.rfxcom.internal.messages.RFXComTransmitterMessage;
 import org.openhab.core.binding.AbstractBinding;
+import org.openhab.core.binding.BindingProvider;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
@@ -55,6 +60,11 @@ public class RFXComBinding extends AbstractBinding<RFXComBindingProvider> {
 
     private final MessageLister eventLister = new MessageLister();
 
+    /**
+     * Index of all in bindings by device id, rebuilt lazily after a binding has changed.
+     */
+    private volatile Map<String, List<InBinding>> inBindings = null;
+
     public RFXComBinding() {
     }
 
@@ -76,6 +86,72 @@ public class RFXComBinding extends AbstractBinding<RFXComBindingProvider> {
         }
     }
 
+    @Override
+    public void bindingChanged(BindingProvider provider, String itemName) {
+        super.bindingChanged(provider, itemName);
+        inBindings = null;
+    }
+
+    @Override
+    public void allBindingsChanged(BindingProvider provider) {
+        super.allBindingsChanged(provider);
+        inBindings = null;
+    }
+
+    @Override
+    protected void addBindingProvider(RFXComBindingProvider provider) {
+        super.addBindingProvider(provider);
+        inBindings = null;
+    }
+
+    @Override
+    protected void removeBindingProvider(RFXComBindingProvider provider) {
+        super.removeBindingProvider(provider);
+        inBindings = null;
+    }
+
+    /**
+     * Returns the in bindings of the device with the given id.
+     *
+     * @param deviceId
+     *
+     * @return the in bindings, an empty list if no item is bound to the device
+     */
+    private List<InBinding> getInBindings(String deviceId) {
+        Map<String, List<InBinding>> index = inBindings;
+        if (index == null) {
+            index = buildInBindings();
+            inBindings = index;
+        }
+
+        List<InBinding> bindings = index.get(deviceId);
+        if (bindings == null) {
+            return Collections.emptyList();
+        }
+        return bindings;
+    }
+
+    private Map<String, List<InBinding>> buildInBindings() {
+        Map<String, List<InBinding>> index = new ConcurrentHashMap<String, List<InBinding>>();
+
+        for (RFXComBindingProvider provider : providers) {
+            for (String itemName : provider.getItemNames()) {
+                String id = provider.getId(itemName);
+                if (id != null && provider.isInBinding(itemName)) {
+                    List<InBinding> bindings = index.get(id);
+                    if (bindings == null) {
+                        bindings = new ArrayList<InBinding>();
+                        index.put(id, bindings);
+                    }
+                    bindings.add(new InBinding(itemName, provider.getValueSelector(itemName)));
+                }
+            }
+        }
+
+        logger.debug("Indexed in bindings for {} devices", index.size());
+        return index;
+    }
+
     @Override
     public void setEventPublisher(EventPublisher eventPublisher) {
         this.eventPublisher = eventPublisher;
@@ -227,12 +303,29 @@ public class RFXComBinding extends AbstractBinding<RFXComBindingProvider> {
         return success;
     }
 
+    private static class InBinding {
+        final String itemName;
+        final RFXComValueSelector valueSelector;
+
+        InBinding(String itemName, RFXComValueSelector valueSelector) {
+            this.itemName = itemName;
+            this.valueSelector = valueSelector;
+        }
+    }
+
     private class MessageLister implements RFXComEventListener {
 
         @Override
         public void packetReceived(EventObject event, byte[] packet) {
 
             try {
+                // reject packets of unbound sensors before decoding the whole message
+                String sensorId = RFXComMessageFactory.getDeviceId(packet);
+                if (sensorId != null && getInBindings(sensorId).isEmpty()) {
+                    logger.trace("Ignoring packet of unbound device {}", sensorId);
+                    return;
+                }
+
                 RFXComMessageInterface obj = RFXComMessageFactory.getMessageInterface(packet);
 
                 if (obj instanceof RFXComTransmitterMessage) {
@@ -241,30 +334,24 @@ public class RFXComBinding extends AbstractBinding<RFXComBindingProvider> {
                 } else {
                     final String deviceId = obj.generateDeviceId();
 
+                    final List<InBinding> bindings = getInBindings(deviceId);
+                    if (bindings.isEmpty()) {
+                        return;
+                    }
+
                     final List<RFXComValueSelector> supportedValueSelectors = obj.getSupportedValueSelectors();
 
                     if (supportedValueSelectors != null) {
 
-                        for (RFXComBindingProvider provider : providers) {
-                            for (String itemName : provider.getItemNames()) {
-
-                                String id1 = provider.getId(itemName);
-                                boolean inBinding = provider.isInBinding(itemName);
-
-                                if (id1.equals(deviceId) && inBinding) {
+                        for (InBinding binding : bindings) {
 
-                                    RFXComValueSelector valueSelector = provider.getValueSelector(itemName);
-
-                                    if (supportedValueSelectors.contains(valueSelector)) {
-                                        try {
-                                            State value = obj.convertToState(valueSelector);
-                                            eventPublisher.postUpdate(itemName, value);
-                                        } catch (RFXComException e) {
-                                            logger.warn("Data conversion error", e);
-                                        }
-                                    }
+                            if (supportedValueSelectors.contains(binding.valueSelector)) {
+                                try {
+                                    State value = obj.convertToState(binding.valueSelector);
+                                    eventPublisher.postUpdate(binding.itemName, value);
+                                } catch (RFXComException e) {
+                                    logger.warn("Data conversion error", e);
                                 }
-
                             }
                         }
                     }
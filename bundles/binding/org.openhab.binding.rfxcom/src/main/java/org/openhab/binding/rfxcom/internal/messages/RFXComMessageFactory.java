@@ -8,68 +8,26 @@
  */
 package org.openhab.binding.rfxcom.internal.messages;
 
-import java.lang.reflect.Constructor;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-
 import org.openhab.binding.rfxcom.internal.RFXComException;
 import org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage.PacketType;
 
 public class RFXComMessageFactory {
 
-    final static String classUrl = "org.openhab.binding.rfxcom.internal.messages.";
-
-    @SuppressWarnings("serial")
-    private static final Map<PacketType, String> messageClasses = Collections
-            .unmodifiableMap(new HashMap<PacketType, String>() {
-                {
-                    put(PacketType.INTERFACE_CONTROL, "RFXComControlMessage");
-                    put(PacketType.INTERFACE_MESSAGE, "RFXComInterfaceMessage");
-                    put(PacketType.TRANSMITTER_MESSAGE, "RFXComTransmitterMessage");
-                    put(PacketType.UNDECODED_RF_MESSAGE, "RFXComUndecodedRFMessage");
-                    put(PacketType.LIGHTING1, "RFXComLighting1Message");
-                    put(PacketType.LIGHTING2, "RFXComLighting2Message");
-                    put(PacketType.LIGHTING3, "RFXComLighting3Message");
-                    put(PacketType.LIGHTING4, "RFXComLighting4Message");
-                    put(PacketType.LIGHTING5, "RFXComLighting5Message");
-                    put(PacketType.LIGHTING6, "RFXComLighting6Message");
-                    put(PacketType.CHIME, "RFXComChimeMessage");
-                    put(PacketType.FAN, "RFXComFanMessage");
-                    put(PacketType.CURTAIN1, "RFXComCurtain1Message");
-                    put(PacketType.BLINDS1, "RFXComBlinds1Message");
-                    put(PacketType.RFY, "RFXComRfyMessage");
-                    put(PacketType.SECURITY1, "RFXComSecurity1Message");
-                    put(PacketType.SECURITY2, "RFXComSecurity2Message");
-                    put(PacketType.CAMERA1, "RFXComCamera1Message");
-                    put(PacketType.REMOTE_CONTROL, "RFXComRemoteControlMessage");
-                    put(PacketType.THERMOSTAT1, "RFXComThermostat1Message");
-                    put(PacketType.THERMOSTAT2, "RFXComThermostat2Message");
-                    put(PacketType.THERMOSTAT3, "RFXComThermostat3Message");
-                    put(PacketType.BBQ1, "RFXComBBQMessage");
-                    put(PacketType.TEMPERATURE_RAIN, "RFXComTemperatureRainMessage");
-                    put(PacketType.TEMPERATURE, "RFXComTemperatureMessage");
-                    put(PacketType.HUMIDITY, "RFXComHumidityMessage");
-                    put(PacketType.TEMPERATURE_HUMIDITY, "RFXComTemperatureHumidityMessage");
-                    put(PacketType.BAROMETRIC, "RFXComBarometricMessage");
-                    put(PacketType.TEMPERATURE_HUMIDITY_BAROMETRIC, "RFXComTemperatureHumidityBarometricMessage");
-                    put(PacketType.RAIN, "RFXComRainMessage");
-                    put(PacketType.WIND, "RFXComWindMessage");
-                    put(PacketType.UV, "RFXComUVMessage");
-                    put(PacketType.DATE_TIME, "RFXComDateTimeMessage");
-                    put(PacketType.CURRENT, "RFXComCurrentMessage");
-                    put(PacketType.ENERGY, "RFXComEnergyMessage");
-                    put(PacketType.CURRENT_ENERGY, "RFXComCurrentEnergyMessage");
-                    put(PacketType.POWER, "RFXComPowerMessage");
-                    put(PacketType.WEIGHT, "RFXComWeightMessage");
-                    put(PacketType.GAS, "RFXComGasMessage");
-                    put(PacketType.WATER, "RFXComWaterMessage");
-                    put(PacketType.RFXSENSOR, "RFXComRFXSensorMessage");
-                    put(PacketType.RFXMETER, "RFXComRFXMeterMessage");
-                    put(PacketType.FS20, "RFXComFS20Message");
-                    put(PacketType.IO_LINES, "RFXComIOLinesMessage");
-                }
-            });
+    /**
+     * Packet types indexed by the packet type byte of a received packet.
+     */
+    private static final PacketType[] packetTypes = new PacketType[256];
+
+    static {
+        for (int i = 0; i < packetTypes.length; i++) {
+            packetTypes[i] = PacketType.UNKNOWN;
+        }
+        for (PacketType p : PacketType.values()) {
+            if (p != PacketType.UNKNOWN) {
+                packetTypes[p.toByte() & 0xFF] = p;
+            }
+        }
+    }
 
     /**
      * Command to reset RFXCOM controller.
@@ -94,33 +52,147 @@ public class RFXComMessageFactory {
 
     public static RFXComMessageInterface getMessageInterface(PacketType packetType) throws RFXComException {
 
-        try {
-            String className = messageClasses.get(packetType);
-            Class<?> cl = Class.forName(classUrl + className);
-            return (RFXComMessageInterface) cl.newInstance();
-
-        } catch (ClassNotFoundException e) {
-            throw new RFXComException("Message " + packetType + " not implemented", e);
-
-        } catch (Exception e) {
-            throw new RFXComException(e);
+        RFXComMessageInterface message = createMessage(packetType, null);
+        if (message == null) {
+            throw new RFXComException("Message " + packetType + " not implemented");
         }
+        return message;
     }
 
     public static RFXComMessageInterface getMessageInterface(byte[] packet) throws RFXComException {
 
         PacketType packetType = getPacketType(packet[1]);
 
-        try {
-            String className = messageClasses.get(packetType);
-            Class<?> cl = Class.forName(classUrl + className);
-            Constructor<?> c = cl.getConstructor(byte[].class);
-            return (RFXComMessageInterface) c.newInstance(packet);
+        RFXComMessageInterface message = createMessage(packetType, packet);
+        if (message == null) {
+            throw new RFXComException("Message " + packetType + "(" + packet[1] + ") not implemented");
+        }
+        return message;
+    }
+
+    /**
+     * Returns the device id of a received packet without decoding the whole message. This is only
+     * possible for sensor messages with the sensor id in the first two data bytes, for all other
+     * messages <code>null</code> is returned and the message must be decoded to get the device id.
+     *
+     * @param packet
+     *            Raw data.
+     * @return device id or <code>null</code> if the message must be decoded.
+     */
+    public static String getDeviceId(byte[] packet) {
 
-        } catch (ClassNotFoundException e) {
-            throw new RFXComException("Message " + packetType + "(" + packet[1] + ") not implemented", e);
+        if (packet.length < 6) {
+            return null;
+        }
+
+        switch (getPacketType(packet[1])) {
+            case TEMPERATURE_RAIN:
+            case TEMPERATURE:
+            case HUMIDITY:
+            case TEMPERATURE_HUMIDITY:
+            case TEMPERATURE_HUMIDITY_BAROMETRIC:
+            case RAIN:
+            case WIND:
+            case UV:
+            case DATE_TIME:
+            case CURRENT:
+            case ENERGY:
+            case CURRENT_ENERGY:
+            case POWER:
+            case WEIGHT:
+                return String.valueOf((packet[4] & 0xFF) << 8 | (packet[5] & 0xFF));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Creates the message object for the packet type without reflection.
+     *
+     * @param packet
+     *            Raw data or <code>null</code> for an empty message.
+     * @return message object or <code>null</code> if the packet type is not implemented.
+     */
+    private static RFXComMessageInterface createMessage(PacketType packetType, byte[] packet) throws RFXComException {
 
-        } catch (Exception e) {
+        try {
+            switch (packetType) {
+                case INTERFACE_CONTROL:
+                    return packet == null ? new RFXComControlMessage() : new RFXComControlMessage(packet);
+                case INTERFACE_MESSAGE:
+                    return packet == null ? new RFXComInterfaceMessage() : new RFXComInterfaceMessage(packet);
+                case TRANSMITTER_MESSAGE:
+                    return packet == null ? new RFXComTransmitterMessage() : new RFXComTransmitterMessage(packet);
+                case UNDECODED_RF_MESSAGE:
+                    return packet == null ? new RFXComUndecodedRFMessage() : new RFXComUndecodedRFMessage(packet);
+                case LIGHTING1:
+                    return packet == null ? new RFXComLighting1Message() : new RFXComLighting1Message(packet);
+                case LIGHTING2:
+                    return packet == null ? new RFXComLighting2Message() : new RFXComLighting2Message(packet);
+                case LIGHTING3:
+                    return packet == null ? new RFXComLighting3Message() : new RFXComLighting3Message(packet);
+                case LIGHTING4:
+                    return packet == null ? new RFXComLighting4Message() : new RFXComLighting4Message(packet);
+                case LIGHTING5:
+                    return packet == null ? new RFXComLighting5Message() : new RFXComLighting5Message(packet);
+                case LIGHTING6:
+                    return packet == null ? new RFXComLighting6Message() : new RFXComLighting6Message(packet);
+                case CHIME:
+                    return packet == null ? new RFXComChimeMessage() : new RFXComChimeMessage(packet);
+                case FAN:
+                    return packet == null ? new RFXComFanMessage() : new RFXComFanMessage(packet);
+                case CURTAIN1:
+                    return packet == null ? new RFXComCurtain1Message() : new RFXComCurtain1Message(packet);
+                case BLINDS1:
+                    return packet == null ? new RFXComBlinds1Message() : new RFXComBlinds1Message(packet);
+                case RFY:
+                    return packet == null ? new RFXComRfyMessage() : new RFXComRfyMessage(packet);
+                case SECURITY1:
+                    return packet == null ? new RFXComSecurity1Message() : new RFXComSecurity1Message(packet);
+                case SECURITY2:
+                    return packet == null ? new RFXComSecurity2Message() : new RFXComSecurity2Message(packet);
+                case THERMOSTAT1:
+                    return packet == null ? new RFXComThermostat1Message() : new RFXComThermostat1Message(packet);
+                case THERMOSTAT2:
+                    return packet == null ? new RFXComThermostat2Message() : new RFXComThermostat2Message(packet);
+                case THERMOSTAT3:
+                    return packet == null ? new RFXComThermostat3Message() : new RFXComThermostat3Message(packet);
+                case TEMPERATURE_RAIN:
+                    return packet == null ? new RFXComTemperatureRainMessage()
+                            : new RFXComTemperatureRainMessage(packet);
+                case TEMPERATURE:
+                    return packet == null ? new RFXComTemperatureMessage() : new RFXComTemperatureMessage(packet);
+                case HUMIDITY:
+                    return packet == null ? new RFXComHumidityMessage() : new RFXComHumidityMessage(packet);
+                case TEMPERATURE_HUMIDITY:
+                    return packet == null ? new RFXComTemperatureHumidityMessage()
+                            : new RFXComTemperatureHumidityMessage(packet);
+                case TEMPERATURE_HUMIDITY_BAROMETRIC:
+                    return packet == null ? new RFXComTemperatureHumidityBarometricMessage()
+                            : new RFXComTemperatureHumidityBarometricMessage(packet);
+                case RAIN:
+                    return packet == null ? new RFXComRainMessage() : new RFXComRainMessage(packet);
+                case WIND:
+                    return packet == null ? new RFXComWindMessage() : new RFXComWindMessage(packet);
+                case UV:
+                    return packet == null ? new RFXComUVMessage() : new RFXComUVMessage(packet);
+                case DATE_TIME:
+                    return packet == null ? new RFXComDateTimeMessage() : new RFXComDateTimeMessage(packet);
+                case CURRENT:
+                    return packet == null ? new RFXComCurrentMessage() : new RFXComCurrentMessage(packet);
+                case ENERGY:
+                    return packet == null ? new RFXComEnergyMessage() : new RFXComEnergyMessage(packet);
+                case CURRENT_ENERGY:
+                    return packet == null ? new RFXComCurrentEnergyMessage() : new RFXComCurrentEnergyMessage(packet);
+                case POWER:
+                    return packet == null ? new RFXComPowerMessage() : new RFXComPowerMessage(packet);
+                case WEIGHT:
+                    return packet == null ? new RFXComWeightMessage() : new RFXComWeightMessage(packet);
+                default:
+                    return null;
+            }
+
+        } catch (RuntimeException e) {
             throw new RFXComException(e);
         }
     }
@@ -137,12 +209,6 @@ public class RFXComMessageFactory {
     }
 
     private static PacketType getPacketType(byte packetType) {
-        for (PacketType p : PacketType.values()) {
-            if (p.toByte() == packetType) {
-                return p;
-            }
-        }
-
-        return PacketType.UNKNOWN;
+        return packetTypes[packetType & 0xFF];
     }
 }
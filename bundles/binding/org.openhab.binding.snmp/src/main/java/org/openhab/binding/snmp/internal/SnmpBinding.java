@@ -9,13 +9,23 @@
 package org.openhab.binding.snmp.internal;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.openhab.binding.snmp.SnmpBindingProvider;
 import org.openhab.core.binding.AbstractActiveBinding;
+import org.openhab.core.binding.BindingProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.library.items.StringItem;
@@ -53,6 +63,13 @@ import org.snmp4j.transport.DefaultUdpTransportMapping;
  * The SNMP binding listens to SNMP Traps on the configured port and posts new
  * events of type ({@link StringType} to the event bus.
  *
+ * Polled OIDs which are due are grouped by agent address, community and
+ * version and requested with GET PDUs of up to <code>max_varbinds</code>
+ * variable bindings. The requests are sent asynchronously, at most
+ * <code>max_requests</code> requests are waiting for a response at the same
+ * time. Responses and traps are dispatched to the items by an index of
+ * address and OID.
+ *
  * @author Thomas.Eichstaedt-Engelen
  * @author Chris Jackson - modified binding to support polling SNMP OIDs (SNMP GET) and setting values (SNMP SET).
  * @author Jan N. Klug - modified binding to change protocol version
@@ -76,6 +93,24 @@ public class SnmpBinding extends AbstractActiveBinding<SnmpBindingProvider>
     private static int timeout = 1500;
     private static int retries = 0;
 
+    private static final int DEFAULT_MAX_VARBINDS = 20;
+    private static final int DEFAULT_MAX_REQUESTS = 10;
+
+    /** The maximum number of variable bindings in one GET request */
+    private static int maxVarbinds = DEFAULT_MAX_VARBINDS;
+
+    /** The maximum number of GET requests waiting for a response */
+    private static int maxRequests = DEFAULT_MAX_REQUESTS;
+
+    /** Limits the requests waiting for a response */
+    private Semaphore pendingRequests = new Semaphore(DEFAULT_MAX_REQUESTS);
+
+    /** Items by address and OID, rebuilt on the next use after a binding changed */
+    private volatile Map<Address, Map<OID, List<ItemBinding>>> itemIndex;
+
+    /** OIDs which an agent rejected in a batched request, these are requested on their own */
+    private final Set<String> isolatedOids = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
     /**
      * the interval to find new refresh candidates (defaults to 1000
      * milliseconds)
@@ -141,6 +176,7 @@ public class SnmpBinding extends AbstractActiveBinding<SnmpBindingProvider>
             }
 
             snmp = new Snmp(transport);
+            pendingRequests = new Semaphore(maxRequests);
 
             transport.listen();
             logger.debug("SNMP binding is listening on " + address);
@@ -206,55 +242,150 @@ public class SnmpBinding extends AbstractActiveBinding<SnmpBindingProvider>
      */
     @Override
     public void onResponse(ResponseEvent event) {
-        dispatchPdu(event.getPeerAddress(), event.getResponse());
+        // free the resources of the request, a response may arrive after a retry
+        ((Snmp) event.getSource()).cancel(event.getRequest(), this);
+
+        if (event.getUserObject() instanceof String) {
+            pendingRequests.release();
+        }
+
+        PDU request = event.getRequest();
+        PDU response = event.getResponse();
+        if (response == null) {
+            logger.debug("SNMP: Timeout of request to '{}' {}", event.getPeerAddress(), request);
+            return;
+        }
+
+        if (response.getErrorStatus() != PDU.noError && event.getUserObject() instanceof String) {
+            // e.g. SNMPv1 agents reject the whole request if one OID doesn't exist
+            String targetKey = (String) event.getUserObject();
+            int errorIndex = response.getErrorIndex();
+            if (request.size() > 1) {
+                if (errorIndex > 0 && errorIndex <= request.size()) {
+                    isolatedOids.add(targetKey + request.get(errorIndex - 1).getOid());
+                } else {
+                    for (VariableBinding variableBinding : request.getVariableBindings()) {
+                        isolatedOids.add(targetKey + variableBinding.getOid());
+                    }
+                }
+            }
+            logger.debug("SNMP: Error '{}' (index {}) from '{}', OIDs are requested separately from now on",
+                    response.getErrorStatusText(), errorIndex, event.getPeerAddress());
+            return;
+        }
+
+        dispatchPdu(event.getPeerAddress(), response);
     }
 
     private void dispatchPdu(Address address, PDU pdu) {
         if (pdu != null & address != null) {
             logger.debug("Received PDU from '{}' '{}'", address, pdu);
-            for (SnmpBindingProvider provider : providers) {
-                for (String itemName : provider.getItemNames()) {
-                    // Check the IP address
-                    if (!provider.getAddress(itemName).equals(address)) {
-                        continue;
+
+            Map<OID, List<ItemBinding>> oidIndex = getItemIndex().get(address);
+            if (oidIndex == null) {
+                logger.trace("No item bound to address '{}'", address);
+                return;
+            }
+
+            for (VariableBinding variableBinding : pdu.getVariableBindings()) {
+                OID oid = variableBinding.getOid();
+                List<ItemBinding> itemBindings = oidIndex.get(oid);
+                if (itemBindings == null) {
+                    logger.trace("No item bound to OID '{}'", oid);
+                    continue;
+                }
+
+                Variable variable = variableBinding.getVariable();
+                for (ItemBinding itemBinding : itemBindings) {
+                    // a variable which can't be converted must not keep the other items of the PDU from updating
+                    try {
+                        updateItem(itemBinding, variable);
+                    } catch (RuntimeException e) {
+                        logger.warn("Couldn't update item '{}' with '{}' of OID '{}': {}",
+                                new Object[] { itemBinding.itemName, variable, oid, e.getMessage() });
                     }
+                }
+            }
+        }
+    }
+
+    private void updateItem(ItemBinding itemBinding, Variable variable) {
+        SnmpBindingProvider provider = itemBinding.provider;
+        String itemName = itemBinding.itemName;
+        Class<? extends Item> itemType = provider.getItemType(itemName);
 
-                    // Check the OID
+        // Do any transformations
+        String value = variable.toString();
+        try {
+            value = provider.doTransformation(itemName, value);
+        } catch (TransformationException e) {
+            logger.error("Transformation error with item {}: {}", itemName, e);
+        }
+
+        // Change to a state
+        State state = null;
+        if (itemType.isAssignableFrom(StringItem.class)) {
+            state = StringType.valueOf(value);
+        } else if (itemType.isAssignableFrom(NumberItem.class)) {
+            state = DecimalType.valueOf(value);
+        } else if (itemType.isAssignableFrom(SwitchItem.class)) {
+            state = OnOffType.valueOf(value);
+        }
+
+        if (state != null) {
+            eventPublisher.postUpdate(itemName, state);
+        } else {
+            logger.debug("'{}' couldn't be parsed to a State. Valid State-Types are String and Number",
+                    variable.toString());
+        }
+    }
+
+    /**
+     * Returns the items by address and OID, the index is built if a binding
+     * changed since the last call.
+     */
+    private Map<Address, Map<OID, List<ItemBinding>>> getItemIndex() {
+        Map<Address, Map<OID, List<ItemBinding>>> index = itemIndex;
+        if (index == null) {
+            index = new HashMap<Address, Map<OID, List<ItemBinding>>>();
+            for (SnmpBindingProvider provider : providers) {
+                for (String itemName : provider.getInBindingItemNames()) {
+                    Address address = provider.getAddress(itemName);
+                    Map<OID, List<ItemBinding>> oidIndex = index.get(address);
+                    if (oidIndex == null) {
+                        oidIndex = new HashMap<OID, List<ItemBinding>>();
+                        index.put(address, oidIndex);
+                    }
                     OID oid = provider.getOID(itemName);
-                    Variable variable = pdu.getVariable(oid);
-                    if (variable != null) {
-                        Class<? extends Item> itemType = provider.getItemType(itemName);
-
-                        // Do any transformations
-                        String value = variable.toString();
-                        try {
-                            value = provider.doTransformation(itemName, value);
-                        } catch (TransformationException e) {
-                            logger.error("Transformation error with item {}: {}", itemName, e);
-                        }
-
-                        // Change to a state
-                        State state = null;
-                        if (itemType.isAssignableFrom(StringItem.class)) {
-                            state = StringType.valueOf(value);
-                        } else if (itemType.isAssignableFrom(NumberItem.class)) {
-                            state = DecimalType.valueOf(value);
-                        } else if (itemType.isAssignableFrom(SwitchItem.class)) {
-                            state = OnOffType.valueOf(value);
-                        }
-
-                        if (state != null) {
-                            eventPublisher.postUpdate(itemName, state);
-                        } else {
-                            logger.debug("'{}' couldn't be parsed to a State. Valid State-Types are String and Number",
-                                    variable.toString());
-                        }
-                    } else {
-                        logger.trace("PDU doesn't contain a variable with OID '{}'", oid.toString());
+                    List<ItemBinding> itemBindings = oidIndex.get(oid);
+                    if (itemBindings == null) {
+                        itemBindings = new ArrayList<ItemBinding>(1);
+                        oidIndex.put(oid, itemBindings);
                     }
+                    itemBindings.add(new ItemBinding(provider, itemName));
                 }
             }
+            itemIndex = index;
         }
+        return index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindingChanged(BindingProvider provider, String itemName) {
+        super.bindingChanged(provider, itemName);
+        itemIndex = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void allBindingsChanged(BindingProvider provider) {
+        super.allBindingsChanged(provider);
+        itemIndex = null;
     }
 
     /**
@@ -313,6 +444,15 @@ public class SnmpBinding extends AbstractActiveBinding<SnmpBindingProvider>
      */
     @Override
     public void execute() {
+        if (snmp == null) {
+            logger.error("SNMP: snmp not initialised - aborting request");
+            return;
+        }
+
+        // collect the OIDs which are due per agent, address, community and version
+        Map<String, CommunityTarget> targets = new HashMap<String, CommunityTarget>();
+        Map<String, Set<OID>> targetOids = new LinkedHashMap<String, Set<OID>>();
+
         for (SnmpBindingProvider provider : providers) {
             for (String itemName : provider.getInBindingItemNames()) {
                 int refreshInterval = provider.getRefreshInterval(itemName);
@@ -333,32 +473,90 @@ public class SnmpBinding extends AbstractActiveBinding<SnmpBindingProvider>
                 if (needsUpdate) {
                     logger.debug("Item '{}' is about to be refreshed", itemName);
 
-                    // Set up the target
-                    CommunityTarget target = new CommunityTarget();
-                    target.setCommunity(provider.getCommunity(itemName));
-                    target.setAddress(provider.getAddress(itemName));
-                    target.setRetries(retries);
-                    target.setTimeout(timeout);
-                    target.setVersion(provider.getSnmpVersion(itemName));
-
-                    // Create the PDU
-                    PDU pdu = new PDU();
-                    pdu.add(new VariableBinding(provider.getOID(itemName)));
-                    pdu.setType(PDU.GET);
-
-                    logger.debug("SNMP: Send PDU {} {}", provider.getAddress(itemName), pdu);
-
-                    if (snmp == null) {
-                        logger.error("SNMP: snmp not initialised - aborting request");
-                    } else {
-                        sendPDU(target, pdu);
+                    Address address = provider.getAddress(itemName);
+                    OctetString community = provider.getCommunity(itemName);
+                    int version = provider.getSnmpVersion(itemName);
+                    String targetKey = address + "|" + community + "|" + version + "|";
+
+                    Set<OID> oids = targetOids.get(targetKey);
+                    if (oids == null) {
+                        // Set up the target
+                        CommunityTarget target = new CommunityTarget();
+                        target.setCommunity(community);
+                        target.setAddress(address);
+                        target.setRetries(retries);
+                        target.setTimeout(timeout);
+                        target.setVersion(version);
+                        targets.put(targetKey, target);
+
+                        oids = new LinkedHashSet<OID>();
+                        targetOids.put(targetKey, oids);
                     }
+                    oids.add(provider.getOID(itemName));
 
                     lastUpdateMap.put(itemName, System.currentTimeMillis());
                 }
             }
         }
 
+        for (Map.Entry<String, Set<OID>> entry : targetOids.entrySet()) {
+            String targetKey = entry.getKey();
+            CommunityTarget target = targets.get(targetKey);
+
+            // Create the PDUs
+            PDU pdu = new PDU();
+            pdu.setType(PDU.GET);
+            for (OID oid : entry.getValue()) {
+                if (isolatedOids.contains(targetKey + oid)) {
+                    PDU single = new PDU();
+                    single.setType(PDU.GET);
+                    single.add(new VariableBinding(oid));
+                    sendRequest(targetKey, target, single);
+                    continue;
+                }
+
+                pdu.add(new VariableBinding(oid));
+                if (pdu.size() >= maxVarbinds) {
+                    sendRequest(targetKey, target, pdu);
+                    pdu = new PDU();
+                    pdu.setType(PDU.GET);
+                }
+            }
+            if (pdu.size() > 0) {
+                sendRequest(targetKey, target, pdu);
+            }
+        }
+    }
+
+    /**
+     * Sends a GET request asynchronously, waits if too many requests are
+     * waiting for a response.
+     */
+    private void sendRequest(String targetKey, CommunityTarget target, PDU pdu) {
+        logger.debug("SNMP: Send PDU {} {}", target.getAddress(), pdu);
+
+        try {
+            // a request is answered or timed out after timeout * (retries + 1)
+            if (!pendingRequests.tryAcquire(timeout * (retries + 1) + 1000L, TimeUnit.MILLISECONDS)) {
+                logger.warn("SNMP: Too many pending requests, skipping request to {}", target.getAddress());
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        Snmp session = snmp;
+        if (session == null) {
+            pendingRequests.release();
+            return;
+        }
+        try {
+            session.send(pdu, target, targetKey, this);
+        } catch (IOException e) {
+            pendingRequests.release();
+            logger.error("Error sending PDU", e);
+        }
     }
 
     protected void addBindingProvider(SnmpBindingProvider bindingProvider) {
@@ -423,8 +621,13 @@ public class SnmpBinding extends AbstractActiveBinding<SnmpBindingProvider>
                         SnmpBinding.retries);
             }
 
+            SnmpBinding.maxVarbinds = parsePositive(config, "max_varbinds", DEFAULT_MAX_VARBINDS);
+            SnmpBinding.maxRequests = parsePositive(config, "max_requests", DEFAULT_MAX_REQUESTS);
         }
 
+        itemIndex = null;
+        isolatedOids.clear();
+
         for (SnmpBindingProvider provider : providers) {
             if (provider.getInBindingItemNames() != null) {
                 mapping = true;
@@ -438,6 +641,20 @@ public class SnmpBinding extends AbstractActiveBinding<SnmpBindingProvider>
         setProperlyConfigured(true);
     }
 
+    private int parsePositive(Dictionary<String, ?> config, String key, int defaultValue) {
+        String valueString = (String) config.get(key);
+        if (StringUtils.isNotBlank(valueString) && valueString.trim().matches("\\d+")) {
+            int value = Integer.parseInt(valueString.trim());
+            if (value > 0) {
+                return value;
+            }
+        }
+        if (StringUtils.isNotBlank(valueString)) {
+            logger.info("SNMP {} value is invalid ({}). Using default value.", key, valueString);
+        }
+        return defaultValue;
+    }
+
     private void sendPDU(CommunityTarget target, PDU pdu) {
         try {
             snmp.send(pdu, target, null, this);
@@ -446,4 +663,16 @@ public class SnmpBinding extends AbstractActiveBinding<SnmpBindingProvider>
         }
     }
 
+    /**
+     * An item of a binding provider, bound to an address and OID.
+     */
+    private static final class ItemBinding {
+        private final SnmpBindingProvider provider;
+        private final String itemName;
+
+        private ItemBinding(SnmpBindingProvider provider, String itemName) {
+            this.provider = provider;
+            this.itemName = itemName;
+        }
+    }
 }
@@ -32,6 +32,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.joda.time.DateTime;
 import org.joda.time.LocalTime;
@@ -101,6 +103,55 @@ public class SonosXMLParser {
         desc;
     }
 
+    /**
+     * SAX readers are expensive to create and not thread safe, so every thread that parses Sonos
+     * events or responses keeps its own reader.
+     */
+    private static final ThreadLocal<XMLReader> READERS = new ThreadLocal<XMLReader>();
+
+    /**
+     * The state variables of the LastChange events are immutable and only differ by name, so they
+     * are created once per name.
+     */
+    private static final ConcurrentMap<String, StateVariable> STATE_VARIABLES = new ConcurrentHashMap<String, StateVariable>();
+
+    /**
+     * Parses the xml string with the reader of the calling thread. Handlers may parse embedded
+     * documents while the reader is busy, these nested parses get a reader of their own.
+     */
+    private static void parse(DefaultHandler handler, String xml) throws SAXException, IOException {
+        XMLReader reader = READERS.get();
+        boolean shared = true;
+        if (reader == null) {
+            reader = XMLReaderFactory.createXMLReader();
+            READERS.set(reader);
+        } else if (reader.getContentHandler() != null) {
+            reader = XMLReaderFactory.createXMLReader();
+            shared = false;
+        }
+        reader.setContentHandler(handler);
+        try {
+            reader.parse(new InputSource(new StringReader(xml)));
+        } finally {
+            if (shared) {
+                // releases the reader and doesn't keep the handler reachable from the thread
+                reader.setContentHandler(null);
+            }
+        }
+    }
+
+    private static StateVariableValue getStateVariableValue(String name, String value) {
+        StateVariable stateVariable = STATE_VARIABLES.get(name);
+        if (stateVariable == null) {
+            stateVariable = new StateVariable(name, new StateVariableTypeDetails(new StringDatatype()));
+            StateVariable existing = STATE_VARIABLES.putIfAbsent(name, stateVariable);
+            if (existing != null) {
+                stateVariable = existing;
+            }
+        }
+        return new StateVariableValue(stateVariable, value);
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -108,11 +159,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         AlarmHandler handler = new AlarmHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             logger.error("Could not parse Alarms from String {}", xml);
         }
@@ -126,11 +175,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static List<SonosEntry> getEntriesFromString(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         EntryHandler handler = new EntryHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             logger.error("Could not parse Entries from String {}", xml);
         }
@@ -146,11 +193,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static SonosResourceMetaData getEmbededMetaDataFromResource(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         EmbededMetaDataHandler handler = new EmbededMetaDataHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             logger.error("Could not parse Entries from String {}", xml);
         }
@@ -165,11 +210,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         ZoneGroupHandler handler = new ZoneGroupHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse ZoneGroup from String {}", xml);
@@ -180,11 +223,9 @@ public class SonosXMLParser {
     }
 
     public static List<String> getRadioTimeFromXML(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         OpmlHandler handler = new OpmlHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse RadioTime from String {}", xml);
@@ -195,11 +236,9 @@ public class SonosXMLParser {
     }
 
     public static Map<String, StateVariableValue> getRenderingControlFromXML(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         RenderingControlEventHandler handler = new RenderingControlEventHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.debug("Could not parse Rendering Control event: {}", e);
@@ -208,11 +247,9 @@ public class SonosXMLParser {
     }
 
     public static Map<String, StateVariableValue> getAVTransportFromXML(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         AVTransportEventHandler handler = new AVTransportEventHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse AV Transport Event: {}", e);
@@ -221,12 +258,9 @@ public class SonosXMLParser {
     }
 
     public static SonosMetaData getMetaDataFromXML(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
-        // logger.debug("getTrackFromXML {}",xml);
         MetaDataHandler handler = new MetaDataHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse AV Transport Event: {}", e);
@@ -670,6 +704,8 @@ public class SonosXMLParser {
          * </Event>
          */
 
+        private static final String NOT_IMPLEMENTED = "NOT_IMPLEMENTED";
+
         private final Map<String, StateVariableValue> changes = new HashMap<String, StateVariableValue>();
 
         @Override
@@ -679,11 +715,10 @@ public class SonosXMLParser {
              * the info we need from here.
              */
             try {
-                if (atts.getValue("val") != null) {
-                    StateVariable stateVariable = new StateVariable(localName,
-                            new StateVariableTypeDetails(new StringDatatype()));
-                    StateVariableValue stateVariableValue = new StateVariableValue(stateVariable, atts.getValue("val"));
-                    changes.put(localName, stateVariableValue);
+                String value = atts.getValue("val");
+                // variables the player doesn't implement are never used, skip them right away
+                if (value != null && !NOT_IMPLEMENTED.equals(value)) {
+                    changes.put(localName, getStateVariableValue(localName, value));
                 }
             } catch (IllegalArgumentException e) {
                 // this means that localName isn't defined in EventType, which is expected for some elements
@@ -791,22 +826,19 @@ public class SonosXMLParser {
 
         @Override
         public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
-            StateVariable stateVariable = new StateVariable(localName,
-                    new StateVariableTypeDetails(new StringDatatype()));
-            StateVariableValue stateVariableValue = new StateVariableValue(stateVariable, atts.getValue("val"));
-
+            // only the variables below are of interest, the others are not even converted
             if ("Volume".equals(qName)) {
-                changes.put(qName + atts.getValue("channel"), stateVariableValue);
+                changes.put(qName + atts.getValue("channel"), getStateVariableValue(localName, atts.getValue("val")));
             } else if ("Mute".equals(qName)) {
-                changes.put(qName + atts.getValue("channel"), stateVariableValue);
+                changes.put(qName + atts.getValue("channel"), getStateVariableValue(localName, atts.getValue("val")));
             } else if ("Bass".equals(qName)) {
-                changes.put(qName, stateVariableValue);
+                changes.put(qName, getStateVariableValue(localName, atts.getValue("val")));
             } else if ("Treble".equals(qName)) {
-                changes.put(qName, stateVariableValue);
+                changes.put(qName, getStateVariableValue(localName, atts.getValue("val")));
             } else if ("Loudness".equals(qName)) {
-                changes.put(qName + atts.getValue("channel"), stateVariableValue);
+                changes.put(qName + atts.getValue("channel"), getStateVariableValue(localName, atts.getValue("val")));
             } else if ("OutputFixed".equals(qName)) {
-                changes.put(qName, stateVariableValue);
+                changes.put(qName, getStateVariableValue(localName, atts.getValue("val")));
             } else if ("PresetNameList".equals(qName)) {
                 getPresetName = true;
             }
@@ -823,10 +855,7 @@ public class SonosXMLParser {
         public void endElement(String uri, String localName, String qName) throws SAXException {
             if (getPresetName) {
                 getPresetName = false;
-                StateVariable stateVariable = new StateVariable(localName,
-                        new StateVariableTypeDetails(new StringDatatype()));
-                StateVariableValue stateVariableValue = new StateVariableValue(stateVariable, presetName);
-                changes.put(qName, stateVariableValue);
+                changes.put(qName, getStateVariableValue(localName, presetName));
             }
         }
 
@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.apache.commons.lang.StringUtils;
 import org.joda.time.DateTime;
@@ -68,6 +69,12 @@ class SonosZonePlayer {
     /** the default socket timeout when requesting an url */
     private static final int SO_TIMEOUT = 5000;
 
+    /** the number of entries requested with one ContentDirectory browse */
+    private static final long BROWSE_PAGE_SIZE = 200;
+
+    /** the default filter used when browsing the ContentDirectory */
+    private static final String BROWSE_FILTER = "dc:title,res,dc:creator,upnp:artist,upnp:album";
+
     private RemoteDevice device = null;
     private UDN udn;
     private String id;
@@ -325,16 +332,7 @@ class SonosZonePlayer {
 
         if (isConfigured()) {
 
-            List<SonosEntry> stations = getFavoriteRadios();
-
-            SonosEntry theEntry = null;
-            // search for the appropriate radio based on its name (title)
-            for (SonosEntry someStation : stations) {
-                if (someStation.getTitle().equals(station)) {
-                    theEntry = someStation;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntry("R:0/0", station);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -364,16 +362,7 @@ class SonosZonePlayer {
 
         if (isConfigured()) {
 
-            List<SonosEntry> stations = getFavorites();
-
-            SonosEntry theEntry = null;
-            // search for the appropriate favorite based on its name (title)
-            for (SonosEntry someStation : stations) {
-                if (someStation.getTitle().equals(station)) {
-                    theEntry = someStation;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntry("FV:2", station);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -413,17 +402,7 @@ class SonosZonePlayer {
 
         if (isConfigured()) {
 
-            List<SonosEntry> playlists = getPlayLists();
-
-            SonosEntry theEntry = null;
-
-            // search for the appropriate play list based on its name (title)
-            for (SonosEntry somePlaylist : playlists) {
-                if (somePlaylist.getTitle().equals(playlist)) {
-                    theEntry = somePlaylist;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntry("SQ:", playlist);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -1399,23 +1378,119 @@ class SonosZonePlayer {
         }
     }
 
+    /**
+     * Returns all entries of the given ContentDirectory container. The container is browsed page by page, but
+     * all pages are collected in memory, so this is no cheaper than fetching the whole container at once. Only
+     * {@link #findEntry(String, String)} stops browsing early.
+     *
+     * @param type the ObjectID of the container, e.g. "Q:0" for the queue
+     * @param filter the properties to return for each entry
+     * @return the entries, or null if the player is not configured
+     */
     protected List<SonosEntry> getEntries(String type, String filter) {
 
         List<SonosEntry> resultList = null;
 
         if (isConfigured()) {
+            resultList = new ArrayList<SonosEntry>();
+            Iterator<SonosEntry> entries = getEntryIterator(type, filter);
+            while (entries.hasNext()) {
+                resultList.add(entries.next());
+            }
+        }
+
+        return resultList;
+
+    }
 
-            long startAt = 0;
+    /**
+     * Returns an iterator over the entries of the given ContentDirectory container. The entries are browsed
+     * incrementally, the next page is only requested from the player once the previous one has been consumed.
+     *
+     * @param type the ObjectID of the container, e.g. "Q:0" for the queue
+     * @param filter the properties to return for each entry
+     * @return an iterator over the entries, which is empty if the player is not configured
+     */
+    protected Iterator<SonosEntry> getEntryIterator(String type, String filter) {
+        if (!isConfigured()) {
+            return Collections.<SonosEntry> emptyList().iterator();
+        }
+        return new EntryIterator(type, filter);
+    }
 
+    /**
+     * Searches the given ContentDirectory container for the first entry with the given title. Browsing stops as
+     * soon as the entry is found, so large containers are not transferred completely.
+     *
+     * @param type the ObjectID of the container
+     * @param title the title of the entry
+     * @return the entry, or null if there is none with the given title
+     */
+    protected SonosEntry findEntry(String type, String title) {
+        Iterator<SonosEntry> entries = getEntryIterator(type, BROWSE_FILTER);
+        while (entries.hasNext()) {
+            SonosEntry entry = entries.next();
+            if (entry.getTitle().equals(title)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Iterator that browses a ContentDirectory container page by page.
+     */
+    private class EntryIterator implements Iterator<SonosEntry> {
+
+        private final String type;
+        private final String filter;
+        private final Action action;
+
+        private long startAt = 0;
+        private long totalMatches = -1;
+        private Iterator<SonosEntry> page = Collections.<SonosEntry> emptyList().iterator();
+
+        EntryIterator(String type, String filter) {
+            this.type = type;
+            this.filter = filter;
             Service service = device.findService(new UDAServiceId("ContentDirectory"));
-            Action action = service.getAction("Browse");
+            this.action = service.getAction("Browse");
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext()) {
+                if (totalMatches >= 0 && startAt >= totalMatches) {
+                    return false;
+                }
+                if (!browseNextPage()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public SonosEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private boolean browseNextPage() {
             ActionInvocation invocation = new ActionInvocation(action);
             try {
                 invocation.setInput("ObjectID", type);
                 invocation.setInput("BrowseFlag", "BrowseDirectChildren");
                 invocation.setInput("Filter", filter);
                 invocation.setInput("StartingIndex", new UnsignedIntegerFourBytes(startAt));
-                invocation.setInput("RequestedCount", new UnsignedIntegerFourBytes(200));
+                invocation.setInput("RequestedCount", new UnsignedIntegerFourBytes(BROWSE_PAGE_SIZE));
                 invocation.setInput("SortCriteria", "");
             } catch (InvalidValueException ex) {
                 logger.error("Action Invalid Value Exception {}", ex.getMessage());
@@ -1425,49 +1500,30 @@ class SonosZonePlayer {
             // Execute this action synchronously
             new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
 
-            Long totalMatches = ((UnsignedIntegerFourBytes) invocation.getOutput("TotalMatches").getValue()).getValue();
-            Long initialNumberReturned = ((UnsignedIntegerFourBytes) invocation.getOutput("NumberReturned").getValue())
-                    .getValue();
-            String initialResult = (String) invocation.getOutput("Result").getValue();
-
-            try {
-                resultList = SonosXMLParser.getEntriesFromString(initialResult);
-            } catch (SAXException e) {
-                logger.error("Could not parse Entries from String {}", initialResult);
+            ActionArgumentValue totalOutput = invocation.getOutput("TotalMatches");
+            ActionArgumentValue numberOutput = invocation.getOutput("NumberReturned");
+            ActionArgumentValue resultOutput = invocation.getOutput("Result");
+            if (totalOutput == null || numberOutput == null || resultOutput == null) {
+                logger.error("Could not browse {} at index {}", type, startAt);
+                return false;
             }
 
-            startAt = startAt + initialNumberReturned;
-
-            while (startAt < totalMatches) {
-                invocation = new ActionInvocation(action);
-                try {
-                    invocation.setInput("ObjectID", type);
-                    invocation.setInput("BrowseFlag", "BrowseDirectChildren");
-                    invocation.setInput("Filter", filter);
-                    invocation.setInput("StartingIndex", new UnsignedIntegerFourBytes(startAt));
-                    invocation.setInput("RequestedCount", new UnsignedIntegerFourBytes(200));
-                    invocation.setInput("SortCriteria", "");
-                } catch (InvalidValueException ex) {
-                    logger.error("Action Invalid Value Exception {}", ex.getMessage());
-                } catch (NumberFormatException ex) {
-                    logger.error("Action Invalid Value Format Exception {}", ex.getMessage());
-                }
-                // Execute this action synchronously
-                new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
-                String result = (String) invocation.getOutput("Result").getValue();
-                int numberReturned = (Integer) invocation.getOutput("NumberReturned").getValue();
+            long numberReturned = ((UnsignedIntegerFourBytes) numberOutput.getValue()).getValue();
+            if (numberReturned == 0) {
+                // nothing more to come, even if the player reported more matches
+                return false;
+            }
+            totalMatches = ((UnsignedIntegerFourBytes) totalOutput.getValue()).getValue();
+            startAt = startAt + numberReturned;
 
-                try {
-                    resultList.addAll(SonosXMLParser.getEntriesFromString(result));
-                } catch (SAXException e) {
-                    logger.error("Could not parse Entries from String {}", result);
-                }
-                startAt = startAt + numberReturned;
+            String result = (String) resultOutput.getValue();
+            try {
+                page = SonosXMLParser.getEntriesFromString(result).iterator();
+            } catch (SAXException e) {
+                logger.error("Could not parse Entries from String {}", result);
             }
+            return true;
         }
-
-        return resultList;
-
     }
 
     public List<SonosEntry> getArtists(String filter) {
@@ -1475,7 +1531,7 @@ class SonosZonePlayer {
     }
 
     public List<SonosEntry> getArtists() {
-        return getEntries("A:", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("A:", BROWSE_FILTER);
     }
 
     public List<SonosEntry> getAlbums(String filter) {
@@ -1483,7 +1539,7 @@ class SonosZonePlayer {
     }
 
     public List<SonosEntry> getAlbums() {
-        return getEntries("A:ALBUM", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("A:ALBUM", BROWSE_FILTER);
     }
 
     public List<SonosEntry> getTracks(String filter) {
@@ -1491,7 +1547,7 @@ class SonosZonePlayer {
     }
 
     public List<SonosEntry> getTracks() {
-        return getEntries("A:TRACKS", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("A:TRACKS", BROWSE_FILTER);
     }
 
     public List<SonosEntry> getQueue(String filter) {
@@ -1499,7 +1555,7 @@ class SonosZonePlayer {
     }
 
     public List<SonosEntry> getQueue() {
-        return getEntries("Q:0", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("Q:0", BROWSE_FILTER);
     }
 
     public List<SonosEntry> getPlayLists(String filter) {
@@ -1507,7 +1563,7 @@ class SonosZonePlayer {
     }
 
     public List<SonosEntry> getPlayLists() {
-        return getEntries("SQ:", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("SQ:", BROWSE_FILTER);
     }
 
     public List<SonosEntry> getFavoriteRadios(String filter) {
@@ -1515,7 +1571,7 @@ class SonosZonePlayer {
     }
 
     public List<SonosEntry> getFavoriteRadios() {
-        return getEntries("R:0/0", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("R:0/0", BROWSE_FILTER);
     }
 
     /**
@@ -1524,7 +1580,7 @@ class SonosZonePlayer {
      * @return
      */
     public List<SonosEntry> getFavorites() {
-        return getEntries("FV:2", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("FV:2", BROWSE_FILTER);
     }
 
     public List<SonosAlarm> getCurrentAlarmList() {
@@ -1887,14 +1943,11 @@ class SonosZonePlayer {
 
                         if (queued.getUpnpClass().contains("object.container.playlistContainer")) {
                             // we are playing a real 'saved' playlist
-                            List<SonosEntry> playLists = getPlayLists();
-                            for (SonosEntry someList : playLists) {
-                                if (someList.getTitle().equals(queued.getTitle())) {
-                                    savedState.entry = new SonosEntry(someList.getId(), someList.getTitle(),
-                                            someList.getParentId(), "", "", "", someList.getUpnpClass(),
-                                            someList.getRes());
-                                    break;
-                                }
+                            SonosEntry someList = findEntry("SQ:", queued.getTitle());
+                            if (someList != null) {
+                                savedState.entry = new SonosEntry(someList.getId(), someList.getTitle(),
+                                        someList.getParentId(), "", "", "", someList.getUpnpClass(),
+                                        someList.getRes());
                             }
 
                         } else if (queued.getUpnpClass().contains("object.container")) {
@@ -1905,26 +1958,20 @@ class SonosZonePlayer {
 
                             // save the playlist
                             String existingList = "";
-                            List<SonosEntry> playLists = getPlayLists();
-                            for (SonosEntry someList : playLists) {
-                                if (someList.getTitle().equals("openHAB-" + getUdn())) {
-                                    existingList = someList.getId();
-                                    break;
-                                }
+                            SonosEntry someList = findEntry("SQ:", "openHAB-" + getUdn());
+                            if (someList != null) {
+                                existingList = someList.getId();
                             }
 
                             saveQueue("openHAB-" + getUdn(), existingList);
 
                             // get all the playlists and a ref to our
                             // saved list
-                            playLists = getPlayLists();
-                            for (SonosEntry someList : playLists) {
-                                if (someList.getTitle().equals("openHAB-" + getUdn())) {
-                                    savedState.entry = new SonosEntry(someList.getId(), someList.getTitle(),
-                                            someList.getParentId(), "", "", "", someList.getUpnpClass(),
-                                            someList.getRes());
-                                    break;
-                                }
+                            someList = findEntry("SQ:", "openHAB-" + getUdn());
+                            if (someList != null) {
+                                savedState.entry = new SonosEntry(someList.getId(), someList.getTitle(),
+                                        someList.getParentId(), "", "", "", someList.getUpnpClass(),
+                                        someList.getRes());
                             }
 
                         }
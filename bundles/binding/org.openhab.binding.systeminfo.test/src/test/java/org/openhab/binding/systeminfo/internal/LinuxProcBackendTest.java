@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import junit.framework.Assert;
+
+/**
+ * Tests the {@link LinuxProcBackend} against a fake proc and sys file
+ * system.
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public class LinuxProcBackendTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File root;
+
+    private LinuxProcBackend backend;
+
+    @Before
+    public void init() throws Exception {
+        root = folder.getRoot();
+
+        write("proc/stat", "cpu  100 20 30 800 50 0 0 0 0 0\ncpu0 100 20 30 800 50 0 0 0 0 0\nbtime 1460000000\n");
+        write("proc/loadavg", "0.52 0.58 1.25 1/123 4567\n");
+        write("proc/uptime", "1000.50 3900.10\n");
+        write("proc/meminfo", "MemTotal:        1000 kB\nMemFree:          200 kB\nBuffers:          100 kB\n"
+                + "Cached:           300 kB\nSwapCached:        10 kB\nSwapTotal:        500 kB\n"
+                + "SwapFree:         400 kB\n");
+        write("proc/vmstat", "nr_free_pages 50\npswpin 12\npswpout 34\n");
+        write("proc/mounts", "proc /proc proc rw 0 0\n/dev/sda1 / ext4 rw 0 0\n/dev/sdb1 /data ext4 rw 0 0\n");
+        write("sys/class/net/eth0/statistics/rx_bytes", "123456\n");
+        write("sys/class/net/eth0/statistics/tx_bytes", "654321\n");
+        write("sys/class/block/sda1/stat", "  10 0 80 5 20 0 160 7 0 12 12\n");
+        write("sys/class/block/sdb1/stat", "  1 0 8 5 2 0 16 7 0 12 12\n");
+
+        writeProcess(1234, "java openhab", 250, 50, 5000, 4096, 2048);
+        writeProcess(42, "sshd", 10, 10, 100, 1024, 512);
+        writeProcess(43, "sshd", 10, 10, 100, 1024, 512);
+        Files.createSymbolicLink(new File(root, "proc/self").toPath(), new File(root, "proc/1234").toPath());
+
+        backend = new LinuxProcBackend(root);
+        backend.initialize();
+    }
+
+    @Test(expected = SysteminfoException.class)
+    public void testInitialize_noProc() throws SysteminfoException {
+        new LinuxProcBackend(new File(root, "missing")).initialize();
+    }
+
+    @Test
+    public void testLoadAverageAndUptime() throws SysteminfoException {
+        SysteminfoSnapshot snapshot = backend.takeSnapshot();
+        Assert.assertEquals(0.52, snapshot.getValue(SysteminfoCommandType.LOAD_AVERAGE_1MIN, null), DELTA);
+        Assert.assertEquals(0.58, snapshot.getValue(SysteminfoCommandType.LOAD_AVERAGE_5MIN, null), DELTA);
+        Assert.assertEquals(1.25, snapshot.getValue(SysteminfoCommandType.LOAD_AVERAGE_15MIN, null), DELTA);
+        Assert.assertEquals(1000.5, snapshot.getValue(SysteminfoCommandType.UPTIME, null), DELTA);
+    }
+
+    @Test
+    public void testCpuSincePreviousSnapshot() throws Exception {
+        SysteminfoSnapshot snapshot = backend.takeSnapshot();
+        Assert.assertEquals(20.0, snapshot.getValue(SysteminfoCommandType.CPU_COMBINED, null), DELTA);
+
+        write("proc/stat", "cpu  150 20 80 900 50 0 0 0 0 0\n");
+        snapshot = backend.takeSnapshot();
+        Assert.assertEquals(25.0, snapshot.getValue(SysteminfoCommandType.CPU_USER, null), DELTA);
+        Assert.assertEquals(25.0, snapshot.getValue(SysteminfoCommandType.CPU_SYSTEM, null), DELTA);
+        Assert.assertEquals(0.0, snapshot.getValue(SysteminfoCommandType.CPU_NICE, null), DELTA);
+        Assert.assertEquals(0.0, snapshot.getValue(SysteminfoCommandType.CPU_WAIT, null), DELTA);
+        Assert.assertEquals(50.0, snapshot.getValue(SysteminfoCommandType.CPU_COMBINED, null), DELTA);
+    }
+
+    @Test
+    public void testMemoryAndSwap() throws SysteminfoException {
+        SysteminfoSnapshot snapshot = backend.takeSnapshot();
+        Assert.assertEquals(1000 * 1024.0, snapshot.getValue(SysteminfoCommandType.MEM_TOTAL, null), DELTA);
+        Assert.assertEquals(200 * 1024.0, snapshot.getValue(SysteminfoCommandType.MEM_FREE, null), DELTA);
+        Assert.assertEquals(800 * 1024.0, snapshot.getValue(SysteminfoCommandType.MEM_USED, null), DELTA);
+        Assert.assertEquals(600 * 1024.0, snapshot.getValue(SysteminfoCommandType.MEM_ACTUAL_FREE, null), DELTA);
+        Assert.assertEquals(400 * 1024.0, snapshot.getValue(SysteminfoCommandType.MEM_ACTUAL_USED, null), DELTA);
+        Assert.assertEquals(60.0, snapshot.getValue(SysteminfoCommandType.MEM_FREE_PERCENT, null), DELTA);
+        Assert.assertEquals(40.0, snapshot.getValue(SysteminfoCommandType.MEM_USED_PERCENT, null), DELTA);
+
+        Assert.assertEquals(500 * 1024.0, snapshot.getValue(SysteminfoCommandType.SWAP_TOTAL, null), DELTA);
+        Assert.assertEquals(400 * 1024.0, snapshot.getValue(SysteminfoCommandType.SWAP_FREE, null), DELTA);
+        Assert.assertEquals(100 * 1024.0, snapshot.getValue(SysteminfoCommandType.SWAP_USED, null), DELTA);
+        Assert.assertEquals(12.0, snapshot.getValue(SysteminfoCommandType.SWAP_PAGE_IN, null), DELTA);
+        Assert.assertEquals(34.0, snapshot.getValue(SysteminfoCommandType.SWAP_PAGE_OUT, null), DELTA);
+    }
+
+    @Test
+    public void testSnapshotReadsOnce() throws Exception {
+        SysteminfoSnapshot snapshot = backend.takeSnapshot();
+        Assert.assertEquals(200 * 1024.0, snapshot.getValue(SysteminfoCommandType.MEM_FREE, null), DELTA);
+
+        write("proc/meminfo", "MemTotal:        1000 kB\nMemFree:          300 kB\n");
+        Assert.assertEquals(200 * 1024.0, snapshot.getValue(SysteminfoCommandType.MEM_FREE, null), DELTA);
+        Assert.assertEquals(300 * 1024.0, backend.takeSnapshot().getValue(SysteminfoCommandType.MEM_FREE, null),
+                DELTA);
+    }
+
+    @Test
+    public void testNetworkAndDisk() throws SysteminfoException {
+        SysteminfoSnapshot snapshot = backend.takeSnapshot();
+        Assert.assertEquals(123456.0, snapshot.getValue(SysteminfoCommandType.NET_RX_BYTES, "eth0"), DELTA);
+        Assert.assertEquals(654321.0, snapshot.getValue(SysteminfoCommandType.NET_TX_BYTES, "eth0"), DELTA);
+
+        Assert.assertEquals(10.0, snapshot.getValue(SysteminfoCommandType.DISK_READS, "sda1"), DELTA);
+        Assert.assertEquals(80 * 512.0, snapshot.getValue(SysteminfoCommandType.DISK_READ_BYTES, "sda1"), DELTA);
+        Assert.assertEquals(20.0, snapshot.getValue(SysteminfoCommandType.DISK_WRITES, "sda1"), DELTA);
+        Assert.assertEquals(160 * 512.0, snapshot.getValue(SysteminfoCommandType.DISK_WRITE_BYTES, "sda1"), DELTA);
+
+        Assert.assertEquals(1.0, snapshot.getValue(SysteminfoCommandType.DISK_READS, "/data"), DELTA);
+    }
+
+    @Test(expected = SysteminfoException.class)
+    public void testNetwork_unknownInterface() throws SysteminfoException {
+        backend.takeSnapshot().getValue(SysteminfoCommandType.NET_RX_BYTES, "wlan7");
+    }
+
+    @Test
+    public void testDirUsage() throws Exception {
+        write("dir/a", "12345");
+        write("dir/sub/b", "123");
+
+        SysteminfoSnapshot snapshot = backend.takeSnapshot();
+        String dir = new File(root, "dir").getPath();
+        Assert.assertEquals(8.0, snapshot.getValue(SysteminfoCommandType.DIR_USAGE, dir), DELTA);
+        Assert.assertEquals(2.0, snapshot.getValue(SysteminfoCommandType.DIR_FILES, dir), DELTA);
+    }
+
+    @Test
+    public void testProcess() throws SysteminfoException {
+        SysteminfoSnapshot snapshot = backend.takeSnapshot();
+        Assert.assertEquals(2048 * 1024.0, snapshot.getValue(SysteminfoCommandType.PROCESS_REAL_MEM, "=java openhab"),
+                DELTA);
+        Assert.assertEquals(4096 * 1024.0, snapshot.getValue(SysteminfoCommandType.PROCESS_VIRTUAL_MEM, "openhab"),
+                DELTA);
+        Assert.assertEquals(2500.0, snapshot.getValue(SysteminfoCommandType.PROCESS_CPU_USER, "*java"), DELTA);
+        Assert.assertEquals(500.0, snapshot.getValue(SysteminfoCommandType.PROCESS_CPU_SYSTEM, "openhab*"), DELTA);
+        Assert.assertEquals(3000.0, snapshot.getValue(SysteminfoCommandType.PROCESS_CPU_TOTAL, "$$"), DELTA);
+        Assert.assertEquals(950.0, snapshot.getValue(SysteminfoCommandType.PROCESS_UPTIME, "$$"), DELTA);
+        Assert.assertEquals(3 / 950.5 * 100, snapshot.getValue(SysteminfoCommandType.PROCESS_CPU_PERCENT, "$$"),
+                DELTA);
+        Assert.assertEquals(2048 * 1024.0,
+                snapshot.getValue(SysteminfoCommandType.PROCESS_REAL_MEM, "#State.Name.re=^java"), DELTA);
+    }
+
+    @Test
+    public void testProcess_restarted() throws Exception {
+        Assert.assertEquals(2048 * 1024.0,
+                backend.takeSnapshot().getValue(SysteminfoCommandType.PROCESS_REAL_MEM, "openhab"), DELTA);
+
+        delete(new File(root, "proc/1234"));
+        writeProcess(2000, "java openhab", 1, 1, 90000, 8192, 4096);
+        Assert.assertEquals(4096 * 1024.0,
+                backend.takeSnapshot().getValue(SysteminfoCommandType.PROCESS_REAL_MEM, "openhab"), DELTA);
+    }
+
+    @Test(expected = SysteminfoException.class)
+    public void testProcess_notSingle() throws SysteminfoException {
+        backend.takeSnapshot().getValue(SysteminfoCommandType.PROCESS_REAL_MEM, "=sshd");
+    }
+
+    @Test(expected = SysteminfoException.class)
+    public void testProcess_notFound() throws SysteminfoException {
+        backend.takeSnapshot().getValue(SysteminfoCommandType.PROCESS_REAL_MEM, "=mysqld");
+    }
+
+    @Test(expected = SysteminfoException.class)
+    public void testProcess_unsupportedQuery() throws SysteminfoException {
+        backend.takeSnapshot().getValue(SysteminfoCommandType.PROCESS_REAL_MEM, "#Pid.PidFile.eq=/var/run/x.pid");
+    }
+
+    @Test(expected = SysteminfoException.class)
+    public void testFileSystemFiles_unsupported() throws SysteminfoException {
+        backend.takeSnapshot().getValue(SysteminfoCommandType.FS_FILES, root.getPath());
+    }
+
+    private void writeProcess(int pid, String name, int userTicks, int systemTicks, int startTicks, int size,
+            int resident) throws IOException {
+        write("proc/" + pid + "/stat", pid + " (" + name + ") S 1 " + pid + " " + pid + " 0 -1 4194560 100 0 0 0 "
+                + userTicks + " " + systemTicks + " 0 0 20 0 30 0 " + startTicks + " 123456 789\n");
+        write("proc/" + pid + "/status", "Name:\t" + name + "\nState:\tS (sleeping)\nVmSize:\t    " + size
+                + " kB\nVmRSS:\t    " + resident + " kB\n");
+    }
+
+    private void write(String path, String content) throws IOException {
+        File file = new File(root, path);
+        file.getParentFile().mkdirs();
+        FileWriter writer = new FileWriter(file);
+        try {
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+/**
+ * Compares the time the backends need for one refresh cycle of typical CPU,
+ * memory and process items, once with a snapshot shared by all items and
+ * once with a snapshot per item like before. Not run with the tests, start
+ * it manually with the native Sigar library on the library path:
+ *
+ * <pre>
+ * java -Djava.library.path=lib/amd64/linux org.openhab.binding.systeminfo.internal.SysteminfoBackendBenchmark
+ * </pre>
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public class SysteminfoBackendBenchmark {
+
+    private static final int WARMUP_CYCLES = 200;
+
+    private static final int CYCLES = 2000;
+
+    private static final SysteminfoCommandType[] ITEMS = { SysteminfoCommandType.LOAD_AVERAGE_1MIN,
+            SysteminfoCommandType.LOAD_AVERAGE_5MIN, SysteminfoCommandType.CPU_COMBINED,
+            SysteminfoCommandType.CPU_USER, SysteminfoCommandType.CPU_SYSTEM, SysteminfoCommandType.UPTIME,
+            SysteminfoCommandType.MEM_FREE_PERCENT, SysteminfoCommandType.MEM_USED,
+            SysteminfoCommandType.MEM_ACTUAL_FREE, SysteminfoCommandType.SWAP_USED,
+            SysteminfoCommandType.PROCESS_REAL_MEM, SysteminfoCommandType.PROCESS_CPU_PERCENT };
+
+    public static void main(String[] args) throws Exception {
+        run(new LinuxProcBackend());
+        run(new SigarBackend(null));
+    }
+
+    private static void run(SysteminfoBackend backend) {
+        try {
+            backend.initialize();
+        } catch (SysteminfoException e) {
+            System.out.println(backend.getName() + ": not available, " + e.getMessage());
+            return;
+        }
+
+        try {
+            measure(backend, true);
+            measure(backend, false);
+        } finally {
+            backend.dispose();
+        }
+    }
+
+    private static void measure(SysteminfoBackend backend, boolean shared) {
+        cycles(backend, WARMUP_CYCLES, shared);
+        long start = System.nanoTime();
+        int errors = cycles(backend, CYCLES, shared);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(String.format("%s, %s: %d cycles of %d items, %.1f us per cycle, %d errors",
+                backend.getName(), shared ? "shared snapshot" : "snapshot per item", CYCLES, ITEMS.length,
+                elapsed / 1000.0 / CYCLES, errors));
+    }
+
+    private static int cycles(SysteminfoBackend backend, int cycles, boolean shared) {
+        int errors = 0;
+        for (int i = 0; i < cycles; i++) {
+            SysteminfoSnapshot snapshot = backend.takeSnapshot();
+            for (SysteminfoCommandType commandType : ITEMS) {
+                try {
+                    if (!shared) {
+                        snapshot = backend.takeSnapshot();
+                    }
+                    snapshot.getValue(commandType, "$$");
+                } catch (SysteminfoException e) {
+                    errors++;
+                }
+            }
+        }
+        return errors;
+    }
+
+}
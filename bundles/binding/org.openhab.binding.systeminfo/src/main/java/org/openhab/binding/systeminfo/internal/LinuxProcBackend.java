@@ -0,0 +1,663 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link SysteminfoBackend} for Linux, which reads the <code>/proc</code> and
+ * <code>/sys</code> file systems directly and doesn't need a native library.
+ * All files are read through one reusable {@link ProcFileReader}.
+ *
+ * <p>
+ * The number of files and free files of a file system are not available
+ * without native calls, so these command types aren't supported. Process
+ * targets are limited to process name queries.
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public class LinuxProcBackend implements SysteminfoBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxProcBackend.class);
+
+    /** clock ticks per second of the times in /proc, USER_HZ is 100 on all Linux platforms */
+    private static final int CLOCK_TICKS = 100;
+
+    /** size of the sectors counted in the block device statistics */
+    private static final int SECTOR_SIZE = 512;
+
+    private static final String[] MEMINFO_KEYS = { "MemTotal:", "MemFree:", "Buffers:", "Cached:", "SwapTotal:",
+            "SwapFree:" };
+
+    private final File proc;
+
+    private final File sys;
+
+    private final ProcFileReader reader = new ProcFileReader();
+
+    private final Map<String, ProcessMatcher> matchers = new HashMap<String, ProcessMatcher>();
+
+    /** CPU ticks of the previous snapshot, to calculate the CPU usage since */
+    private long[] lastCpuTicks;
+
+    /** CPU ticks and time of the previous snapshot for each process */
+    private final Map<Long, long[]> lastProcessTicks = new HashMap<Long, long[]>();
+
+    private long ownPid = -1;
+
+    /**
+     * Creates a backend reading the file systems mounted at <code>/proc</code>
+     * and <code>/sys</code>.
+     */
+    public LinuxProcBackend() {
+        this(new File("/"));
+    }
+
+    /**
+     * @param root
+     *            directory containing the <code>proc</code> and
+     *            <code>sys</code> file systems
+     */
+    public LinuxProcBackend(File root) {
+        this.proc = new File(root, "proc");
+        this.sys = new File(root, "sys");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialize() throws SysteminfoException {
+        if (!new File(proc, "stat").canRead()) {
+            throw new SysteminfoException("No proc file system found at " + proc);
+        }
+
+        try {
+            ownPid = Long.parseLong(new File(proc, "self").getCanonicalFile().getName());
+        } catch (IOException e) {
+            logger.warn("Couldn't determine the own process: {}", e.getMessage());
+        } catch (NumberFormatException e) {
+            logger.warn("Couldn't determine the own process: {}", e.getMessage());
+        }
+
+        logger.info("Using the proc file system at {}", proc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispose() {
+        matchers.clear();
+        lastProcessTicks.clear();
+        lastCpuTicks = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SysteminfoSnapshot takeSnapshot() {
+        return new ProcSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return "proc";
+    }
+
+    private void read(File file) throws SysteminfoException {
+        try {
+            reader.read(file);
+        } catch (IOException e) {
+            throw new SysteminfoException("Couldn't read " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private double[] readLoadAverage() throws SysteminfoException {
+        read(new File(proc, "loadavg"));
+        return new double[] { reader.nextDouble(), reader.nextDouble(), reader.nextDouble() };
+    }
+
+    /**
+     * @return the CPU usage in percent since the previous snapshot: combined,
+     *         user, system, nice and wait
+     */
+    private double[] readCpuPercent() throws SysteminfoException {
+        read(new File(proc, "stat"));
+        if (!reader.nextTokenEquals("cpu")) {
+            throw new SysteminfoException("No cpu line in " + proc + "/stat");
+        }
+
+        // user nice system idle iowait irq softirq steal
+        long[] ticks = new long[8];
+        for (int i = 0; i < ticks.length; i++) {
+            ticks[i] = reader.nextLong();
+        }
+
+        long[] delta = new long[ticks.length];
+        long total = 0;
+        for (int i = 0; i < ticks.length; i++) {
+            delta[i] = lastCpuTicks == null ? ticks[i] : ticks[i] - lastCpuTicks[i];
+            total += delta[i];
+        }
+        lastCpuTicks = ticks;
+
+        double[] percent = new double[5];
+        if (total > 0) {
+            percent[1] = delta[0] * 100.0 / total;
+            percent[2] = delta[2] * 100.0 / total;
+            percent[3] = delta[1] * 100.0 / total;
+            percent[4] = delta[4] * 100.0 / total;
+            percent[0] = percent[1] + percent[2] + percent[3] + percent[4];
+        }
+        return percent;
+    }
+
+    private double readUptime() throws SysteminfoException {
+        read(new File(proc, "uptime"));
+        return reader.nextDouble();
+    }
+
+    /**
+     * @return the values of {@link #MEMINFO_KEYS} in bytes
+     */
+    private long[] readMemInfo() throws SysteminfoException {
+        read(new File(proc, "meminfo"));
+        long[] values = new long[MEMINFO_KEYS.length];
+        for (int i = 0; i < MEMINFO_KEYS.length; i++) {
+            if (reader.findLine(MEMINFO_KEYS[i])) {
+                values[i] = reader.nextLong() * 1024;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @return the number of pages swapped in and out
+     */
+    private long[] readSwapPages() throws SysteminfoException {
+        read(new File(proc, "vmstat"));
+        long[] values = new long[2];
+        if (reader.findLine("pswpin ")) {
+            values[0] = reader.nextLong();
+        }
+        if (reader.findLine("pswpout ")) {
+            values[1] = reader.nextLong();
+        }
+        return values;
+    }
+
+    private long readSysValue(File file) throws SysteminfoException {
+        read(file);
+        return reader.nextLong();
+    }
+
+    /**
+     * @param name
+     *            device name, device file or mount point
+     * @return reads, read bytes, writes and written bytes
+     */
+    private long[] readDiskStats(String name) throws SysteminfoException {
+        String device = name;
+        if (device.startsWith("/") && !device.startsWith("/dev/")) {
+            device = findMountedDevice(device);
+        }
+        if (device.startsWith("/dev/")) {
+            try {
+                device = new File(device).getCanonicalFile().getName();
+            } catch (IOException e) {
+                device = device.substring("/dev/".length());
+            }
+        }
+
+        read(new File(sys, "class/block/" + device + "/stat"));
+        long reads = reader.nextLong();
+        reader.skipTokens(1);
+        long readSectors = reader.nextLong();
+        reader.skipTokens(1);
+        long writes = reader.nextLong();
+        reader.skipTokens(1);
+        long writtenSectors = reader.nextLong();
+
+        return new long[] { reads, readSectors * SECTOR_SIZE, writes, writtenSectors * SECTOR_SIZE };
+    }
+
+    private String findMountedDevice(String mountPoint) throws SysteminfoException {
+        read(new File(proc, "mounts"));
+        do {
+            String device = reader.nextToken();
+            if (reader.nextTokenEquals(mountPoint)) {
+                return device;
+            }
+        } while (reader.nextLine());
+        throw new SysteminfoException("No device mounted at " + mountPoint);
+    }
+
+    /**
+     * @return total, free and available bytes
+     */
+    private long[] readFileSystemUsage(String path) throws SysteminfoException {
+        File file = new File(path);
+        long total = file.getTotalSpace();
+        if (total == 0) {
+            throw new SysteminfoException("No file system found at " + path);
+        }
+        return new long[] { total, file.getFreeSpace(), file.getUsableSpace() };
+    }
+
+    /**
+     * @return bytes and number of files below a directory
+     */
+    private long[] readDirUsage(String path) throws SysteminfoException {
+        final long[] usage = new long[2];
+        try {
+            Files.walkFileTree(new File(path).toPath(), new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile()) {
+                        usage[0] += attributes.size();
+                        usage[1]++;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new SysteminfoException("Couldn't read directory " + path + ": " + e.getMessage(), e);
+        }
+        return usage;
+    }
+
+    /**
+     * Finds the process of a target. The process found by the previous lookup
+     * is checked first, all processes are only searched if it's gone or
+     * doesn't match anymore.
+     */
+    private ProcessInfo findProcess(String target) throws SysteminfoException {
+        ProcessMatcher matcher = matchers.get(target);
+        if (matcher == null) {
+            matcher = new ProcessMatcher(target);
+            matchers.put(target, matcher);
+        }
+
+        if (matcher.isSelf()) {
+            ProcessInfo info = readProcess(ownPid);
+            if (info == null) {
+                throw new SysteminfoException("Couldn't read the own process " + ownPid);
+            }
+            return info;
+        }
+
+        if (!matcher.isNameQuery()) {
+            throw new SysteminfoException("Only process name queries are supported, not '" + matcher + "'");
+        }
+
+        long pid = matcher.getPid();
+        if (pid != -1) {
+            ProcessInfo info = readProcess(pid);
+            if (info != null && matcher.matches(info.name)) {
+                return info;
+            }
+            lastProcessTicks.remove(pid);
+        }
+
+        logger.debug("Query pid by '{}'", matcher);
+        pid = -1;
+        int matches = 0;
+        String[] entries = proc.list();
+        if (entries != null) {
+            for (String entry : entries) {
+                if (!isPid(entry)) {
+                    continue;
+                }
+                try {
+                    reader.read(new File(proc, entry + "/stat"));
+                } catch (IOException e) {
+                    // the process terminated meanwhile
+                    continue;
+                }
+                String name = reader.nextEnclosed('(', ')');
+                if (name != null && matcher.matches(name)) {
+                    pid = Long.parseLong(entry);
+                    matches++;
+                }
+            }
+        }
+
+        if (matches != 1) {
+            matcher.setPid(-1);
+            throw new SysteminfoException("Query '" + matcher + "' did not match a single process (" + matches
+                    + " matches)");
+        }
+
+        ProcessInfo info = readProcess(pid);
+        if (info == null) {
+            throw new SysteminfoException("Process " + pid + " terminated");
+        }
+        matcher.setPid(pid);
+
+        logger.debug("Return pid {}", pid);
+        return info;
+    }
+
+    private static boolean isPid(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) < '0' || name.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return !name.isEmpty();
+    }
+
+    /**
+     * @return the process, <code>null</code> if it doesn't exist
+     */
+    private ProcessInfo readProcess(long pid) {
+        ProcessInfo info = new ProcessInfo();
+        info.pid = pid;
+        try {
+            reader.read(new File(proc, pid + "/stat"));
+            info.name = reader.nextEnclosed('(', ')');
+            if (info.name == null) {
+                return null;
+            }
+
+            // the fields behind the name start with the state, field 3
+            reader.skipTokens(11);
+            info.userTicks = reader.nextLong();
+            info.systemTicks = reader.nextLong();
+            reader.skipTokens(6);
+            info.startTicks = reader.nextLong();
+
+            reader.read(new File(proc, pid + "/status"));
+            if (reader.findLine("VmSize:")) {
+                info.virtualMemory = reader.nextLong() * 1024;
+            }
+            if (reader.findLine("VmRSS:")) {
+                info.residentMemory = reader.nextLong() * 1024;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return info;
+    }
+
+    /**
+     * @return the CPU usage of a process in percent since the previous
+     *         snapshot, since its start for the first snapshot
+     */
+    private double getCpuPercent(ProcessInfo info, double uptime) {
+        long ticks = info.userTicks + info.systemTicks;
+        long now = System.nanoTime();
+
+        long[] last = lastProcessTicks.get(info.pid);
+        lastProcessTicks.put(info.pid, new long[] { ticks, now });
+
+        if (last == null) {
+            double running = uptime - (double) info.startTicks / CLOCK_TICKS;
+            return running > 0 ? (double) ticks / CLOCK_TICKS / running * 100 : 0;
+        }
+
+        long elapsed = now - last[1];
+        return elapsed > 0 ? (ticks - last[0]) * 1e9 / CLOCK_TICKS / elapsed * 100 : 0;
+    }
+
+    /**
+     * The values read from <code>/proc/[pid]/stat</code> and
+     * <code>/proc/[pid]/status</code>.
+     */
+    private static class ProcessInfo {
+        long pid;
+        String name;
+        long userTicks;
+        long systemTicks;
+        long startTicks;
+        long virtualMemory;
+        long residentMemory;
+    }
+
+    /**
+     * Snapshot reading every file at most once.
+     */
+    private class ProcSnapshot implements SysteminfoSnapshot {
+
+        private double[] loadAverage;
+        private double[] cpuPercent;
+        private double uptime = -1;
+        private long[] memInfo;
+        private long[] swapPages;
+        private final Map<String, Long> netStats = new HashMap<String, Long>();
+        private final Map<String, long[]> diskStats = new HashMap<String, long[]>();
+        private final Map<String, long[]> fileSystemUsages = new HashMap<String, long[]>();
+        private final Map<String, long[]> dirUsages = new HashMap<String, long[]>();
+        private final Map<String, ProcessInfo> processes = new HashMap<String, ProcessInfo>();
+        private final Map<Long, Double> processCpuPercents = new HashMap<Long, Double>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getValue(SysteminfoCommandType commandType, String target) throws SysteminfoException {
+            switch (commandType) {
+                case LOAD_AVERAGE_1MIN:
+                    return getLoadAverage()[0];
+                case LOAD_AVERAGE_5MIN:
+                    return getLoadAverage()[1];
+                case LOAD_AVERAGE_15MIN:
+                    return getLoadAverage()[2];
+
+                case CPU_COMBINED:
+                    return getCpuPercent()[0];
+                case CPU_USER:
+                    return getCpuPercent()[1];
+                case CPU_SYSTEM:
+                    return getCpuPercent()[2];
+                case CPU_NICE:
+                    return getCpuPercent()[3];
+                case CPU_WAIT:
+                    return getCpuPercent()[4];
+
+                case UPTIME:
+                    return getUptime();
+
+                case MEM_FREE_PERCENT:
+                    return getActualFree() * 100.0 / getMemInfo()[0];
+                case MEM_USED_PERCENT:
+                    return (getMemInfo()[0] - getActualFree()) * 100.0 / getMemInfo()[0];
+                case MEM_FREE:
+                    return getMemInfo()[1];
+                case MEM_USED:
+                    return getMemInfo()[0] - getMemInfo()[1];
+                case MEM_ACTUAL_FREE:
+                    return getActualFree();
+                case MEM_ACTUAL_USED:
+                    return getMemInfo()[0] - getActualFree();
+                case MEM_TOTAL:
+                    return getMemInfo()[0];
+
+                case SWAP_FREE:
+                    return getMemInfo()[5];
+                case SWAP_TOTAL:
+                    return getMemInfo()[4];
+                case SWAP_USED:
+                    return getMemInfo()[4] - getMemInfo()[5];
+                case SWAP_PAGE_IN:
+                    return getSwapPages()[0];
+                case SWAP_PAGE_OUT:
+                    return getSwapPages()[1];
+
+                case NET_RX_BYTES:
+                    return getNetStat(target, "rx_bytes");
+                case NET_TX_BYTES:
+                    return getNetStat(target, "tx_bytes");
+
+                case DISK_READS:
+                    return getDiskStats(target)[0];
+                case DISK_READ_BYTES:
+                    return getDiskStats(target)[1];
+                case DISK_WRITES:
+                    return getDiskStats(target)[2];
+                case DISK_WRITE_BYTES:
+                    return getDiskStats(target)[3];
+
+                case FS_USED:
+                    return getFileSystemUsage(target)[0] - getFileSystemUsage(target)[1];
+                case FS_FREE:
+                    return getFileSystemUsage(target)[1];
+                case FS_TOTAL:
+                    return getFileSystemUsage(target)[0];
+                case FS_USE_PERCENT:
+                    long[] usage = getFileSystemUsage(target);
+                    long used = usage[0] - usage[1];
+                    return used + usage[2] > 0 ? used * 100.0 / (used + usage[2]) : 0;
+
+                case DIR_USAGE:
+                    return getDirUsage(target)[0];
+                case DIR_FILES:
+                    return getDirUsage(target)[1];
+
+                case PROCESS_REAL_MEM:
+                    return getProcess(target).residentMemory;
+                case PROCESS_VIRTUAL_MEM:
+                    return getProcess(target).virtualMemory;
+                case PROCESS_CPU_PERCENT:
+                    ProcessInfo info = getProcess(target);
+                    Double percent = processCpuPercents.get(info.pid);
+                    if (percent == null) {
+                        percent = LinuxProcBackend.this.getCpuPercent(info, getUptime());
+                        processCpuPercents.put(info.pid, percent);
+                    }
+                    return percent;
+                case PROCESS_CPU_SYSTEM:
+                    return getProcess(target).systemTicks * 1000 / CLOCK_TICKS;
+                case PROCESS_CPU_USER:
+                    return getProcess(target).userTicks * 1000 / CLOCK_TICKS;
+                case PROCESS_CPU_TOTAL:
+                    info = getProcess(target);
+                    return (info.userTicks + info.systemTicks) * 1000 / CLOCK_TICKS;
+                case PROCESS_UPTIME:
+                    return (long) (getUptime() - getProcess(target).startTicks / CLOCK_TICKS);
+
+                default:
+                    throw new SysteminfoException("Command type '" + commandType + "' isn't supported by the "
+                            + getName() + " backend");
+            }
+        }
+
+        private double[] getLoadAverage() throws SysteminfoException {
+            if (loadAverage == null) {
+                loadAverage = readLoadAverage();
+            }
+            return loadAverage;
+        }
+
+        private double[] getCpuPercent() throws SysteminfoException {
+            if (cpuPercent == null) {
+                cpuPercent = readCpuPercent();
+            }
+            return cpuPercent;
+        }
+
+        private double getUptime() throws SysteminfoException {
+            if (uptime < 0) {
+                uptime = readUptime();
+            }
+            return uptime;
+        }
+
+        private long[] getMemInfo() throws SysteminfoException {
+            if (memInfo == null) {
+                memInfo = readMemInfo();
+                if (memInfo[0] == 0) {
+                    throw new SysteminfoException("No MemTotal in " + proc + "/meminfo");
+                }
+            }
+            return memInfo;
+        }
+
+        private long getActualFree() throws SysteminfoException {
+            long[] values = getMemInfo();
+            return values[1] + values[2] + values[3];
+        }
+
+        private long[] getSwapPages() throws SysteminfoException {
+            if (swapPages == null) {
+                swapPages = readSwapPages();
+            }
+            return swapPages;
+        }
+
+        private long getNetStat(String name, String statistic) throws SysteminfoException {
+            String key = name + '/' + statistic;
+            Long value = netStats.get(key);
+            if (value == null) {
+                value = readSysValue(new File(sys, "class/net/" + name + "/statistics/" + statistic));
+                netStats.put(key, value);
+            }
+            return value;
+        }
+
+        private long[] getDiskStats(String name) throws SysteminfoException {
+            long[] stats = diskStats.get(name);
+            if (stats == null) {
+                stats = readDiskStats(name);
+                diskStats.put(name, stats);
+            }
+            return stats;
+        }
+
+        private long[] getFileSystemUsage(String path) throws SysteminfoException {
+            long[] usage = fileSystemUsages.get(path);
+            if (usage == null) {
+                usage = readFileSystemUsage(path);
+                fileSystemUsages.put(path, usage);
+            }
+            return usage;
+        }
+
+        private long[] getDirUsage(String path) throws SysteminfoException {
+            long[] usage = dirUsages.get(path);
+            if (usage == null) {
+                usage = readDirUsage(path);
+                dirUsages.put(path, usage);
+            }
+            return usage;
+        }
+
+        private ProcessInfo getProcess(String target) throws SysteminfoException {
+            ProcessInfo info = processes.get(target);
+            if (info == null) {
+                info = findProcess(target);
+                processes.put(target, info);
+            }
+            return info;
+        }
+    }
+
+}
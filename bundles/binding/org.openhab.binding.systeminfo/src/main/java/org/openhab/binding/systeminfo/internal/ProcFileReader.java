@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reads the small text files of <code>/proc</code> and <code>/sys</code> into
+ * a reusable buffer and parses them in place. Numbers and tokens are parsed
+ * from the buffer directly, so reading a file doesn't create any strings.
+ * Instances are not thread safe.
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public class ProcFileReader {
+
+    private byte[] buffer = new byte[4096];
+
+    private int length;
+
+    private int position;
+
+    /**
+     * Reads a whole file into the buffer and moves to its beginning. The
+     * buffer grows if the file doesn't fit.
+     *
+     * @param file
+     *            file to read
+     * @throws IOException
+     *             if the file couldn't be read
+     */
+    public void read(File file) throws IOException {
+        length = 0;
+        position = 0;
+        FileInputStream in = new FileInputStream(file);
+        try {
+            int count;
+            while ((count = in.read(buffer, length, buffer.length - length)) > 0) {
+                length += count;
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the end of the file was reached
+     */
+    public boolean isEnd() {
+        return position >= length;
+    }
+
+    /**
+     * Moves to the beginning of the file.
+     */
+    public void rewind() {
+        position = 0;
+    }
+
+    /**
+     * Moves to the beginning of the next line.
+     *
+     * @return <code>false</code> if there is no next line
+     */
+    public boolean nextLine() {
+        while (position < length && buffer[position] != '\n') {
+            position++;
+        }
+        if (position < length) {
+            position++;
+        }
+        return position < length;
+    }
+
+    /**
+     * Moves behind the first line beginning with the given prefix.
+     *
+     * @param prefix
+     *            beginning of the line, e.g. <code>MemTotal:</code>
+     * @return <code>false</code> if there is no such line
+     */
+    public boolean findLine(String prefix) {
+        rewind();
+        do {
+            if (startsWith(prefix)) {
+                position += prefix.length();
+                return true;
+            }
+        } while (nextLine());
+        return false;
+    }
+
+    /**
+     * Returns the text between the first occurrence of the opening character
+     * and the last occurrence of the closing character, e.g. the process name
+     * in <code>/proc/[pid]/stat</code>, and moves behind the closing
+     * character.
+     *
+     * @return the enclosed text, <code>null</code> if it isn't enclosed
+     */
+    public String nextEnclosed(char open, char close) {
+        int start = position;
+        while (start < length && buffer[start] != open) {
+            start++;
+        }
+        int end = length - 1;
+        while (end > start && buffer[end] != close) {
+            end--;
+        }
+        if (end <= start) {
+            return null;
+        }
+        position = end + 1;
+        return new String(buffer, start + 1, end - start - 1);
+    }
+
+    /**
+     * Skips a number of whitespace separated tokens.
+     */
+    public void skipTokens(int count) {
+        for (int i = 0; i < count; i++) {
+            skipSpaces();
+            while (position < length && !isSeparator(buffer[position])) {
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Compares the next token, which ends at a whitespace or a colon, without
+     * creating a string. Moves behind the token and the colon if it matches.
+     *
+     * @return <code>true</code> if the next token equals the given text
+     */
+    public boolean nextTokenEquals(String text) {
+        skipSpaces();
+        int end = position + text.length();
+        if (end > length || !startsWith(text) || (end < length && !isSeparator(buffer[end]))) {
+            return false;
+        }
+        position = end;
+        if (position < length && buffer[position] == ':') {
+            position++;
+        }
+        return true;
+    }
+
+    /**
+     * @return the next token, up to the next whitespace or colon
+     */
+    public String nextToken() {
+        skipSpaces();
+        int start = position;
+        while (position < length && !isSeparator(buffer[position])) {
+            position++;
+        }
+        return new String(buffer, start, position - start);
+    }
+
+    /**
+     * Parses the next decimal integer.
+     *
+     * @return the number, 0 if there's no number
+     */
+    public long nextLong() {
+        skipSpaces();
+        boolean negative = false;
+        if (position < length && buffer[position] == '-') {
+            negative = true;
+            position++;
+        }
+        long value = 0;
+        while (position < length && buffer[position] >= '0' && buffer[position] <= '9') {
+            value = value * 10 + buffer[position] - '0';
+            position++;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the next decimal number with an optional fraction, e.g.
+     * <code>0.52</code>.
+     *
+     * @return the number, 0 if there's no number
+     */
+    public double nextDouble() {
+        skipSpaces();
+        boolean negative = false;
+        if (position < length && buffer[position] == '-') {
+            negative = true;
+            position++;
+        }
+        double value = nextLong();
+        if (position < length && buffer[position] == '.') {
+            position++;
+            double scale = 0.1;
+            while (position < length && buffer[position] >= '0' && buffer[position] <= '9') {
+                value += (buffer[position] - '0') * scale;
+                scale /= 10;
+                position++;
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean startsWith(String prefix) {
+        if (position + prefix.length() > length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer[position + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipSpaces() {
+        while (position < length && (buffer[position] == ' ' || buffer[position] == '\t')) {
+            position++;
+        }
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == ':';
+    }
+
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A process target of an item binding, compiled once when it's used first.
+ * The matcher remembers the last matched process, so the backends only need
+ * to check whether this process is still alive and still matches instead of
+ * searching all processes on every refresh.
+ *
+ * <p>
+ * Supported targets:
+ * <ul>
+ * <li><code>$$</code> the openHAB process itself</li>
+ * <li><code>*name</code> process name starts with <code>name</code></li>
+ * <li><code>name*</code> process name ends with <code>name</code></li>
+ * <li><code>=name</code> process name equals <code>name</code></li>
+ * <li><code>#query</code> a Sigar PTQL query</li>
+ * <li><code>name</code> process name contains <code>name</code></li>
+ * </ul>
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public class ProcessMatcher {
+
+    private static final Pattern NAME_QUERY_PATTERN = Pattern.compile("State\\.Name\\.(eq|ne|sw|ew|ct|re)=(.*)");
+
+    private enum Operator {
+        EQ,
+        NE,
+        SW,
+        EW,
+        CT,
+        RE
+    }
+
+    private final String query;
+
+    private final boolean self;
+
+    private final Operator operator;
+
+    private final String name;
+
+    private final Pattern pattern;
+
+    /** the last matched process, -1 if none */
+    private long pid = -1;
+
+    /**
+     * @param target
+     *            process target of the item binding
+     */
+    public ProcessMatcher(String target) {
+        self = target.equals("$$");
+        if (self) {
+            query = null;
+        } else if (target.startsWith("*")) {
+            query = "State.Name.sw=" + target.replace("*", "");
+        } else if (target.endsWith("*")) {
+            query = "State.Name.ew=" + target.replace("*", "");
+        } else if (target.startsWith("=")) {
+            query = "State.Name.eq=" + target.replace("=", "");
+        } else if (target.startsWith("#")) {
+            query = target.replace("#", "");
+        } else {
+            query = "State.Name.ct=" + target;
+        }
+
+        Matcher matcher = query == null ? null : NAME_QUERY_PATTERN.matcher(query);
+        if (matcher != null && matcher.matches()) {
+            operator = Operator.valueOf(matcher.group(1).toUpperCase());
+            name = matcher.group(2);
+            pattern = operator == Operator.RE ? Pattern.compile(name) : null;
+        } else {
+            operator = null;
+            name = null;
+            pattern = null;
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the target is the openHAB process itself
+     */
+    public boolean isSelf() {
+        return self;
+    }
+
+    /**
+     * @return the PTQL query of the target
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return <code>true</code> if the target only refers to the process
+     *         name and can be matched with {@link #matches(String)}
+     */
+    public boolean isNameQuery() {
+        return operator != null;
+    }
+
+    /**
+     * @param processName
+     *            name of a process
+     * @return <code>true</code> if the process name matches the target
+     */
+    public boolean matches(String processName) {
+        switch (operator) {
+            case EQ:
+                return processName.equals(name);
+            case NE:
+                return !processName.equals(name);
+            case SW:
+                return processName.startsWith(name);
+            case EW:
+                return processName.endsWith(name);
+            case CT:
+                return processName.contains(name);
+            case RE:
+                return pattern.matcher(processName).find();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the last matched process, -1 if none
+     */
+    public long getPid() {
+        return pid;
+    }
+
+    public void setPid(long pid) {
+        this.pid = pid;
+    }
+
+    @Override
+    public String toString() {
+        return self ? "$$" : query;
+    }
+
+}
@@ -0,0 +1,407 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hyperic.sigar.CpuPerc;
+import org.hyperic.sigar.DirUsage;
+import org.hyperic.sigar.DiskUsage;
+import org.hyperic.sigar.FileSystem;
+import org.hyperic.sigar.FileSystemUsage;
+import org.hyperic.sigar.Mem;
+import org.hyperic.sigar.NetInterfaceStat;
+import org.hyperic.sigar.ProcCpu;
+import org.hyperic.sigar.ProcMem;
+import org.hyperic.sigar.Sigar;
+import org.hyperic.sigar.SigarException;
+import org.hyperic.sigar.Swap;
+import org.hyperic.sigar.ptql.ProcessFinder;
+import org.hyperic.sigar.ptql.ProcessQuery;
+import org.hyperic.sigar.ptql.ProcessQueryFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link SysteminfoBackend} using the native Sigar library.
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public class SigarBackend implements SysteminfoBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(SigarBackend.class);
+
+    private final String variant;
+
+    /** guarded by this, dispose() closes it while snapshots might still read values */
+    private Sigar sigar;
+
+    private final Map<String, ProcessMatcher> matchers = new HashMap<String, ProcessMatcher>();
+
+    private final Map<String, ProcessQuery> queries = new HashMap<String, ProcessQuery>();
+
+    /**
+     * @param variant
+     *            alternative native library to load, <code>null</code> for the
+     *            standard library of the platform
+     */
+    public SigarBackend(String variant) {
+        this.variant = variant;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void initialize() throws SysteminfoException {
+        try {
+            Sigar.variant = variant;
+            sigar = new Sigar();
+            // fails if the native library isn't available
+            sigar.getPid();
+
+            logger.info("Using Sigar version {}", Sigar.VERSION_STRING);
+            logger.info("Using native version {}", Sigar.NATIVE_VERSION_STRING);
+        } catch (Throwable t) {
+            sigar = null;
+            throw new SysteminfoException("Couldn't load the Sigar library", t);
+        }
+
+        try {
+            String[] interfaces = sigar.getNetInterfaceList();
+            logger.debug("valid net interfaces: {}", Arrays.toString(interfaces));
+
+            FileSystem[] filesystems = sigar.getFileSystemList();
+            logger.debug("file systems: {}", Arrays.toString(filesystems));
+
+            List<String> disks = new ArrayList<String>();
+            for (int i = 0; i < filesystems.length; i++) {
+                FileSystem fs = filesystems[i];
+                if (fs.getType() == FileSystem.TYPE_LOCAL_DISK) {
+                    disks.add(fs.getDevName());
+                }
+            }
+
+            logger.debug("valid disk names: {}", Arrays.toString(disks.toArray()));
+
+        } catch (SigarException e) {
+            logger.error("System monitor error:", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void dispose() {
+        if (sigar != null) {
+            sigar.close();
+            sigar = null;
+        }
+        matchers.clear();
+        queries.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SysteminfoSnapshot takeSnapshot() {
+        return new SigarSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return "sigar";
+    }
+
+    /**
+     * Returns the process of a target. The process found by the previous
+     * lookup is checked first, all processes are only searched if it's gone
+     * or doesn't match anymore.
+     */
+    private long getPid(String target) throws SigarException {
+        ProcessMatcher matcher = matchers.get(target);
+        if (matcher == null) {
+            matcher = new ProcessMatcher(target);
+            matchers.put(target, matcher);
+        }
+
+        if (matcher.isSelf()) {
+            return sigar.getPid();
+        }
+
+        ProcessQuery query = queries.get(target);
+        if (query == null) {
+            query = ProcessQueryFactory.getInstance().getQuery(matcher.getQuery());
+            queries.put(target, query);
+        }
+
+        long pid = matcher.getPid();
+        if (pid != -1) {
+            try {
+                if (query.match(sigar, pid)) {
+                    return pid;
+                }
+            } catch (SigarException e) {
+                logger.debug("Process {} of query '{}' is gone", pid, matcher);
+            }
+        }
+
+        logger.debug("Query pid by '{}'", matcher);
+        pid = new ProcessFinder(sigar).findSingleProcess(query);
+        matcher.setPid(pid);
+
+        logger.debug("Return pid {}", pid);
+        return pid;
+    }
+
+    /**
+     * Snapshot reading every Sigar structure at most once.
+     */
+    private class SigarSnapshot implements SysteminfoSnapshot {
+
+        private double[] loadAverage;
+        private CpuPerc cpuPerc;
+        private double uptime = -1;
+        private Mem mem;
+        private Swap swap;
+        private final Map<String, NetInterfaceStat> netInterfaceStats = new HashMap<String, NetInterfaceStat>();
+        private final Map<String, DiskUsage> diskUsages = new HashMap<String, DiskUsage>();
+        private final Map<String, FileSystemUsage> fileSystemUsages = new HashMap<String, FileSystemUsage>();
+        private final Map<String, DirUsage> dirUsages = new HashMap<String, DirUsage>();
+        private final Map<String, Long> pids = new HashMap<String, Long>();
+        private final Map<Long, ProcMem> procMems = new HashMap<Long, ProcMem>();
+        private final Map<Long, ProcCpu> procCpus = new HashMap<Long, ProcCpu>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getValue(SysteminfoCommandType commandType, String target) throws SysteminfoException {
+            synchronized (SigarBackend.this) {
+                if (sigar == null) {
+                    throw new SysteminfoException("Sigar isn't initialized");
+                }
+                return readValue(commandType, target);
+            }
+        }
+
+        private double readValue(SysteminfoCommandType commandType, String target) throws SysteminfoException {
+            try {
+                switch (commandType) {
+                    case LOAD_AVERAGE_1MIN:
+                        return getLoadAverage()[0];
+                    case LOAD_AVERAGE_5MIN:
+                        return getLoadAverage()[1];
+                    case LOAD_AVERAGE_15MIN:
+                        return getLoadAverage()[2];
+
+                    case CPU_COMBINED:
+                        return getCpuPerc().getCombined() * 100;
+                    case CPU_USER:
+                        return getCpuPerc().getUser() * 100;
+                    case CPU_SYSTEM:
+                        return getCpuPerc().getSys() * 100;
+                    case CPU_NICE:
+                        return getCpuPerc().getNice() * 100;
+                    case CPU_WAIT:
+                        return getCpuPerc().getWait() * 100;
+
+                    case UPTIME:
+                        if (uptime < 0) {
+                            uptime = sigar.getUptime().getUptime();
+                        }
+                        return uptime;
+
+                    case MEM_FREE_PERCENT:
+                        return getMem().getFreePercent();
+                    case MEM_USED_PERCENT:
+                        return getMem().getUsedPercent();
+                    case MEM_FREE:
+                        return getMem().getFree();
+                    case MEM_USED:
+                        return getMem().getUsed();
+                    case MEM_ACTUAL_FREE:
+                        return getMem().getActualFree();
+                    case MEM_ACTUAL_USED:
+                        return getMem().getActualUsed();
+                    case MEM_TOTAL:
+                        return getMem().getTotal();
+
+                    case SWAP_FREE:
+                        return getSwap().getFree();
+                    case SWAP_TOTAL:
+                        return getSwap().getTotal();
+                    case SWAP_USED:
+                        return getSwap().getUsed();
+                    case SWAP_PAGE_IN:
+                        return getSwap().getPageIn();
+                    case SWAP_PAGE_OUT:
+                        return getSwap().getPageOut();
+
+                    case NET_RX_BYTES:
+                        return getNetInterfaceStat(target).getRxBytes();
+                    case NET_TX_BYTES:
+                        return getNetInterfaceStat(target).getTxBytes();
+
+                    case DISK_READS:
+                        return getDiskUsage(target).getReads();
+                    case DISK_WRITES:
+                        return getDiskUsage(target).getWrites();
+                    case DISK_READ_BYTES:
+                        return getDiskUsage(target).getReadBytes();
+                    case DISK_WRITE_BYTES:
+                        return getDiskUsage(target).getWriteBytes();
+
+                    case FS_USED:
+                        return getFileSystemUsage(target).getUsed() * 1024;
+                    case FS_FREE:
+                        return getFileSystemUsage(target).getFree() * 1024;
+                    case FS_TOTAL:
+                        return getFileSystemUsage(target).getTotal() * 1024;
+                    case FS_USE_PERCENT:
+                        return getFileSystemUsage(target).getUsePercent() * 100;
+                    case FS_FILES:
+                        return getFileSystemUsage(target).getFiles();
+                    case FS_FREE_FILES:
+                        return getFileSystemUsage(target).getFreeFiles();
+
+                    case DIR_USAGE:
+                        return getDirUsage(target).getDiskUsage();
+                    case DIR_FILES:
+                        return getDirUsage(target).getFiles();
+
+                    case PROCESS_REAL_MEM:
+                        return getProcMem(target).getResident();
+                    case PROCESS_VIRTUAL_MEM:
+                        return getProcMem(target).getSize();
+                    case PROCESS_CPU_PERCENT:
+                        return getProcCpu(target).getPercent() * 100;
+                    case PROCESS_CPU_SYSTEM:
+                        return getProcCpu(target).getSys();
+                    case PROCESS_CPU_USER:
+                        return getProcCpu(target).getUser();
+                    case PROCESS_CPU_TOTAL:
+                        return getProcCpu(target).getTotal();
+                    case PROCESS_UPTIME:
+                        long processStartTime = sigar.getProcTime(getSnapshotPid(target)).getStartTime();
+                        return (System.currentTimeMillis() - processStartTime) / 1000;
+
+                    default:
+                        throw new SysteminfoException("Unsupported command type '" + commandType + "'");
+                }
+            } catch (SigarException e) {
+                throw new SysteminfoException(e.getMessage(), e);
+            }
+        }
+
+        private double[] getLoadAverage() throws SigarException {
+            if (loadAverage == null) {
+                loadAverage = sigar.getLoadAverage();
+            }
+            return loadAverage;
+        }
+
+        private CpuPerc getCpuPerc() throws SigarException {
+            if (cpuPerc == null) {
+                cpuPerc = sigar.getCpuPerc();
+            }
+            return cpuPerc;
+        }
+
+        private Mem getMem() throws SigarException {
+            if (mem == null) {
+                mem = sigar.getMem();
+            }
+            return mem;
+        }
+
+        private Swap getSwap() throws SigarException {
+            if (swap == null) {
+                swap = sigar.getSwap();
+            }
+            return swap;
+        }
+
+        private NetInterfaceStat getNetInterfaceStat(String name) throws SigarException {
+            NetInterfaceStat stat = netInterfaceStats.get(name);
+            if (stat == null) {
+                stat = sigar.getNetInterfaceStat(name);
+                netInterfaceStats.put(name, stat);
+            }
+            return stat;
+        }
+
+        private DiskUsage getDiskUsage(String name) throws SigarException {
+            DiskUsage usage = diskUsages.get(name);
+            if (usage == null) {
+                usage = sigar.getDiskUsage(name);
+                diskUsages.put(name, usage);
+            }
+            return usage;
+        }
+
+        private FileSystemUsage getFileSystemUsage(String name) throws SigarException {
+            FileSystemUsage usage = fileSystemUsages.get(name);
+            if (usage == null) {
+                usage = sigar.getFileSystemUsage(name);
+                fileSystemUsages.put(name, usage);
+            }
+            return usage;
+        }
+
+        private DirUsage getDirUsage(String name) throws SigarException {
+            DirUsage usage = dirUsages.get(name);
+            if (usage == null) {
+                usage = sigar.getDirUsage(name);
+                dirUsages.put(name, usage);
+            }
+            return usage;
+        }
+
+        private long getSnapshotPid(String target) throws SigarException {
+            Long pid = pids.get(target);
+            if (pid == null) {
+                pid = getPid(target);
+                pids.put(target, pid);
+            }
+            return pid;
+        }
+
+        private ProcMem getProcMem(String target) throws SigarException {
+            long pid = getSnapshotPid(target);
+            ProcMem procMem = procMems.get(pid);
+            if (procMem == null) {
+                procMem = sigar.getProcMem(pid);
+                procMems.put(pid, procMem);
+            }
+            return procMem;
+        }
+
+        private ProcCpu getProcCpu(String target) throws SigarException {
+            long pid = getSnapshotPid(target);
+            ProcCpu procCpu = procCpus.get(pid);
+            if (procCpu == null) {
+                procCpu = sigar.getProcCpu(pid);
+                procCpus.put(pid, procCpu);
+            }
+            return procCpu;
+        }
+    }
+
+}
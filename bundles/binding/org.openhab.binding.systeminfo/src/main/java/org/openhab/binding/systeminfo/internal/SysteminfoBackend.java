@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+/**
+ * Source of the system and process information. A backend takes one
+ * {@link SysteminfoSnapshot} per refresh cycle, which is shared by all items
+ * refreshed in that cycle.
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public interface SysteminfoBackend {
+
+    /**
+     * Prepares the backend, e.g. loads the native library.
+     *
+     * @throws SysteminfoException
+     *             if the backend isn't available on this system
+     */
+    void initialize() throws SysteminfoException;
+
+    /**
+     * Releases all resources of the backend.
+     */
+    void dispose();
+
+    /**
+     * @return a new snapshot, which reads every value at most once
+     */
+    SysteminfoSnapshot takeSnapshot();
+
+    /**
+     * @return the name of the backend to be logged
+     */
+    String getName();
+
+}
@@ -8,23 +8,15 @@
  */
 package org.openhab.binding.systeminfo.internal;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Dictionary;
+import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
-import org.hyperic.sigar.FileSystem;
-import org.hyperic.sigar.Sigar;
-import org.hyperic.sigar.SigarException;
-import org.hyperic.sigar.SigarProxy;
-import org.hyperic.sigar.SigarProxyCache;
-import org.hyperic.sigar.ptql.ProcessFinder;
 import org.openhab.binding.systeminfo.SysteminfoBindingProvider;
 import org.openhab.core.binding.AbstractActiveBinding;
-import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.types.State;
@@ -49,19 +41,38 @@ public class SysteminfoBinding extends AbstractActiveBinding<SysteminfoBindingPr
     /** the unit to measure keyfacts (defaults to 'M') */
     private char units = 'M';
 
+    /** command types returning bytes, which are formatted in the configured units */
+    private static final Set<SysteminfoCommandType> BYTE_VALUES = EnumSet.of(SysteminfoCommandType.MEM_FREE,
+            SysteminfoCommandType.MEM_USED, SysteminfoCommandType.MEM_ACTUAL_FREE,
+            SysteminfoCommandType.MEM_ACTUAL_USED, SysteminfoCommandType.MEM_TOTAL, SysteminfoCommandType.SWAP_FREE,
+            SysteminfoCommandType.SWAP_TOTAL, SysteminfoCommandType.SWAP_USED, SysteminfoCommandType.SWAP_PAGE_IN,
+            SysteminfoCommandType.SWAP_PAGE_OUT, SysteminfoCommandType.NET_RX_BYTES,
+            SysteminfoCommandType.NET_TX_BYTES, SysteminfoCommandType.DISK_READ_BYTES,
+            SysteminfoCommandType.DISK_WRITE_BYTES, SysteminfoCommandType.FS_USED, SysteminfoCommandType.FS_FREE,
+            SysteminfoCommandType.FS_TOTAL, SysteminfoCommandType.DIR_USAGE, SysteminfoCommandType.PROCESS_REAL_MEM,
+            SysteminfoCommandType.PROCESS_VIRTUAL_MEM);
+
+    /** command types returning counters and times, which are posted without fraction */
+    private static final Set<SysteminfoCommandType> INTEGER_VALUES = EnumSet.of(SysteminfoCommandType.DISK_READS,
+            SysteminfoCommandType.DISK_WRITES, SysteminfoCommandType.FS_FILES, SysteminfoCommandType.FS_FREE_FILES,
+            SysteminfoCommandType.DIR_FILES, SysteminfoCommandType.PROCESS_CPU_SYSTEM,
+            SysteminfoCommandType.PROCESS_CPU_USER, SysteminfoCommandType.PROCESS_CPU_TOTAL,
+            SysteminfoCommandType.PROCESS_UPTIME);
+
     private Map<String, Long> lastUpdateMap = new HashMap<String, Long>();
 
-    private static Sigar sigarImpl;
-    private static SigarProxy sigar;
+    private volatile SysteminfoBackend backend;
 
     @Override
     public void activate() {
     }
 
     @Override
-    public void deactivate() {
-        sigar = null;
-        sigarImpl = null;
+    public synchronized void deactivate() {
+        if (backend != null) {
+            backend.dispose();
+            backend = null;
+        }
     }
 
     /**
@@ -85,6 +96,14 @@ public class SysteminfoBinding extends AbstractActiveBinding<SysteminfoBindingPr
      */
     @Override
     protected void execute() {
+        SysteminfoBackend currentBackend = backend;
+        if (currentBackend == null) {
+            return;
+        }
+
+        // all items refreshed in this cycle share one snapshot
+        SysteminfoSnapshot snapshot = null;
+
         for (SysteminfoBindingProvider provider : providers) {
             for (String itemName : provider.getItemNames()) {
                 int refreshInterval = provider.getRefreshInterval(itemName);
@@ -101,11 +120,14 @@ public class SysteminfoBinding extends AbstractActiveBinding<SysteminfoBindingPr
 
                     logger.debug("item '{}' is about to be refreshed now", itemName);
 
+                    if (snapshot == null) {
+                        snapshot = currentBackend.takeSnapshot();
+                    }
+
                     SysteminfoCommandType commmandType = provider.getCommandType(itemName);
-                    Class<? extends Item> itemType = provider.getItemType(itemName);
                     String target = provider.getTarget(itemName);
 
-                    State state = getData(commmandType, itemType, target);
+                    State state = getData(snapshot, commmandType, target);
 
                     if (state != null) {
                         eventPublisher.postUpdate(itemName, state);
@@ -119,208 +141,39 @@ public class SysteminfoBinding extends AbstractActiveBinding<SysteminfoBindingPr
         }
     }
 
-    private State getData(SysteminfoCommandType commandType, Class<? extends Item> itemType, String target) {
+    private State getData(SysteminfoSnapshot snapshot, SysteminfoCommandType commandType, String target) {
         State state = UnDefType.UNDEF;
-        long pid;
 
         try {
             switch (commandType) {
-                case LOAD_AVERAGE_1MIN:
-                    state = new DecimalType(sigar.getLoadAverage()[0]);
-                    break;
-                case LOAD_AVERAGE_5MIN:
-                    state = new DecimalType(sigar.getLoadAverage()[1]);
-                    break;
-                case LOAD_AVERAGE_15MIN:
-                    state = new DecimalType(sigar.getLoadAverage()[2]);
-                    break;
-
-                case CPU_COMBINED:
-                    state = new DecimalType(sigar.getCpuPerc().getCombined() * 100);
-                    break;
-                case CPU_USER:
-                    state = new DecimalType(sigar.getCpuPerc().getUser() * 100);
-                    break;
-                case CPU_SYSTEM:
-                    state = new DecimalType(sigar.getCpuPerc().getSys() * 100);
-                    break;
-                case CPU_NICE:
-                    state = new DecimalType(sigar.getCpuPerc().getNice() * 100);
-                    break;
-                case CPU_WAIT:
-                    state = new DecimalType(sigar.getCpuPerc().getWait() * 100);
-                    break;
-
-                case UPTIME:
-                    state = new DecimalType(sigar.getUptime().getUptime());
-                    break;
                 case UPTIME_FORMATTED:
-                    state = new StringType(getElapsedTime((long) sigar.getUptime().getUptime()));
-                    break;
-
-                case MEM_FREE_PERCENT:
-                    state = new DecimalType(sigar.getMem().getFreePercent());
-                    break;
-                case MEM_USED_PERCENT:
-                    state = new DecimalType(sigar.getMem().getUsedPercent());
-                    break;
-                case MEM_FREE:
-                    state = new DecimalType(formatBytes(sigar.getMem().getFree(), units));
-                    break;
-                case MEM_USED:
-                    state = new DecimalType(formatBytes(sigar.getMem().getUsed(), units));
-                    break;
-                case MEM_ACTUAL_FREE:
-                    state = new DecimalType(formatBytes(sigar.getMem().getActualFree(), units));
-                    break;
-                case MEM_ACTUAL_USED:
-                    state = new DecimalType(formatBytes(sigar.getMem().getActualUsed(), units));
-                    break;
-                case MEM_TOTAL:
-                    state = new DecimalType(formatBytes(sigar.getMem().getTotal(), units));
-                    break;
-
-                case SWAP_FREE:
-                    state = new DecimalType(formatBytes(sigar.getSwap().getFree(), units));
-                    break;
-                case SWAP_TOTAL:
-                    state = new DecimalType(formatBytes(sigar.getSwap().getTotal(), units));
-                    break;
-                case SWAP_USED:
-                    state = new DecimalType(formatBytes(sigar.getSwap().getUsed(), units));
-                    break;
-                case SWAP_PAGE_IN:
-                    state = new DecimalType(formatBytes(sigar.getSwap().getPageIn(), units));
-                    break;
-                case SWAP_PAGE_OUT:
-                    state = new DecimalType(formatBytes(sigar.getSwap().getPageOut(), units));
-                    break;
-
-                case NET_RX_BYTES:
-                    state = new DecimalType(formatBytes(sigar.getNetInterfaceStat(target).getRxBytes(), units));
-                    break;
-                case NET_TX_BYTES:
-                    state = new DecimalType(formatBytes(sigar.getNetInterfaceStat(target).getTxBytes(), units));
-                    break;
-
-                case DISK_READS:
-                    state = new DecimalType(sigar.getDiskUsage(target).getReads());
-                    break;
-                case DISK_WRITES:
-                    state = new DecimalType(sigar.getDiskUsage(target).getWrites());
-                    break;
-                case DISK_READ_BYTES:
-                    state = new DecimalType(formatBytes(sigar.getDiskUsage(target).getReadBytes(), units));
-                    break;
-                case DISK_WRITE_BYTES:
-                    state = new DecimalType(formatBytes(sigar.getDiskUsage(target).getWriteBytes(), units));
-                    break;
-
-                case FS_USED:
-                    state = new DecimalType(formatBytes(sigar.getFileSystemUsage(target).getUsed() * 1024, units));
-                    break;
-                case FS_FREE:
-                    state = new DecimalType(formatBytes(sigar.getFileSystemUsage(target).getFree() * 1024, units));
-                    break;
-                case FS_TOTAL:
-                    state = new DecimalType(formatBytes(sigar.getFileSystemUsage(target).getTotal() * 1024, units));
-                    break;
-                case FS_USE_PERCENT:
-                    state = new DecimalType(sigar.getFileSystemUsage(target).getUsePercent() * 100);
-                    break;
-                case FS_FILES:
-                    state = new DecimalType(sigar.getFileSystemUsage(target).getFiles());
-                    break;
-                case FS_FREE_FILES:
-                    state = new DecimalType(sigar.getFileSystemUsage(target).getFreeFiles());
-                    break;
-
-                case DIR_USAGE:
-                    state = new DecimalType(formatBytes(sigar.getDirUsage(target).getDiskUsage(), units));
-                    break;
-                case DIR_FILES:
-                    state = new DecimalType(sigar.getDirUsage(target).getFiles());
-                    break;
-
-                case PROCESS_REAL_MEM:
-                    pid = getPid(target);
-                    state = new DecimalType(formatBytes(sigar.getProcMem(pid).getResident(), units));
-                    break;
-                case PROCESS_VIRTUAL_MEM:
-                    pid = getPid(target);
-                    state = new DecimalType(formatBytes(sigar.getProcMem(pid).getSize(), units));
-                    break;
-                case PROCESS_CPU_PERCENT:
-                    pid = getPid(target);
-                    state = new DecimalType(sigar.getProcCpu(pid).getPercent() * 100);
-                    break;
-                case PROCESS_CPU_SYSTEM:
-                    pid = getPid(target);
-                    state = new DecimalType(sigar.getProcCpu(pid).getSys());
-                    break;
-                case PROCESS_CPU_USER:
-                    pid = getPid(target);
-                    state = new DecimalType(sigar.getProcCpu(pid).getUser());
-                    break;
-                case PROCESS_CPU_TOTAL:
-                    pid = getPid(target);
-                    state = new DecimalType(sigar.getProcCpu(pid).getTotal());
-                    break;
-                case PROCESS_UPTIME:
-                    pid = getPid(target);
-                    state = new DecimalType(getProcessUptime(pid));
+                    long uptime = (long) snapshot.getValue(SysteminfoCommandType.UPTIME, target);
+                    state = new StringType(getElapsedTime(uptime));
                     break;
                 case PROCESS_UPTIME_FORMATTED:
-                    pid = getPid(target);
-                    state = new StringType(getElapsedTime(getProcessUptime(pid)));
+                    long processUptime = (long) snapshot.getValue(SysteminfoCommandType.PROCESS_UPTIME, target);
+                    state = new StringType(getElapsedTime(processUptime));
                     break;
 
                 default:
+                    double value = snapshot.getValue(commandType, target);
+                    if (BYTE_VALUES.contains(commandType)) {
+                        state = new DecimalType(formatBytes(value, units));
+                    } else if (INTEGER_VALUES.contains(commandType)) {
+                        state = new DecimalType((long) value);
+                    } else {
+                        state = new DecimalType(value);
+                    }
                     break;
             }
 
-        } catch (SigarException e) {
+        } catch (SysteminfoException e) {
             logger.error("Error occured while reading KPI's", e);
         }
 
         return state;
     }
 
-    private long getProcessUptime(long pid) throws SigarException {
-        long processStartTime = sigar.getProcTime(pid).getStartTime();
-        long currentTime = System.currentTimeMillis();
-        return (currentTime - processStartTime) / 1000;
-    }
-
-    private long getPid(String processName) throws SigarException {
-        long pid;
-
-        ProcessFinder processFinder = new ProcessFinder(sigarImpl);
-        String query;
-
-        if (processName.equals("$$")) {
-            pid = sigar.getPid();
-            logger.debug("Return own pid {}", pid);
-            return pid;
-        } else if (processName.startsWith("*")) {
-            query = "State.Name.sw=" + processName.replace("*", "");
-        } else if (processName.endsWith("*")) {
-            query = "State.Name.ew=" + processName.replace("*", "");
-        } else if (processName.startsWith("=")) {
-            query = "State.Name.eq=" + processName.replace("=", "");
-        } else if (processName.startsWith("#")) {
-            query = processName.replace("#", "");
-        } else {
-            query = "State.Name.ct=" + processName;
-        }
-
-        logger.debug("Query pid by '{}'", query);
-        pid = processFinder.findSingleProcess(query);
-
-        logger.debug("Return pid {}", pid);
-        return pid;
-    }
-
     private static String getElapsedTime(long sec) {
 
         final int SECOND = 1;
@@ -382,6 +235,7 @@ public class SysteminfoBinding extends AbstractActiveBinding<SysteminfoBindingPr
     @Override
     public void updated(Dictionary<String, ?> config) throws ConfigurationException {
         String variant = null;
+        String backendName = "sigar";
         if (config != null) {
             String granularityString = (String) config.get("granularity");
             if (StringUtils.isNotBlank(granularityString)) {
@@ -392,6 +246,15 @@ public class SysteminfoBinding extends AbstractActiveBinding<SysteminfoBindingPr
             variant = (String) config.get("variant");
             logger.debug("Variant: {}", variant);
 
+            String backendString = (String) config.get("backend");
+            if (StringUtils.isNotBlank(backendString)) {
+                if (!backendString.matches("sigar|proc")) {
+                    throw new ConfigurationException("backend", "Illegal backend");
+                }
+                backendName = backendString;
+            }
+            logger.debug("Backend: {}", backendName);
+
             String tmp = (String) config.get("units");
             if (StringUtils.isNotBlank(tmp)) {
                 if (tmp.length() != 1) {
@@ -410,7 +273,7 @@ public class SysteminfoBinding extends AbstractActiveBinding<SysteminfoBindingPr
 
         logger.debug("About to initialize system monitor...");
         try {
-            initializeSystemMonitor(variant);
+            initializeSystemMonitor(backendName, variant);
         } catch (Throwable t) {
             logger.error("Error initializing system monitor", t);
         }
@@ -418,39 +281,23 @@ public class SysteminfoBinding extends AbstractActiveBinding<SysteminfoBindingPr
         setProperlyConfigured(true);
     }
 
-    private void initializeSystemMonitor(String variant) {
-        if (sigarImpl == null) {
-            Sigar.variant = variant;
-            sigarImpl = new Sigar();
+    private synchronized void initializeSystemMonitor(String backendName, String variant)
+            throws SysteminfoException {
+        if (backend != null) {
+            backend.dispose();
+            backend = null;
         }
 
-        if (sigar == null) {
-            sigar = SigarProxyCache.newInstance(sigarImpl, 1000);
+        SysteminfoBackend newBackend;
+        if ("proc".equals(backendName)) {
+            newBackend = new LinuxProcBackend();
+        } else {
+            newBackend = new SigarBackend(variant);
         }
 
-        logger.info("Using Sigar version {}", Sigar.VERSION_STRING);
-        logger.info("Using native version {}", Sigar.NATIVE_VERSION_STRING);
-
-        try {
-            String[] interfaces = sigar.getNetInterfaceList();
-            logger.debug("valid net interfaces: {}", Arrays.toString(interfaces));
-
-            FileSystem[] filesystems = sigar.getFileSystemList();
-            logger.debug("file systems: {}", Arrays.toString(filesystems));
-
-            List<String> disks = new ArrayList<String>();
-            for (int i = 0; i < filesystems.length; i++) {
-                FileSystem fs = filesystems[i];
-                if (fs.getType() == FileSystem.TYPE_LOCAL_DISK) {
-                    disks.add(fs.getDevName());
-                }
-            }
-
-            logger.debug("valid disk names: {}", Arrays.toString(disks.toArray()));
-
-        } catch (SigarException e) {
-            logger.error("System monitor error:", e);
-        }
+        newBackend.initialize();
+        backend = newBackend;
+        logger.debug("Using the {} backend", backend.getName());
     }
 
 }
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+/**
+ * Thrown if a value couldn't be read from the system monitor backend.
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public class SysteminfoException extends Exception {
+
+    private static final long serialVersionUID = 3215406357310484213L;
+
+    public SysteminfoException(String message) {
+        super(message);
+    }
+
+    public SysteminfoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
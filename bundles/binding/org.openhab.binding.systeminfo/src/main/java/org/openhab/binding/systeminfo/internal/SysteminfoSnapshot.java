@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal;
+
+/**
+ * The state of the system at one refresh cycle. Values are read lazily when
+ * they are requested first and are then kept for the lifetime of the
+ * snapshot, so all items of a cycle share one read of e.g. the memory
+ * counters.
+ *
+ * @author Pauli Anttila
+ * @since 1.9.0
+ */
+public interface SysteminfoSnapshot {
+
+    /**
+     * Returns the unformatted value of a command type. Byte values are
+     * returned in bytes, percentages in the range 0 to 100, uptimes in seconds
+     * and process CPU times in milliseconds. The formatted command types are
+     * not handled here, the binding formats the unformatted values.
+     *
+     * @param commandType
+     *            command type to read
+     * @param target
+     *            interface, disk, file system, directory or process the
+     *            command type refers to, <code>null</code> if not required
+     * @return the value
+     * @throws SysteminfoException
+     *             if the value couldn't be read
+     */
+    double getValue(SysteminfoCommandType commandType, String target) throws SysteminfoException;
+
+}
@@ -10,9 +10,9 @@ package org.openhab.binding.tinkerforge.internal;
 
 import java.math.BigDecimal;
 import java.util.Dictionary;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.emf.common.notify.Notification;
@@ -22,7 +22,9 @@ import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.openhab.binding.tinkerforge.TinkerforgeBindingProvider;
 import org.openhab.binding.tinkerforge.ecosystem.TinkerforgeContextImpl;
+import org.openhab.binding.tinkerforge.internal.TinkerforgeItemIndex.BoundItem;
 import org.openhab.binding.tinkerforge.internal.config.ConfigurationHandler;
+import org.openhab.binding.tinkerforge.internal.model.CallbackListener;
 import org.openhab.binding.tinkerforge.internal.model.ColorActor;
 import org.openhab.binding.tinkerforge.internal.model.DigitalActor;
 import org.openhab.binding.tinkerforge.internal.model.DimmableActor;
@@ -106,7 +108,9 @@ import org.slf4j.LoggerFactory;
  * threshold value are configurable through openhab.cfg.
  *
  * All device values are additionally polled by the execute method mainly to get values from
- * subdevices which don't have TinkerForge CallbackListeners for getting the sensor values.
+ * subdevices which don't have TinkerForge CallbackListeners for getting the sensor values. Devices
+ * are polled with the refresh interval from openhab.cfg, {@link CallbackListener}s with a longer
+ * callback period are polled with their callback period, as they push their values anyway.
  *
  * Tinkerforge devices which work as actors like relays can be controlled with this binding.
  *
@@ -156,6 +160,8 @@ public class TinkerforgeBinding extends AbstractActiveBinding<TinkerforgeBinding
     private OHConfig ohConfig;
     private boolean isConnected;
     private TinkerforgeContextImpl context = (TinkerforgeContextImpl) TinkerforgeContextImpl.getInstance();
+    private TinkerforgeItemIndex itemIndex = new TinkerforgeItemIndex();
+    private Map<String, Long> nextPollTimes = new ConcurrentHashMap<String, Long>();
 
     public TinkerforgeBinding() {
         modelFactory = ModelFactory.eINSTANCE;
@@ -501,60 +507,20 @@ public class TinkerforgeBinding extends AbstractActiveBinding<TinkerforgeBinding
      *         no item was found.
      */
     private String searchConfiguredItemName(String uid, String subId) {
-        for (TinkerforgeBindingProvider provider : providers) {
-            for (String itemName : provider.getItemNames()) {
-                String deviceUid = provider.getUid(itemName);
-                String subDeviceId = provider.getSubId(itemName);
-                String deviceName = provider.getName(itemName);
-                if (deviceName != null) {
-                    logger.trace("found item for command: name {}", deviceName);
-                    OHTFDevice<?, ?> ohtfDevice = ohConfig.getConfigByOHId(deviceName);
-                    deviceUid = ohtfDevice.getUid();
-                    deviceName = ohtfDevice.getSubid();
-                }
-                if (uid.equals(deviceUid)) {
-                    if (subId == null && subDeviceId == null) {
-                        return itemName;
-                    } else if (subId != null && subId.equals(subDeviceId)) {
-                        return itemName;
-                    }
-                }
-            }
-        }
-        return null;
+        List<BoundItem> boundItems = itemIndex.getItems(providers, ohConfig, uid, subId);
+        return boundItems.isEmpty() ? null : boundItems.get(0).getItemName();
     }
 
     /**
-     * Searches the provider which is bound to the device with the given uid and subid.
+     * Searches the items which are bound to the device with the given uid and subid.
      *
      * @param uid The device uid as {@code String}.
      * @param subId The device subid as {@code String} or {@code null} if it is not a sub device.
-     * @return The {@code TinkerforgeBindingProvider} which is bound to the device as {@code Item} or
-     *         {@code null} if no item was found.
+     * @return The {@code BoundItem}s with the item name and the {@code TinkerforgeBindingProvider}
+     *         which are bound to the device, the {@code List} is empty if no item was found.
      */
-    private Map<String, TinkerforgeBindingProvider> getBindingProviders(String uid, String subId) {
-        Map<String, TinkerforgeBindingProvider> providerMap = new HashMap<String, TinkerforgeBindingProvider>();
-        for (TinkerforgeBindingProvider provider : providers) {
-            for (String itemName : provider.getItemNames()) {
-                String deviceUid = provider.getUid(itemName);
-                String subDeviceId = provider.getSubId(itemName);
-                String deviceName = provider.getName(itemName);
-                if (deviceName != null) {
-                    OHTFDevice<?, ?> ohtfDevice = ohConfig.getConfigByOHId(deviceName);
-                    deviceUid = ohtfDevice.getUid();
-                    subDeviceId = ohtfDevice.getSubid();
-                    logger.trace("found deviceName {}, uid={}, subId {}", deviceName, deviceUid, subDeviceId);
-                }
-                if (uid.equals(deviceUid)) {
-                    if (subId == null && subDeviceId == null) {
-                        providerMap.put(itemName, provider);
-                    } else if (subId != null && subId.equals(subDeviceId)) {
-                        providerMap.put(itemName, provider);
-                    }
-                }
-            }
-        }
-        return providerMap;
+    private List<BoundItem> getBoundItems(String uid, String subId) {
+        return itemIndex.getItems(providers, ohConfig, uid, subId);
     }
 
     /**
@@ -576,20 +542,57 @@ public class TinkerforgeBinding extends AbstractActiveBinding<TinkerforgeBinding
     /**
      * The working method which is called by the refresh thread.
      *
-     * Triggers an update of state values for all devices. The update is propagated through the
-     * {@link Ecosystem} listeners. All OutActors are ignored, they may only send updates if the
-     * hardware device has updates (think of a pressed switch).
+     * Triggers an update of state values for all devices which are due. The update is propagated
+     * through the {@link Ecosystem} listeners. All OutActors are ignored, they may only send updates
+     * if the hardware device has updates (think of a pressed switch). Every device is polled with its
+     * own poll period, see {@link #getPollPeriod(MBaseDevice) getPollPeriod}. The refresh thread runs
+     * at the refresh interval, so a longer poll period is rounded up to the next multiple of the
+     * refresh interval: with a refresh interval of 1000ms a device with a callback period of 1500ms is
+     * polled every 2000ms.
      *
      */
     @Override
     protected void execute() {
-        for (TinkerforgeBindingProvider provider : providers) {
-            for (String itemName : provider.getItemNames()) {
-                updateItemValues(provider, itemName, true);
+        if (tinkerforgeEcosystem == null) {
+            logger.warn("tinkerforge ecosystem not yet ready");
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (BoundItem boundItem : itemIndex.getItems(providers, ohConfig)) {
+            String itemName = boundItem.getItemName();
+            MBaseDevice mDevice = tinkerforgeEcosystem.getDevice(boundItem.getUid(), boundItem.getSubId());
+            if (mDevice == null || !mDevice.getEnabledA().get()) {
+                continue;
+            }
+            if (!mDevice.isPoll()) {
+                logger.trace("{} omitting fetch value for no poll{}:{}", LoggerConstants.ITEMUPDATE,
+                        boundItem.getUid(), boundItem.getSubId());
+                continue;
+            }
+            long pollPeriod = getPollPeriod(mDevice);
+            Long nextPollTime = nextPollTimes.get(itemName);
+            if (nextPollTime == null || nextPollTime <= now) {
+                fetchDeviceValue(mDevice, boundItem.getProvider().getItem(itemName));
+                nextPollTimes.put(itemName, now + pollPeriod);
             }
         }
     }
 
+    /**
+     * Gets the poll period of a device. This is the refresh interval, or the callback period for
+     * {@link CallbackListener}s with a longer callback period. The callbacks already push the
+     * values of these devices, so they are never polled more often than the other devices.
+     *
+     * @param mDevice The {@link MBaseDevice} device.
+     * @return The poll period in ms.
+     */
+    private long getPollPeriod(MBaseDevice mDevice) {
+        if (mDevice instanceof CallbackListener) {
+            return Math.max(refreshInterval, ((CallbackListener) mDevice).getCallbackPeriod());
+        }
+        return refreshInterval;
+    }
+
     /**
      * Triggers an update of state values for all devices.
      *
@@ -620,33 +623,46 @@ public class TinkerforgeBinding extends AbstractActiveBinding<TinkerforgeBinding
                 logger.debug("{} omitting fetch value for no poll{}:{}", LoggerConstants.ITEMUPDATE, deviceUid,
                         deviceSubId);
             } else {
-                if (mDevice instanceof MSensor) {
-                    ((MSensor<?>) mDevice).fetchSensorValue();
-                } else if (mDevice instanceof SwitchSensor && item instanceof SwitchItem) {
-                    ((SwitchSensor) mDevice).fetchSwitchState();
-                } else if (mDevice instanceof DigitalActor) {
-                    ((DigitalActor) mDevice).fetchDigitalValue();
-                }
+                fetchDeviceValue(mDevice, item);
             }
         }
     }
 
+    /**
+     * Fetches the current value of a device, the value is propagated through the {@link Ecosystem}
+     * listeners.
+     *
+     * @param mDevice The {@link MBaseDevice} device.
+     * @param item The {@code Item} bound to the device.
+     */
+    private void fetchDeviceValue(MBaseDevice mDevice, Item item) {
+        if (mDevice instanceof MSensor) {
+            ((MSensor<?>) mDevice).fetchSensorValue();
+        } else if (mDevice instanceof SwitchSensor && item instanceof SwitchItem) {
+            ((SwitchSensor) mDevice).fetchSwitchState();
+        } else if (mDevice instanceof DigitalActor) {
+            ((DigitalActor) mDevice).fetchDigitalValue();
+        }
+    }
+
     @Override
     public void bindingChanged(BindingProvider provider, String itemName) {
         logger.debug("{} bindingChanged item {}", LoggerConstants.ITEMUPDATE, itemName);
+        itemIndex.invalidate();
+        nextPollTimes.remove(itemName);
         updateItemValues((TinkerforgeBindingProvider) provider, itemName, false);
     }
 
     private void postUpdate(String uid, String subId, TinkerforgeValue sensorValue) {
         // TODO undef handling
         logger.trace("postUpdate called for uid {} subid {}", uid, subId);
-        Map<String, TinkerforgeBindingProvider> providerMap = getBindingProviders(uid, subId);
-        if (providerMap.size() == 0) {
+        List<BoundItem> boundItems = getBoundItems(uid, subId);
+        if (boundItems.isEmpty()) {
             logger.debug("{} found no item for uid {}, subid {}", LoggerConstants.TFMODELUPDATE, uid, subId);
         }
-        for (Entry<String, TinkerforgeBindingProvider> entry : providerMap.entrySet()) {
-            String itemName = entry.getKey();
-            TinkerforgeBindingProvider provider = entry.getValue();
+        for (BoundItem boundItem : boundItems) {
+            String itemName = boundItem.getItemName();
+            TinkerforgeBindingProvider provider = boundItem.getProvider();
             Class<? extends Item> itemType = provider.getItemType(itemName);
             State value = UnDefType.UNDEF;
             if (sensorValue instanceof DecimalValue) {
@@ -856,10 +872,21 @@ public class TinkerforgeBinding extends AbstractActiveBinding<TinkerforgeBinding
 
     protected void addBindingProvider(TinkerforgeBindingProvider bindingProvider) {
         super.addBindingProvider(bindingProvider);
+        itemIndex.invalidate();
     }
 
     protected void removeBindingProvider(TinkerforgeBindingProvider bindingProvider) {
         super.removeBindingProvider(bindingProvider);
+        itemIndex.invalidate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void allBindingsChanged(BindingProvider provider) {
+        super.allBindingsChanged(provider);
+        itemIndex.invalidate();
     }
 
     /**
@@ -885,6 +912,8 @@ public class TinkerforgeBinding extends AbstractActiveBinding<TinkerforgeBinding
 
             ConfigurationHandler configurationHandler = new ConfigurationHandler();
             ohConfig = configurationHandler.createConfig(config);
+            itemIndex.invalidate();
+            nextPollTimes.clear();
 
             // read further config parameters here ...
             logger.debug("{} updated called", LoggerConstants.CONFIG);
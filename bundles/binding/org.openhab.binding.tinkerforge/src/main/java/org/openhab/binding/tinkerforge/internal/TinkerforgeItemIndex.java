@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.tinkerforge.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openhab.binding.tinkerforge.TinkerforgeBindingProvider;
+import org.openhab.binding.tinkerforge.internal.model.OHConfig;
+import org.openhab.binding.tinkerforge.internal.model.OHTFDevice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of all items bound to TinkerForge devices. Symbolic device names are resolved to uid and
+ * subid once when the index is built, the index is rebuilt lazily after the bindings or the
+ * openhab.cfg configuration have changed.
+ *
+ * The index maps a device, identified by uid and subid, to all items bound to it. This is used for
+ * the sensor value notifications of the {@link org.openhab.binding.tinkerforge.internal.model.Ecosystem}
+ * which otherwise would have to search all items of all providers.
+ *
+ * @author Theo Weiss
+ * @since 1.9.0
+ */
+public class TinkerforgeItemIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TinkerforgeItemIndex.class);
+
+    private volatile boolean dirty = true;
+    private volatile Map<String, List<BoundItem>> deviceItems = new ConcurrentHashMap<String, List<BoundItem>>();
+    private volatile List<BoundItem> items = Collections.emptyList();
+
+    /**
+     * Marks the index as outdated, it is rebuilt with the next lookup.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Returns all items bound to the device with the given uid and subid.
+     *
+     * @param providers The {@code TinkerforgeBindingProvider}s used to rebuild the index.
+     * @param ohConfig The {@link OHConfig} used to resolve symbolic device names.
+     * @param uid The device uid as {@code String}.
+     * @param subId The device subid as {@code String} or {@code null} if it is not a sub device.
+     * @return The bound items as {@code List}, which is empty if no item is bound to the device.
+     */
+    public List<BoundItem> getItems(Collection<TinkerforgeBindingProvider> providers, OHConfig ohConfig, String uid,
+            String subId) {
+        if (dirty) {
+            rebuild(providers, ohConfig);
+        }
+        List<BoundItem> boundItems = deviceItems.get(getDeviceKey(uid, subId));
+        if (boundItems == null) {
+            return Collections.emptyList();
+        }
+        return boundItems;
+    }
+
+    /**
+     * Returns all bound items.
+     *
+     * @param providers The {@code TinkerforgeBindingProvider}s used to rebuild the index.
+     * @param ohConfig The {@link OHConfig} used to resolve symbolic device names.
+     * @return All bound items as {@code List}.
+     */
+    public List<BoundItem> getItems(Collection<TinkerforgeBindingProvider> providers, OHConfig ohConfig) {
+        if (dirty) {
+            rebuild(providers, ohConfig);
+        }
+        return items;
+    }
+
+    private synchronized void rebuild(Collection<TinkerforgeBindingProvider> providers, OHConfig ohConfig) {
+        if (!dirty) {
+            return;
+        }
+        // reset first, a binding change during the rebuild triggers the next rebuild
+        dirty = false;
+        Map<String, List<BoundItem>> newDeviceItems = new ConcurrentHashMap<String, List<BoundItem>>();
+        List<BoundItem> newItems = new ArrayList<BoundItem>();
+        for (TinkerforgeBindingProvider provider : providers) {
+            for (String itemName : provider.getItemNames()) {
+                String deviceUid = provider.getUid(itemName);
+                String subDeviceId = provider.getSubId(itemName);
+                String deviceName = provider.getName(itemName);
+                if (deviceName != null) {
+                    OHTFDevice<?, ?> ohtfDevice = ohConfig != null ? ohConfig.getConfigByOHId(deviceName) : null;
+                    if (ohtfDevice == null) {
+                        logger.warn("{} found no device configuration for name {} of item {}",
+                                LoggerConstants.CONFIG, deviceName, itemName);
+                        continue;
+                    }
+                    deviceUid = ohtfDevice.getUid();
+                    subDeviceId = ohtfDevice.getSubid();
+                    logger.trace("found deviceName {}, uid={}, subId {}", deviceName, deviceUid, subDeviceId);
+                }
+                if (deviceUid == null) {
+                    continue;
+                }
+                BoundItem boundItem = new BoundItem(itemName, provider, deviceUid, subDeviceId);
+                String deviceKey = getDeviceKey(deviceUid, subDeviceId);
+                List<BoundItem> boundItems = newDeviceItems.get(deviceKey);
+                if (boundItems == null) {
+                    boundItems = new ArrayList<BoundItem>();
+                    newDeviceItems.put(deviceKey, boundItems);
+                }
+                boundItems.add(boundItem);
+                newItems.add(boundItem);
+            }
+        }
+        deviceItems = newDeviceItems;
+        items = Collections.unmodifiableList(newItems);
+        logger.debug("{} rebuilt item index with {} items for {} devices", LoggerConstants.CONFIG, newItems.size(),
+                newDeviceItems.size());
+    }
+
+    private static String getDeviceKey(String uid, String subId) {
+        return subId == null ? uid : uid + " " + subId;
+    }
+
+    /**
+     * An item bound to a TinkerForge device with the resolved device uid and subid.
+     */
+    public static class BoundItem {
+        private final String itemName;
+        private final TinkerforgeBindingProvider provider;
+        private final String uid;
+        private final String subId;
+
+        public BoundItem(String itemName, TinkerforgeBindingProvider provider, String uid, String subId) {
+            this.itemName = itemName;
+            this.provider = provider;
+            this.uid = uid;
+            this.subId = subId;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public TinkerforgeBindingProvider getProvider() {
+            return provider;
+        }
+
+        public String getUid() {
+            return uid;
+        }
+
+        public String getSubId() {
+            return subId;
+        }
+    }
+}
@@ -25,7 +25,9 @@ import org.openhab.binding.weather.internal.converter.ConverterFactory;
 import org.openhab.binding.weather.internal.converter.ConverterType;
 import org.openhab.binding.weather.internal.model.ProviderName;
 import org.openhab.binding.weather.internal.model.Weather;
+import org.openhab.binding.weather.internal.utils.PropertyAccessor;
 import org.openhab.binding.weather.internal.utils.PropertyResolver;
+import org.openhab.binding.weather.internal.utils.PropertyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,7 +84,8 @@ public class MetadataHandler {
 
                             Converter<?> converter = getConverter(field, provider.converter());
                             String target = clazz.getSimpleName().toLowerCase() + "." + field.getName();
-                            ProviderMappingInfo pm = new ProviderMappingInfo(provider.property(), target, converter);
+                            ProviderMappingInfo pm = new ProviderMappingInfo(provider.property(), target, converter,
+                                    getAccessor(target));
                             mappings.put(pm.getSource(), pm);
                             logger.trace("Added provider mapping {}: {}", provider.name(), pm);
                         }
@@ -103,6 +106,18 @@ public class MetadataHandler {
         }
     }
 
+    /**
+     * Resolves the target property once, so the parsers can write values without lookups.
+     */
+    private PropertyAccessor getAccessor(String target) {
+        try {
+            return PropertyUtils.getAccessor(Weather.class, target);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Can't resolve weather property '{}': {}", target, ex.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Autodetects a converter or returns a specified instance.
      */
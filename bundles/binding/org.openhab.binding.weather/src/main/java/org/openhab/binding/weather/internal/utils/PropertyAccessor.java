@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.weather.internal.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.apache.commons.lang.reflect.FieldUtils;
+import org.apache.commons.lang.reflect.MethodUtils;
+
+/**
+ * Accessor for a (nested) property of a class. The fields and the getter
+ * method are resolved once when the accessor is created, reading and writing
+ * the property doesn't need any further lookup by name.
+ *
+ * @author Gerhard Riegler
+ * @since 1.9.0
+ */
+public class PropertyAccessor {
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final String property;
+    private final Field[] path;
+    private final Field field;
+    private final Method getter;
+
+    /**
+     * Resolves the property of the class. If the property is for example
+     * temperature.current, the field temperature is read and the method
+     * getCurrent() is called on the result.
+     *
+     * @throws IllegalArgumentException if a nested field does not exist
+     */
+    public PropertyAccessor(Class<?> clazz, String property) {
+        this.property = property;
+
+        String nestedProperty = property;
+        int depth = 0;
+        if (!PropertyUtils.isWeatherProperty(property)) {
+            while (PropertyResolver.hasNested(nestedProperty)) {
+                depth++;
+                nestedProperty = PropertyResolver.removeFirst(nestedProperty);
+            }
+        }
+
+        path = new Field[depth];
+        Class<?> type = clazz;
+        nestedProperty = property;
+        for (int i = 0; i < depth; i++) {
+            String name = PropertyResolver.first(nestedProperty);
+            path[i] = FieldUtils.getField(type, name, true);
+            if (path[i] == null) {
+                throw new IllegalArgumentException("Cannot locate field " + name + " on " + type);
+            }
+            type = path[i].getType();
+            nestedProperty = PropertyResolver.removeFirst(nestedProperty);
+        }
+
+        String name = PropertyResolver.last(property);
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Invalid property " + property);
+        }
+        field = FieldUtils.getField(type, name, true);
+        getter = MethodUtils.getAccessibleMethod(type, toGetterString(name), new Class[0]);
+    }
+
+    /**
+     * Returns the property name.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Returns true, if the property has a getter method.
+     */
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    /**
+     * Returns the type of the property field or null, if there is no field.
+     */
+    public Class<?> getType() {
+        return field == null ? null : field.getType();
+    }
+
+    /**
+     * Returns the value from the getter method of the property.
+     */
+    public Object getValue(Object instance) throws Exception {
+        if (getter == null) {
+            throw new NoSuchMethodException("No getter for property " + property);
+        }
+        Object object = getNestedObject(instance);
+        return object == null ? null : getter.invoke(object, NO_ARGS);
+    }
+
+    /**
+     * Writes the value directly to the field of the property.
+     */
+    public void setValue(Object instance, Object value) throws IllegalAccessException {
+        if (field == null) {
+            throw new IllegalAccessException("No field for property " + property);
+        }
+        Object object = getNestedObject(instance);
+        if (object != null) {
+            field.set(object, value);
+        }
+    }
+
+    /**
+     * Returns the object which holds the property.
+     */
+    public Object getNestedObject(Object instance) throws IllegalAccessException {
+        Object object = instance;
+        for (int i = 0; i < path.length && object != null; i++) {
+            object = path[i].get(object);
+        }
+        return object;
+    }
+
+    /**
+     * Converts the string to a getter property.
+     */
+    private static String toGetterString(String str) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("get");
+        sb.append(Character.toTitleCase(str.charAt(0)));
+        sb.append(str.substring(1));
+        return sb.toString();
+    }
+}
@@ -8,15 +8,16 @@
  */
 package org.openhab.binding.weather.internal.utils;
 
-import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.reflect.FieldUtils;
-import org.apache.commons.lang.reflect.MethodUtils;
 import org.openhab.binding.weather.internal.model.Weather;
 
 /**
  * Methods to get the value from a property or a getter method of an object.
+ * The properties are resolved once per class into a {@link PropertyAccessor}.
  *
  * @author Gerhard Riegler
  * @since 1.6.0
@@ -24,6 +25,30 @@ import org.openhab.binding.weather.internal.model.Weather;
 public class PropertyUtils {
     private static final String WEATHER_PROPERTY = Weather.class.getSimpleName().toLowerCase() + ".";
 
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyAccessor>> accessors = new ConcurrentHashMap<Class<?>, ConcurrentMap<String, PropertyAccessor>>();
+
+    /**
+     * Returns the cached accessor for the property of the class.
+     *
+     * @throws IllegalArgumentException if a nested field does not exist
+     */
+    public static PropertyAccessor getAccessor(Class<?> clazz, String property) {
+        ConcurrentMap<String, PropertyAccessor> classAccessors = accessors.get(clazz);
+        if (classAccessors == null) {
+            accessors.putIfAbsent(clazz, new ConcurrentHashMap<String, PropertyAccessor>());
+            classAccessors = accessors.get(clazz);
+        }
+        PropertyAccessor accessor = classAccessors.get(property);
+        if (accessor == null) {
+            accessor = new PropertyAccessor(clazz, property);
+            PropertyAccessor existing = classAccessors.putIfAbsent(property, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+        return accessor;
+    }
+
     /**
      * Returns the object of the (nested) property.
      */
@@ -51,8 +76,7 @@ public class PropertyUtils {
      */
     public static boolean hasProperty(Object instance, String property) {
         try {
-            getPropertyValue(instance, property);
-            return true;
+            return getAccessor(instance.getClass(), property).isReadable();
         } catch (Exception ex) {
             return false;
         }
@@ -62,9 +86,8 @@ public class PropertyUtils {
      * Returns the type name of the property of the instance.
      */
     public static String getPropertyTypeName(Object instance, String property) throws IllegalAccessException {
-        Object object = getNestedObject(instance, property);
-        Field field = FieldUtils.getField(object.getClass(), PropertyResolver.last(property), true);
-        return field.getType().getCanonicalName();
+        Class<?> type = getAccessor(instance.getClass(), property).getType();
+        return type == null ? null : type.getCanonicalName();
     }
 
     /**
@@ -73,20 +96,7 @@ public class PropertyUtils {
      * methods getTemperature().getCurrent() are called.
      */
     public static Object getPropertyValue(Object instance, String property) throws Exception {
-        Object object = getNestedObject(instance, property);
-        String getMethod = toGetterString(PropertyResolver.last(property));
-        return MethodUtils.invokeMethod(object, getMethod, null);
-    }
-
-    /**
-     * Converts the string to a getter property.
-     */
-    private static String toGetterString(String str) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("get");
-        sb.append(Character.toTitleCase(str.charAt(0)));
-        sb.append(str.substring(1));
-        return sb.toString();
+        return getAccessor(instance.getClass(), property).getValue(instance);
     }
 
 }
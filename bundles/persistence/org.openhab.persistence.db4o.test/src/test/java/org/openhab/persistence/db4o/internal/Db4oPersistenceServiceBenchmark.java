@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.db4o.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.db4o.Db4oEmbedded;
+import com.db4o.ObjectContainer;
+
+/**
+ * Measures the latency of the queries behind historicState and averageSince
+ * on a database seeded with a large amount of item states. Only runs if the
+ * system property <code>db4o.benchmark</code> is set to <code>true</code>,
+ * the number of seeded states can be set with <code>db4o.benchmark.states</code>
+ * (defaults to 1,000,000).
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class Db4oPersistenceServiceBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(Db4oPersistenceServiceBenchmark.class);
+
+    private static final String DB_FILE_NAME = "./target/etc/db4o-benchmark/store.db4o";
+
+    private static final int ITEM_COUNT = 10;
+
+    /** time between two states of an item */
+    private static final long STATE_INTERVAL = 60 * 1000L;
+
+    private static final int QUERY_COUNT = 100;
+
+    private final Db4oPersistenceService service = new Db4oPersistenceService();
+
+    private int stateCount;
+
+    private long now;
+
+    @Before
+    public void init() {
+        Assume.assumeTrue(Boolean.getBoolean("db4o.benchmark"));
+        stateCount = Integer.getInteger("db4o.benchmark.states", 1000000);
+        now = System.currentTimeMillis();
+
+        File dbFile = new File(DB_FILE_NAME);
+        dbFile.getParentFile().mkdirs();
+        dbFile.delete();
+        seed();
+        Db4oPersistenceService.openDbFile(DB_FILE_NAME);
+    }
+
+    @After
+    public void cleanup() {
+        Db4oPersistenceService.closeDbFile();
+        new File(DB_FILE_NAME).delete();
+    }
+
+    private void seed() {
+        long startTime = System.currentTimeMillis();
+        ObjectContainer db = Db4oEmbedded.openFile(Db4oPersistenceService.newConfiguration(), DB_FILE_NAME);
+        try {
+            for (int index = 0; index < stateCount; index++) {
+                Db4oItem historicItem = new Db4oItem();
+                historicItem.setName(itemName(index % ITEM_COUNT));
+                historicItem.setState(new DecimalType(new BigDecimal(index % 1000)));
+                // every item has a state per interval, the oldest ones are stateCount / ITEM_COUNT intervals ago
+                historicItem.setTimestamp(
+                        new Date(now - (stateCount / ITEM_COUNT - index / ITEM_COUNT) * STATE_INTERVAL));
+                db.store(historicItem);
+                if (index % 10000 == 9999) {
+                    db.commit();
+                }
+            }
+            db.commit();
+        } finally {
+            db.close();
+        }
+        logger.info("seeded {} states in {}ms", stateCount, System.currentTimeMillis() - startTime);
+    }
+
+    private static String itemName(int index) {
+        return "Item" + index;
+    }
+
+    @Test
+    public void benchmarkHistoricState() {
+        Random random = new Random(0);
+        long span = stateCount / ITEM_COUNT * STATE_INTERVAL;
+
+        long startTime = System.nanoTime();
+        for (int index = 0; index < QUERY_COUNT; index++) {
+            FilterCriteria filter = new FilterCriteria();
+            filter.setItemName(itemName(random.nextInt(ITEM_COUNT)));
+            filter.setEndDate(new Date(now - (long) (random.nextDouble() * span)));
+            filter.setOrdering(Ordering.DESCENDING);
+            filter.setPageSize(1);
+
+            Iterator<HistoricItem> result = service.query(filter).iterator();
+            assertTrue(result.hasNext());
+            assertFalse(result.next().getTimestamp().after(filter.getEndDate()));
+        }
+        report("historicState", System.nanoTime() - startTime);
+    }
+
+    @Test
+    public void benchmarkAverageSince() {
+        Random random = new Random(0);
+
+        long startTime = System.nanoTime();
+        for (int index = 0; index < QUERY_COUNT; index++) {
+            FilterCriteria filter = new FilterCriteria();
+            filter.setItemName(itemName(random.nextInt(ITEM_COUNT)));
+            filter.setBeginDate(new Date(now - 24 * 60 * 60 * 1000L));
+
+            BigDecimal total = BigDecimal.ZERO;
+            int count = 0;
+            for (HistoricItem historicItem : service.query(filter)) {
+                total = total.add(((DecimalType) historicItem.getState()).toBigDecimal());
+                count++;
+            }
+            assertTrue(count > 0);
+            assertNotNull(total);
+        }
+        report("averageSince", System.nanoTime() - startTime);
+    }
+
+    private void report(String name, long nanos) {
+        logger.info("{} on {} states: {}us per query", new Object[] { name, stateCount, nanos / QUERY_COUNT / 1000 });
+    }
+
+}
@@ -40,6 +40,12 @@ public class Db4oConfiguration {
     /** the amount of backup files allowed in DB_FOLDER_NAME (optional, defaults to '7') */
     public static int maxBackups = 7;
 
+    /**
+     * whether the database is defragmented when it is opened and the backups after they are created (optional,
+     * defaults to 'false')
+     */
+    public static boolean defragment = false;
+
     /**
      * {@inheritDoc}
      */
@@ -58,6 +64,11 @@ public class Db4oConfiguration {
             }
         }
 
+        String defragmentString = (String) config.get("defragment");
+        if (StringUtils.isNotBlank(defragmentString)) {
+            defragment = Boolean.parseBoolean(defragmentString.trim());
+        }
+
         String maxBackupsString = (String) config.get("maxbackups");
         if (StringUtils.isNotBlank(maxBackupsString)) {
             try {
@@ -14,7 +14,7 @@ import java.util.Date;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 
-import com.db4o.config.Configuration;
+import com.db4o.config.CommonConfiguration;
 
 /**
  * This is a Java bean used to persist item states with timestamps in the database.
@@ -61,7 +61,12 @@ public class Db4oItem implements HistoricItem {
         return DateFormat.getDateTimeInstance().format(timestamp) + ": " + name + " -> " + state.toString();
     }
 
-    static /* default */ void configure(Configuration config) {
+    /**
+     * Configures the indexes of the fields queries are constrained on. Has to
+     * be applied to the configuration the database is opened with, the index
+     * of an existing database is built when it is opened the next time.
+     */
+    static /* default */ void configure(CommonConfiguration config) {
         config.objectClass(Db4oItem.class).objectField("name").indexed(true);
         config.objectClass(Db4oItem.class).objectField("timestamp").indexed(true);
 
@@ -47,6 +47,9 @@ import org.slf4j.LoggerFactory;
 import com.db4o.Db4oEmbedded;
 import com.db4o.ObjectContainer;
 import com.db4o.ObjectSet;
+import com.db4o.config.EmbeddedConfiguration;
+import com.db4o.defragment.Defragment;
+import com.db4o.defragment.DefragmentConfig;
 import com.db4o.ext.DatabaseClosedException;
 import com.db4o.ext.Db4oException;
 import com.db4o.ext.ExtObjectContainer;
@@ -70,6 +73,15 @@ public class Db4oPersistenceService implements QueryablePersistenceService {
 
     private static final String SCHEDULER_GROUP = "DB4O_SchedulerGroup";
 
+    /** the first time range searched for the newest items before the end date of a query */
+    private static final long MIN_SEEK_RANGE = 60 * 60 * 1000L;
+
+    /** the number of growing time ranges searched before the whole database is queried */
+    private static final int MAX_SEEK_STEPS = 4;
+
+    /** the maximum number of results of a query, which are searched for in growing time ranges */
+    private static final long MAX_SEEK_RESULTS = 1000;
+
     private static ObjectContainer db;
 
     @Override
@@ -82,19 +94,17 @@ public class Db4oPersistenceService implements QueryablePersistenceService {
         if (!folder.exists()) {
             folder.mkdirs();
         }
+        if (defragment) {
+            defragmentDbFile(DB_FOLDER + File.separator + DB_FILE_NAME);
+        }
         openDbFile();
-        Db4oItem.configure(db.ext().configure());
 
         scheduleJob();
     }
 
     public void deactivate() {
         cancelAllJobs();
-
-        if (db != null) {
-            db.close();
-            db = null;
-        }
+        closeDbFile();
     }
 
     @Override
@@ -124,16 +134,64 @@ public class Db4oPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        if (filter == null) {
+            filter = new FilterCriteria();
+        }
+
+        long startIndex = (long) filter.getPageNumber() * filter.getPageSize();
+        ObjectSet<HistoricItem> results = execute(filter, startIndex + filter.getPageSize());
+
+        if (results != null && startIndex < results.size()) {
+            int endIndex = (int) Math.min(startIndex + filter.getPageSize(), results.size());
+            // a view on the results, the items are activated when they are iterated
+            return results.subList((int) startIndex, endIndex);
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Executes the query of the given filter. Ordering has to read the timestamp of every matching item, so the
+     * newest items before the end date of a query without begin date are searched in growing time ranges first,
+     * which only reads the items within the range by means of the timestamp index. After {@link #MAX_SEEK_STEPS}
+     * ranges, e.g. for an item without enough states, the whole database is queried.
+     *
+     * @param filter the filter of the query
+     * @param count the number of results needed for the requested page
+     * @return the results or <code>null</code> if the database couldn't be queried
+     */
+    private ObjectSet<HistoricItem> execute(FilterCriteria filter, long count) {
+        if (filter.getBeginDate() == null && filter.getEndDate() != null
+                && filter.getOrdering() == Ordering.DESCENDING && count <= MAX_SEEK_RESULTS) {
+            long endTime = filter.getEndDate().getTime();
+            long range = MIN_SEEK_RANGE;
+            for (int step = 0; step < MAX_SEEK_STEPS && range < endTime; step++, range *= 8) {
+                Query query = createQuery(filter, new Date(endTime - range));
+                if (query == null) {
+                    return null;
+                }
+                ObjectSet<HistoricItem> results = query.execute();
+                if (results.size() >= count) {
+                    return results;
+                }
+            }
+        }
+
+        Query query = createQuery(filter, filter.getBeginDate());
+        if (query == null) {
+            return null;
+        }
+        return query.execute();
+    }
+
+    private Query createQuery(FilterCriteria filter, Date beginDate) {
         Query query = queryWithReconnect();
 
         if (query != null) {
             query.constrain(Db4oItem.class);
 
-            if (filter == null) {
-                filter = new FilterCriteria();
-            }
-            if (filter.getBeginDate() != null) {
-                query.descend("timestamp").constrain(filter.getBeginDate()).greater().equal();
+            if (beginDate != null) {
+                query.descend("timestamp").constrain(beginDate).greater().equal();
             }
             if (filter.getEndDate() != null) {
                 query.descend("timestamp").constrain(filter.getEndDate()).smaller().equal();
@@ -169,19 +227,9 @@ public class Db4oPersistenceService implements QueryablePersistenceService {
             } else {
                 query.descend("timestamp").orderDescending();
             }
-            ObjectSet<HistoricItem> results = query.execute();
-
-            int startIndex = filter.getPageNumber() * filter.getPageSize();
-            if (startIndex < results.size()) {
-                int endIndex = startIndex + filter.getPageSize();
-                if (endIndex > results.size()) {
-                    endIndex = results.size();
-                }
-                return results.subList(startIndex, endIndex);
-            }
         }
 
-        return Collections.emptyList();
+        return query;
     }
 
     /**
@@ -205,7 +253,67 @@ public class Db4oPersistenceService implements QueryablePersistenceService {
     }
 
     private static void openDbFile() {
-        db = Db4oEmbedded.openFile(Db4oEmbedded.newConfiguration(), DB_FOLDER + File.separator + DB_FILE_NAME);
+        openDbFile(DB_FOLDER + File.separator + DB_FILE_NAME);
+    }
+
+    static void openDbFile(String fileName) {
+        db = Db4oEmbedded.openFile(newConfiguration(), fileName);
+    }
+
+    static void closeDbFile() {
+        if (db != null) {
+            db.close();
+            db = null;
+        }
+    }
+
+    /**
+     * Creates the configuration the database is opened with. The indexes of
+     * {@link Db4oItem} have to be part of it, configuring them on the already
+     * opened database has no effect on the stored data.
+     *
+     * @return a new configuration
+     */
+    static EmbeddedConfiguration newConfiguration() {
+        EmbeddedConfiguration config = Db4oEmbedded.newConfiguration();
+        Db4oItem.configure(config.common());
+        return config;
+    }
+
+    /**
+     * Defragments the given database file, which must not be open. Removes
+     * the space of deleted objects and rebuilds the indexes. The original
+     * file is restored if defragmenting fails.
+     *
+     * @param fileName the name of the database file
+     * @return <code>true</code> if the file was defragmented
+     */
+    static boolean defragmentDbFile(String fileName) {
+        File file = new File(fileName);
+        if (!file.exists()) {
+            return false;
+        }
+        long startTime = System.currentTimeMillis();
+        String backupFileName = fileName + ".predefrag";
+        DefragmentConfig config = new DefragmentConfig(fileName, backupFileName);
+        config.db4oConfig(newConfiguration());
+        config.forceBackupDelete(true);
+        try {
+            Defragment.defrag(config);
+            new File(backupFileName).delete();
+            logger.debug("successfully defragmented '{}' in {}ms", fileName, System.currentTimeMillis() - startTime);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Error defragmenting '{}': {}", fileName, e.getMessage());
+            File backupFile = new File(backupFileName);
+            if (backupFile.exists()) {
+                file.delete();
+                if (!backupFile.renameTo(file)) {
+                    logger.error("couldn't restore '{}' from '{}'", fileName, backupFileName);
+                }
+            }
+            return false;
+        }
     }
 
     /**
@@ -285,8 +393,11 @@ public class Db4oPersistenceService implements QueryablePersistenceService {
 
     /**
      * A quartz scheduler job to backup the db4o database frequently. It also
-     * removes obsolete backup files if the maximum amount is reached. There
-     * can be only one instance of a specific job type running at the same time.
+     * removes obsolete backup files if the maximum amount is reached. The
+     * backup is created while the database stays open, if configured it is
+     * defragmented afterwards, so storing items is never blocked by
+     * defragmenting. There can be only one instance of a specific job type
+     * running at the same time.
      * 
      * @author Thomas.Eichstaedt-Engelen
      * @since 1.0.0
@@ -306,7 +417,17 @@ public class Db4oPersistenceService implements QueryablePersistenceService {
             try {
                 ExtObjectContainer extDb = db.ext();
                 if (!extDb.isClosed()) {
-                    extDb.backup(backupFileName);
+                    if (defragment) {
+                        // the name doesn't end with .bak until the backup is complete
+                        String tmpFileName = backupFileName + ".tmp";
+                        extDb.backup(tmpFileName);
+                        defragmentDbFile(tmpFileName);
+                        if (!new File(tmpFileName).renameTo(new File(backupFileName))) {
+                            logger.warn("couldn't rename DB4O backup '{}' to '{}'", tmpFileName, backupFileName);
+                        }
+                    } else {
+                        extDb.backup(backupFileName);
+                    }
                     logger.debug("successfully created new DB4O backup '{}' in {}ms", backupFileName,
                             System.currentTimeMillis() - startTime);
                 } else {
@@ -122,6 +122,12 @@ public class BaseIntegrationTest {
             }
         }
 
+        // e.g. http://localhost:8000 to run the tests against DynamoDB Local
+        String endpoint = System.getProperty("DYNAMODBTEST_ENDPOINT");
+        if (endpoint != null) {
+            config.put("endpoint", endpoint);
+        }
+
         service.activate(null, config);
 
         // Clear data
@@ -169,4 +169,30 @@ public class DynamoDBConfigTest {
         assertEquals(3, fromConfig.getReadCapacityUnits());
         assertEquals(5, fromConfig.getWriteCapacityUnits());
     }
+
+    @Test
+    public void testRegionWithAccessKeysDefaultBuffer() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(
+                ImmutableMap.<String, Object>of("region", "eu-west-1", "accessKey", "access1", "secretKey", "secret1"));
+        assertEquals(1000, fromConfig.getBufferCommitIntervalMillis());
+        assertEquals(1000, fromConfig.getBufferSize());
+        assertNull(fromConfig.getEndpoint());
+    }
+
+    @Test
+    public void testRegionWithAccessKeysWithBuffer() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(ImmutableMap.<String, Object>of("region", "eu-west-1",
+                "accessKey", "access1", "secretKey", "secret1", "bufferCommitIntervalMillis", "500", "bufferSize", "0"));
+        assertEquals(Region.getRegion(Regions.EU_WEST_1), fromConfig.getRegion());
+        assertEquals(500, fromConfig.getBufferCommitIntervalMillis());
+        assertEquals(0, fromConfig.getBufferSize());
+    }
+
+    @Test
+    public void testRegionWithAccessKeysWithEndpoint() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(ImmutableMap.<String, Object>of("region", "eu-west-1",
+                "accessKey", "access1", "secretKey", "secret1", "endpoint", "http://localhost:8000"));
+        assertEquals(Region.getRegion(Regions.EU_WEST_1), fromConfig.getRegion());
+        assertEquals("http://localhost:8000", fromConfig.getEndpoint());
+    }
 }
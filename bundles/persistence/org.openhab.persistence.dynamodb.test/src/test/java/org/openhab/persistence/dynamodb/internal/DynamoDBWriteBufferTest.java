@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2016, openHAB.org and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ *
+ * @author Sami Salonen
+ *
+ */
+public class DynamoDBWriteBufferTest {
+
+    private final List<List<DynamoDBItem<?>>> batches = Collections
+            .synchronizedList(new ArrayList<List<DynamoDBItem<?>>>());
+
+    private DynamoDBWriteBuffer buffer;
+
+    @After
+    public void tearDown() {
+        if (buffer != null) {
+            buffer.shutdown();
+        }
+    }
+
+    private static DynamoDBItem<?> item(int index) {
+        return new DynamoDBBigDecimalItem("item" + index, new BigDecimal(index), new Date());
+    }
+
+    @Test
+    public void testWritesAtCommitInterval() throws Exception {
+        final CountDownLatch written = new CountDownLatch(1);
+        buffer = new DynamoDBWriteBuffer(100, 100, new DynamoDBWriteBuffer.BatchWriter() {
+            @Override
+            public void write(List<DynamoDBItem<?>> items) {
+                batches.add(items);
+                written.countDown();
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            assertTrue(buffer.offer(item(i)));
+        }
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertEquals("item0", batches.get(0).get(0).getName());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void testWritesFullBatchBeforeCommitInterval() throws Exception {
+        final CountDownLatch written = new CountDownLatch(1);
+        buffer = new DynamoDBWriteBuffer(100, 60000, new DynamoDBWriteBuffer.BatchWriter() {
+            @Override
+            public void write(List<DynamoDBItem<?>> items) {
+                batches.add(items);
+                written.countDown();
+            }
+        });
+        for (int i = 0; i < DynamoDBWriteBuffer.MAX_ITEMS_PER_BATCH; i++) {
+            assertTrue(buffer.offer(item(i)));
+        }
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(DynamoDBWriteBuffer.MAX_ITEMS_PER_BATCH, batches.get(0).size());
+    }
+
+    @Test
+    public void testDropsItemsWhenFull() throws Exception {
+        buffer = new DynamoDBWriteBuffer(3, 60000, new DynamoDBWriteBuffer.BatchWriter() {
+            @Override
+            public void write(List<DynamoDBItem<?>> items) {
+                batches.add(items);
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            assertTrue(buffer.offer(item(i)));
+        }
+        assertFalse(buffer.offer(item(3)));
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    public void testFlushAndShutdownWriteRemainingItems() throws Exception {
+        buffer = new DynamoDBWriteBuffer(100, 60000, new DynamoDBWriteBuffer.BatchWriter() {
+            @Override
+            public void write(List<DynamoDBItem<?>> items) {
+                batches.add(items);
+            }
+        });
+        buffer.offer(item(0));
+        buffer.flush();
+        assertEquals(1, batches.size());
+
+        buffer.offer(item(1));
+        buffer.offer(item(2));
+        buffer.shutdown();
+        buffer = null;
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(1).size());
+    }
+}
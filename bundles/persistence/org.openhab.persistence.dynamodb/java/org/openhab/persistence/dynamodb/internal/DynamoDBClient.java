@@ -27,13 +27,20 @@ public class DynamoDBClient {
     private AmazonDynamoDBClient client;
 
     public DynamoDBClient(AWSCredentials credentials, Region region) {
+        this(credentials, region, null);
+    }
+
+    public DynamoDBClient(AWSCredentials credentials, Region region, String endpoint) {
         client = new AmazonDynamoDBClient(credentials);
         client.setRegion(region);
+        if (endpoint != null) {
+            client.setEndpoint(endpoint);
+        }
         dynamo = new DynamoDB(client);
     }
 
     public DynamoDBClient(DynamoDBConfig clientConfig) {
-        this(clientConfig.getCredentials(), clientConfig.getRegion());
+        this(clientConfig.getCredentials(), clientConfig.getRegion(), clientConfig.getEndpoint());
     }
 
     public AmazonDynamoDBClient getDynamoClient() {
@@ -32,6 +32,8 @@ public class DynamoDBConfig {
     public static final boolean DEFAULT_CREATE_TABLE_ON_DEMAND = true;
     public static final long DEFAULT_READ_CAPACITY_UNITS = 1;
     public static final long DEFAULT_WRITE_CAPACITY_UNITS = 1;
+    public static final long DEFAULT_BUFFER_COMMIT_INTERVAL_MILLIS = 1000;
+    public static final int DEFAULT_BUFFER_SIZE = 1000;
 
     private static final Logger logger = LoggerFactory.getLogger(DynamoDBConfig.class);
 
@@ -41,6 +43,9 @@ public class DynamoDBConfig {
     private boolean createTable = DEFAULT_CREATE_TABLE_ON_DEMAND;
     private long readCapacityUnits = DEFAULT_READ_CAPACITY_UNITS;
     private long writeCapacityUnits = DEFAULT_WRITE_CAPACITY_UNITS;
+    private long bufferCommitIntervalMillis = DEFAULT_BUFFER_COMMIT_INTERVAL_MILLIS;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private String endpoint;
 
     /**
      *
@@ -118,7 +123,33 @@ public class DynamoDBConfig {
                 writeCapacityUnits = Long.parseLong(writeCapacityUnitsParam);
             }
 
-            return new DynamoDBConfig(region, credentials, table, createTable, readCapacityUnits, writeCapacityUnits);
+            final long bufferCommitIntervalMillis;
+            String bufferCommitIntervalMillisParam = (String) config.get("bufferCommitIntervalMillis");
+            if (isBlank(bufferCommitIntervalMillisParam)) {
+                logger.debug("Buffer commit interval millis: {}", DEFAULT_BUFFER_COMMIT_INTERVAL_MILLIS);
+                bufferCommitIntervalMillis = DEFAULT_BUFFER_COMMIT_INTERVAL_MILLIS;
+            } else {
+                bufferCommitIntervalMillis = Long.parseLong(bufferCommitIntervalMillisParam);
+            }
+
+            final int bufferSize;
+            String bufferSizeParam = (String) config.get("bufferSize");
+            if (isBlank(bufferSizeParam)) {
+                logger.debug("Buffer size: {}", DEFAULT_BUFFER_SIZE);
+                bufferSize = DEFAULT_BUFFER_SIZE;
+            } else {
+                bufferSize = Integer.parseInt(bufferSizeParam);
+            }
+
+            String endpoint = (String) config.get("endpoint");
+            if (isBlank(endpoint)) {
+                endpoint = null;
+            } else {
+                logger.debug("Using endpoint {} instead of the region endpoint", endpoint);
+            }
+
+            return new DynamoDBConfig(region, credentials, table, createTable, readCapacityUnits, writeCapacityUnits,
+                    bufferCommitIntervalMillis, bufferSize, endpoint);
         } catch (Exception e) {
             logger.error("Error with configuration", e);
             return null;
@@ -135,6 +166,22 @@ public class DynamoDBConfig {
         this.writeCapacityUnits = writeCapacityUnits;
     }
 
+    /**
+     *
+     * @param bufferCommitIntervalMillis interval of writing the buffered items in batches
+     * @param bufferSize maximum number of buffered items, 0 to write every item when it is stored
+     * @param endpoint endpoint to connect to instead of the region endpoint, e.g. http://localhost:8000 for
+     *            DynamoDB Local, or null
+     */
+    public DynamoDBConfig(Region region, AWSCredentials credentials, String table, boolean createTable,
+            long readCapacityUnits, long writeCapacityUnits, long bufferCommitIntervalMillis, int bufferSize,
+            String endpoint) {
+        this(region, credentials, table, createTable, readCapacityUnits, writeCapacityUnits);
+        this.bufferCommitIntervalMillis = bufferCommitIntervalMillis;
+        this.bufferSize = bufferSize;
+        this.endpoint = endpoint;
+    }
+
     public AWSCredentials getCredentials() {
         return credentials;
     }
@@ -159,6 +206,18 @@ public class DynamoDBConfig {
         return writeCapacityUnits;
     }
 
+    public long getBufferCommitIntervalMillis() {
+        return bufferCommitIntervalMillis;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
     private static void invalidRegionLogHelp(String region) {
         logger.error("Specify valid AWS region to use, got {}. Valid values include: {}", region,
                 StringUtils.join(Regions.values(), ','));
@@ -11,8 +11,11 @@ package org.openhab.persistence.dynamodb.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -34,7 +37,9 @@ import org.slf4j.LoggerFactory;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.DefaultBatchWriteRetryStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
@@ -47,6 +52,7 @@ import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughput;
 import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
 import com.amazonaws.services.dynamodbv2.model.TableDescription;
 import com.amazonaws.services.dynamodbv2.model.TableStatus;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import com.google.common.collect.ImmutableMap;
 
 /**
@@ -58,6 +64,9 @@ import com.google.common.collect.ImmutableMap;
  *
  * The default database name is "openhab"
  *
+ * Unless bufferSize is 0, the items are not written when they are stored but buffered and written in
+ * BatchWriteItem requests by a {@link DynamoDBWriteBuffer}. Queries write the buffered items first.
+ *
  * @author Sami Salonen
  *
  */
@@ -69,6 +78,16 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     private boolean isProperlyConfigured;
     private DynamoDBConfig dbConfig;
     private DynamoDBTableNameResolver tableNameResolver;
+    private DynamoDBWriteBuffer writeBuffer;
+    /**
+     * Names of the tables known to exist and be active, so that tables are described only once
+     */
+    private final Set<String> activeTables = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    /**
+     * Retries of items left unprocessed in BatchWriteItem requests, the SDK default would retry forever
+     */
+    private static final int MAX_UNPROCESSED_RETRIES = 5;
 
     /**
      * For testing. Allows access to underlying DynamoDBClient.
@@ -112,6 +131,15 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             logger.error("Error constructing dynamodb client", e);
             return;
         }
+        if (dbConfig.getBufferSize() > 0) {
+            writeBuffer = new DynamoDBWriteBuffer(dbConfig.getBufferSize(), dbConfig.getBufferCommitIntervalMillis(),
+                    new DynamoDBWriteBuffer.BatchWriter() {
+                        @Override
+                        public void write(List<DynamoDBItem<?>> items) {
+                            writeBatch(items);
+                        }
+                    });
+        }
         isProperlyConfigured = true;
         logger.debug("dynamodb persistence service activated");
     }
@@ -143,13 +171,24 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     /**
      * Create table (if not present) and wait for table to become active.
      *
-     * Synchronized in order to ensure that at most single thread is creating the table at a time
+     * Tables found active are remembered, only the first call per table talks to DynamoDB.
      *
+     * @param tableName
      * @param mapper
      * @param dtoClass
      * @return whether table creation succeeded.
      */
-    private synchronized boolean createTable(DynamoDBMapper mapper, Class<?> dtoClass) {
+    private boolean createTable(String tableName, DynamoDBMapper mapper, Class<?> dtoClass) {
+        if (activeTables.contains(tableName)) {
+            return true;
+        }
+        return describeOrCreateTable(mapper, dtoClass);
+    }
+
+    /**
+     * Synchronized in order to ensure that at most single thread is creating the table at a time
+     */
+    private synchronized boolean describeOrCreateTable(DynamoDBMapper mapper, Class<?> dtoClass) {
         if (db == null) {
             return false;
         }
@@ -176,7 +215,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             }
 
             // table found or just created, wait
-            return waitForTableToBecomeActive(tableName);
+            boolean active = waitForTableToBecomeActive(tableName);
+            if (active) {
+                activeTables.add(tableName);
+            }
+            return active;
 
         } catch (AmazonClientException e) {
             logger.error("Exception when creating table", e);
@@ -213,6 +256,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     }
 
     private void resetClient() {
+        if (writeBuffer != null) {
+            writeBuffer.shutdown();
+            writeBuffer = null;
+        }
+        activeTables.clear();
         if (db == null) {
             return;
         }
@@ -227,7 +275,8 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         try {
             DynamoDBMapperConfig mapperConfig = new DynamoDBMapperConfig.Builder()
                     .withTableNameOverride(new DynamoDBMapperConfig.TableNameOverride(tableName))
-                    .withPaginationLoadingStrategy(PaginationLoadingStrategy.LAZY_LOADING).build();
+                    .withPaginationLoadingStrategy(PaginationLoadingStrategy.LAZY_LOADING)
+                    .withBatchWriteRetryStrategy(new DefaultBatchWriteRetryStrategy(MAX_UNPROCESSED_RETRIES)).build();
             return new DynamoDBMapper(db.getDynamoClient(), mapperConfig);
         } catch (AmazonClientException e) {
             logger.error("Error getting db mapper: {}", e.getMessage());
@@ -258,7 +307,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             logger.warn("Configuration for dynamodb not yet loaded or broken. Not storing item.");
             return;
         }
-        if (!maybeConnectAndCheckConnection()) {
+        if (db == null && !maybeConnectAndCheckConnection()) {
             logger.warn("DynamoDB not connected. Not storing item.");
             return;
         }
@@ -269,21 +318,92 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         State state = item.getState();
         logger.trace("Tried to get item from item class {}, state is {}", item.getClass(), state.toString());
         DynamoDBItem<?> dynamoItem = AbstractDynamoDBItem.fromState(name, state, time);
-        DynamoDBMapper mapper = getDBMapper(tableNameResolver.fromItem(dynamoItem));
+        logger.debug("storing {} in dynamo. Serialized value {}. Original Item: {}", name, state, item);
+
+        DynamoDBWriteBuffer buffer = writeBuffer;
+        if (buffer == null) {
+            writeBatch(Collections.<DynamoDBItem<?>> singletonList(dynamoItem));
+        } else if (!buffer.offer(dynamoItem)) {
+            logger.warn("DynamoDB write buffer is full ({} items). Not storing item {}.", dbConfig.getBufferSize(),
+                    name);
+        }
+    }
 
-        if (!createTable(mapper, dynamoItem.getClass())) {
-            logger.warn("Table creation failed. Not storing item");
+    /**
+     * Writes items to their tables with BatchWriteItem requests, creating the tables if necessary. Items left
+     * unprocessed by DynamoDB, e.g. due to exceeded throughput, are retried by the mapper with exponential backoff.
+     *
+     * @param items items to write
+     */
+    private void writeBatch(List<DynamoDBItem<?>> items) {
+        DynamoDBClient client = db;
+        if (client == null) {
+            logger.warn("DynamoDB client not available. Not storing {} items.", items.size());
             return;
         }
+        Map<String, List<DynamoDBItem<?>>> itemsByTable = new LinkedHashMap<String, List<DynamoDBItem<?>>>();
+        for (DynamoDBItem<?> item : items) {
+            String tableName = tableNameResolver.fromItem(item);
+            List<DynamoDBItem<?>> tableItems = itemsByTable.get(tableName);
+            if (tableItems == null) {
+                tableItems = new ArrayList<DynamoDBItem<?>>();
+                itemsByTable.put(tableName, tableItems);
+            }
+            tableItems.add(item);
+        }
 
-        try {
-            logger.debug("storing {} in dynamo. Serialized value {}. Original Item: {}", name, state, item);
-            mapper.save(dynamoItem);
-            logger.debug("Sucessfully stored item {}", item);
-        } catch (AmazonClientException e) {
-            logger.error("Error storing object to dynamo: {}", e.getMessage());
+        for (Map.Entry<String, List<DynamoDBItem<?>>> entry : itemsByTable.entrySet()) {
+            String tableName = entry.getKey();
+            List<DynamoDBItem<?>> tableItems = entry.getValue();
+            DynamoDBMapper mapper = getDBMapper(tableName);
+            Class<?> dtoClass = tableItems.get(0).getClass();
+            if (!createTable(tableName, mapper, dtoClass)) {
+                logger.warn("Table creation failed. Not storing {} items", tableItems.size());
+                continue;
+            }
+
+            List<FailedBatch> failedBatches;
+            try {
+                failedBatches = mapper.batchSave(tableItems);
+            } catch (AmazonClientException e) {
+                logger.error("Error storing {} objects to dynamo: {}", tableItems.size(), e.getMessage());
+                continue;
+            }
+            int failed = 0;
+            for (FailedBatch failedBatch : failedBatches) {
+                Map<String, List<WriteRequest>> unprocessedItems = failedBatch.getUnprocessedItems();
+                if (failedBatch.getException() instanceof ResourceNotFoundException) {
+                    // table has been deleted meanwhile, create it again and retry once
+                    activeTables.remove(tableName);
+                    if (createTable(tableName, mapper, dtoClass)) {
+                        try {
+                            unprocessedItems = client.getDynamoClient().batchWriteItem(unprocessedItems)
+                                    .getUnprocessedItems();
+                        } catch (AmazonClientException e) {
+                            logger.error("Error storing objects to dynamo: {}", e.getMessage());
+                        }
+                    }
+                } else if (failedBatch.getException() != null) {
+                    logger.error("Error storing objects to dynamo: {}", failedBatch.getException().getMessage());
+                }
+                failed += countItems(unprocessedItems);
+            }
+            if (failed > 0) {
+                logger.warn("Could not store {} of {} items to table {}", failed, tableItems.size(), tableName);
+            } else {
+                logger.debug("Sucessfully stored {} items to table {}", tableItems.size(), tableName);
+            }
         }
+    }
 
+    private static int countItems(Map<String, List<WriteRequest>> requestItems) {
+        int count = 0;
+        if (requestItems != null) {
+            for (List<WriteRequest> requests : requestItems.values()) {
+                count += requests.size();
+            }
+        }
+        return count;
     }
 
     /**
@@ -300,6 +420,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             logger.warn("DynamoDB not connected. Not storing item.");
             return Collections.emptyList();
         }
+        DynamoDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            // make the items stored so far visible to the query
+            buffer.flush();
+        }
 
         String itemName = filter.getItemName();
         Item item = getItemFromRegistry(itemName);
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2016, openHAB.org and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded buffer of items waiting to be written to DynamoDB. Stored items are only queued, a single background
+ * thread hands them over in batches to a {@link BatchWriter} at the commit interval, or as soon as a full
+ * BatchWriteItem request worth of items is waiting. Items are dropped when the buffer is full.
+ *
+ * @author Sami Salonen
+ * @since 1.9.0
+ */
+public class DynamoDBWriteBuffer {
+
+    /**
+     * Maximum number of items in a single BatchWriteItem request
+     */
+    public static final int MAX_ITEMS_PER_BATCH = 25;
+
+    /**
+     * Writes a batch of items to the database
+     */
+    public interface BatchWriter {
+        /**
+         *
+         * @param items items in the order they were stored
+         */
+        void write(List<DynamoDBItem<?>> items);
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoDBWriteBuffer.class);
+
+    private final BlockingQueue<DynamoDBItem<?>> queue;
+    private final BatchWriter writer;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            flushScheduled.set(false);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                logger.error("Error writing buffered items to dynamodb", e);
+            }
+        }
+    };
+
+    /**
+     *
+     * @param size maximum number of buffered items
+     * @param commitIntervalMillis interval of writing the buffered items
+     * @param writer writer of the batches
+     */
+    public DynamoDBWriteBuffer(int size, long commitIntervalMillis, BatchWriter writer) {
+        this.queue = new ArrayBlockingQueue<DynamoDBItem<?>>(size);
+        this.writer = writer;
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "DynamoDB write buffer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.scheduleWithFixedDelay(flushTask, commitIntervalMillis, commitIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues an item for writing.
+     *
+     * @param item item to write
+     * @return false if the buffer is full and the item was dropped
+     */
+    public boolean offer(DynamoDBItem<?> item) {
+        if (!queue.offer(item)) {
+            return false;
+        }
+        if (queue.size() >= MAX_ITEMS_PER_BATCH && flushScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(flushTask);
+            } catch (RejectedExecutionException e) {
+                // shutting down, the remaining items are written by shutdown()
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes all buffered items in the calling thread.
+     */
+    public synchronized void flush() {
+        List<DynamoDBItem<?>> items = new ArrayList<DynamoDBItem<?>>(queue.size());
+        queue.drainTo(items);
+        if (!items.isEmpty()) {
+            logger.trace("Writing {} buffered items", items.size());
+            writer.write(items);
+        }
+    }
+
+    /**
+     *
+     * @return number of items waiting to be written
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Stops the background thread and writes the remaining items.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Writing buffered items to dynamodb did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
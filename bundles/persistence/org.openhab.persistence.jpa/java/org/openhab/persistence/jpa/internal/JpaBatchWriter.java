@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.jpa.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists items in batches. Stored items are put into a bounded queue, a
+ * background thread persists them at the batch interval, or as soon as a
+ * full batch is waiting, with one transaction per batch. A single
+ * EntityManager is kept open and reused for all batches.
+ *
+ * @author Manfred Bergmann
+ * @since 1.9.0
+ */
+public class JpaBatchWriter {
+    private static final Logger logger = LoggerFactory.getLogger(JpaBatchWriter.class);
+
+    private final JpaPersistenceService service;
+
+    private final int batchSize;
+
+    private final BlockingQueue<JpaPersistentItem> queue;
+
+    private final ScheduledExecutorService executor;
+
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
+    /** set before shutdown() persists the queued items for the last time */
+    private volatile boolean closed = false;
+
+    /** only used while holding the lock of this writer */
+    private EntityManager em = null;
+
+    private final Runnable writeTask = new Runnable() {
+        @Override
+        public void run() {
+            writeScheduled.set(false);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                logger.error("Error on persisting queued items!", e);
+            }
+        }
+    };
+
+    /**
+     * @param service
+     *            the service providing the EntityManagerFactory
+     * @param batchSize
+     *            maximum number of items persisted in one transaction
+     * @param batchInterval
+     *            time in milliseconds items are queued at most
+     * @param queueSize
+     *            maximum number of queued items, 0 to persist items when they
+     *            are stored
+     */
+    public JpaBatchWriter(JpaPersistenceService service, int batchSize, long batchInterval, int queueSize) {
+        this.service = service;
+        this.batchSize = batchSize;
+        if (queueSize > 0) {
+            this.queue = new LinkedBlockingQueue<JpaPersistentItem>(queueSize);
+            this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "JPA Persistence Writer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.scheduleWithFixedDelay(writeTask, batchInterval, batchInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.queue = null;
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Queues an item for persisting, or persists it right away if there is no
+     * queue.
+     *
+     * @return <code>false</code> if the queue is full or the writer is shut
+     *         down and the item was dropped
+     */
+    public boolean store(JpaPersistentItem pItem) {
+        if (closed) {
+            return false;
+        }
+        if (queue == null) {
+            persist(Collections.singletonList(pItem));
+            return true;
+        }
+        if (!queue.offer(pItem)) {
+            return false;
+        }
+        // shutdown() might have persisted the queue for the last time before the item was queued
+        if (closed && queue.remove(pItem)) {
+            return false;
+        }
+        if (queue.size() >= batchSize && writeScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(writeTask);
+            } catch (RejectedExecutionException e) {
+                // shutting down, the queued items are persisted by shutdown()
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Persists all queued items in the calling thread.
+     */
+    public synchronized void flush() {
+        if (queue == null) {
+            return;
+        }
+        List<JpaPersistentItem> batch = new ArrayList<JpaPersistentItem>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            persist(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stops the background thread, persists the queued items and closes the
+     * EntityManager.
+     */
+    public void shutdown() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            flush();
+            if (em != null) {
+                em.close();
+                em = null;
+            }
+        }
+    }
+
+    private synchronized void persist(List<JpaPersistentItem> batch) {
+        if (em == null) {
+            EntityManagerFactory emf = service.getEntityManagerFactory();
+            em = emf.createEntityManager();
+        }
+        try {
+            logger.debug("Persisting {} items...", batch.size());
+            // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
+            em.getTransaction().begin();
+            for (JpaPersistentItem pItem : batch) {
+                em.persist(pItem);
+            }
+            em.getTransaction().commit();
+            // the persisted items aren't needed anymore
+            em.clear();
+            logger.debug("Persisting {} items...done", batch.size());
+        } catch (Exception e) {
+            logger.error("Error on persisting {} items! Rolling back!", batch.size());
+            logger.error(e.getMessage(), e);
+            try {
+                if (em.getTransaction().isActive()) {
+                    em.getTransaction().rollback();
+                }
+            } finally {
+                // starts over with a fresh EntityManager
+                em.close();
+                em = null;
+            }
+        }
+    }
+}
@@ -29,6 +29,13 @@ public class JpaConfiguration {
     private static final String CFG_USERNAME = "user";
     private static final String CFG_PASSWORD = "password";
     private static final String CFG_SYNCMAPPING = "syncmappings";
+    private static final String CFG_BATCHSIZE = "batchsize";
+    private static final String CFG_BATCHINTERVAL = "batchinterval";
+    private static final String CFG_QUEUESIZE = "queuesize";
+
+    public static final int DEFAULT_BATCHSIZE = 100;
+    public static final long DEFAULT_BATCHINTERVAL = 1000;
+    public static final int DEFAULT_QUEUESIZE = 10000;
 
     public static boolean isInitialized = false;
 
@@ -37,6 +44,9 @@ public class JpaConfiguration {
     public static String dbUserName = "";
     public static String dbPassword = "";
     public static String dbSyncMapping = "";
+    public static int batchSize = DEFAULT_BATCHSIZE;
+    public static long batchInterval = DEFAULT_BATCHINTERVAL;
+    public static int queueSize = DEFAULT_QUEUESIZE;
 
     public void activate(final BundleContext bundleContext, final Map<String, Object> properties) {
         logger.debug("Update config...");
@@ -81,8 +91,35 @@ public class JpaConfiguration {
         }
         dbSyncMapping = (String) properties.get(CFG_SYNCMAPPING);
 
+        batchSize = (int) parseLong(properties, CFG_BATCHSIZE, DEFAULT_BATCHSIZE);
+        if (batchSize < 1) {
+            logger.warn("{} must be at least 1, using {}", CFG_BATCHSIZE, DEFAULT_BATCHSIZE);
+            batchSize = DEFAULT_BATCHSIZE;
+        }
+        batchInterval = parseLong(properties, CFG_BATCHINTERVAL, DEFAULT_BATCHINTERVAL);
+        if (batchInterval < 1) {
+            logger.warn("{} must be at least 1, using {}", CFG_BATCHINTERVAL, DEFAULT_BATCHINTERVAL);
+            batchInterval = DEFAULT_BATCHINTERVAL;
+        }
+        queueSize = (int) parseLong(properties, CFG_QUEUESIZE, DEFAULT_QUEUESIZE);
+
         isInitialized = true;
         logger.debug("Update config...done");
     }
 
+    private static long parseLong(Map<String, Object> properties, String name, long defaultValue) {
+        String param = (String) properties.get(name);
+        if (StringUtils.isBlank(param)) {
+            return defaultValue;
+        }
+        try {
+            long value = Long.parseLong(param.trim());
+            logger.debug("{}: {}", name, value);
+            return value;
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} '{}' in openhab.cfg, using {}", new Object[] { name, param, defaultValue });
+            return defaultValue;
+        }
+    }
+
 }
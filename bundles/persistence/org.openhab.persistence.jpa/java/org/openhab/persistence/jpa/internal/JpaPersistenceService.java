@@ -11,13 +11,10 @@ package org.openhab.persistence.jpa.internal;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
-import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
-import javax.persistence.Query;
 
 import org.apache.commons.lang.StringUtils;
 import org.openhab.core.items.Item;
@@ -35,6 +32,9 @@ import org.slf4j.LoggerFactory;
 /**
  * JPA based implementation of QueryablePersistenceService.
  * 
+ * Stored items are persisted in batches by a {@link JpaBatchWriter}, query
+ * results are read in chunks by a {@link JpaQueryResult}.
+ * 
  * @author Manfred Bergmann
  * @since 1.6.0
  */
@@ -43,14 +43,23 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     protected ItemRegistry itemRegistry;
 
+    /** the bounds of the time range of queries without begin or end date */
+    private static final Date MIN_DATE = new Date(0);
+    private static final Date MAX_DATE = new Date(253370764800000L); // 9999-01-01
+
     private EntityManagerFactory emf = null;
 
+    private volatile JpaBatchWriter writer = null;
+
+    /** no more items are stored once the service is deactivated */
+    private boolean deactivated = false;
+
     /**
      * lazy loading because update() is called after activate()
      * 
      * @return
      */
-    protected EntityManagerFactory getEntityManagerFactory() {
+    protected synchronized EntityManagerFactory getEntityManagerFactory() {
         if (emf == null) {
             emf = newEntityManagerFactory();
         }
@@ -59,6 +68,9 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     public void activate() {
         logger.debug("Activating jpa binding...");
+        synchronized (this) {
+            deactivated = false;
+        }
         logger.debug("Activating jpa binding...done");
     }
 
@@ -67,6 +79,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
      */
     public void deactivate() {
         logger.debug("Deactivating jpa binding...");
+        synchronized (this) {
+            deactivated = true;
+        }
+        closeWriter();
         closeEntityManagerFactory();
         logger.debug("Deactivating jpa binding...done");
     }
@@ -119,25 +135,49 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         pItem.setRealName(item.getName());
         pItem.setTimestamp(new Date());
 
-        EntityManager em = getEntityManagerFactory().createEntityManager();
-        try {
-            logger.debug("Persisting item...");
-            // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
-            em.getTransaction().begin();
-            em.persist(pItem);
-            em.getTransaction().commit();
-            logger.debug("Persisting item...done");
-        } catch (Exception e) {
-            logger.error("Error on persisting item! Rolling back!");
-            logger.error(e.getMessage(), e);
-            em.getTransaction().rollback();
-        } finally {
-            em.close();
+        JpaBatchWriter batchWriter = getWriter();
+        if (batchWriter == null) {
+            logger.debug("Service is deactivated, dropping item {}", name);
+            return;
+        }
+        if (!batchWriter.store(pItem)) {
+            logger.warn("Queue of items to persist is full ({} items) or the service is deactivated! Dropping item {}",
+                    JpaConfiguration.queueSize, name);
+            return;
         }
 
         logger.debug("Storing item...done");
     }
 
+    /**
+     * lazy creation because the configuration is set after activate()
+     * 
+     * @return the writer persisting the stored items or <code>null</code> if
+     *         the service is deactivated
+     */
+    protected synchronized JpaBatchWriter getWriter() {
+        if (writer == null && !deactivated) {
+            writer = new JpaBatchWriter(this, JpaConfiguration.batchSize, JpaConfiguration.batchInterval,
+                    JpaConfiguration.queueSize);
+        }
+        return writer;
+    }
+
+    /**
+     * Persists the queued items and closes the writer
+     */
+    protected void closeWriter() {
+        JpaBatchWriter closing;
+        synchronized (this) {
+            closing = writer;
+            writer = null;
+        }
+        // not holding the lock, the writer may still need the EntityManagerFactory
+        if (closing != null) {
+            closing.shutdown();
+        }
+    }
+
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
         logger.debug("Querying for historic item: {}", filter.getItemName());
@@ -149,73 +189,30 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
         String itemName = filter.getItemName();
         Item item = getItemFromRegistry(itemName);
-
-        String sortOrder;
-        if (filter.getOrdering() == Ordering.ASCENDING) {
-            sortOrder = "ASC";
-        } else {
-            sortOrder = "DESC";
+        if (item == null) {
+            return Collections.emptyList();
         }
 
-        boolean hasBeginDate = false;
-        boolean hasEndDate = false;
-        String queryString = "SELECT n FROM " + JpaPersistentItem.class.getSimpleName()
-                + " n WHERE n.realName = :itemName";
-        if (filter.getBeginDate() != null) {
-            queryString += " AND n.timestamp >= :beginDate";
-            hasBeginDate = true;
+        // makes the items stored so far visible to the query
+        JpaBatchWriter batchWriter = writer;
+        if (batchWriter != null) {
+            batchWriter.flush();
         }
-        if (filter.getEndDate() != null) {
-            queryString += " AND n.timestamp <= :endDate";
-            hasEndDate = true;
-        }
-        queryString += " ORDER BY n.timestamp " + sortOrder;
-
-        logger.debug("The query: " + queryString);
-
-        EntityManager em = getEntityManagerFactory().createEntityManager();
-        try {
-            // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
-            em.getTransaction().begin();
-
-            logger.debug("Creating query...");
-            Query query = em.createQuery(queryString);
-            query.setParameter("itemName", item.getName());
-            if (hasBeginDate) {
-                query.setParameter("beginDate", filter.getBeginDate());
-            }
-            if (hasEndDate) {
-                query.setParameter("endDate", filter.getEndDate());
-            }
-
-            query.setFirstResult(filter.getPageNumber() * filter.getPageSize());
-            query.setMaxResults(filter.getPageSize());
-            logger.debug("Creating query...done");
-
-            logger.debug("Retrieving result list...");
-            @SuppressWarnings("unchecked")
-            List<JpaPersistentItem> result = query.getResultList();
-            logger.debug("Retrieving result list...done");
-
-            List<HistoricItem> historicList = JpaHistoricItem.fromResultList(result, item);
-            if (historicList != null) {
-                logger.debug(String.format("Convert to HistoricItem: %d", historicList.size()));
-            }
 
-            em.getTransaction().commit();
-
-            return historicList;
-
-        } catch (Exception e) {
-            logger.error("Error on querying database!");
-            logger.error(e.getMessage(), e);
-            em.getTransaction().rollback();
-
-        } finally {
-            em.close();
+        String queryName;
+        String nextQueryName;
+        if (filter.getOrdering() == Ordering.ASCENDING) {
+            queryName = JpaPersistentItem.QUERY_ASCENDING;
+            nextQueryName = JpaPersistentItem.QUERY_ASCENDING_AFTER;
+        } else {
+            queryName = JpaPersistentItem.QUERY_DESCENDING;
+            nextQueryName = JpaPersistentItem.QUERY_DESCENDING_BEFORE;
         }
+        Date beginDate = filter.getBeginDate() != null ? filter.getBeginDate() : MIN_DATE;
+        Date endDate = filter.getEndDate() != null ? filter.getEndDate() : MAX_DATE;
 
-        return Collections.emptyList();
+        return new JpaQueryResult(this, queryName, nextQueryName, item, beginDate, endDate,
+                filter.getPageNumber() * filter.getPageSize(), filter.getPageSize());
     }
 
     /**
@@ -242,6 +239,8 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             logger.warn("You are settings openjpa.jdbc.SynchronizeMappings, I hope you know what you're doing!");
             properties.put("openjpa.jdbc.SynchronizeMappings", JpaConfiguration.dbSyncMapping);
         }
+        // lets the provider send the inserts of a batch in JDBC batches
+        properties.put("openjpa.jdbc.DBDictionary", "batchLimit=" + JpaConfiguration.batchSize);
 
         EntityManagerFactory fac = Persistence.createEntityManagerFactory(getPersistenceUnitName(), properties);
         logger.debug("Creating EntityManagerFactory...done");
@@ -252,7 +251,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     /**
      * Closes EntityManagerFactory
      */
-    protected void closeEntityManagerFactory() {
+    protected synchronized void closeEntityManagerFactory() {
         if (emf != null) {
             emf.close();
             emf = null;
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.jpa.internal;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The result of a query, which is read from the database in chunks while it
+ * is iterated instead of loading the whole result at once. Every iteration
+ * runs the query again.
+ *
+ * Only the first chunk is positioned by its offset, the following chunks
+ * continue after the (timestamp, id) of the last read item. So each chunk is
+ * read from the index without skipping the rows before it, and items stored
+ * while the result is iterated don't shift the following chunks.
+ *
+ * @author Manfred Bergmann
+ * @since 1.9.0
+ */
+public class JpaQueryResult implements Iterable<HistoricItem> {
+    private static final Logger logger = LoggerFactory.getLogger(JpaQueryResult.class);
+
+    /** number of items read from the database at once */
+    static final int CHUNK_SIZE = 500;
+
+    private final JpaPersistenceService service;
+    private final String queryName;
+    private final String nextQueryName;
+    private final Item item;
+    private final Date beginDate;
+    private final Date endDate;
+    private final int firstResult;
+    private final int maxResults;
+
+    /**
+     * @param service
+     *            the service providing the EntityManagerFactory
+     * @param queryName
+     *            the named query of {@link JpaPersistentItem} to run
+     * @param nextQueryName
+     *            the named query of {@link JpaPersistentItem} continuing the
+     *            query after the last read item
+     * @param item
+     *            the queried item
+     * @param beginDate
+     *            the beginning of the time range
+     * @param endDate
+     *            the end of the time range
+     * @param firstResult
+     *            the position of the first result
+     * @param maxResults
+     *            the maximum number of results
+     */
+    public JpaQueryResult(JpaPersistenceService service, String queryName, String nextQueryName, Item item,
+            Date beginDate, Date endDate, int firstResult, int maxResults) {
+        this.service = service;
+        this.queryName = queryName;
+        this.nextQueryName = nextQueryName;
+        this.item = item;
+        this.beginDate = beginDate;
+        this.endDate = endDate;
+        this.firstResult = firstResult;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new Iterator<HistoricItem>() {
+            private List<JpaPersistentItem> chunk = Collections.emptyList();
+            private int position = 0;
+            /** number of results read so far */
+            private int read = 0;
+            private boolean exhausted = false;
+
+            @Override
+            public boolean hasNext() {
+                if (position < chunk.size()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                int size = Math.min(CHUNK_SIZE, maxResults - read);
+                JpaPersistentItem last = chunk.isEmpty() ? null : chunk.get(chunk.size() - 1);
+                chunk = readChunk(last, size);
+                position = 0;
+                read += chunk.size();
+                exhausted = chunk.size() < size || read >= maxResults;
+                return !chunk.isEmpty();
+            }
+
+            @Override
+            public HistoricItem next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return JpaHistoricItem.fromPersistedItem(chunk.get(position++), item);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * Reads the next chunk of the result.
+     *
+     * @param last
+     *            the last item of the previous chunk or <code>null</code> for
+     *            the first chunk
+     * @param size
+     *            the maximum number of items to read
+     */
+    private List<JpaPersistentItem> readChunk(JpaPersistentItem last, int size) {
+        if (size <= 0 || firstResult < 0) {
+            // nothing more to read or beyond Integer.MAX_VALUE results
+            return Collections.emptyList();
+        }
+        EntityManager em = service.getEntityManagerFactory().createEntityManager();
+        try {
+            TypedQuery<JpaPersistentItem> query;
+            if (last == null) {
+                query = em.createNamedQuery(queryName, JpaPersistentItem.class);
+                query.setFirstResult(firstResult);
+                logger.debug("Retrieving results {} to {}...", firstResult, firstResult + size - 1);
+            } else {
+                query = em.createNamedQuery(nextQueryName, JpaPersistentItem.class);
+                query.setParameter("lastTimestamp", last.getTimestamp());
+                query.setParameter("lastId", last.getId());
+                logger.debug("Retrieving {} results after {}/{}...",
+                        new Object[] { size, last.getTimestamp(), last.getId() });
+            }
+            query.setParameter("itemName", item.getName());
+            query.setParameter("beginDate", beginDate);
+            query.setParameter("endDate", endDate);
+            query.setMaxResults(size);
+            query.setHint("openjpa.FetchPlan.FetchBatchSize", size);
+
+            List<JpaPersistentItem> result = query.getResultList();
+            logger.debug("Retrieving results...done: {}", result.size());
+            return result;
+        } catch (Exception e) {
+            logger.error("Error on querying database!");
+            logger.error(e.getMessage(), e);
+            return Collections.emptyList();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -16,6 +16,8 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
@@ -33,8 +35,35 @@ import org.openhab.core.types.State;
 
 @Entity
 @Table(name = "HISTORIC_ITEM")
+@NamedQueries({
+        @NamedQuery(name = JpaPersistentItem.QUERY_ASCENDING, query = "SELECT n FROM JpaPersistentItem n"
+                + " WHERE n.realName = :itemName AND n.timestamp >= :beginDate AND n.timestamp <= :endDate"
+                + " ORDER BY n.timestamp ASC, n.id ASC"),
+        @NamedQuery(name = JpaPersistentItem.QUERY_DESCENDING, query = "SELECT n FROM JpaPersistentItem n"
+                + " WHERE n.realName = :itemName AND n.timestamp >= :beginDate AND n.timestamp <= :endDate"
+                + " ORDER BY n.timestamp DESC, n.id DESC"),
+        @NamedQuery(name = JpaPersistentItem.QUERY_ASCENDING_AFTER, query = "SELECT n FROM JpaPersistentItem n"
+                + " WHERE n.realName = :itemName AND n.timestamp >= :beginDate AND n.timestamp <= :endDate"
+                + " AND (n.timestamp > :lastTimestamp OR (n.timestamp = :lastTimestamp AND n.id > :lastId))"
+                + " ORDER BY n.timestamp ASC, n.id ASC"),
+        @NamedQuery(name = JpaPersistentItem.QUERY_DESCENDING_BEFORE, query = "SELECT n FROM JpaPersistentItem n"
+                + " WHERE n.realName = :itemName AND n.timestamp >= :beginDate AND n.timestamp <= :endDate"
+                + " AND (n.timestamp < :lastTimestamp OR (n.timestamp = :lastTimestamp AND n.id < :lastId))"
+                + " ORDER BY n.timestamp DESC, n.id DESC") })
 public class JpaPersistentItem implements HistoricItem {
 
+    /**
+     * Named queries of the items of one real name within a time range, compiled once by the provider
+     */
+    public static final String QUERY_ASCENDING = "JpaPersistentItem.findByRealNameAscending";
+    public static final String QUERY_DESCENDING = "JpaPersistentItem.findByRealNameDescending";
+
+    /**
+     * Named queries continuing the above queries after the last read item (:lastTimestamp, :lastId)
+     */
+    public static final String QUERY_ASCENDING_AFTER = "JpaPersistentItem.findByRealNameAscendingAfter";
+    public static final String QUERY_DESCENDING_BEFORE = "JpaPersistentItem.findByRealNameDescendingBefore";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private Long id;
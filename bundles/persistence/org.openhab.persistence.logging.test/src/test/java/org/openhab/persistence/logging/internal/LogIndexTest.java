@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.logging.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.junit.Test;
+
+/**
+ * Tests for the sparse timestamp index of the log files.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class LogIndexTest {
+
+    private static final long BASE = 1460000000000L;
+
+    @Test
+    public void testIndexIsSparse() {
+        LogIndex index = new LogIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.add(BASE + i * 1000L, i * 100L, 100);
+        }
+        // the first line and every INTERVALth line after it
+        assertEquals(1000 / LogIndex.INTERVAL + 1, index.size());
+    }
+
+    @Test
+    public void testStartOffsetPrecedesTheTimeRange() {
+        LogIndex index = new LogIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.add(BASE + i * 1000L, i * 100L, 100);
+        }
+
+        assertEquals(0, index.getStartOffset(Long.MIN_VALUE));
+        assertEquals(0, index.getStartOffset(BASE));
+        for (int line : new int[] { 1, 63, 64, 65, 500, 999 }) {
+            long offset = index.getStartOffset(BASE + line * 1000L);
+            assertTrue("line " + line, offset < line * 100L);
+            assertTrue("line " + line, offset >= (line - LogIndex.INTERVAL) * 100L);
+        }
+        assertEquals(960 * 100L, index.getStartOffset(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testStartOffsetWithEqualTimestamps() {
+        LogIndex index = new LogIndex();
+        for (int i = 0; i < 1000; i++) {
+            // ten lines per second
+            index.add(BASE + (i / 10) * 1000L, i * 100L, 100);
+        }
+        // all lines of the second have to be read
+        long offset = index.getStartOffset(BASE + 64000L);
+        assertTrue(offset < 640 * 100L);
+    }
+
+    @Test
+    public void testLinesOutOfOrderKeepIndexSorted() {
+        LogIndex index = new LogIndex();
+        for (int i = 0; i < 1000; i++) {
+            // every other line was queued a little late
+            long timestamp = BASE + i * 1000L - (i % 2) * 1500L;
+            index.add(timestamp, i * 100L, 100);
+        }
+        long previous = -1;
+        for (int i = 0; i < 1000; i++) {
+            long offset = index.getStartOffset(BASE + i * 1000L);
+            assertTrue(offset >= previous);
+            previous = offset;
+        }
+    }
+
+    @Test
+    public void testLinesBeforeTheLastLineAreIgnored() {
+        LogIndex index = new LogIndex();
+        index.add(BASE, 1000, 100);
+        index.add(BASE + 1000L, 500, 100);
+        index.add(BASE + 2000L, 1050, 100);
+        assertTrue(index.overlaps(BASE, BASE));
+        assertFalse(index.overlaps(BASE + 1000L, Long.MAX_VALUE));
+        assertEquals(1100, index.getEnd());
+    }
+
+    @Test
+    public void testOverlaps() {
+        LogIndex index = new LogIndex();
+        assertFalse(index.overlaps(BASE, BASE));
+
+        index.add(BASE, 0, 100);
+        index.add(BASE + 10000L, 100, 100);
+        assertTrue(index.overlaps(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertTrue(index.overlaps(BASE + 5000L, BASE + 6000L));
+        assertTrue(index.overlaps(BASE - 5000L, BASE));
+        assertTrue(index.overlaps(BASE + 10000L, BASE + 20000L));
+        assertFalse(index.overlaps(BASE - 5000L, BASE - 1));
+        assertFalse(index.overlaps(BASE + 10001L, BASE + 20000L));
+    }
+
+    @Test
+    public void testBuildFromFile() throws IOException {
+        File file = new File("target/logs/LogIndexTest.log");
+        file.getParentFile().mkdirs();
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS");
+        OutputStream out = new FileOutputStream(file);
+        try {
+            for (int i = 0; i < 200; i++) {
+                String line = format.format(new Date(BASE + i * 1000L)) + " - LogIndexTest             : " + i;
+                out.write((line + (i % 2 == 0 ? "\n" : "\r\n")).getBytes());
+            }
+            out.write("not a log line\n".getBytes());
+        } finally {
+            out.close();
+        }
+
+        LogIndex index = LogIndex.build(file);
+        assertEquals(200 / LogIndex.INTERVAL + 1, index.size());
+        assertEquals(file.length() - "not a log line\n".length(), index.getEnd());
+        assertTrue(index.overlaps(BASE + 199000L, BASE + 199000L));
+        assertFalse(index.overlaps(BASE + 200000L, Long.MAX_VALUE));
+
+        // reading from the start offset finds the first line of the range
+        LogFileReader reader = new LogFileReader(file, index.getStartOffset(BASE + 150000L));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null && LogFileReader.parseTimestamp(line) < BASE + 150000L) {
+                assertTrue(LogFileReader.parseTimestamp(line) >= BASE + 150000L - LogIndex.INTERVAL * 1000L);
+            }
+            assertNotNull(line);
+            assertEquals("150", LogFileReader.parseMessage(line));
+        } finally {
+            reader.close();
+        }
+        file.delete();
+    }
+
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.logging.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.lang.reflect.FieldUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemNotUniqueException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.ItemRegistryChangeListener;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Operator;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+
+/**
+ * Tests for querying the log files of the logging persistence.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class LoggingPersistenceServiceTest {
+
+    private static final File LOG_FOLDER = new File("target/logs/service");
+
+    private static final long BASE = LoggingWriterTest.BASE;
+
+    private LoggingPersistenceService service;
+
+    private LoggingWriter writer;
+
+    private final NumberItem temperature = new NumberItem("Temperature");
+
+    @Before
+    public void init() throws Exception {
+        LoggingWriterTest.cleanFolder(LOG_FOLDER);
+        service = new LoggingPersistenceService();
+        service.setItemRegistry(new ItemRegistry() {
+
+            @Override
+            public Item getItem(String name) throws ItemNotFoundException {
+                if (temperature.getName().equals(name)) {
+                    return temperature;
+                }
+                throw new ItemNotFoundException(name);
+            }
+
+            @Override
+            public Item getItemByPattern(String name) throws ItemNotFoundException, ItemNotUniqueException {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Collection<Item> getItems() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Collection<Item> getItems(String pattern) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean isValidItemName(String itemName) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void addItemRegistryChangeListener(ItemRegistryChangeListener listener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void removeItemRegistryChangeListener(ItemRegistryChangeListener listener) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @After
+    public void shutdown() {
+        service.deactivate(0);
+    }
+
+    /**
+     * Sets the writer like activate() does, which needs logback as the
+     * logging backend.
+     */
+    private void startWriter(long maxFileSize, boolean indexed) throws Exception {
+        writer = new LoggingWriter(LOG_FOLDER, LoggingWriterTest.createLayout(), 8, 100000, 0, maxFileSize, false, 0,
+                indexed);
+        writer.start();
+        FieldUtils.writeField(service, "writer", writer, true);
+        FieldUtils.writeField(service, "indexed", indexed, true);
+        FieldUtils.writeField(service, "initialized", true, true);
+    }
+
+    /**
+     * Logs one state per second, the states count from 0 to 99 and start
+     * again.
+     */
+    private void logStates(int count) {
+        for (int i = 0; i < count; i++) {
+            writer.append(LoggingWriterTest.createEvent(temperature.getName(), String.valueOf(i % 100),
+                    BASE + i * 1000L), temperature.getName());
+        }
+        // writes and closes the files
+        writer.shutdown();
+    }
+
+    private static List<HistoricItem> toList(Iterable<HistoricItem> result) {
+        List<HistoricItem> items = new ArrayList<HistoricItem>();
+        for (HistoricItem item : result) {
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Test
+    public void testQueryTimeRange() throws Exception {
+        startWriter(0, true);
+        logStates(5000);
+
+        FilterCriteria filter = new FilterCriteria().setItemName(temperature.getName())
+                .setBeginDate(new Date(BASE + 1000000L)).setEndDate(new Date(BASE + 1099000L))
+                .setOrdering(Ordering.ASCENDING);
+        List<HistoricItem> items = toList(service.query(filter));
+
+        assertEquals(100, items.size());
+        assertEquals(BASE + 1000000L, items.get(0).getTimestamp().getTime());
+        assertEquals(BASE + 1099000L, items.get(99).getTimestamp().getTime());
+        assertEquals(new DecimalType(0), items.get(0).getState());
+        assertEquals(temperature.getName(), items.get(0).getName());
+    }
+
+    @Test
+    public void testQueryPagesDescending() throws Exception {
+        startWriter(0, true);
+        logStates(5000);
+
+        FilterCriteria filter = new FilterCriteria().setItemName(temperature.getName()).setPageSize(10)
+                .setPageNumber(1);
+        List<HistoricItem> items = toList(service.query(filter));
+
+        assertEquals(10, items.size());
+        assertEquals(BASE + 4989000L, items.get(0).getTimestamp().getTime());
+        assertEquals(BASE + 4980000L, items.get(9).getTimestamp().getTime());
+
+        filter.setPageNumber(500);
+        assertTrue(toList(service.query(filter)).isEmpty());
+    }
+
+    @Test
+    public void testQueryWithOperator() throws Exception {
+        startWriter(0, true);
+        logStates(5000);
+
+        FilterCriteria filter = new FilterCriteria().setItemName(temperature.getName()).setOperator(Operator.GTE)
+                .setState(new DecimalType(95));
+        assertEquals(250, toList(service.query(filter)).size());
+
+        filter.setOperator(Operator.EQ).setState(new DecimalType(42));
+        assertEquals(50, toList(service.query(filter)).size());
+    }
+
+    @Test
+    public void testQueryOverRolledFiles() throws Exception {
+        startWriter(20000, true);
+        logStates(3000);
+        assertTrue(writer.getFiles(temperature.getName()).size() > 1);
+
+        FilterCriteria filter = new FilterCriteria().setItemName(temperature.getName())
+                .setOrdering(Ordering.ASCENDING);
+        List<HistoricItem> items = toList(service.query(filter));
+
+        assertEquals(3000, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(BASE + i * 1000L, items.get(i).getTimestamp().getTime());
+        }
+
+        filter.setBeginDate(new Date(BASE + 2000000L)).setEndDate(new Date(BASE + 2009000L));
+        assertEquals(10, toList(service.query(filter)).size());
+    }
+
+    @Test
+    public void testQueryRequiresIndexedMode() throws Exception {
+        startWriter(0, false);
+        logStates(10);
+
+        FilterCriteria filter = new FilterCriteria().setItemName(temperature.getName());
+        assertTrue(toList(service.query(filter)).isEmpty());
+    }
+
+    @Test
+    public void testStoreAfterDeactivate() throws Exception {
+        startWriter(0, true);
+        temperature.setState(new DecimalType(21));
+        service.store(temperature);
+        service.deactivate(0);
+
+        // dropped without failing
+        service.store(temperature);
+        assertTrue(toList(service.query(new FilterCriteria().setItemName(temperature.getName()))).isEmpty());
+        assertEquals(1, writer.getFiles(temperature.getName()).size());
+    }
+
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.logging.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+/**
+ * Tests for writing, rolling over and indexing the log files in the
+ * background.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class LoggingWriterTest {
+
+    static final File LOG_FOLDER = new File("target/logs/writer");
+
+    static final long BASE = 1460000000000L;
+
+    private LoggingWriter writer;
+
+    static PatternLayout createLayout() {
+        PatternLayout layout = new PatternLayout();
+        layout.setContext(new LoggerContext());
+        layout.setPattern("%date{ISO8601} - %-25logger: %msg%n");
+        layout.start();
+        return layout;
+    }
+
+    static LoggingEvent createEvent(String itemName, String state, long timestamp) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(itemName);
+        event.setMessage(state);
+        event.setTimeStamp(timestamp);
+        event.prepareForDeferredProcessing();
+        return event;
+    }
+
+    static void cleanFolder(File folder) {
+        folder.mkdirs();
+        for (File file : folder.listFiles()) {
+            file.delete();
+        }
+    }
+
+    private static int countLines(File file) throws IOException {
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            int lines = 0;
+            while (reader.readLine() != null) {
+                lines++;
+            }
+            return lines;
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Before
+    public void init() {
+        cleanFolder(LOG_FOLDER);
+    }
+
+    @After
+    public void shutdown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    public void testMoreAliasesThanOpenFiles() throws IOException {
+        writer = new LoggingWriter(LOG_FOLDER, createLayout(), 3, 100000, 200, 0, false, 0, false);
+        writer.start();
+        for (int i = 0; i < 2000; i++) {
+            String alias = "Item" + (i % 20);
+            assertTrue(writer.append(createEvent(alias, String.valueOf(i), BASE + i), alias));
+        }
+        writer.shutdown();
+
+        assertEquals(0, writer.getPendingCount());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(100, countLines(new File(LOG_FOLDER, "Item" + i + ".log")));
+        }
+    }
+
+    @Test
+    public void testQueueIsBounded() {
+        // not started, so nothing is taken from the queue
+        writer = new LoggingWriter(LOG_FOLDER, createLayout(), 8, 10, 0, 0, false, 0, false);
+        int accepted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (writer.append(createEvent("Queue", "1", BASE), "Queue")) {
+                accepted++;
+            }
+        }
+        assertEquals(10, accepted);
+        assertEquals(10, writer.getPendingCount());
+    }
+
+    @Test
+    public void testRollOverBySizeKeepsHistory() throws IOException {
+        writer = new LoggingWriter(LOG_FOLDER, createLayout(), 8, 100000, 0, 20000, false, 2, false);
+        writer.start();
+        for (int i = 0; i < 3000; i++) {
+            writer.append(createEvent("Temp", String.valueOf(i), BASE + i * 1000L), "Temp");
+        }
+        writer.shutdown();
+
+        List<File> files = writer.getFiles("Temp");
+        // two rolled over files and the current one
+        assertEquals(3, files.size());
+        assertEquals("Temp.log", files.get(2).getName());
+        for (File file : files) {
+            assertTrue(file.getName(), file.length() <= 20000);
+        }
+        assertEquals(3, LOG_FOLDER.list().length);
+    }
+
+    @Test
+    public void testRollOverDaily() throws IOException {
+        writer = new LoggingWriter(LOG_FOLDER, createLayout(), 8, 100000, 0, 0, true, 0, false);
+        writer.start();
+        long now = System.currentTimeMillis();
+        writer.append(createEvent("Temp", "1", now), "Temp");
+        writer.append(createEvent("Temp", "2", now + 1), "Temp");
+        writer.append(createEvent("Temp", "3", now + 24 * 60 * 60 * 1000L), "Temp");
+        writer.shutdown();
+
+        List<File> files = writer.getFiles("Temp");
+        assertEquals(2, files.size());
+        assertEquals(2, countLines(files.get(0)));
+        assertEquals(1, countLines(files.get(1)));
+    }
+
+    @Test
+    public void testIndexIsUpdatedWhileWriting() throws Exception {
+        writer = new LoggingWriter(LOG_FOLDER, createLayout(), 8, 100000, 0, 0, false, 0, true);
+        writer.start();
+        writer.append(createEvent("Temp", "0", BASE), "Temp");
+        waitUntilWritten();
+
+        File file = new File(LOG_FOLDER, "Temp.log");
+        LogIndex index = writer.getIndex(file);
+        assertEquals(1, index.size());
+        for (int i = 1; i < 1000; i++) {
+            writer.append(createEvent("Temp", String.valueOf(i), BASE + i * 1000L), "Temp");
+        }
+        writer.shutdown();
+
+        assertSame(index, writer.getIndex(file));
+        assertEquals(1000 / LogIndex.INTERVAL + 1, index.size());
+        assertTrue(index.overlaps(BASE + 999000L, BASE + 999000L));
+    }
+
+    @Test
+    public void testIndexContainsLinesWrittenBeforeItWasRegistered() throws Exception {
+        writer = new LoggingWriter(LOG_FOLDER, createLayout(), 8, 100000, 0, 0, false, 0, true);
+        writer.start();
+        for (int i = 0; i < 100; i++) {
+            writer.append(createEvent("Temp", String.valueOf(i), BASE + i * 1000L), "Temp");
+        }
+        waitUntilWritten();
+
+        // built from the part of the file flushed so far
+        File file = new File(LOG_FOLDER, "Temp.log");
+        LogIndex index = writer.getIndex(file);
+        for (int i = 100; i < 200; i++) {
+            writer.append(createEvent("Temp", String.valueOf(i), BASE + i * 1000L), "Temp");
+        }
+        writer.shutdown();
+
+        assertEquals(200 / LogIndex.INTERVAL + 1, index.size());
+        assertEquals(file.length(), index.getEnd());
+        assertEquals(0, index.getStartOffset(BASE + 1000L));
+    }
+
+    @Test
+    public void testIndexMovesWithRolledFile() throws Exception {
+        writer = new LoggingWriter(LOG_FOLDER, createLayout(), 8, 100000, 0, 5000, false, 0, true);
+        writer.start();
+        writer.append(createEvent("Temp", "0", BASE), "Temp");
+        waitUntilWritten();
+
+        LogIndex index = writer.getIndex(new File(LOG_FOLDER, "Temp.log"));
+        for (int i = 1; i < 200; i++) {
+            writer.append(createEvent("Temp", String.valueOf(i), BASE + i * 1000L), "Temp");
+        }
+        writer.shutdown();
+
+        List<File> files = writer.getFiles("Temp");
+        assertTrue(files.size() > 2);
+        assertSame(index, writer.getIndex(files.get(0)));
+        assertTrue(index.overlaps(BASE, BASE));
+        assertFalse(index.overlaps(BASE + 199000L, BASE + 199000L));
+    }
+
+    private void waitUntilWritten() throws InterruptedException {
+        for (int i = 0; i < 100 && writer.getPendingCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        // the event is taken from the queue before it is written
+        Thread.sleep(100);
+    }
+
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.logging.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An open log file of one item alias. Lines are buffered and written to disk
+ * when the file is flushed. Only used by the writer thread.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class LogFile {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final File file;
+
+    private final OutputStream out;
+
+    /** the length of the file including the buffered lines */
+    private long length;
+
+    /** the time the first line of the file was written */
+    private final long created;
+
+    private boolean dirty = false;
+
+    /**
+     * Opens a file for appending.
+     *
+     * @throws IOException
+     *             if the file couldn't be opened
+     */
+    public LogFile(File file) throws IOException {
+        this.file = file;
+        this.length = file.length();
+        this.created = length > 0 ? file.lastModified() : System.currentTimeMillis();
+        this.out = new BufferedOutputStream(new FileOutputStream(file, true), BUFFER_SIZE);
+    }
+
+    /**
+     * Appends a line.
+     *
+     * @return the offset the line starts at
+     * @throws IOException
+     *             if the line couldn't be written
+     */
+    public long write(byte[] line) throws IOException {
+        long offset = length;
+        out.write(line);
+        length += line.length;
+        dirty = true;
+        return offset;
+    }
+
+    /**
+     * Writes the buffered lines to disk.
+     *
+     * @throws IOException
+     *             if the lines couldn't be written
+     */
+    public void flush() throws IOException {
+        if (dirty) {
+            out.flush();
+            dirty = false;
+        }
+    }
+
+    public void close() throws IOException {
+        out.close();
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @return the time the first line was written, for an existing file the
+     *         time it was last modified
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+}
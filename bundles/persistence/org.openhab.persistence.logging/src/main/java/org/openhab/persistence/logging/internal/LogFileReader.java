@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.logging.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+/**
+ * Reads the lines of a log file written with the default pattern
+ * <code>%date{ISO8601} - %-25logger: %msg%n</code> and keeps track of the
+ * offsets the lines start at.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class LogFileReader {
+
+    private static final String DATE_PATTERN = "yyyy-MM-dd HH:mm:ss,SSS";
+
+    private static final String DATE_SEPARATOR = " - ";
+
+    private static final String MESSAGE_SEPARATOR = ": ";
+
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return new SimpleDateFormat(DATE_PATTERN);
+        }
+    };
+
+    private final InputStream in;
+
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+
+    private final byte[] buffer = new byte[8192];
+
+    private int position = 0;
+
+    private int limit = 0;
+
+    private long offset;
+
+    private long lineOffset;
+
+    /**
+     * Opens a file for reading from the given offset, which has to be the
+     * start of a line.
+     *
+     * @throws IOException
+     *             if the file couldn't be opened
+     */
+    public LogFileReader(File file, long offset) throws IOException {
+        FileInputStream stream = new FileInputStream(file);
+        try {
+            stream.getChannel().position(offset);
+        } catch (IOException e) {
+            stream.close();
+            throw e;
+        }
+        this.in = stream;
+        this.offset = offset;
+    }
+
+    /**
+     * Reads the next complete line, a last line without line break isn't
+     * returned as it may still be written.
+     *
+     * @return the line without the line break, or <code>null</code> at the
+     *         end of the file
+     * @throws IOException
+     *             if the file couldn't be read
+     */
+    public String readLine() throws IOException {
+        line.reset();
+        lineOffset = offset;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return null;
+                }
+            }
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            line.write(buffer, start, position - start);
+            offset += position - start;
+
+            if (position < limit) {
+                // skips the line break
+                position++;
+                offset++;
+                int length = line.size();
+                byte[] bytes = line.toByteArray();
+                if (length > 0 && bytes[length - 1] == '\r') {
+                    length--;
+                }
+                return new String(bytes, 0, length, Charset.defaultCharset());
+            }
+        }
+    }
+
+    /**
+     * @return the offset the line last read starts at
+     */
+    public long getLineOffset() {
+        return lineOffset;
+    }
+
+    /**
+     * @return the offset after the line last read, including its line break
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * @return the timestamp of a line, or {@link Long#MIN_VALUE} if the line
+     *         doesn't start with a date
+     */
+    public static long parseTimestamp(String line) {
+        if (line.length() < DATE_PATTERN.length() || !line.startsWith(DATE_SEPARATOR, DATE_PATTERN.length())) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return DATE_FORMAT.get().parse(line.substring(0, DATE_PATTERN.length())).getTime();
+        } catch (ParseException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * @return the message of a line, or <code>null</code> if the line has no
+     *         message
+     */
+    public static String parseMessage(String line) {
+        int separator = line.indexOf(MESSAGE_SEPARATOR, DATE_PATTERN.length() + DATE_SEPARATOR.length());
+        return separator >= 0 ? line.substring(separator + MESSAGE_SEPARATOR.length()) : null;
+    }
+}
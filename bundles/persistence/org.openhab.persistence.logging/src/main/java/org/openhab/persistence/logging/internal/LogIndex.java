@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.logging.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A sparse index of the timestamps in one log file. Every
+ * {@link #INTERVAL}th line is recorded with its timestamp and the offset it
+ * starts at, so a query can seek close to the first line of its time range
+ * instead of reading the file from the start. As the index is sparse, lines
+ * missing in it only make a query read a few more lines.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class LogIndex {
+
+    /** number of lines per index entry */
+    static final int INTERVAL = 64;
+
+    private long[] timestamps = new long[16];
+
+    private long[] offsets = new long[16];
+
+    private int size = 0;
+
+    /** lines since the last entry */
+    private int lines = INTERVAL;
+
+    private long firstTimestamp = Long.MAX_VALUE;
+
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    /** the offset after the last line added */
+    private long end = 0;
+
+    /**
+     * Builds the index of an existing file by reading it once.
+     *
+     * @throws IOException
+     *             if the file couldn't be read
+     */
+    public static LogIndex build(File file) throws IOException {
+        LogIndex index = new LogIndex();
+        LogFileReader reader = new LogFileReader(file, 0);
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long timestamp = LogFileReader.parseTimestamp(line);
+                if (timestamp != Long.MIN_VALUE) {
+                    index.add(timestamp, reader.getLineOffset(), reader.getOffset() - reader.getLineOffset());
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return index;
+    }
+
+    /**
+     * Records a line written to the file. Lines have to be added in the order
+     * they were written, lines before the last line added are ignored.
+     *
+     * @param timestamp
+     *            the timestamp of the line
+     * @param offset
+     *            the offset the line starts at
+     * @param length
+     *            the length of the line including its line break
+     */
+    public synchronized void add(long timestamp, long offset, long length) {
+        if (offset < end) {
+            return;
+        }
+        end = offset + length;
+        // keeps the entries sorted if events were queued slightly out of order
+        timestamp = Math.max(timestamp, lastTimestamp);
+        firstTimestamp = Math.min(firstTimestamp, timestamp);
+        lastTimestamp = timestamp;
+
+        if (++lines < INTERVAL) {
+            return;
+        }
+        lines = 0;
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2);
+        }
+        timestamps[size] = timestamp;
+        offsets[size] = offset;
+        size++;
+    }
+
+    /**
+     * Returns the offset to start reading at for lines from the given time on.
+     *
+     * @param timestamp
+     *            the beginning of the time range
+     * @return the offset of the last indexed line before the given time, or 0
+     */
+    public synchronized long getStartOffset(long timestamp) {
+        int position = Arrays.binarySearch(timestamps, 0, size, timestamp);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        // entries with the same timestamp may precede the found one
+        while (position > 0 && timestamps[position - 1] >= timestamp) {
+            position--;
+        }
+        return position > 0 ? offsets[position - 1] : 0;
+    }
+
+    /**
+     * @return <code>true</code> if the file may contain lines within the
+     *         given time range
+     */
+    public synchronized boolean overlaps(long begin, long end) {
+        return lastTimestamp >= begin && firstTimestamp <= end;
+    }
+
+    /**
+     * @return the offset after the last line added, lines from there on are
+     *         missing in the index
+     */
+    public synchronized long getEnd() {
+        return end;
+    }
+
+    /**
+     * @return the number of index entries
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
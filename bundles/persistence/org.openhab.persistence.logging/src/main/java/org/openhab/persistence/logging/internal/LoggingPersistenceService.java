@@ -9,41 +9,59 @@
 package org.openhab.persistence.logging.internal;
 
 import java.io.File;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
 import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.QueryablePersistenceService;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.UnDefType;
 import org.osgi.framework.BundleContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ch.qos.logback.classic.LoggerContext;
-import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.core.util.FileSize;
 
 /**
- * This is a {@link PersistenceService} implementation, which logs item states through
- * a logback file appender.
+ * This is a {@link PersistenceService} implementation, which logs item states to
+ * one file per item, formatted with a logback pattern layout. The files are
+ * written in the background by a {@link LoggingWriter}. In indexed mode the
+ * files can be queried, see {@link #query(FilterCriteria)}.
  *
  * @author Kai Kreuzer
  * @since 1.0.0
  */
-public class LoggingPersistenceService implements PersistenceService {
+public class LoggingPersistenceService implements QueryablePersistenceService {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingPersistenceService.class);
 
     private static final String LOG_FOLDER = "logs";
-    private static final String LOG_FILEEXT = ".log";
 
     private static final String DEFAULT_PATTERN = "%date{ISO8601} - %-25logger: %msg%n";
 
     private String pattern = null;
-    private boolean initialized = false;
+    private boolean indexed = false;
+    private volatile boolean initialized = false;
 
-    private Map<String, FileAppender<ILoggingEvent>> appenders = new HashMap<String, FileAppender<ILoggingEvent>>();
+    private volatile LoggingWriter writer;
+
+    private ItemRegistry itemRegistry;
 
     /**
      * @{inheritDoc}
@@ -53,14 +71,61 @@ public class LoggingPersistenceService implements PersistenceService {
         if (StringUtils.isBlank(pattern)) {
             pattern = DEFAULT_PATTERN;
         }
+
+        indexed = "true".equalsIgnoreCase((String) config.get("indexed"));
+        if (indexed && !DEFAULT_PATTERN.equals(pattern)) {
+            logger.warn("The logging persistence can only be queried with the default pattern '{}', "
+                    + "ignoring the configured pattern '{}'", DEFAULT_PATTERN.trim(), pattern);
+            pattern = DEFAULT_PATTERN;
+        }
+
+        int maxOpenFiles = parseInt(config, "maxOpenFiles", 64);
+        int queueSize = parseInt(config, "queueSize", 10000);
+        int flushInterval = parseInt(config, "flushInterval", 1000);
+        int maxHistory = parseInt(config, "maxHistory", 0);
+        boolean rollDaily = "true".equalsIgnoreCase((String) config.get("rollDaily"));
+        long maxFileSize = 0;
+        String maxFileSizeString = (String) config.get("maxFileSize");
+        if (StringUtils.isNotBlank(maxFileSizeString)) {
+            try {
+                maxFileSize = FileSize.valueOf(maxFileSizeString.trim()).getSize();
+            } catch (IllegalArgumentException e) {
+                logger.warn("couldn't parse '{}' to a file size, files are not rolled over by size",
+                        maxFileSizeString);
+            }
+        }
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayout layout = new PatternLayout();
+        layout.setContext(context);
+        layout.setPattern(pattern);
+        layout.start();
+
+        File folder = new File(LOG_FOLDER);
+        if (!folder.exists() && !folder.mkdirs()) {
+            logger.error("Failed to create the folder '{}'", folder.getAbsolutePath());
+        }
+
+        writer = new LoggingWriter(folder, layout, Math.max(maxOpenFiles, 1), Math.max(queueSize, 1),
+                Math.max(flushInterval, 0), maxFileSize, rollDaily, maxHistory, indexed);
+        writer.start();
         initialized = true;
     }
 
     public void deactivate(final int reason) {
-        for (FileAppender<ILoggingEvent> appender : appenders.values()) {
-            appender.stop();
+        initialized = false;
+        if (writer != null) {
+            writer.shutdown();
+            writer = null;
         }
-        appenders.clear();
+    }
+
+    public void setItemRegistry(ItemRegistry itemRegistry) {
+        this.itemRegistry = itemRegistry;
+    }
+
+    public void unsetItemRegistry(ItemRegistry itemRegistry) {
+        this.itemRegistry = null;
     }
 
     /**
@@ -85,40 +150,163 @@ public class LoggingPersistenceService implements PersistenceService {
      */
     @Override
     public void store(Item item, String alias) {
-        if (initialized) {
-            FileAppender<ILoggingEvent> appender = appenders.get(alias);
-            if (appender == null) {
-                synchronized (appenders) {
-                    // do a second check in case one exists by now
-                    if (!appenders.containsKey(alias)) {
-                        appender = createNewAppender(alias);
-                        appenders.put(alias, appender);
+        // deactivate() might set the writer to null after the check
+        LoggingWriter writer = this.writer;
+        if (initialized && writer != null) {
+            if (alias == null) {
+                alias = item.getName();
+            }
+
+            ItemLoggingEvent event = new ItemLoggingEvent(item);
+            // the event is formatted by the writer thread
+            event.prepareForDeferredProcessing();
+            if (writer.append(event, alias)) {
+                logger.debug("Logged item '{}' to file '{}.log'", new String[] { item.getName(), alias });
+            } else {
+                logger.warn("Logging persistence queue is full, state of item '{}' dropped", item.getName());
+            }
+        }
+    }
+
+    /**
+     * Reads the states of an item from its log files, which is only possible
+     * with <code>logging:indexed=true</code>. The files are searched with a
+     * sparse index of their timestamps, which is built when a file is queried
+     * for the first time. States are found once they are flushed to the file.
+     * <p>
+     * The files are looked up by the item name, so states stored with an alias
+     * in the persistence configuration are not found.
+     */
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter) {
+        LoggingWriter writer = this.writer;
+        if (!indexed || writer == null) {
+            logger.debug("The logging persistence can only be queried with logging:indexed=true");
+            return Collections.emptyList();
+        }
+        String itemName = filter.getItemName();
+        if (itemName == null) {
+            return Collections.emptyList();
+        }
+
+        long begin = filter.getBeginDate() != null ? filter.getBeginDate().getTime() : Long.MIN_VALUE;
+        long end = filter.getEndDate() != null ? filter.getEndDate().getTime() : Long.MAX_VALUE;
+        Item item = getItem(itemName);
+
+        List<HistoricItem> items = new ArrayList<HistoricItem>();
+        for (File file : writer.getFiles(itemName)) {
+            try {
+                LogIndex index = writer.getIndex(file);
+                // the index of the current file may miss the latest lines
+                boolean current = file.getName().equals(itemName + LoggingWriter.LOG_FILEEXT);
+                if (!current && !index.overlaps(begin, end)) {
+                    continue;
+                }
+
+                LogFileReader reader = new LogFileReader(file, index.getStartOffset(begin));
+                try {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        long timestamp = LogFileReader.parseTimestamp(line);
+                        String value = LogFileReader.parseMessage(line);
+                        if (timestamp < begin || value == null) {
+                            continue;
+                        }
+                        if (timestamp > end) {
+                            break;
+                        }
+                        State state = toState(item, value);
+                        if (matches(state, filter)) {
+                            items.add(new LoggingItem(itemName, state, new Date(timestamp)));
+                        }
                     }
+                } finally {
+                    reader.close();
                 }
+            } catch (IOException e) {
+                logger.warn("Couldn't read log file '{}': {}", file.getAbsolutePath(), e.getMessage());
             }
+        }
 
-            ItemLoggingEvent event = new ItemLoggingEvent(item);
-            appender.doAppend(event);
-            logger.debug("Logged item '{}' to file '{}.log'", new String[] { item.getName(), alias });
+        if (filter.getOrdering() != Ordering.ASCENDING) {
+            Collections.reverse(items);
+        }
+        long startIndex = (long) filter.getPageNumber() * filter.getPageSize();
+        if (startIndex >= items.size()) {
+            return Collections.emptyList();
         }
+        long endIndex = Math.min(startIndex + filter.getPageSize(), items.size());
+        return items.subList((int) startIndex, (int) endIndex);
     }
 
-    protected FileAppender<ILoggingEvent> createNewAppender(String alias) {
-        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private Item getItem(String itemName) {
+        ItemRegistry registry = itemRegistry;
+        if (registry != null) {
+            try {
+                return registry.getItem(itemName);
+            } catch (ItemNotFoundException e) {
+                logger.debug("Unable to get item type for {}", itemName);
+            }
+        }
+        return null;
+    }
 
-        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
-        encoder.setContext(context);
-        encoder.setPattern(pattern);
-        encoder.start();
+    private static State toState(Item item, String value) {
+        for (UnDefType undef : UnDefType.values()) {
+            if (undef.toString().equals(value)) {
+                return undef;
+            }
+        }
+        if (item != null) {
+            State state = TypeParser.parseState(item.getAcceptedDataTypes(), value);
+            if (state != null) {
+                return state;
+            }
+        }
+        return new StringType(value);
+    }
 
-        FileAppender<ILoggingEvent> appender = new FileAppender<ILoggingEvent>();
-        appender.setAppend(true);
-        appender.setFile(LOG_FOLDER + File.separator + alias + LOG_FILEEXT);
-        appender.setEncoder(encoder);
-        appender.setContext(context);
-        appender.start();
+    private static boolean matches(State state, FilterCriteria filter) {
+        if (filter.getState() == null || filter.getOperator() == null) {
+            return true;
+        }
+        switch (filter.getOperator()) {
+            case EQ:
+                return state.equals(filter.getState());
+            case NEQ:
+                return !state.equals(filter.getState());
+            default:
+                break;
+        }
+        if (!(state instanceof DecimalType) || !(filter.getState() instanceof DecimalType)) {
+            return false;
+        }
+        int comparison = ((DecimalType) state).compareTo((DecimalType) filter.getState());
+        switch (filter.getOperator()) {
+            case GT:
+                return comparison > 0;
+            case GTE:
+                return comparison >= 0;
+            case LT:
+                return comparison < 0;
+            case LTE:
+                return comparison <= 0;
+            default:
+                return false;
+        }
+    }
 
-        return appender;
+    private static int parseInt(Map<String, Object> config, String key, int defaultValue) {
+        String value = (String) config.get(key);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("couldn't parse '{}' to an integer, using {} for '{}'",
+                        new Object[] { value, defaultValue, key });
+            }
+        }
+        return defaultValue;
     }
 
 }
@@ -0,0 +1,436 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.logging.internal;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Writes the logged item states in the background. The persistence threads
+ * only put the events into a lock-free queue, a single writer thread formats
+ * them and appends them to the log files of the items. At most
+ * <code>maxOpenFiles</code> files are kept open, the least recently used file
+ * is closed when another one is needed. Written lines are buffered and
+ * flushed in batches at the flush interval. The files are optionally rolled
+ * over when they exceed a size or at the start of a new day.
+ *
+ * @author Kai Kreuzer
+ * @since 1.9.0
+ */
+public class LoggingWriter implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingWriter.class);
+
+    static final String LOG_FILEEXT = ".log";
+
+    private static final String ROLL_DATE_PATTERN = "yyyy-MM-dd_HH-mm-ss-SSS";
+
+    private final File folder;
+
+    private final PatternLayout layout;
+
+    private final int maxOpenFiles;
+
+    private final int queueSize;
+
+    private final long flushInterval;
+
+    private final long maxFileSize;
+
+    private final boolean rollDaily;
+
+    private final int maxHistory;
+
+    private final boolean indexed;
+
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<Entry>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** the indexes of the files queried so far, by absolute path */
+    private final ConcurrentMap<String, LogIndex> indexes = new ConcurrentHashMap<String, LogIndex>();
+
+    /** the open files by alias, in the order they were used, only used by the writer thread */
+    private final LinkedHashMap<String, LogFile> files;
+
+    private final Charset charset = Charset.defaultCharset();
+
+    private final Calendar calendar = Calendar.getInstance();
+
+    private volatile Thread thread;
+
+    private volatile boolean waiting = false;
+
+    private volatile boolean running = false;
+
+    /**
+     * @param folder
+     *            the folder of the log files
+     * @param layout
+     *            the started layout formatting the lines
+     * @param maxOpenFiles
+     *            maximum number of files kept open
+     * @param queueSize
+     *            maximum number of events waiting to be written
+     * @param flushInterval
+     *            time in milliseconds written lines may stay in the buffers
+     * @param maxFileSize
+     *            size in bytes a file is rolled over at, 0 for no limit
+     * @param rollDaily
+     *            <code>true</code> to roll over the files every day
+     * @param maxHistory
+     *            number of rolled over files kept per item, 0 to keep all
+     * @param indexed
+     *            <code>true</code> to keep the indexes of the queried files up
+     *            to date
+     */
+    public LoggingWriter(File folder, PatternLayout layout, int maxOpenFiles, int queueSize, long flushInterval,
+            long maxFileSize, boolean rollDaily, int maxHistory, boolean indexed) {
+        this.folder = folder;
+        this.layout = layout;
+        this.maxOpenFiles = maxOpenFiles;
+        this.queueSize = queueSize;
+        this.flushInterval = flushInterval;
+        this.maxFileSize = maxFileSize;
+        this.rollDaily = rollDaily;
+        this.maxHistory = maxHistory;
+        this.indexed = indexed;
+        this.files = new LinkedHashMap<String, LogFile>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LogFile> eldest) {
+                if (size() > LoggingWriter.this.maxOpenFiles) {
+                    close(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    public synchronized void start() {
+        if (thread == null) {
+            running = true;
+            thread = new Thread(this, "Logging Persistence Writer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops the writer thread after it wrote the waiting events and closes
+     * all files.
+     */
+    public synchronized void shutdown() {
+        if (thread != null) {
+            running = false;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(10000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Queues an event for writing.
+     *
+     * @param event
+     *            the event, prepared for deferred processing
+     * @param alias
+     *            the alias naming the file
+     * @return <code>false</code> if the queue is full
+     */
+    public boolean append(ILoggingEvent event, String alias) {
+        if (pending.incrementAndGet() > queueSize) {
+            pending.decrementAndGet();
+            return false;
+        }
+        queue.offer(new Entry(event, alias));
+        if (waiting) {
+            Thread writer = thread;
+            if (writer != null) {
+                LockSupport.unpark(writer);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of events waiting to be written
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Returns the log files of an alias, the rolled over files first and the
+     * current file last.
+     */
+    public List<File> getFiles(String alias) {
+        final String prefix = alias + ".";
+        String[] rolled = folder.list(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.startsWith(prefix) && name.endsWith(LOG_FILEEXT)
+                        && name.length() > prefix.length() + LOG_FILEEXT.length();
+            }
+        });
+
+        List<File> result = new ArrayList<File>();
+        if (rolled != null) {
+            // the dates in the names sort in the order the files were rolled
+            Arrays.sort(rolled);
+            for (String name : rolled) {
+                result.add(new File(folder, name));
+            }
+        }
+        File current = getFile(alias);
+        if (current.exists()) {
+            result.add(current);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of a log file, which is built by reading the file when
+     * it is needed for the first time.
+     *
+     * @throws IOException
+     *             if the file couldn't be read
+     */
+    public LogIndex getIndex(File file) throws IOException {
+        String key = file.getAbsolutePath();
+        LogIndex index = indexes.get(key);
+        if (index == null) {
+            index = LogIndex.build(file);
+            LogIndex existing = indexes.putIfAbsent(key, index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public void run() {
+        logger.debug("Logging persistence writer started, writing to '{}'", folder.getAbsolutePath());
+        long lastFlush = System.currentTimeMillis();
+        boolean dirty = false;
+        while (true) {
+            Entry entry;
+            while ((entry = queue.poll()) != null) {
+                pending.decrementAndGet();
+                write(entry);
+                dirty = true;
+            }
+            if (!running) {
+                break;
+            }
+
+            long now = System.currentTimeMillis();
+            if (dirty && now - lastFlush >= flushInterval) {
+                flushAll();
+                lastFlush = now;
+                dirty = false;
+            }
+
+            waiting = true;
+            if (queue.isEmpty() && running) {
+                if (dirty) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(flushInterval - (now - lastFlush)));
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+            waiting = false;
+        }
+
+        for (LogFile file : files.values()) {
+            close(file);
+        }
+        files.clear();
+        logger.debug("Logging persistence writer stopped");
+    }
+
+    private void write(Entry entry) {
+        ILoggingEvent event = entry.event;
+        try {
+            byte[] line = layout.doLayout(event).getBytes(charset);
+            LogFile file = getOpenFile(entry.alias, event.getTimeStamp(), line.length);
+            long offset = file.write(line);
+            if (indexed) {
+                LogIndex index = indexes.get(file.getFile().getAbsolutePath());
+                if (index != null && (index.getEnd() >= offset || extendIndex(index, file, offset))) {
+                    index.add(event.getTimeStamp(), offset, line.length);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Couldn't log item '{}' to file '{}{}': {}",
+                    new Object[] { event.getLoggerName(), entry.alias, LOG_FILEEXT, e.getMessage() });
+            LogFile file = files.remove(entry.alias);
+            if (file != null) {
+                close(file);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Error logging item '" + event.getLoggerName() + "'", e);
+        }
+    }
+
+    /**
+     * Returns the open file of an alias, rolling it over first if the line
+     * doesn't fit into it or a new day started.
+     */
+    private LogFile getOpenFile(String alias, long timestamp, int lineLength) throws IOException {
+        LogFile file = files.get(alias);
+        if (file == null) {
+            file = new LogFile(getFile(alias));
+            files.put(alias, file);
+        }
+
+        boolean roll = file.getLength() > 0 && ((maxFileSize > 0 && file.getLength() + lineLength > maxFileSize)
+                || (rollDaily && getDay(file.getCreated()) != getDay(timestamp)));
+        if (roll) {
+            files.remove(alias);
+            close(file);
+            rollOver(alias, file.getFile());
+            file = new LogFile(getFile(alias));
+            files.put(alias, file);
+        }
+        return file;
+    }
+
+    /**
+     * Adds the lines to an index, which were written while a query built it
+     * from the file and before it was registered.
+     *
+     * @param end
+     *            the offset of the line just written
+     * @return <code>false</code> if the index couldn't be extended and was
+     *         dropped, it's built again by the next query
+     */
+    private boolean extendIndex(LogIndex index, LogFile file, long end) {
+        try {
+            file.flush();
+            LogFileReader reader = new LogFileReader(file.getFile(), index.getEnd());
+            try {
+                String line;
+                while ((line = reader.readLine()) != null && reader.getLineOffset() < end) {
+                    long timestamp = LogFileReader.parseTimestamp(line);
+                    if (timestamp != Long.MIN_VALUE) {
+                        index.add(timestamp, reader.getLineOffset(), reader.getOffset() - reader.getLineOffset());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            return true;
+        } catch (IOException e) {
+            logger.debug("Couldn't update the index of '{}': {}", file.getFile().getAbsolutePath(), e.getMessage());
+            indexes.remove(file.getFile().getAbsolutePath());
+            return false;
+        }
+    }
+
+    private void rollOver(String alias, File current) {
+        String date = new SimpleDateFormat(ROLL_DATE_PATTERN).format(new Date());
+        File rolled = new File(folder, alias + "." + date + LOG_FILEEXT);
+        for (int count = 1; rolled.exists(); count++) {
+            rolled = new File(folder, alias + "." + date + String.format("_%03d", count) + LOG_FILEEXT);
+        }
+
+        LogIndex index = indexes.remove(current.getAbsolutePath());
+        if (!current.renameTo(rolled)) {
+            logger.warn("Couldn't roll over '{}', continuing it", current.getAbsolutePath());
+            return;
+        }
+        if (index != null) {
+            indexes.put(rolled.getAbsolutePath(), index);
+        }
+        logger.debug("Rolled over '{}' to '{}'", current.getName(), rolled.getName());
+
+        if (maxHistory > 0) {
+            // the new current file isn't created yet
+            List<File> rolledFiles = getFiles(alias);
+            for (int i = 0; i < rolledFiles.size() - maxHistory; i++) {
+                File oldest = rolledFiles.get(i);
+                indexes.remove(oldest.getAbsolutePath());
+                if (!oldest.delete()) {
+                    logger.warn("Couldn't delete old log file '{}'", oldest.getAbsolutePath());
+                }
+            }
+        }
+    }
+
+    private void flushAll() {
+        for (LogFile file : files.values()) {
+            try {
+                file.flush();
+            } catch (IOException e) {
+                logger.warn("Couldn't write to '{}': {}", file.getFile().getAbsolutePath(), e.getMessage());
+            }
+        }
+    }
+
+    private static void close(LogFile file) {
+        try {
+            file.close();
+        } catch (IOException e) {
+            logger.warn("Couldn't close '{}': {}", file.getFile().getAbsolutePath(), e.getMessage());
+        }
+    }
+
+    private File getFile(String alias) {
+        return new File(folder, alias + LOG_FILEEXT);
+    }
+
+    private int getDay(long timestamp) {
+        calendar.setTimeInMillis(timestamp);
+        return calendar.get(Calendar.YEAR) * 1000 + calendar.get(Calendar.DAY_OF_YEAR);
+    }
+
+    private static class Entry {
+        private final ILoggingEvent event;
+        private final String alias;
+
+        private Entry(ILoggingEvent event, String alias) {
+            this.event = event;
+            this.alias = alias;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2010-2016 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
+
+/**
+ * Inserts the stored documents with unordered bulk writes. The documents are
+ * put into a bounded queue, a background thread inserts them at the batch
+ * interval, or as soon as a full batch is waiting.
+ *
+ * @author Thorsten Hoeger
+ * @since 1.9.0
+ */
+public class MongoDBBulkWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoDBBulkWriter.class);
+
+    private final DBCollection collection;
+
+    private final WriteConcern writeConcern;
+
+    private final int batchSize;
+
+    private final BlockingQueue<DBObject> queue;
+
+    private final ScheduledExecutorService executor;
+
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
+    /** set before shutdown() inserts the queued documents for the last time */
+    private volatile boolean closed = false;
+
+    private final Runnable writeTask = new Runnable() {
+        @Override
+        public void run() {
+            writeScheduled.set(false);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                logger.error("mongodb: Error inserting the queued documents", e);
+            }
+        }
+    };
+
+    /**
+     * @param collection
+     *            the collection to insert into
+     * @param writeConcern
+     *            the write concern of the inserts
+     * @param batchSize
+     *            maximum number of documents inserted with one bulk write
+     * @param batchInterval
+     *            time in milliseconds documents are queued at most
+     * @param queueSize
+     *            maximum number of queued documents, 0 to insert every
+     *            document when it is stored
+     */
+    public MongoDBBulkWriter(DBCollection collection, WriteConcern writeConcern, int batchSize, long batchInterval,
+            int queueSize) {
+        this.collection = collection;
+        this.writeConcern = writeConcern;
+        this.batchSize = batchSize;
+        if (queueSize > 0) {
+            this.queue = new LinkedBlockingQueue<DBObject>(queueSize);
+            this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "MongoDB Persistence Writer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.scheduleWithFixedDelay(writeTask, batchInterval, batchInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.queue = null;
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Queues a document for inserting, or inserts it right away if there is
+     * no queue.
+     *
+     * @return <code>false</code> if the queue is full or the writer is shut
+     *         down and the document was dropped
+     */
+    public boolean store(DBObject obj) {
+        if (closed) {
+            return false;
+        }
+        if (queue == null) {
+            try {
+                collection.insert(obj, writeConcern);
+            } catch (MongoException e) {
+                logger.error("mongodb: Error inserting document: {}", e.getMessage());
+            }
+            return true;
+        }
+        if (!queue.offer(obj)) {
+            return false;
+        }
+        // shutdown() might have inserted the queue for the last time before the document was queued
+        if (closed && queue.remove(obj)) {
+            return false;
+        }
+        if (queue.size() >= batchSize && writeScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(writeTask);
+            } catch (RejectedExecutionException e) {
+                // shutting down, the queued documents are inserted by shutdown()
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Inserts all queued documents in the calling thread.
+     */
+    public synchronized void flush() {
+        if (queue == null) {
+            return;
+        }
+        List<DBObject> batch = new ArrayList<DBObject>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            insert(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stops the background thread and inserts the queued documents. Documents
+     * stored afterwards are rejected.
+     */
+    public void shutdown() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private void insert(List<DBObject> batch) {
+        BulkWriteOperation bulk = collection.initializeUnorderedBulkOperation();
+        for (DBObject obj : batch) {
+            bulk.insert(obj);
+        }
+        try {
+            bulk.execute(writeConcern);
+            logger.debug("mongodb: Inserted {} documents", batch.size());
+        } catch (BulkWriteException e) {
+            // unordered, so the documents without error are inserted anyway
+            logger.error("mongodb: {} of {} documents could not be inserted: {}",
+                    new Object[] { e.getWriteErrors().size(), batch.size(), e.getMessage() });
+        } catch (MongoException e) {
+            logger.error("mongodb: Error inserting {} documents: {}", batch.size(), e.getMessage());
+        }
+    }
+}
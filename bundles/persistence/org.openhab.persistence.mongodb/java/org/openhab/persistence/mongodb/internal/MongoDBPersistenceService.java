@@ -9,12 +9,12 @@
 package org.openhab.persistence.mongodb.internal;
 
 import java.text.DateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.apache.commons.lang.StringUtils;
 import org.bson.types.ObjectId;
@@ -53,10 +53,17 @@ import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientURI;
+import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
 
 /**
  * This is the implementation of the MongoDB {@link PersistenceService}.
  *
+ * The documents are inserted in unordered bulk writes by a
+ * {@link MongoDBBulkWriter}. Query results are read lazily from the cursor,
+ * pages are located with the (item, timestamp, _id) index instead of skipping
+ * the documents of the previous pages.
+ *
  * @author Thorsten Hoeger
  * @since 1.5.0
  */
@@ -68,17 +75,34 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
     private static final String FIELD_TIMESTAMP = "timestamp";
     private static final String FIELD_VALUE = "value";
 
+    /** the index of the queries, by item and time, the id orders documents with the same time */
+    private static final DBObject INDEX_KEYS = new BasicDBObject(FIELD_ITEM, 1).append(FIELD_TIMESTAMP, 1)
+            .append(FIELD_ID, 1);
+    /** the index created by earlier versions, replaced by the one above */
+    private static final String OBSOLETE_INDEX_NAME = FIELD_TIMESTAMP + "_1_" + FIELD_ITEM + "_1";
+
+    private static final int CURSOR_BATCH_SIZE = 500;
+
+    private static final int DEFAULT_BATCHSIZE = 100;
+    private static final long DEFAULT_BATCHINTERVAL = 1000;
+    private static final int DEFAULT_QUEUESIZE = 10000;
+
     private static final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url;
     private String db;
     private String collection;
+    private WriteConcern writeConcern;
+    private int batchSize;
+    private long batchInterval;
+    private int queueSize;
 
     private boolean initialized = false;
     protected ItemRegistry itemRegistry;
 
     private MongoClient cl;
     private DBCollection mongoCollection;
+    private volatile MongoDBBulkWriter writer;
 
     public void activate(final BundleContext bundleContext, final Map<String, Object> config) {
         url = (String) config.get("url");
@@ -100,6 +124,26 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
                     "The MongoDB database collection is missing - please configure the mongodb:collection parameter in openhab.cfg");
         }
 
+        String writeConcernParam = (String) config.get("writeconcern");
+        writeConcern = null;
+        if (StringUtils.isNotBlank(writeConcernParam)) {
+            writeConcern = WriteConcern.valueOf(writeConcernParam.trim().toUpperCase());
+            if (writeConcern == null) {
+                logger.warn("Unknown MongoDB write concern '{}', using the default of the database URL",
+                        writeConcernParam);
+            }
+        }
+        batchSize = (int) parseLong(config, "batchsize", DEFAULT_BATCHSIZE);
+        if (batchSize < 1) {
+            batchSize = DEFAULT_BATCHSIZE;
+        }
+        batchInterval = parseLong(config, "batchinterval", DEFAULT_BATCHINTERVAL);
+        if (batchInterval < 1) {
+            logger.warn("mongodb:batchinterval must be at least 1, using {}", DEFAULT_BATCHINTERVAL);
+            batchInterval = DEFAULT_BATCHINTERVAL;
+        }
+        queueSize = (int) parseLong(config, "queuesize", DEFAULT_QUEUESIZE);
+
         disconnectFromDatabase();
         connectToDatabase();
 
@@ -167,7 +211,16 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
         obj.put(FIELD_REALNAME, realName);
         obj.put(FIELD_TIMESTAMP, new Date());
         obj.put(FIELD_VALUE, value);
-        this.mongoCollection.save(obj);
+        MongoDBBulkWriter bulkWriter = writer;
+        if (bulkWriter == null) {
+            logger.warn("mongodb: No connection to database. Can not persist item '{}'!", item);
+            return;
+        }
+        if (!bulkWriter.store(obj)) {
+            logger.warn("mongodb: Queue of documents to insert is full ({} documents). Can not persist item '{}'!",
+                    queueSize, name);
+            return;
+        }
 
         logger.debug("MongoDB save {}={}", name, value);
     }
@@ -212,9 +265,11 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
             this.cl = new MongoClient(new MongoClientURI(this.url));
             mongoCollection = cl.getDB(this.db).getCollection(this.collection);
 
-            BasicDBObject idx = new BasicDBObject();
-            idx.append(FIELD_TIMESTAMP, 1).append(FIELD_ITEM, 1);
-            this.mongoCollection.createIndex(idx);
+            this.mongoCollection.createIndex(INDEX_KEYS);
+            dropObsoleteIndex();
+
+            WriteConcern concern = writeConcern != null ? writeConcern : mongoCollection.getWriteConcern();
+            writer = new MongoDBBulkWriter(mongoCollection, concern, batchSize, batchInterval, queueSize);
             logger.debug("Connect MongoDB ... done");
         } catch (Exception e) {
             logger.error("Failed to connect to database {}", this.url);
@@ -226,6 +281,10 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
      * Disconnects from the database
      */
     private void disconnectFromDatabase() {
+        if (writer != null) {
+            writer.shutdown();
+            writer = null;
+        }
         this.mongoCollection = null;
         if (this.cl != null) {
             this.cl.close();
@@ -233,6 +292,36 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
         cl = null;
     }
 
+    /**
+     * Drops the (timestamp, item) index of earlier versions, which queries by
+     * item can't use and which only slows down the inserts.
+     */
+    private void dropObsoleteIndex() {
+        try {
+            for (DBObject index : this.mongoCollection.getIndexInfo()) {
+                if (OBSOLETE_INDEX_NAME.equals(index.get("name"))) {
+                    this.mongoCollection.dropIndex(OBSOLETE_INDEX_NAME);
+                    logger.debug("Dropped obsolete MongoDB index {}", OBSOLETE_INDEX_NAME);
+                }
+            }
+        } catch (MongoException e) {
+            logger.debug("Failed to drop obsolete MongoDB index {}: {}", OBSOLETE_INDEX_NAME, e.getMessage());
+        }
+    }
+
+    private static long parseLong(Map<String, Object> config, String name, long defaultValue) {
+        String param = (String) config.get(name);
+        if (StringUtils.isBlank(param)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(param.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid mongodb:{} '{}' in openhab.cfg, using {}", new Object[] { name, param, defaultValue });
+            return defaultValue;
+        }
+    }
+
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
         if (!initialized) {
@@ -247,58 +336,138 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
             return Collections.emptyList();
         }
 
+        // make the documents stored so far visible to the query
+        MongoDBBulkWriter bulkWriter = writer;
+        if (bulkWriter != null) {
+            bulkWriter.flush();
+        }
+
         String name = filter.getItemName();
         Item item = getItem(name);
 
-        List<HistoricItem> items = new ArrayList<HistoricItem>();
-        DBObject query = new BasicDBObject();
+        BasicDBObject query = new BasicDBObject();
         if (filter.getItemName() != null) {
             query.put(FIELD_ITEM, filter.getItemName());
         }
+        boolean covered = filter.getItemName() != null;
         if (filter.getState() != null && filter.getOperator() != null) {
             String op = convertOperator(filter.getOperator());
             Object value = convertValue(filter.getState());
             query.put(FIELD_VALUE, new BasicDBObject(op, value));
+            // the value isn't part of the index
+            covered = false;
         }
+        BasicDBObject timeRange = new BasicDBObject();
         if (filter.getBeginDate() != null) {
-            query.put(FIELD_TIMESTAMP, new BasicDBObject("$gte", filter.getBeginDate()));
+            timeRange.put("$gte", filter.getBeginDate());
         }
         if (filter.getEndDate() != null) {
-            query.put(FIELD_TIMESTAMP, new BasicDBObject("$lte", filter.getEndDate()));
-        }
-
-        Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
-        DBCursor cursor = this.mongoCollection.find(query).sort(new BasicDBObject(FIELD_TIMESTAMP, sortDir))
-                .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize());
-
-        while (cursor.hasNext()) {
-            BasicDBObject obj = (BasicDBObject) cursor.next();
-
-            final State state;
-            if (item instanceof NumberItem) {
-                state = new DecimalType(obj.getDouble(FIELD_VALUE));
-            } else if (item instanceof DimmerItem) {
-                state = new PercentType(obj.getInt(FIELD_VALUE));
-            } else if (item instanceof SwitchItem) {
-                state = OnOffType.valueOf(obj.getString(FIELD_VALUE));
-            } else if (item instanceof ContactItem) {
-                state = OpenClosedType.valueOf(obj.getString(FIELD_VALUE));
-            } else if (item instanceof RollershutterItem) {
-                state = new PercentType(obj.getInt(FIELD_VALUE));
-            } else if (item instanceof ColorItem) {
-                state = new HSBType(obj.getString(FIELD_VALUE));
-            } else if (item instanceof DateTimeItem) {
-                Calendar cal = Calendar.getInstance();
-                cal.setTime(obj.getDate(FIELD_VALUE));
-                state = new DateTimeType(cal);
-            } else {
-                state = new StringType(obj.getString(FIELD_VALUE));
+            timeRange.put("$lte", filter.getEndDate());
+        }
+        if (!timeRange.isEmpty()) {
+            query.put(FIELD_TIMESTAMP, timeRange);
+        }
+
+        int sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
+        int skip = filter.getPageNumber() * filter.getPageSize();
+        if (skip > 0 && covered) {
+            try {
+                skip = restrictToPage(query, sortDir, skip);
+            } catch (MongoException e) {
+                logger.debug("mongodb: Failed to find the first document of the page, skipping the previous pages: {}",
+                        e.getMessage());
+            }
+            if (skip < 0) {
+                return Collections.emptyList();
             }
+        }
+
+        DBCursor cursor = this.mongoCollection.find(query).sort(getSort(sortDir)).skip(skip)
+                .limit(filter.getPageSize()).batchSize(Math.min(filter.getPageSize(), CURSOR_BATCH_SIZE));
+        if (filter.getItemName() != null) {
+            cursor.hint(INDEX_KEYS);
+        }
+        return new MongoDBQueryResult(cursor, item, name);
+    }
 
-            items.add(new MongoDBItem(name, state, obj.getDate(FIELD_TIMESTAMP)));
+    /**
+     * Restricts the time range of the query to start at the first document of
+     * a page, so that the query of the page doesn't load and skip the
+     * preceding documents. The first document is found with index only
+     * queries: they still skip the index keys of the preceding documents, but
+     * don't load any document.
+     *
+     * @param query
+     *            query of an item, changed to start at the page
+     * @param sortDir
+     *            1 for ascending, -1 for descending order
+     * @param skip
+     *            the number of documents before the page
+     * @return the number of documents to skip from the start of the changed
+     *         query, or -1 if there are no documents in the page
+     */
+    private int restrictToPage(BasicDBObject query, int sortDir, int skip) {
+        BasicDBObject projection = new BasicDBObject(FIELD_TIMESTAMP, 1);
+        DBCursor keys = this.mongoCollection.find(query, projection).sort(getSort(sortDir)).hint(INDEX_KEYS)
+                .skip(skip).limit(1);
+        try {
+            if (!keys.hasNext()) {
+                return -1;
+            }
+            Date first = (Date) keys.next().get(FIELD_TIMESTAMP);
+
+            // documents before the first one with its timestamp
+            BasicDBObject before = new BasicDBObject(query);
+            BasicDBObject beforeRange = new BasicDBObject(getTimeRange(query));
+            beforeRange.put(sortDir > 0 ? "$lt" : "$gt", first);
+            before.put(FIELD_TIMESTAMP, beforeRange);
+            long precedingCount = this.mongoCollection.count(before);
+
+            BasicDBObject range = new BasicDBObject(getTimeRange(query));
+            range.put(sortDir > 0 ? "$gte" : "$lte", first);
+            query.put(FIELD_TIMESTAMP, range);
+            // documents of the previous page with the same timestamp
+            return (int) (skip - precedingCount);
+        } finally {
+            keys.close();
         }
+    }
+
+    /**
+     * Sorts by time and by id, so that documents with the same timestamp are
+     * in the same order in every query of a page.
+     */
+    private static BasicDBObject getSort(int sortDir) {
+        return new BasicDBObject(FIELD_TIMESTAMP, sortDir).append(FIELD_ID, sortDir);
+    }
 
-        return items;
+    private static BasicDBObject getTimeRange(BasicDBObject query) {
+        Object range = query.get(FIELD_TIMESTAMP);
+        return range instanceof BasicDBObject ? (BasicDBObject) range : new BasicDBObject();
+    }
+
+    private static State convertState(Item item, BasicDBObject obj) {
+        final State state;
+        if (item instanceof NumberItem) {
+            state = new DecimalType(obj.getDouble(FIELD_VALUE));
+        } else if (item instanceof DimmerItem) {
+            state = new PercentType(obj.getInt(FIELD_VALUE));
+        } else if (item instanceof SwitchItem) {
+            state = OnOffType.valueOf(obj.getString(FIELD_VALUE));
+        } else if (item instanceof ContactItem) {
+            state = OpenClosedType.valueOf(obj.getString(FIELD_VALUE));
+        } else if (item instanceof RollershutterItem) {
+            state = new PercentType(obj.getInt(FIELD_VALUE));
+        } else if (item instanceof ColorItem) {
+            state = new HSBType(obj.getString(FIELD_VALUE));
+        } else if (item instanceof DateTimeItem) {
+            Calendar cal = Calendar.getInstance();
+            cal.setTime(obj.getDate(FIELD_VALUE));
+            state = new DateTimeType(cal);
+        } else {
+            state = new StringType(obj.getString(FIELD_VALUE));
+        }
+        return state;
     }
 
     private String convertOperator(Operator operator) {
@@ -314,7 +483,7 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
             case LTE:
                 return "$lte";
             case NEQ:
-                return "$neq";
+                return "$ne";
             default:
                 return null;
         }
@@ -334,6 +503,67 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
         return item;
     }
 
+    /**
+     * The result of a query, read from the cursor while it is iterated. Every
+     * iteration runs the query again and closes its cursor when all results
+     * are read. A page of up to {@link #CURSOR_BATCH_SIZE} results is read
+     * with one request, which doesn't leave a cursor open on the server. The
+     * cursor of a larger result whose iteration is abandoned is killed when it
+     * is garbage collected (cursor finalizer of the driver, enabled by
+     * default) or times out on the server after 10 minutes.
+     */
+    private static class MongoDBQueryResult implements Iterable<HistoricItem> {
+
+        private final DBCursor cursor;
+        private final Item item;
+        private final String name;
+
+        private MongoDBQueryResult(DBCursor cursor, Item item, String name) {
+            this.cursor = cursor;
+            this.item = item;
+            this.name = name;
+        }
+
+        @Override
+        public Iterator<HistoricItem> iterator() {
+            final DBCursor results = cursor.copy();
+            return new Iterator<HistoricItem>() {
+                private boolean open = true;
+
+                @Override
+                public boolean hasNext() {
+                    if (!open) {
+                        return false;
+                    }
+                    try {
+                        if (results.hasNext()) {
+                            return true;
+                        }
+                    } catch (MongoException e) {
+                        logger.error("mongodb: Error reading query results: {}", e.getMessage());
+                    }
+                    results.close();
+                    open = false;
+                    return false;
+                }
+
+                @Override
+                public HistoricItem next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    BasicDBObject obj = (BasicDBObject) results.next();
+                    return new MongoDBItem(name, convertState(item, obj), obj.getDate(FIELD_TIMESTAMP));
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+
     public static class MongoDBItem implements HistoricItem {
 
         final private String name;